@@ -259,7 +259,7 @@ int main(int argc, char *argv[]) {
                             std::lock_guard<std::mutex> guard(flow_pool_guard);
                             printf("CommandPacket_Type_ADD_FLOW. size= %d\n", command_packet.command_size());
                             printf("flow before = %ld\n", flow_pool.table.size());
-                            for (uint32_t i = 0; i < command_packet.command_size(); ++i) {
+                            for (int i = 0; i < command_packet.command_size(); ++i) {
                                 const google::protobuf::Any &any = command_packet.command(i);
                                 org::openkilda::AddFlow addFlow;
                                 any.UnpackTo(&addFlow);
@@ -281,14 +281,16 @@ int main(int argc, char *argv[]) {
                             break;
                         case org::openkilda::CommandPacket_Type_REMOVE_FLOW: {
 
-                            google::protobuf::Any any = command_packet.command().at(0);
-                            org::openkilda::RemoveFlow removeFlow;
-                            any.UnpackTo(&removeFlow);
-                            printf("CommandPacket_Type_REMOVE_FLOW. %s\n",
-                                   removeFlow.flow().flow_id().c_str());
-
-                            {
-                                std::lock_guard<std::mutex> guard(flow_pool_guard);
+                            std::lock_guard<std::mutex> guard(flow_pool_guard);
+                            printf("CommandPacket_Type_REMOVE_FLOW. size= %d\n", command_packet.command_size());
+                            for (int i = 0; i < command_packet.command_size(); ++i) {
+                                const google::protobuf::Any &any = command_packet.command(i);
+                                org::openkilda::RemoveFlow removeFlow;
+                                any.UnpackTo(&removeFlow);
+                                if (command_packet.command_size() < 5) {
+                                    printf("CommandPacket_Type_REMOVE_FLOW. %s\n",
+                                           removeFlow.flow().flow_id().c_str());
+                                }
                                 remove_flow(removeFlow, flow_pool);
                             }
 
@@ -0,0 +1,120 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Encodes messages passed through Kafka into JSON or into the binary Smile format and decodes them from any of them.
+ *
+ * <p>The format of a record is detected by its leading bytes: Smile data starts with the ":)\n" header, which can't
+ * start a JSON document. So the consumers accept both formats and the producers can be switched to the binary format
+ * one by one during a rolling upgrade.
+ */
+public class MessageCodec {
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+
+    /**
+     * Creates the codec.
+     *
+     * @param mapperFactory creates a configured mapper over the given factory (it's called once for each format).
+     */
+    public MessageCodec(Function<JsonFactory, ObjectMapper> mapperFactory) {
+        jsonMapper = mapperFactory.apply(new JsonFactory());
+        smileMapper = mapperFactory.apply(new SmileFactory());
+    }
+
+    /**
+     * Encodes the value in the format.
+     */
+    public byte[] encode(Object value, Format format) throws IOException {
+        return mapperFor(format).writeValueAsBytes(value);
+    }
+
+    /**
+     * Decodes the value from the data in any of the supported formats.
+     */
+    public <T> T decode(byte[] data, Class<T> type) throws IOException {
+        return mapperFor(detectFormat(data)).readValue(data, type);
+    }
+
+    /**
+     * Creates the streaming parser over the data in any of the supported formats, e.g. to read a few fields of the
+     * message without decoding it.
+     */
+    public JsonParser createParser(byte[] data) throws IOException {
+        return mapperFor(detectFormat(data)).getFactory().createParser(data);
+    }
+
+    /**
+     * Converts the data in any of the supported formats into JSON. The tokens are copied one by one, so the message
+     * isn't bound to the objects. JSON data is returned as is.
+     */
+    public byte[] toJson(byte[] data) throws IOException {
+        if (detectFormat(data) == Format.JSON) {
+            return data;
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(data.length * 2);
+        try (JsonParser parser = smileMapper.getFactory().createParser(data);
+                JsonGenerator generator = jsonMapper.getFactory().createGenerator(output)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEvent(parser);
+            }
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Detects the format of the encoded data.
+     */
+    public static Format detectFormat(byte[] data) {
+        if (data != null && data.length >= 3
+                && data[0] == SmileConstants.HEADER_BYTE_1
+                && data[1] == SmileConstants.HEADER_BYTE_2
+                && data[2] == SmileConstants.HEADER_BYTE_3) {
+            return Format.SMILE;
+        }
+        return Format.JSON;
+    }
+
+    private ObjectMapper mapperFor(Format format) {
+        return format == Format.SMILE ? smileMapper : jsonMapper;
+    }
+
+    public enum Format {
+        JSON,
+        SMILE;
+
+        /**
+         * Parses the format name, case insensitive.
+         */
+        public static Format of(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+}
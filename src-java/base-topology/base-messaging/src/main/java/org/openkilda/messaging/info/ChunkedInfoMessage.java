@@ -24,6 +24,10 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 @Getter
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
@@ -58,4 +62,32 @@ public class ChunkedInfoMessage extends InfoMessage {
         this.messageId = String.join(" : ", String.valueOf(messageIndex), correlationId);
         this.totalMessages = totalMessages;
     }
+
+    /**
+     * Splits the response into the messages carrying up to {@code chunkSize} items each. Several items are wrapped
+     * into {@link InfoDataChunk}, while the single item is carried as is, so the receivers expecting one item get it
+     * unchanged.
+     *
+     * @param items the items of the response.
+     * @param correlationId correlation id of the request.
+     * @param chunkSize max number of items in one message.
+     * @return the messages of the response, there is always at least one message.
+     */
+    public static List<ChunkedInfoMessage> createChunks(List<? extends InfoData> items, String correlationId,
+                                                        int chunkSize) {
+        long timestamp = System.currentTimeMillis();
+        if (items.isEmpty()) {
+            return Collections.singletonList(new ChunkedInfoMessage(null, timestamp, correlationId, correlationId, 0));
+        }
+
+        int size = Math.max(chunkSize, 1);
+        int totalMessages = (items.size() + size - 1) / size;
+        List<ChunkedInfoMessage> messages = new ArrayList<>(totalMessages);
+        for (int i = 0; i < totalMessages; i++) {
+            List<? extends InfoData> chunk = items.subList(i * size, Math.min((i + 1) * size, items.size()));
+            InfoData data = chunk.size() == 1 ? chunk.get(0) : new InfoDataChunk(new ArrayList<>(chunk));
+            messages.add(new ChunkedInfoMessage(data, timestamp, correlationId, i, totalMessages));
+        }
+        return messages;
+    }
 }
@@ -0,0 +1,56 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging.info;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Several items of the chunked response carried by one {@link ChunkedInfoMessage}.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class InfoDataChunk extends InfoData {
+    private static final long serialVersionUID = 1L;
+
+    @JsonProperty("items")
+    private List<InfoData> items;
+
+    @JsonCreator
+    public InfoDataChunk(@NonNull @JsonProperty("items") List<InfoData> items) {
+        this.items = items;
+    }
+
+    /**
+     * Gets the items carried by the payload of the chunked message, the payload can be either the chunk or the single
+     * item.
+     */
+    public static List<InfoData> unpack(InfoData data) {
+        if (data == null) {
+            return Collections.emptyList();
+        }
+        if (data instanceof InfoDataChunk) {
+            return ((InfoDataChunk) data).getItems();
+        }
+        return Collections.singletonList(data);
+    }
+}
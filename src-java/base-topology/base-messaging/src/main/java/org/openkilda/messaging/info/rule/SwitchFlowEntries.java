@@ -24,6 +24,7 @@ import lombok.Builder;
 import lombok.Value;
 
 import java.util.List;
+import java.util.Set;
 
 @Value
 @Builder
@@ -34,11 +35,25 @@ public class SwitchFlowEntries extends InfoData {
     @JsonProperty(value = "flows")
     private List<FlowEntry> flowEntries;
 
+    /**
+     * Cookie ranges the flow rules were dumped for (see
+     * {@link org.openkilda.messaging.model.FlowCookieDigest}), null if all the rules were dumped. The default rules
+     * are dumped in any case.
+     */
+    @JsonProperty(value = "cookie_ranges")
+    private Set<Integer> cookieRanges;
+
+    public SwitchFlowEntries(SwitchId switchId, List<FlowEntry> flowEntries) {
+        this(switchId, flowEntries, null);
+    }
+
     @JsonCreator
     public SwitchFlowEntries(
             @JsonProperty(value = "switch_id") SwitchId switchId,
-            @JsonProperty(value = "flows") List<FlowEntry> flowEntries) {
+            @JsonProperty(value = "flows") List<FlowEntry> flowEntries,
+            @JsonProperty(value = "cookie_ranges") Set<Integer> cookieRanges) {
         this.switchId = switchId;
         this.flowEntries = flowEntries;
+        this.cookieRanges = cookieRanges;
     }
 }
@@ -0,0 +1,102 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging.model;
+
+import org.openkilda.model.Cookie;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Digest of the flow rules cookies of a switch split into ranges by the lowest bits of the cookie.
+ *
+ * <p>The digest of a range is the sum of the hashes of its distinct cookies, so it doesn't depend on the order of the
+ * rules in the dump and both the switch manager and the speaker can compute it on their own: the first one from the
+ * flow paths in the database, the second one from the flow table of the switch. Only the ranges with different
+ * digests have to be dumped and validated. The default rules are not a part of the digest.
+ */
+@Value
+public class FlowCookieDigest implements Serializable {
+    public static final int RANGES_COUNT = 64;
+
+    @JsonProperty("ranges")
+    private List<Long> ranges;
+
+    @JsonCreator
+    public FlowCookieDigest(@NonNull @JsonProperty("ranges") List<Long> ranges) {
+        if (ranges.size() != RANGES_COUNT) {
+            throw new IllegalArgumentException(String.format(
+                    "Flow cookie digest must have %d ranges, got %d", RANGES_COUNT, ranges.size()));
+        }
+        this.ranges = ranges;
+    }
+
+    /**
+     * Makes the digest of the cookies, the default rule cookies are skipped.
+     */
+    public static FlowCookieDigest of(Collection<Long> cookies) {
+        long[] sums = new long[RANGES_COUNT];
+        for (long cookie : new HashSet<>(cookies)) {
+            if (!Cookie.isDefaultRule(cookie)) {
+                sums[rangeOf(cookie)] += hash(cookie);
+            }
+        }
+
+        List<Long> ranges = new ArrayList<>(RANGES_COUNT);
+        for (long sum : sums) {
+            ranges.add(sum);
+        }
+        return new FlowCookieDigest(Collections.unmodifiableList(ranges));
+    }
+
+    public static int rangeOf(long cookie) {
+        return (int) (cookie & (RANGES_COUNT - 1));
+    }
+
+    /**
+     * Gets the ranges which digests differ from the ones of the other digest.
+     */
+    public Set<Integer> getDifferentRanges(FlowCookieDigest other) {
+        Set<Integer> result = new HashSet<>();
+        for (int i = 0; i < RANGES_COUNT; i++) {
+            if (!ranges.get(i).equals(other.ranges.get(i))) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The cookies of the flows differ mostly in the low bits of the flow effective id, so they are mixed to make the
+     * sums of the different sets of cookies collide as rarely as possible.
+     */
+    private static long hash(long cookie) {
+        long value = cookie;
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,81 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.openkilda.messaging.MessageCodec.Format;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.event.IslChangeType;
+import org.openkilda.messaging.info.event.IslInfoData;
+import org.openkilda.messaging.info.event.PathNode;
+import org.openkilda.model.SwitchId;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class MessageCodecTest {
+    private final MessageCodec codec = new MessageCodec(ObjectMapper::new);
+
+    @Test
+    public void shouldDecodeBothFormats() throws Exception {
+        InfoMessage origin = makeMessage();
+
+        for (Format format : Format.values()) {
+            byte[] encoded = codec.encode(origin, format);
+
+            assertEquals(format, MessageCodec.detectFormat(encoded));
+            assertEquals(origin, codec.decode(encoded, Message.class));
+        }
+    }
+
+    @Test
+    public void shouldProduceJsonCompatibleWithPlainMapper() throws Exception {
+        InfoMessage origin = makeMessage();
+        String json = new String(codec.encode(origin, Format.JSON), StandardCharsets.UTF_8);
+
+        assertEquals(origin, Utils.MAPPER.readValue(json, Message.class));
+    }
+
+    @Test
+    public void shouldConvertSmileToJson() throws Exception {
+        InfoMessage origin = makeMessage();
+
+        byte[] json = codec.toJson(codec.encode(origin, Format.SMILE));
+        assertEquals(Format.JSON, MessageCodec.detectFormat(json));
+        assertEquals(origin, Utils.MAPPER.readValue(json, Message.class));
+
+        byte[] encoded = codec.encode(origin, Format.JSON);
+        assertSame(encoded, codec.toJson(encoded));
+    }
+
+    @Test
+    public void shouldParseFormatName() {
+        assertEquals(Format.SMILE, Format.of(" Smile"));
+        assertEquals(Format.JSON, Format.of("json"));
+    }
+
+    private InfoMessage makeMessage() {
+        IslInfoData isl = new IslInfoData(
+                new PathNode(new SwitchId("ff:fe:00:00:00:00:00:01"), 1, 0),
+                new PathNode(new SwitchId("ff:fe:00:00:00:00:00:02"), 2, 1),
+                IslChangeType.DISCOVERED, false);
+        return new InfoMessage(isl, System.currentTimeMillis(), getClass().getCanonicalName());
+    }
+}
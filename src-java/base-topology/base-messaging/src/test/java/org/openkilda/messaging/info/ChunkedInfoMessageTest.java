@@ -0,0 +1,88 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging.info;
+
+import org.openkilda.messaging.StringSerializer;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ChunkedInfoMessageTest {
+    private static final String CORRELATION_ID = "chunked-response";
+
+    private final StringSerializer serializer = new StringSerializer();
+
+    @Test
+    public void shouldCreateSingleEmptyMessageForEmptyResponse() {
+        List<ChunkedInfoMessage> messages = ChunkedInfoMessage.createChunks(
+                Collections.emptyList(), CORRELATION_ID, 10);
+
+        Assert.assertEquals(1, messages.size());
+        Assert.assertEquals(0, messages.get(0).getTotalMessages());
+        Assert.assertNull(messages.get(0).getData());
+    }
+
+    @Test
+    public void shouldPackItemsIntoChunks() {
+        List<InfoData> items = makeItems(25);
+        List<ChunkedInfoMessage> messages = ChunkedInfoMessage.createChunks(items, CORRELATION_ID, 10);
+
+        Assert.assertEquals(3, messages.size());
+        List<InfoData> unpacked = new ArrayList<>();
+        for (ChunkedInfoMessage message : messages) {
+            Assert.assertEquals(3, message.getTotalMessages());
+            Assert.assertEquals(CORRELATION_ID, message.getCorrelationId());
+            unpacked.addAll(InfoDataChunk.unpack(message.getData()));
+        }
+        Assert.assertEquals(items, unpacked);
+        Assert.assertEquals(3, messages.stream().map(ChunkedInfoMessage::getMessageId).distinct().count());
+    }
+
+    @Test
+    public void shouldNotWrapSingleItemChunk() {
+        List<InfoData> items = makeItems(11);
+        List<ChunkedInfoMessage> messages = ChunkedInfoMessage.createChunks(items, CORRELATION_ID, 10);
+
+        Assert.assertEquals(2, messages.size());
+        Assert.assertTrue(messages.get(0).getData() instanceof InfoDataChunk);
+        Assert.assertEquals(items.get(10), messages.get(1).getData());
+    }
+
+    @Test
+    public void serializeLoop() throws Exception {
+        List<InfoData> items = makeItems(3);
+        ChunkedInfoMessage origin = ChunkedInfoMessage.createChunks(items, CORRELATION_ID, 10).get(0);
+        serializer.serialize(origin);
+
+        ChunkedInfoMessage reconstruct = (ChunkedInfoMessage) serializer.deserialize();
+
+        Assert.assertEquals(items, InfoDataChunk.unpack(reconstruct.getData()));
+        Assert.assertEquals(origin.getMessageId(), reconstruct.getMessageId());
+    }
+
+    private List<InfoData> makeItems(int size) {
+        List<InfoData> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Datapoint("test.metric", 1000L + i, ImmutableMap.of("index", String.valueOf(i)), i));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,59 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.model.Cookie;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+public class FlowCookieDigestTest {
+
+    @Test
+    public void shouldNotDependOnOrderAndDuplicates() {
+        FlowCookieDigest digest = FlowCookieDigest.of(ImmutableList.of(1L, 2L, 65L));
+        assertEquals(digest, FlowCookieDigest.of(ImmutableList.of(65L, 2L, 1L, 2L)));
+    }
+
+    @Test
+    public void shouldSkipDefaultRules() {
+        FlowCookieDigest digest = FlowCookieDigest.of(ImmutableList.of(1L, Cookie.DROP_RULE_COOKIE));
+        assertEquals(FlowCookieDigest.of(ImmutableList.of(1L)), digest);
+    }
+
+    @Test
+    public void shouldFindDifferentRanges() {
+        FlowCookieDigest expected = FlowCookieDigest.of(ImmutableList.of(1L, 2L, 3L));
+        FlowCookieDigest present = FlowCookieDigest.of(ImmutableList.of(1L, 66L, 3L, 4L));
+
+        assertEquals(ImmutableSet.of(2, 4), expected.getDifferentRanges(present));
+        assertTrue(expected.getDifferentRanges(FlowCookieDigest.of(ImmutableList.of(3L, 2L, 1L))).isEmpty());
+    }
+
+    @Test
+    public void shouldSerializeAndDeserialize() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        FlowCookieDigest digest = FlowCookieDigest.of(ImmutableList.of(1L, 2L, 3L));
+
+        String json = mapper.writeValueAsString(digest);
+        assertEquals(digest, mapper.readValue(json, FlowCookieDigest.class));
+    }
+}
@@ -0,0 +1,102 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a tick of the periodic timeouts like the ones of the watch-list service: each entry is
+ * rescheduled one period ahead when it expires. The time advances by 1 ms on each tick, the deadlines are spread over
+ * the period.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TimingWheelBenchmark {
+    private static final long PERIOD = TimeUnit.SECONDS.toNanos(3);
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({"10000", "100000"})
+    private int entries;
+
+    private TimingWheel<Integer> wheel;
+    private SortedMap<Long, Set<Integer>> treeMap;
+    private long now;
+
+    /**
+     * Fills both the wheel and the tree map based timeouts with the same deadlines.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        wheel = TimingWheel.forSpan(PERIOD, 4096);
+        treeMap = new TreeMap<>();
+        for (int i = 0; i < entries; i++) {
+            long deadline = PERIOD * i / entries;
+            wheel.schedule(i, deadline);
+            treeMap.computeIfAbsent(deadline, key -> new HashSet<>()).add(i);
+        }
+        now = 0;
+    }
+
+    /**
+     * Advances the timing wheel and reschedules the expired entries.
+     */
+    @Benchmark
+    public int timingWheelTick() {
+        now += TICK;
+        final long tickTime = now;
+        wheel.advance(tickTime, key -> wheel.schedule(key, tickTime + PERIOD));
+        return wheel.size();
+    }
+
+    /**
+     * Does the same with the tree map of deadlines, the way the timeouts were tracked before the timing wheel.
+     */
+    @Benchmark
+    public int treeMapTick() {
+        now += TICK;
+        SortedMap<Long, Set<Integer>> range = treeMap.subMap(Long.MIN_VALUE, now + 1);
+        if (!range.isEmpty()) {
+            Set<Integer> renew = new HashSet<>();
+            for (Set<Integer> bucket : range.values()) {
+                renew.addAll(bucket);
+            }
+            range.clear();
+            treeMap.computeIfAbsent(now + PERIOD, key -> new HashSet<>()).addAll(renew);
+        }
+        return treeMap.size();
+    }
+}
@@ -40,7 +40,7 @@ public class AbstractMessageDeserializer implements SerializableDeserializer<Abs
     @Override
     public AbstractMessage deserialize(String topic, byte[] data) {
         try {
-            return SerializationUtils.MAPPER.readValue(data, AbstractMessage.class);
+            return SerializationUtils.CODEC.decode(data, AbstractMessage.class);
         } catch (IOException e) {
             log.error(format("Failed to deserialize message: %s from topic %s",
                     StringUtils.toEncodedString(data, Charset.defaultCharset()), topic), e);
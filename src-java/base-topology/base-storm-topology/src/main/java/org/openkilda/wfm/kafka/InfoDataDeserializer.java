@@ -27,6 +27,6 @@ public class InfoDataDeserializer extends Deserializer<InfoData> {
 
     @Override
     protected InfoData jsonDecode(byte[] data) throws IOException {
-        return SerializationUtils.MAPPER.readValue(data, InfoData.class);
+        return SerializationUtils.CODEC.decode(data, InfoData.class);
     }
 }
@@ -27,6 +27,6 @@ public class MessageDeserializer extends Deserializer<Message> {
 
     @Override
     protected Message jsonDecode(byte[] data) throws IOException {
-        return SerializationUtils.MAPPER.readValue(data, Message.class);
+        return SerializationUtils.CODEC.decode(data, Message.class);
     }
 }
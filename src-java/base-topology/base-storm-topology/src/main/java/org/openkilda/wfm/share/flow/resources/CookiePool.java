@@ -23,24 +23,42 @@ import org.openkilda.persistence.repositories.RepositoryFactory;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 /**
- * The resource pool is responsible for cookie de-/allocation.
+ * The resource pool is responsible for cookie de-/allocation. Free cookies are tracked by {@link RangeAllocator}.
  */
 @Slf4j
 public class CookiePool {
+    private static final String RESOURCE_TYPE = "flow_cookie";
+
     private final TransactionManager transactionManager;
     private final FlowCookieRepository flowCookieRepository;
 
-    private final long minCookie;
-    private final long maxCookie;
+    private final RangeAllocator allocator;
 
     public CookiePool(PersistenceManager persistenceManager, long minCookie, long maxCookie) {
+        this(persistenceManager, minCookie, maxCookie, null, 0);
+    }
+
+    /**
+     * Creates the pool which allocates cookies out of blocks leased by the leaser, if it's provided.
+     */
+    public CookiePool(PersistenceManager persistenceManager, long minCookie, long maxCookie,
+                      ResourceLeaser leaser, int blockSize) {
         transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         flowCookieRepository = repositoryFactory.createFlowCookieRepository();
 
-        this.minCookie = minCookie;
-        this.maxCookie = maxCookie;
+        Supplier<Collection<Long>> assignedCookiesLoader = () -> flowCookieRepository.findAll().stream()
+                .map(FlowCookie::getUnmaskedCookie)
+                .collect(Collectors.toList());
+        allocator = leaser != null
+                ? new LeasedRangeAllocator(RESOURCE_TYPE,
+                        minCookie, maxCookie, blockSize, assignedCookiesLoader, leaser)
+                : new RangeAllocator(minCookie, maxCookie, assignedCookiesLoader);
     }
 
     /**
@@ -50,11 +68,8 @@ public class CookiePool {
      */
     public long allocate(String flowId) {
         return transactionManager.doInTransaction(() -> {
-            long availableCookie = flowCookieRepository.findUnassignedCookie(minCookie)
+            long availableCookie = allocator.allocate(flowCookieRepository::exists)
                     .orElseThrow(() -> new ResourceNotAvailableException("No cookie available"));
-            if (availableCookie > maxCookie) {
-                throw new ResourceNotAvailableException("No cookie available");
-            }
 
             FlowCookie flowCookie = FlowCookie.builder()
                     .unmaskedCookie(availableCookie)
@@ -74,5 +89,6 @@ public class CookiePool {
                 flowCookieRepository.findByCookie(unmaskedCookie)
                         .ifPresent(flowCookieRepository::delete)
         );
+        allocator.release(unmaskedCookie);
     }
 }
@@ -78,4 +78,18 @@ public interface FlowResourcesConfig extends Serializable {
     @Key("flow.cookie.max")
     @Default("131072")
     long getMaxFlowCookie();
+
+    /**
+     * Size of the blocks of cookies, transit vlans and vxlans leased to a worker at once. Zero disables leasing.
+     */
+    @Key("flow.resource-lease.block-size")
+    @Default("0")
+    int getResourceLeaseBlockSize();
+
+    /**
+     * For how long a leased block stays reserved for a worker which doesn't renew it.
+     */
+    @Key("flow.resource-lease.time-seconds")
+    @Default("300")
+    int getResourceLeaseTimeSeconds();
 }
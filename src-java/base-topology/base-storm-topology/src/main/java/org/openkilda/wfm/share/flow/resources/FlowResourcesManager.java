@@ -35,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.RetryPolicy;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -52,18 +53,38 @@ public class FlowResourcesManager {
     private final Map<FlowEncapsulationType, EncapsulationResourcesProvider> encapsulationResourcesProviders;
 
     public FlowResourcesManager(PersistenceManager persistenceManager, FlowResourcesConfig config) {
+        this(persistenceManager, config, null);
+    }
+
+    /**
+     * Creates the manager which allocates cookies, transit vlans and vxlans out of blocks leased to the owner,
+     * if leasing is enabled by {@link FlowResourcesConfig#getResourceLeaseBlockSize()}.
+     *
+     * @param leaseOwner the unique id of the worker (e.g. the bolt task), or null to disable leasing. A manager
+     *                   without the owner still skips the blocks leased by other workers.
+     */
+    public FlowResourcesManager(PersistenceManager persistenceManager, FlowResourcesConfig config,
+                                String leaseOwner) {
         transactionManager = persistenceManager.getTransactionManager();
         switchRepository = persistenceManager.getRepositoryFactory().createSwitchRepository();
 
-        this.cookiePool = new CookiePool(persistenceManager, config.getMinFlowCookie(), config.getMaxFlowCookie());
+        int blockSize = config.getResourceLeaseBlockSize();
+        ResourceLeaser leaser = null;
+        if (blockSize > 0) {
+            leaser = new ResourceLeaser(persistenceManager, leaseOwner,
+                    Duration.ofSeconds(config.getResourceLeaseTimeSeconds()));
+        }
+
+        this.cookiePool = new CookiePool(persistenceManager, config.getMinFlowCookie(), config.getMaxFlowCookie(),
+                leaser, blockSize);
         this.meterPool = new MeterPool(persistenceManager,
                 new MeterId(config.getMinFlowMeterId()), new MeterId(config.getMaxFlowMeterId()));
 
         encapsulationResourcesProviders = ImmutableMap.<FlowEncapsulationType, EncapsulationResourcesProvider>builder()
                 .put(FlowEncapsulationType.TRANSIT_VLAN, new TransitVlanPool(persistenceManager,
-                        config.getMinFlowTransitVlan(), config.getMaxFlowTransitVlan()))
+                        config.getMinFlowTransitVlan(), config.getMaxFlowTransitVlan(), leaser, blockSize))
                 .put(FlowEncapsulationType.VXLAN, new VxlanPool(persistenceManager,
-                        config.getMinFlowVxlan(), config.getMaxFlowVxlan()))
+                        config.getMinFlowVxlan(), config.getMaxFlowVxlan(), leaser, blockSize))
                 .build();
     }
 
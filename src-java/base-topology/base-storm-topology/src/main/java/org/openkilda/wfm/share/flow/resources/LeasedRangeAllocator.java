@@ -0,0 +1,144 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.flow.resources;
+
+import org.openkilda.model.ResourceLease;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+
+/**
+ * {@link RangeAllocator} which allocates ids out of a block leased to the worker, so workers don't compete for
+ * the same ids until the block is exhausted and the next one is leased. Ids of the leased block are still checked
+ * against the persistence layer, as the block may contain ids assigned before it was leased.
+ * <p/>
+ * If no block can be leased, ids are allocated from the whole range as {@link RangeAllocator} does, skipping
+ * the blocks leased by other workers. A leaser without an owner never leases blocks, it only makes the allocator
+ * skip the blocks leased by the workers.
+ */
+public class LeasedRangeAllocator extends RangeAllocator {
+    private final String resourceType;
+    private final long min;
+    private final long max;
+    private final int blockSize;
+    private final Supplier<Collection<Long>> assignedIdsLoader;
+    private final ResourceLeaser leaser;
+
+    private ResourceLease lease;
+    private final BitSet blockAllocated = new BitSet();
+    private int blockLowestFree;
+
+    public LeasedRangeAllocator(String resourceType, long min, long max, int blockSize,
+                                Supplier<Collection<Long>> assignedIdsLoader, ResourceLeaser leaser) {
+        super(min, max, assignedIdsLoader);
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid block size %d", blockSize));
+        }
+        this.resourceType = resourceType;
+        this.min = min;
+        this.max = max;
+        this.blockSize = blockSize;
+        this.assignedIdsLoader = assignedIdsLoader;
+        this.leaser = leaser;
+    }
+
+    @Override
+    public synchronized Optional<Long> allocate(LongPredicate isAssigned) {
+        Optional<Long> id = allocateFromBlock(isAssigned);
+        if (!id.isPresent() && leaser.getOwner() != null) {
+            leaseBlock();
+            id = allocateFromBlock(isAssigned);
+        }
+        if (id.isPresent()) {
+            return id;
+        }
+
+        List<ResourceLease> leasesOfOthers = leaser.findLeasesOfOthers(resourceType);
+        return super.allocate(candidate -> isLeased(candidate, leasesOfOthers) || isAssigned.test(candidate));
+    }
+
+    @Override
+    public synchronized void release(long id) {
+        if (lease != null && lease.contains(id)) {
+            int index = (int) (id - lease.getFirstId());
+            blockAllocated.clear(index);
+            blockLowestFree = Math.min(blockLowestFree, index);
+        } else {
+            super.release(id);
+        }
+    }
+
+    private Optional<Long> allocateFromBlock(LongPredicate isAssigned) {
+        if (lease == null) {
+            return Optional.empty();
+        }
+        lease = leaser.renewIfNeeded(lease).orElse(null);
+        if (lease == null) {
+            return Optional.empty();
+        }
+
+        while (true) {
+            int index = blockAllocated.nextClearBit(blockLowestFree);
+            if (lease.getFirstId() + index > lease.getLastId()) {
+                blockLowestFree = index;
+                return Optional.empty();
+            }
+            blockAllocated.set(index);
+            blockLowestFree = index + 1;
+            long id = lease.getFirstId() + index;
+            if (!isAssigned.test(id)) {
+                return Optional.of(id);
+            }
+        }
+    }
+
+    private void leaseBlock() {
+        lease = leaser.lease(resourceType, min, max, blockSize, assignedIdsLoader).orElse(null);
+        blockAllocated.clear();
+        blockLowestFree = 0;
+        if (lease == null) {
+            return;
+        }
+
+        // Reload in the current transaction to see the ids allocated, but not committed yet.
+        for (Long id : assignedIdsLoader.get()) {
+            if (id != null && lease.contains(id)) {
+                blockAllocated.set((int) (id - lease.getFirstId()));
+            }
+        }
+        for (long id = lease.getFirstId(); id <= lease.getLastId(); id++) {
+            if (isAllocated(id)) {
+                blockAllocated.set((int) (id - lease.getFirstId()));
+            }
+        }
+    }
+
+    private boolean isLeased(long id, List<ResourceLease> leases) {
+        if (lease != null && lease.contains(id)) {
+            return true;
+        }
+        for (ResourceLease each : leases) {
+            if (each.contains(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
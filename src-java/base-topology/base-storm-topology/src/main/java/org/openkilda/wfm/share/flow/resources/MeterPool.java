@@ -33,10 +33,13 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * The resource pool is responsible for meter de-/allocation.
+ * The resource pool is responsible for meter de-/allocation. Free meters are tracked by a {@link RangeAllocator}
+ * per switch.
  */
 @Slf4j
 public class MeterPool {
@@ -47,6 +50,8 @@ public class MeterPool {
     private final MeterId minMeterId;
     private final MeterId maxMeterId;
 
+    private final Map<SwitchId, RangeAllocator> allocators = new ConcurrentHashMap<>();
+
     public MeterPool(PersistenceManager persistenceManager, MeterId minMeterId, MeterId maxMeterId) {
         transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
@@ -76,11 +81,11 @@ public class MeterPool {
         return transactionManager.doInTransaction(() -> {
             String noMetersErrorMessage = format("No meter available for switch %s", theSwitch);
 
-            MeterId availableMeterId = flowMeterRepository.findUnassignedMeterId(theSwitch.getSwitchId(), minMeterId)
+            SwitchId switchId = theSwitch.getSwitchId();
+            MeterId availableMeterId = getAllocator(switchId)
+                    .allocate(meterId -> flowMeterRepository.exists(switchId, new MeterId(meterId)))
+                    .map(MeterId::new)
                     .orElseThrow(() -> new ResourceNotAvailableException(noMetersErrorMessage));
-            if (availableMeterId.compareTo(maxMeterId) > 0) {
-                throw new ResourceNotAvailableException(noMetersErrorMessage);
-            }
 
             FlowMeter flowMeter = FlowMeter.builder()
                     .meterId(availableMeterId)
@@ -106,6 +111,15 @@ public class MeterPool {
                     .collect(toList());
 
             meters.forEach(flowMeterRepository::delete);
+            meters.forEach(meter -> getAllocator(meter.getSwitchId()).release(meter.getMeterId().getValue()));
         });
     }
+
+    private RangeAllocator getAllocator(SwitchId switchId) {
+        return allocators.computeIfAbsent(switchId, id ->
+                new RangeAllocator(minMeterId.getValue(), maxMeterId.getValue(), () ->
+                        flowMeterRepository.findBySwitchId(id).stream()
+                                .map(meter -> meter.getMeterId().getValue())
+                                .collect(toList())));
+    }
 }
@@ -0,0 +1,116 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.flow.resources;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+
+/**
+ * In-memory allocator of ids from the [min, max] range. Allocated ids are kept in a bit set along with the lowest
+ * id which may be free, so the lowest free id is found without scanning the persisted resources.
+ * <p/>
+ * The allocator is a local view of the persisted resources: it's loaded on the first allocation and gets stale as
+ * other workers allocate and release the same resources. So each candidate is checked against the persistence
+ * layer (by a point lookup) and the allocator is reloaded once it's exhausted. The latter also returns the ids
+ * allocated by rolled back transactions.
+ */
+public class RangeAllocator {
+    private final long min;
+    private final long max;
+    private final Supplier<Collection<Long>> assignedIdsLoader;
+
+    private final BitSet allocated = new BitSet();
+    private int lowestFree;
+    private boolean loaded;
+
+    public RangeAllocator(long min, long max, Supplier<Collection<Long>> assignedIdsLoader) {
+        if (max < min || max - min >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("Invalid range of ids [%d, %d]", min, max));
+        }
+        this.min = min;
+        this.max = max;
+        this.assignedIdsLoader = assignedIdsLoader;
+    }
+
+    /**
+     * Allocates the lowest free id. Candidates which are assigned according to the persistence layer are marked as
+     * allocated and skipped.
+     *
+     * @param isAssigned checks whether the id is already assigned in the persistence layer.
+     * @return the allocated id or {@link Optional#empty()} if there's no free id.
+     */
+    public synchronized Optional<Long> allocate(LongPredicate isAssigned) {
+        boolean reloaded = false;
+        if (!loaded) {
+            reload();
+            reloaded = true;
+        }
+
+        while (true) {
+            int index = allocated.nextClearBit(lowestFree);
+            if (index > max - min) {
+                lowestFree = index;
+                if (reloaded) {
+                    return Optional.empty();
+                }
+                // Some ids may have been released by other workers.
+                reload();
+                reloaded = true;
+                continue;
+            }
+
+            allocated.set(index);
+            lowestFree = index + 1;
+            long id = min + index;
+            if (!isAssigned.test(id)) {
+                return Optional.of(id);
+            }
+        }
+    }
+
+    /**
+     * Returns the id to the allocator.
+     */
+    public synchronized void release(long id) {
+        if (id < min || id > max) {
+            return;
+        }
+        int index = (int) (id - min);
+        allocated.clear(index);
+        lowestFree = Math.min(lowestFree, index);
+    }
+
+    /**
+     * Checks whether the id is allocated according to the local view.
+     */
+    protected synchronized boolean isAllocated(long id) {
+        return loaded && id >= min && id <= max && allocated.get((int) (id - min));
+    }
+
+    private void reload() {
+        allocated.clear();
+        for (Long id : assignedIdsLoader.get()) {
+            if (id != null && id >= min && id <= max) {
+                allocated.set((int) (id - min));
+            }
+        }
+        lowestFree = 0;
+        loaded = true;
+    }
+}
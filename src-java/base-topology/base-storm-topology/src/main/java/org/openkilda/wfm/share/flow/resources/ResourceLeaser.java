@@ -0,0 +1,181 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.flow.resources;
+
+import org.openkilda.model.ResourceLease;
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.persistence.TransactionManager;
+import org.openkilda.persistence.repositories.ResourceLeaseRepository;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Leases blocks of resource ids to a worker (see {@link ResourceLease}). A worker is identified by the owner name,
+ * so a restarted worker reclaims the blocks it held before the restart. A leaser without the owner doesn't lease
+ * blocks, it only finds the blocks leased by the workers.
+ * <p/>
+ * Resources are allocated within the transactions of flow operations, while a lease must not be rolled back along
+ * with them. So leases are taken and renewed in separate transactions on a dedicated thread, as transactions are
+ * bound to threads.
+ */
+@Slf4j
+public class ResourceLeaser {
+    private final TransactionManager transactionManager;
+    private final ResourceLeaseRepository resourceLeaseRepository;
+    @Getter
+    private final String owner;
+    private final Duration leaseTime;
+    private final Clock clock;
+
+    private ExecutorService executor;
+
+    public ResourceLeaser(PersistenceManager persistenceManager, String owner, Duration leaseTime) {
+        this(persistenceManager, owner, leaseTime, Clock.systemUTC());
+    }
+
+    ResourceLeaser(PersistenceManager persistenceManager, String owner, Duration leaseTime, Clock clock) {
+        transactionManager = persistenceManager.getTransactionManager();
+        resourceLeaseRepository = persistenceManager.getRepositoryFactory().createResourceLeaseRepository();
+        this.owner = owner;
+        this.leaseTime = leaseTime;
+        this.clock = clock;
+    }
+
+    /**
+     * Leases the lowest block which has free ids and isn't leased by another worker, a block previously leased by
+     * this worker is reclaimed.
+     *
+     * @param assignedIdsLoader loads the ids which are already assigned.
+     * @return the leased block or {@link Optional#empty()} if no block is available.
+     */
+    public Optional<ResourceLease> lease(String resourceType, long min, long max, int blockSize,
+                                         Supplier<Collection<Long>> assignedIdsLoader) {
+        if (owner == null) {
+            return Optional.empty();
+        }
+        return executeInOwnTransaction(() -> {
+            Instant now = clock.instant();
+            Map<Long, ResourceLease> leases = resourceLeaseRepository.findByResourceType(resourceType).stream()
+                    .collect(Collectors.toMap(ResourceLease::getFirstId, Function.identity(), (a, b) -> a));
+            BitSet assigned = new BitSet();
+            for (Long id : assignedIdsLoader.get()) {
+                if (id != null && id >= min && id <= max) {
+                    assigned.set((int) (id - min));
+                }
+            }
+
+            for (long first = min; first <= max; first += blockSize) {
+                long last = Math.min(first + blockSize - 1, max);
+                ResourceLease existing = leases.get(first);
+                if (existing != null && !existing.isExpired(now) && !owner.equals(existing.getOwner())) {
+                    continue;
+                }
+                int nextFree = assigned.nextClearBit((int) (first - min));
+                if (nextFree > last - min) {
+                    continue;
+                }
+
+                Instant expiresAt = now.plus(leaseTime);
+                if (existing == null) {
+                    ResourceLease lease = ResourceLease.builder()
+                            .resourceType(resourceType)
+                            .firstId(first)
+                            .lastId(last)
+                            .owner(owner)
+                            .expiresAt(expiresAt)
+                            .build();
+                    resourceLeaseRepository.createOrUpdate(lease);
+                    return Optional.of(lease);
+                }
+                if (resourceLeaseRepository.takeOver(existing, owner, expiresAt)) {
+                    return Optional.of(existing.toBuilder().owner(owner).expiresAt(expiresAt).build());
+                }
+            }
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * Renews the lease if it's past the half of the lease time.
+     *
+     * @return the renewed lease or {@link Optional#empty()} if the lease has been taken over by another worker.
+     */
+    public Optional<ResourceLease> renewIfNeeded(ResourceLease lease) {
+        Instant now = clock.instant();
+        if (now.plus(leaseTime.dividedBy(2)).isBefore(lease.getExpiresAt())) {
+            return Optional.of(lease);
+        }
+
+        Instant expiresAt = now.plus(leaseTime);
+        return executeInOwnTransaction(() -> {
+            if (resourceLeaseRepository.takeOver(lease, owner, expiresAt)) {
+                return Optional.of(lease.toBuilder().expiresAt(expiresAt).build());
+            }
+            log.info("Lease {} has been taken over by another worker", lease);
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * Finds the blocks currently leased by other workers, or by all workers if the leaser has no owner.
+     */
+    public List<ResourceLease> findLeasesOfOthers(String resourceType) {
+        Instant now = clock.instant();
+        return resourceLeaseRepository.findByResourceType(resourceType).stream()
+                .filter(lease -> !lease.isExpired(now) && !Objects.equals(owner, lease.getOwner()))
+                .collect(Collectors.toList());
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat("resource-leaser-" + owner + "-%d")
+                    .setDaemon(true)
+                    .build());
+        }
+        return executor;
+    }
+
+    private Optional<ResourceLease> executeInOwnTransaction(Supplier<Optional<ResourceLease>> action) {
+        try {
+            return getExecutor().submit(() -> transactionManager.doInTransaction(action::get)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while leasing resources for {}", owner);
+        } catch (ExecutionException e) {
+            log.warn("Failed to lease resources for {}", owner, e.getCause());
+        }
+        return Optional.empty();
+    }
+}
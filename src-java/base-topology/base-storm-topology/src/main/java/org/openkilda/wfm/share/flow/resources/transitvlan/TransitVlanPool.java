@@ -23,31 +23,50 @@ import org.openkilda.persistence.TransactionManager;
 import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.repositories.TransitVlanRepository;
 import org.openkilda.wfm.share.flow.resources.EncapsulationResourcesProvider;
+import org.openkilda.wfm.share.flow.resources.LeasedRangeAllocator;
+import org.openkilda.wfm.share.flow.resources.RangeAllocator;
+import org.openkilda.wfm.share.flow.resources.ResourceLeaser;
 import org.openkilda.wfm.share.flow.resources.ResourceNotAvailableException;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * The resource pool is responsible for transit vlan de-/allocation.
  */
 @Slf4j
 public class TransitVlanPool implements EncapsulationResourcesProvider<TransitVlanEncapsulation> {
+    private static final String RESOURCE_TYPE = "transit_vlan";
+
     private final TransactionManager transactionManager;
     private final TransitVlanRepository transitVlanRepository;
 
-    private final int minTransitVlan;
-    private final int maxTransitVlan;
+    private final RangeAllocator allocator;
 
     public TransitVlanPool(PersistenceManager persistenceManager, int minTransitVlan, int maxTransitVlan) {
+        this(persistenceManager, minTransitVlan, maxTransitVlan, null, 0);
+    }
+
+    /**
+     * Creates the pool which allocates vlans out of blocks leased by the leaser, if it's provided.
+     */
+    public TransitVlanPool(PersistenceManager persistenceManager, int minTransitVlan, int maxTransitVlan,
+                           ResourceLeaser leaser, int blockSize) {
         transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         transitVlanRepository = repositoryFactory.createTransitVlanRepository();
 
-        this.minTransitVlan = minTransitVlan;
-        this.maxTransitVlan = maxTransitVlan;
+        Supplier<Collection<Long>> assignedVlansLoader = () -> transitVlanRepository.findAll().stream()
+                .map(transitVlan -> (long) transitVlan.getVlan())
+                .collect(Collectors.toList());
+        allocator = leaser != null
+                ? new LeasedRangeAllocator(RESOURCE_TYPE,
+                        minTransitVlan, maxTransitVlan, blockSize, assignedVlansLoader, leaser)
+                : new RangeAllocator(minTransitVlan, maxTransitVlan, assignedVlansLoader);
     }
 
     /**
@@ -61,11 +80,9 @@ public class TransitVlanPool implements EncapsulationResourcesProvider<TransitVl
 
     private TransitVlanEncapsulation allocate(Flow flow, PathId pathId) {
         return transactionManager.doInTransaction(() -> {
-            int availableVlan = transitVlanRepository.findUnassignedTransitVlan(minTransitVlan)
+            int availableVlan = allocator.allocate(vlan -> transitVlanRepository.exists((int) vlan))
+                    .map(Long::intValue)
                     .orElseThrow(() -> new ResourceNotAvailableException("No vlan available"));
-            if (availableVlan > maxTransitVlan) {
-                throw new ResourceNotAvailableException("No vlan available");
-            }
 
             TransitVlan transitVlan = TransitVlan.builder()
                     .vlan(availableVlan)
@@ -87,7 +104,10 @@ public class TransitVlanPool implements EncapsulationResourcesProvider<TransitVl
     public void deallocate(PathId pathId) {
         transactionManager.doInTransaction(() ->
                 transitVlanRepository.findByPathId(pathId, null)
-                        .forEach(transitVlanRepository::delete));
+                        .forEach(transitVlan -> {
+                            transitVlanRepository.delete(transitVlan);
+                            allocator.release(transitVlan.getVlan());
+                        }));
     }
 
     /**
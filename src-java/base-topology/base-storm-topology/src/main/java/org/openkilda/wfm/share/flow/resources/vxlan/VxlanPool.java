@@ -23,31 +23,50 @@ import org.openkilda.persistence.TransactionManager;
 import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.repositories.VxlanRepository;
 import org.openkilda.wfm.share.flow.resources.EncapsulationResourcesProvider;
+import org.openkilda.wfm.share.flow.resources.LeasedRangeAllocator;
+import org.openkilda.wfm.share.flow.resources.RangeAllocator;
+import org.openkilda.wfm.share.flow.resources.ResourceLeaser;
 import org.openkilda.wfm.share.flow.resources.ResourceNotAvailableException;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * The resource pool is responsible for vxlan de-/allocation.
  */
 @Slf4j
 public class VxlanPool implements EncapsulationResourcesProvider<VxlanEncapsulation> {
+    private static final String RESOURCE_TYPE = "vxlan";
+
     private final TransactionManager transactionManager;
     private final VxlanRepository vxlanRepository;
 
-    private final int minVxlan;
-    private final int maxVxlan;
+    private final RangeAllocator allocator;
 
     public VxlanPool(PersistenceManager persistenceManager, int minVxlan, int maxVxlan) {
+        this(persistenceManager, minVxlan, maxVxlan, null, 0);
+    }
+
+    /**
+     * Creates the pool which allocates vxlans out of blocks leased by the leaser, if it's provided.
+     */
+    public VxlanPool(PersistenceManager persistenceManager, int minVxlan, int maxVxlan,
+                     ResourceLeaser leaser, int blockSize) {
         transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         vxlanRepository = repositoryFactory.createVxlanRepository();
 
-        this.minVxlan = minVxlan;
-        this.maxVxlan = maxVxlan;
+        Supplier<Collection<Long>> assignedVnisLoader = () -> vxlanRepository.findAll().stream()
+                .map(vxlan -> (long) vxlan.getVni())
+                .collect(Collectors.toList());
+        allocator = leaser != null
+                ? new LeasedRangeAllocator(RESOURCE_TYPE,
+                        minVxlan, maxVxlan, blockSize, assignedVnisLoader, leaser)
+                : new RangeAllocator(minVxlan, maxVxlan, assignedVnisLoader);
     }
 
     /**
@@ -61,11 +80,9 @@ public class VxlanPool implements EncapsulationResourcesProvider<VxlanEncapsulat
 
     private VxlanEncapsulation allocate(Flow flow, PathId pathId) {
         return transactionManager.doInTransaction(() -> {
-            int availableVxlan = vxlanRepository.findUnassignedVxlan(minVxlan)
+            int availableVxlan = allocator.allocate(vni -> vxlanRepository.exists((int) vni))
+                    .map(Long::intValue)
                     .orElseThrow(() -> new ResourceNotAvailableException("No vxlan available"));
-            if (availableVxlan > maxVxlan) {
-                throw new ResourceNotAvailableException("No vxlan available");
-            }
 
             Vxlan vxlan = Vxlan.builder()
                     .vni(availableVxlan)
@@ -87,7 +104,10 @@ public class VxlanPool implements EncapsulationResourcesProvider<VxlanEncapsulat
     public void deallocate(PathId pathId) {
         transactionManager.doInTransaction(() ->
                 vxlanRepository.findByPathId(pathId, null)
-                        .forEach(vxlanRepository::delete));
+                        .forEach(vxlan -> {
+                            vxlanRepository.delete(vxlan);
+                            allocator.release(vxlan.getVni());
+                        }));
     }
 
     /**
@@ -20,6 +20,7 @@ import static org.openkilda.wfm.share.hubandspoke.CoordinatedBolt.COMMAND_FIELD;
 import static org.openkilda.wfm.share.hubandspoke.CoordinatedBolt.TIMEOUT_FIELD;
 
 import org.openkilda.wfm.AbstractBolt;
+import org.openkilda.wfm.share.utils.TimingWheel;
 import org.openkilda.wfm.topology.utils.MessageKafkaTranslator;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -31,12 +32,7 @@ import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 /**
  * Storm bolt that keeps track of duration of operation's execution and then sends callback to the requester.
@@ -46,8 +42,16 @@ public final class CoordinatorBolt extends AbstractBolt {
     public static final String ID = "coordinator.bolt";
     public static final String INCOME_STREAM = "coordinator.command";
 
+    private static final long TICK_DURATION_MS = 10;
+    private static final int TICKS_PER_WHEEL = 4096;
+
     private Map<String, Callback> callbacks = new HashMap<>();
-    private SortedMap<Long, Set<String>> timeouts = new TreeMap<>();
+    private transient TimingWheel<String> timeouts;
+
+    @Override
+    protected void init() {
+        timeouts = new TimingWheel<>(TICK_DURATION_MS, TICKS_PER_WHEEL);
+    }
 
     @Override
     protected void handleInput(Tuple input) {
@@ -82,8 +86,7 @@ public final class CoordinatorBolt extends AbstractBolt {
     void registerCallback(String key, Object context, int timeout, int taskId) {
         log.trace("Adding callback for {} with timeout {}", key, timeout);
         long triggerTime = System.currentTimeMillis() + timeout;
-        timeouts.computeIfAbsent(triggerTime, mappingFunction -> new HashSet<>())
-                .add(key);
+        timeouts.schedule(key, triggerTime);
 
         Values value = new Values(key, context);
         callbacks.put(key, Callback.of(taskId, value));
@@ -91,6 +94,7 @@ public final class CoordinatorBolt extends AbstractBolt {
 
     @VisibleForTesting
     void cancelCallback(String key) {
+        timeouts.cancel(key);
         if (callbacks.remove(key) == null) {
             log.warn("{} is already cancelled", key);
         } else {
@@ -103,15 +107,12 @@ public final class CoordinatorBolt extends AbstractBolt {
      */
     @VisibleForTesting
     void tick(Long currentTime) {
-        SortedMap<Long, Set<String>> outdatedCallbacks = timeouts.headMap(currentTime);
-        for (Set<String> callbacks : outdatedCallbacks.values()) {
-            callbacks.stream()
-                    .map(this.callbacks::remove)
-                    .filter(Objects::nonNull)
-                    .forEach(callback -> getOutput().emitDirect(callback.taskId, callback.context));
-        }
-
-        outdatedCallbacks.clear();
+        timeouts.advance(currentTime, key -> {
+            Callback callback = callbacks.remove(key);
+            if (callback != null) {
+                getOutput().emitDirect(callback.taskId, callback.context);
+            }
+        });
     }
 
     @Override
@@ -126,7 +127,7 @@ public final class CoordinatorBolt extends AbstractBolt {
     }
 
     @VisibleForTesting
-    SortedMap<Long, Set<String>> getTimeouts() {
+    TimingWheel<String> getTimeouts() {
         return timeouts;
     }
 
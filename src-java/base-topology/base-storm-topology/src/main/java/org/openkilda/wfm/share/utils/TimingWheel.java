@@ -0,0 +1,225 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel which tracks deadlines of keyed entries.
+ *
+ * <p>The time axis is split into ticks of the fixed duration and the entries are put into the bucket of the tick of
+ * their deadline, the buckets are reused on each revolution of the wheel. Both schedule and cancel take O(1), the
+ * advance scans only the buckets of the ticks passed since the previous advance. An entry expires on the first advance
+ * with the time equal to or greater than its deadline, the tick duration affects only the spread of the entries among
+ * the buckets. The time units are up to the caller, but the time passed into {@link #advance(long, Consumer)} must not
+ * go backward.
+ *
+ * <p>The wheel is not thread safe.
+ */
+public class TimingWheel<K> {
+    private static final long UNDEFINED_TICK = Long.MIN_VALUE;
+    private static final int DETACHED = -1;
+
+    private final long tickDuration;
+    private final int mask;
+    private final Entry<K>[] buckets;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private final List<Entry<K>> expired = new ArrayList<>();
+
+    /**
+     * The last tick which bucket doesn't hold any entries expiring in this revolution.
+     */
+    private long processedTick = UNDEFINED_TICK;
+
+    /**
+     * Creates the wheel.
+     *
+     * @param tickDuration duration of a tick.
+     * @param ticksPerWheel count of the buckets, it is rounded up to the power of 2.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickDuration, int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Tick duration must be positive (got %d)", tickDuration));
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException(String.format(
+                    "Ticks per wheel must be in range 1..2^30 (got %d)", ticksPerWheel));
+        }
+
+        int size = Integer.highestOneBit(ticksPerWheel);
+        if (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.tickDuration = tickDuration;
+        this.mask = size - 1;
+        this.buckets = (Entry<K>[]) new Entry[size];
+    }
+
+    /**
+     * Creates the wheel which single revolution covers the span, so the entries scheduled not farther than the span
+     * ahead are checked only once.
+     */
+    public static <K> TimingWheel<K> forSpan(long span, int ticksPerWheel) {
+        return new TimingWheel<>(Math.max(1, span / ticksPerWheel), ticksPerWheel);
+    }
+
+    /**
+     * Schedules the entry, the previous deadline of the key is replaced.
+     */
+    public void schedule(K key, long deadline) {
+        Entry<K> entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry<>(key);
+            entries.put(key, entry);
+        } else if (entry.bucket != DETACHED) {
+            unlink(entry);
+        }
+        entry.deadline = deadline;
+        link(entry);
+    }
+
+    /**
+     * Removes the entry.
+     *
+     * @return true if the key was scheduled.
+     */
+    public boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.bucket == DETACHED) {
+            // expired, but its action has not been called yet
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    public boolean contains(K key) {
+        Entry<K> entry = entries.get(key);
+        return entry != null && entry.bucket != DETACHED;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes the expired entries and passes their keys to the action.
+     *
+     * <p>The action is called after all the expired entries have been removed, so it can schedule or cancel entries.
+     * Rescheduling of the expired key from the action reuses its entry. The action is not called for the expired key
+     * which has been cancelled or rescheduled by the action of another key of the same advance.
+     */
+    public void advance(long now, Consumer<? super K> action) {
+        long currentTick = Math.floorDiv(now, tickDuration);
+        if (processedTick == UNDEFINED_TICK) {
+            processedTick = currentTick - buckets.length;
+        }
+
+        long firstTick = Math.max(processedTick + 1, currentTick - mask);
+        for (long tick = firstTick; tick <= currentTick; tick++) {
+            collectExpired(buckets[bucketIndex(tick)], now);
+        }
+        // the bucket of the current tick can hold entries with the deadline later in this tick
+        processedTick = Math.max(processedTick, currentTick - 1);
+
+        if (expired.isEmpty()) {
+            return;
+        }
+        try {
+            for (Entry<K> entry : expired) {
+                // the action of the preceding entry could cancel or reschedule this one
+                if (entries.get(entry.key) == entry && entry.bucket == DETACHED) {
+                    action.accept(entry.key);
+                }
+            }
+        } finally {
+            for (Entry<K> entry : expired) {
+                if (entry.bucket == DETACHED) {
+                    entries.remove(entry.key, entry);
+                }
+            }
+            expired.clear();
+        }
+    }
+
+    private void collectExpired(Entry<K> head, long now) {
+        Entry<K> entry = head;
+        while (entry != null) {
+            Entry<K> next = entry.next;
+            if (entry.deadline <= now) {
+                unlink(entry);
+                expired.add(entry);
+            }
+            entry = next;
+        }
+    }
+
+    private void link(Entry<K> entry) {
+        long tick = Math.floorDiv(entry.deadline, tickDuration);
+        if (processedTick != UNDEFINED_TICK && tick <= processedTick) {
+            // the deadline has passed, put it into the bucket which will be checked on the next advance
+            tick = processedTick + 1;
+        }
+
+        int index = bucketIndex(tick);
+        entry.bucket = index;
+        entry.prev = null;
+        entry.next = buckets[index];
+        if (entry.next != null) {
+            entry.next.prev = entry;
+        }
+        buckets[index] = entry;
+    }
+
+    private void unlink(Entry<K> entry) {
+        if (entry.prev == null) {
+            buckets[entry.bucket] = entry.next;
+        } else {
+            entry.prev.next = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.bucket = DETACHED;
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    private int bucketIndex(long tick) {
+        return (int) (tick & mask);
+    }
+
+    private static class Entry<K> {
+        private final K key;
+        private long deadline;
+        private int bucket = DETACHED;
+        private Entry<K> prev;
+        private Entry<K> next;
+
+        Entry(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -31,11 +31,14 @@ import org.openkilda.wfm.kafka.AbstractMessageSerializer;
 import org.openkilda.wfm.kafka.CustomNamedSubscription;
 import org.openkilda.wfm.kafka.MessageDeserializer;
 import org.openkilda.wfm.kafka.MessageSerializer;
+import org.openkilda.wfm.kafka.RawMessageSerializer;
 import org.openkilda.wfm.topology.utils.AbstractMessageTranslator;
 import org.openkilda.wfm.topology.utils.MessageKafkaTranslator;
+import org.openkilda.wfm.topology.utils.RawMessageTranslator;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
@@ -256,6 +259,21 @@ public abstract class AbstractTopology<T extends AbstractTopologyConfig> impleme
         return new KafkaSpout<>(getKafkaSpoutAbstractMessageSupport(topics, spoutId).build());
     }
 
+    /**
+     * Creates Kafka spout with list of topics. Passes received value as is, see {@link RawMessageTranslator}.
+     *
+     * @param topics Kafka topics
+     * @return {@link KafkaSpout}
+     */
+    protected KafkaSpout<String, byte[]> buildKafkaSpoutForRawMessage(List<String> topics, String spoutId) {
+        KafkaSpoutConfig<String, byte[]> config = makeKafkaSpoutConfig(topics, spoutId, ByteArrayDeserializer.class)
+                .setRecordTranslator(new RawMessageTranslator())
+                .build();
+        logger.info("Setup kafka spout: id={}, group={}, subscriptions={}",
+                spoutId, config.getConsumerGroupId(), config.getSubscription().getTopicsString());
+        return new KafkaSpout<>(config);
+    }
+
     /**
      * Creates Kafka bolt.
      *
@@ -303,6 +321,22 @@ public abstract class AbstractTopology<T extends AbstractTopologyConfig> impleme
                 .withTupleToKafkaMapper(new FieldNameBasedTupleToKafkaMapper<>());
     }
 
+    /**
+     * Creates Kafka bolt, that uses {@link RawMessageSerializer} in order to write already encoded value as is.
+     *
+     * @param topic Kafka topic
+     * @return {@link KafkaBolt}
+     */
+    protected KafkaBolt<String, Object> buildKafkaBoltForRawMessage(final String topic) {
+        Properties properties = getKafkaProducerProperties();
+        properties.setProperty(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, RawMessageSerializer.class.getName());
+
+        return new KafkaBolt<String, Object>()
+                .withProducerProperties(properties)
+                .withTopicSelector(new DefaultTopicSelector(topic))
+                .withTupleToKafkaMapper(new FieldNameBasedTupleToKafkaMapper<>());
+    }
+
     protected KafkaSpoutConfig.Builder<String, Message> getKafkaSpoutConfigBuilder(String topic, String spoutId) {
         return getKafkaSpoutConfigBuilder(Collections.singletonList(topic), spoutId);
     }
@@ -0,0 +1,31 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.utils;
+
+import org.openkilda.wfm.CommandContext;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/**
+ * Passes the value of the record as is, without decoding it. The correlation id is unknown until the message is
+ * decoded, so the context gets a new one.
+ */
+public class RawMessageTranslator extends GenericKafkaRecordTranslator<byte[]> {
+    @Override
+    protected CommandContext makeContext(ConsumerRecord<?, ?> record, byte[] payload) {
+        return new CommandContext(record);
+    }
+}
@@ -15,6 +15,8 @@
 
 package org.openkilda.wfm.topology.utils;
 
+import org.openkilda.messaging.MessageCodec;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
@@ -23,6 +25,12 @@ public final class SerializationUtils {
     public static ObjectMapper MAPPER = new ObjectMapper()
             .registerModule(new JavaTimeModule());
 
+    /**
+     * Decodes kafka records in any of the supported formats, see {@link MessageCodec}.
+     */
+    public static final MessageCodec CODEC = new MessageCodec(
+            factory -> new ObjectMapper(factory).registerModule(new JavaTimeModule()));
+
     /**
      * A private constructor.
      */
@@ -52,6 +52,15 @@ public class CookiePoolTest extends Neo4jBasedTest {
         assertEquals(8, fifth);
     }
 
+    @Test
+    public void shouldSkipCookieAllocatedByAnotherPool() {
+        CookiePool anotherCookiePool = new CookiePool(persistenceManager, 5, 25);
+
+        assertEquals(5, cookiePool.allocate("flow_1"));
+        assertEquals(6, anotherCookiePool.allocate("flow_2"));
+        assertEquals(7, cookiePool.allocate("flow_3"));
+    }
+
     @Test(expected = ResourceNotAvailableException.class)
     public void cookiePoolFullTest() {
         for (int i = 4; i <= 26; i++) {
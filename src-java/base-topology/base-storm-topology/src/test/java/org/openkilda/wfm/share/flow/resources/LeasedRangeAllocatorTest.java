@@ -0,0 +1,126 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.flow.resources;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.model.ResourceLease;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public class LeasedRangeAllocatorTest {
+    private static final String RESOURCE_TYPE = "test";
+
+    private ResourceLeaser leaser;
+    private List<Long> assigned;
+
+    @Before
+    public void setUp() {
+        leaser = mock(ResourceLeaser.class);
+        assigned = new ArrayList<>();
+        when(leaser.getOwner()).thenReturn("owner");
+        when(leaser.renewIfNeeded(any())).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+        when(leaser.findLeasesOfOthers(RESOURCE_TYPE)).thenReturn(Collections.emptyList());
+    }
+
+    @Test
+    public void shouldAllocateFromLeasedBlock() {
+        when(leaser.lease(eq(RESOURCE_TYPE), anyLong(), anyLong(), anyInt(), any()))
+                .thenReturn(Optional.of(getLease(5, 7)));
+        assigned.add(6L);
+        LeasedRangeAllocator allocator = new LeasedRangeAllocator(RESOURCE_TYPE, 1, 10, 3,
+                () -> new ArrayList<>(assigned), leaser);
+
+        assertEquals(5L, (long) allocator.allocate(id -> false).get());
+        assertEquals(7L, (long) allocator.allocate(id -> false).get());
+
+        allocator.release(5);
+        assertEquals(5L, (long) allocator.allocate(id -> false).get());
+        verify(leaser, times(1)).lease(eq(RESOURCE_TYPE), anyLong(), anyLong(), anyInt(), any());
+    }
+
+    @Test
+    public void shouldSkipAssignedIdsOfLeasedBlock() {
+        when(leaser.lease(eq(RESOURCE_TYPE), anyLong(), anyLong(), anyInt(), any()))
+                .thenReturn(Optional.of(getLease(5, 7)));
+        LeasedRangeAllocator allocator = new LeasedRangeAllocator(RESOURCE_TYPE, 1, 10, 3,
+                () -> new ArrayList<>(assigned), leaser);
+
+        // 5 is assigned after the block has been leased, e.g. by a worker which doesn't lease blocks.
+        assertEquals(6L, (long) allocator.allocate(id -> id == 5).get());
+    }
+
+    @Test
+    public void shouldSkipBlocksOfOthersWithoutOwner() {
+        when(leaser.getOwner()).thenReturn(null);
+        when(leaser.findLeasesOfOthers(RESOURCE_TYPE)).thenReturn(Collections.singletonList(getLease(1, 3)));
+        LeasedRangeAllocator allocator = new LeasedRangeAllocator(RESOURCE_TYPE, 1, 10, 3,
+                () -> new ArrayList<>(assigned), leaser);
+
+        assertEquals(4L, (long) allocator.allocate(id -> false).get());
+        verify(leaser, never()).lease(eq(RESOURCE_TYPE), anyLong(), anyLong(), anyInt(), any());
+    }
+
+    @Test
+    public void shouldSkipBlocksOfOthersWhenNoBlockAvailable() {
+        when(leaser.lease(eq(RESOURCE_TYPE), anyLong(), anyLong(), anyInt(), any())).thenReturn(Optional.empty());
+        when(leaser.findLeasesOfOthers(RESOURCE_TYPE)).thenReturn(Collections.singletonList(getLease(1, 3)));
+        LeasedRangeAllocator allocator = new LeasedRangeAllocator(RESOURCE_TYPE, 1, 10, 3,
+                () -> new ArrayList<>(assigned), leaser);
+
+        assertEquals(4L, (long) allocator.allocate(id -> false).get());
+    }
+
+    @Test
+    public void shouldLeaseNextBlockWhenLeaseIsLost() {
+        ResourceLease first = getLease(1, 3);
+        when(leaser.lease(eq(RESOURCE_TYPE), anyLong(), anyLong(), anyInt(), any()))
+                .thenReturn(Optional.of(first))
+                .thenReturn(Optional.of(getLease(4, 6)));
+        LeasedRangeAllocator allocator = new LeasedRangeAllocator(RESOURCE_TYPE, 1, 10, 3,
+                () -> new ArrayList<>(assigned), leaser);
+
+        assertEquals(1L, (long) allocator.allocate(id -> false).get());
+        when(leaser.renewIfNeeded(first)).thenReturn(Optional.empty());
+        assertEquals(4L, (long) allocator.allocate(id -> false).get());
+    }
+
+    private static ResourceLease getLease(long firstId, long lastId) {
+        return ResourceLease.builder()
+                .resourceType(RESOURCE_TYPE)
+                .firstId(firstId)
+                .lastId(lastId)
+                .owner("owner")
+                .expiresAt(Instant.MAX)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.flow.resources;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class RangeAllocatorTest {
+    @Test
+    public void shouldAllocateLowestFreeId() {
+        RangeAllocator allocator = new RangeAllocator(5, 10, () -> Arrays.asList(5L, 7L));
+
+        assertEquals(6L, (long) allocator.allocate(id -> false).get());
+        assertEquals(8L, (long) allocator.allocate(id -> false).get());
+
+        allocator.release(6);
+        assertEquals(6L, (long) allocator.allocate(id -> false).get());
+        assertEquals(9L, (long) allocator.allocate(id -> false).get());
+    }
+
+    @Test
+    public void shouldSkipIdsAssignedByOthers() {
+        RangeAllocator allocator = new RangeAllocator(1, 10, Collections::emptyList);
+
+        assertEquals(3L, (long) allocator.allocate(id -> id < 3).get());
+        assertEquals(4L, (long) allocator.allocate(id -> false).get());
+    }
+
+    @Test
+    public void shouldReloadWhenExhausted() {
+        List<Long> assigned = new ArrayList<>(Arrays.asList(1L, 2L));
+        RangeAllocator allocator = new RangeAllocator(1, 3, () -> new ArrayList<>(assigned));
+
+        assertEquals(3L, (long) allocator.allocate(id -> false).get());
+        assigned.add(3L);
+        // Released by another worker.
+        assigned.remove(1L);
+
+        assertEquals(1L, (long) allocator.allocate(id -> false).get());
+        assigned.add(1L);
+        assertFalse(allocator.allocate(id -> false).isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidRange() {
+        new RangeAllocator(10, 5, Collections::emptyList);
+    }
+}
@@ -32,9 +32,6 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-
 @RunWith(MockitoJUnitRunner.class)
 public class CoordinatorBoltTest {
 
@@ -68,6 +65,7 @@ public class CoordinatorBoltTest {
 
         target.cancelCallback(key);
         assertTrue(target.getCallbacks().isEmpty());
+        assertThat(target.getTimeouts().size(), is(0));
     }
 
     @Test
@@ -82,16 +80,13 @@ public class CoordinatorBoltTest {
         assertThat(target.getCallbacks().size(), is(2));
 
         // check that we have stored timeouts for out tasks
-        Set<String> tasks = target.getTimeouts()
-                .values()
-                .stream()
-                .flatMap(Set::stream)
-                .collect(Collectors.toSet());
-        assertThat(tasks.size(), is(2));
+        assertTrue(target.getTimeouts().contains("request1"));
+        assertTrue(target.getTimeouts().contains("request2"));
 
         long afterTimeout = System.currentTimeMillis() + timeout + 1L;
         target.tick(afterTimeout);
         verify(collector).emitDirect(eq(firstTask), anyList());
         verify(collector).emitDirect(eq(secondTask), anyList());
+        assertThat(target.getTimeouts().size(), is(0));
     }
 }
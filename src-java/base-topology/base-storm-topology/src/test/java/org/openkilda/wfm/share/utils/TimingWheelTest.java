@@ -0,0 +1,152 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TimingWheelTest {
+    @Test
+    public void shouldExpireEntriesNotEarlierThanDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8);
+        wheel.schedule("a", 15);
+        wheel.schedule("b", 19);
+        wheel.schedule("c", 25);
+
+        assertEquals(ImmutableList.of(), advance(wheel, 14));
+        assertEquals(ImmutableList.of("a"), advance(wheel, 15));
+        assertEquals(ImmutableList.of(), advance(wheel, 18));
+        assertEquals(ImmutableList.of("b"), advance(wheel, 24));
+        assertEquals(ImmutableList.of("c"), advance(wheel, 25));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void shouldKeepEntriesOfNextRevolutions() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 4);
+        wheel.schedule("near", 2);
+        wheel.schedule("far", 2 + 4 * 3);
+
+        assertEquals(ImmutableList.of("near"), advance(wheel, 2));
+        for (long now = 3; now < 14; now++) {
+            assertEquals(ImmutableList.of(), advance(wheel, now));
+        }
+        assertEquals(ImmutableList.of("far"), advance(wheel, 14));
+    }
+
+    @Test
+    public void shouldExpireEverythingAfterLongGap() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(1, 16);
+        advance(wheel, 0);
+        for (int i = 1; i <= 100; i++) {
+            wheel.schedule(i, i);
+        }
+
+        assertEquals(100, advance(wheel, 1000).size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void shouldExpireEntriesScheduledInThePast() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8);
+        advance(wheel, 100);
+        wheel.schedule("late", 50);
+
+        assertEquals(ImmutableList.of("late"), advance(wheel, 100));
+    }
+
+    @Test
+    public void shouldCancelAndReschedule() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8);
+        wheel.schedule("cancelled", 5);
+        wheel.schedule("moved", 5);
+        wheel.schedule("kept", 5);
+
+        assertTrue(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("cancelled"));
+        wheel.schedule("moved", 7);
+
+        assertEquals(ImmutableList.of("kept"), advance(wheel, 5));
+        assertTrue(wheel.contains("moved"));
+        assertEquals(ImmutableList.of("moved"), advance(wheel, 7));
+    }
+
+    @Test
+    public void shouldAllowRescheduleFromAction() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8);
+        wheel.schedule("periodic", 3);
+
+        List<Long> fired = new ArrayList<>();
+        for (long now = 0; now <= 20; now++) {
+            final long time = now;
+            wheel.advance(now, key -> {
+                fired.add(time);
+                wheel.schedule(key, time + 3);
+            });
+        }
+
+        assertEquals(ImmutableList.of(3L, 6L, 9L, 12L, 15L, 18L), fired);
+    }
+
+    @Test
+    public void shouldNotFireEntryCancelledByActionOfSameAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8);
+        wheel.schedule("a", 5);
+        wheel.schedule("b", 5);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(5, key -> {
+            fired.add(key);
+            wheel.cancel("a".equals(key) ? "b" : "a");
+        });
+
+        assertEquals(1, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void shouldNotFireEntryRescheduledByActionOfSameAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 8);
+        wheel.schedule("a", 5);
+        wheel.schedule("b", 5);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(5, key -> {
+            fired.add(key);
+            wheel.schedule("a".equals(key) ? "b" : "a", 7);
+        });
+
+        assertEquals(1, fired.size());
+        String rescheduled = "a".equals(fired.get(0)) ? "b" : "a";
+        assertTrue(wheel.contains(rescheduled));
+        assertEquals(ImmutableList.of(), advance(wheel, 6));
+        assertEquals(ImmutableList.of(rescheduled), advance(wheel, 7));
+        assertEquals(0, wheel.size());
+    }
+
+    private static <K> List<K> advance(TimingWheel<K> wheel, long now) {
+        List<K> expired = new ArrayList<>();
+        wheel.advance(now, expired::add);
+        return expired;
+    }
+}
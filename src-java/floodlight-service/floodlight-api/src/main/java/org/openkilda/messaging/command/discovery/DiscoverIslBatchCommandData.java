@@ -0,0 +1,68 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging.command.discovery;
+
+import org.openkilda.messaging.command.CommandData;
+import org.openkilda.model.SwitchId;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Batched variant of {@link DiscoverIslCommandData}, it requests ISL discovery on several ports of the same switch.
+ */
+@Value
+public class DiscoverIslBatchCommandData extends CommandData {
+    private static final long serialVersionUID = 1L;
+
+    @JsonProperty("switch_id")
+    private SwitchId switchId;
+
+    @JsonProperty("ports")
+    private List<PortDiscovery> ports;
+
+    @JsonCreator
+    public DiscoverIslBatchCommandData(@JsonProperty("switch_id") SwitchId switchId,
+                                       @JsonProperty("ports") List<PortDiscovery> ports) {
+        this.switchId = switchId;
+        this.ports = ports;
+    }
+
+    /**
+     * Discovery request for a single port of the switch.
+     */
+    @Value
+    public static class PortDiscovery implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        @JsonProperty("port_number")
+        private int portNumber;
+
+        @JsonProperty("packet_id")
+        private long packetId;
+
+        @JsonCreator
+        public PortDiscovery(@JsonProperty("port_number") int portNumber,
+                             @JsonProperty("packet_id") long packetId) {
+            this.portNumber = portNumber;
+            this.packetId = packetId;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.openkilda.messaging.command.switches;
 
 import org.openkilda.messaging.command.CommandData;
+import org.openkilda.messaging.model.FlowCookieDigest;
 import org.openkilda.model.SwitchId;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -30,8 +31,21 @@ public class DumpRulesForSwitchManagerRequest extends CommandData {
     @JsonProperty("switch_id")
     private SwitchId switchId;
 
+    /**
+     * Digest of the expected flow rules. If it is set, only the default rules and the flow rules of the cookie ranges
+     * with different digests are dumped.
+     */
+    @JsonProperty("expected_digest")
+    private FlowCookieDigest expectedDigest;
+
+    public DumpRulesForSwitchManagerRequest(SwitchId switchId) {
+        this(switchId, null);
+    }
+
     @JsonCreator
-    public DumpRulesForSwitchManagerRequest(@JsonProperty("switch_id") SwitchId switchId) {
+    public DumpRulesForSwitchManagerRequest(@JsonProperty("switch_id") SwitchId switchId,
+                                            @JsonProperty("expected_digest") FlowCookieDigest expectedDigest) {
         this.switchId = switchId;
+        this.expectedDigest = expectedDigest;
     }
 }
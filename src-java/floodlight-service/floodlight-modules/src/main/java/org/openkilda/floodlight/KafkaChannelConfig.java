@@ -41,6 +41,14 @@ public interface KafkaChannelConfig extends KafkaConsumerGroupConfig {
     @Key("floodlight-region")
     String getFloodlightRegion();
 
+    /**
+     * Format of produced messages: "json" or the binary "smile". Storm topologies accept both of them, so the format
+     * can be changed speaker by speaker.
+     */
+    @Key("message-format")
+    @Default("json")
+    String getMessageFormat();
+
     /**
      * Returns Kafka properties built with the configuration data for Consumer.
      */
@@ -72,7 +80,7 @@ public interface KafkaChannelConfig extends KafkaConsumerGroupConfig {
         properties.put("linger.ms", 10);
 
         properties.put("key.serializer", "org.apache.kafka.common.serialization.StringSerializer");
-        properties.put("value.serializer", "org.apache.kafka.common.serialization.StringSerializer");
+        properties.put("value.serializer", "org.apache.kafka.common.serialization.ByteArraySerializer");
 
         return properties;
     }
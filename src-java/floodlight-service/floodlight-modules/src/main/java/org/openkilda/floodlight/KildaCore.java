@@ -51,7 +51,7 @@ public class KildaCore implements IFloodlightModule, IFloodlightService {
                 .put(KildaCore.class, this)
                 .put(CommandProcessorService.class, new CommandProcessorService(this, commandContextFactory))
                 .put(InputService.class, new InputService(commandContextFactory))
-                .put(SessionService.class, new SessionService())
+                .put(SessionService.class, new SessionService(this))
                 .put(FeatureDetectorService.class, new FeatureDetectorService())
                 .put(ConnectedDevicesService.class, new ConnectedDevicesService())
                 .build();
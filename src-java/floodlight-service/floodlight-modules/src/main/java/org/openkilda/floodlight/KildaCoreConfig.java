@@ -35,6 +35,21 @@ public interface KildaCoreConfig {
     @Default("300")
     long getCommandIdleWorkersKeepAliveSeconds();
 
+    /**
+     * Max number of OF messages written to a switch under one closing barrier. 1 disables batching, so each session
+     * is closed by its own barrier.
+     */
+    @Key("session-batch-size")
+    @Default("256")
+    int getSessionBatchSize();
+
+    /**
+     * For how long the messages of concurrent sessions are collected into a batch before the closing barrier is sent.
+     */
+    @Key("session-batch-window-millis")
+    @Default("5")
+    long getSessionBatchWindowMillis();
+
     @Key("flow-ping-magic-src-mac-address")
     @Default("00:26:E1:FF:FF:FE")
     String getFlowPingMagicSrcMacAddress();
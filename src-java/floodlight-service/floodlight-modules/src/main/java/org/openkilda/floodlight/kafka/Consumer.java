@@ -25,6 +25,7 @@ import org.openkilda.floodlight.switchmanager.ISwitchManager;
 
 import com.google.common.annotations.VisibleForTesting;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
@@ -33,15 +34,25 @@ import org.apache.kafka.common.errors.InterruptException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.ExecutorService;
+import java.util.Set;
 
+/**
+ * Reads the records from Kafka and hands them to {@link SwitchLanes}, so the commands for the same switch are
+ * handled in order and the commands for different switches in parallel. The offset of a record is committed only
+ * after the record and all the preceding records of its partition have been handled.
+ */
 public class Consumer implements Runnable {
     private static final Logger logger = LoggerFactory.getLogger(Consumer.class);
 
-    private final ExecutorService handlersPool;
+    private final SwitchLanes lanes;
     private final RecordHandler.Factory handlerFactory;
     private final KafkaConsumerSetup kafkaSetup;
     private final long commitInterval;
@@ -49,10 +60,10 @@ public class Consumer implements Runnable {
     private final KafkaUtilityService kafkaUtilityService;
     private final ISwitchManager switchManager; // HACK alert.. adding to facilitate safeSwitchTick()
 
-    public Consumer(FloodlightModuleContext moduleContext, ExecutorService handlersPool,
+    public Consumer(FloodlightModuleContext moduleContext, SwitchLanes lanes,
                     KafkaConsumerSetup kafkaSetup, RecordHandler.Factory handlerFactory,
                     long commitInterval) {
-        this.handlersPool = requireNonNull(handlersPool);
+        this.lanes = requireNonNull(lanes);
         this.handlerFactory = requireNonNull(handlerFactory);
         this.kafkaSetup = kafkaSetup;
 
@@ -76,32 +87,44 @@ public class Consumer implements Runnable {
              *  - max.poll.records = 500 (must be able to process about 2 records per second
              */
 
+            InFlightOffsets inFlightOffsets = new InFlightOffsets();
+            Deque<PendingRecord> pending = new ArrayDeque<>();
+            RevokedPartitionsCleaner revokeListener = new RevokedPartitionsCleaner(inFlightOffsets, pending);
             try (org.apache.kafka.clients.consumer.Consumer<String, String> consumer =
-                         kafkaUtilityService.makeConsumer(kafkaSetup)) {
+                         kafkaUtilityService.makeConsumer(kafkaSetup, revokeListener)) {
                 logger.info("Kafka consumer: start. Topics: {}", kafkaSetup.getTopics());
 
                 KafkaOffsetRegistry offsetRegistry = new KafkaOffsetRegistry(consumer, commitInterval);
+                // the listener is called only within poll(), so it never sees the registry unset
+                revokeListener.setOffsetRegistry(offsetRegistry);
 
                 while (true) {
-                    try {
-                        ConsumerRecords<String, String> batch = consumer.poll(100);
-                        if (batch.isEmpty()) {
-                            continue;
-                        }
-
+                    ConsumerRecords<String, String> batch = consumer.poll(100);
+                    if (!batch.isEmpty()) {
                         logger.debug("Received records batch contain {} messages", batch.count());
 
                         for (ConsumerRecord<String, String> record : batch) {
-                            handle(record);
-
-                            offsetRegistry.addAndCommit(record);
+                            pending.add(new PendingRecord(record, lanes.laneOf(record),
+                                    inFlightOffsets.add(record)));
                         }
-                    } finally {
-                        // force to commit after each completed batch or in a case of an exception / error.
-                        offsetRegistry.commitOffsets();
                     }
 
-                    switchManager.safeModeTick(); // HACK alert .. should go in its own timer loop
+                    dispatch(pending);
+                    if (!pending.isEmpty()) {
+                        // Some lanes are full, stop fetching until they have room for the pending records.
+                        consumer.pause(consumer.assignment());
+                    } else if (!consumer.paused().isEmpty()) {
+                        consumer.resume(consumer.paused());
+                    }
+
+                    for (Entry<TopicPartition, Long> entry : inFlightOffsets.drainCompleted().entrySet()) {
+                        offsetRegistry.addAndCommit(entry.getKey(), entry.getValue());
+                    }
+                    offsetRegistry.commitIfIntervalPassed();
+
+                    if (!batch.isEmpty()) {
+                        switchManager.safeModeTick(); // HACK alert .. should go in its own timer loop
+                    }
                 }
             } catch (InterruptException ex) {
                 // Gracefully finish loop on thread interruption.
@@ -114,9 +137,157 @@ public class Consumer implements Runnable {
         }
     }
 
-    protected void handle(ConsumerRecord<String, String> record) {
+    /**
+     * Hands the pending records to their lanes. A record which doesn't fit into its lane stays pending together with
+     * all the following records of the same lane, so the order within a lane is preserved.
+     */
+    private void dispatch(Deque<PendingRecord> pending) {
+        Set<Integer> fullLanes = new HashSet<>();
+        Iterator<PendingRecord> iterator = pending.iterator();
+        while (iterator.hasNext() && fullLanes.size() < lanes.getLanesCount()) {
+            PendingRecord entry = iterator.next();
+            if (fullLanes.contains(entry.lane)) {
+                continue;
+            }
+            if (lanes.offer(entry.lane, () -> handle(entry.record, entry.onComplete))) {
+                iterator.remove();
+            } else {
+                fullLanes.add(entry.lane);
+            }
+        }
+    }
+
+    protected void handle(ConsumerRecord<String, String> record, Runnable onComplete) {
         logger.trace("received message: {} - key:{}, value:{}", record.offset(), record.key(), record.value());
-        handlersPool.execute(handlerFactory.produce(record));
+        try {
+            handlerFactory.produce(record).run();
+        } catch (Exception e) {
+            logger.error("Failed to handle record {}", record, e);
+        } finally {
+            onComplete.run();
+        }
+    }
+
+    /**
+     * Drops the pending and in-flight records of the revoked partitions, so the consumer neither dispatches them nor
+     * commits offsets of the partitions it no longer owns. The offsets completed before the revocation are committed.
+     * The records of the revoked partitions which are already handled by the lanes are left to complete, their new
+     * owner reads them again.
+     */
+    @VisibleForTesting
+    static class RevokedPartitionsCleaner implements ConsumerRebalanceListener {
+        private final InFlightOffsets inFlightOffsets;
+        private final Deque<PendingRecord> pending;
+        private KafkaOffsetRegistry offsetRegistry;
+
+        RevokedPartitionsCleaner(InFlightOffsets inFlightOffsets, Deque<PendingRecord> pending) {
+            this.inFlightOffsets = inFlightOffsets;
+            this.pending = pending;
+        }
+
+        void setOffsetRegistry(KafkaOffsetRegistry offsetRegistry) {
+            this.offsetRegistry = offsetRegistry;
+        }
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            logger.info("Kafka consumer: partitions revoked {}", partitions);
+            if (offsetRegistry != null) {
+                for (Entry<TopicPartition, Long> entry : inFlightOffsets.drainCompleted().entrySet()) {
+                    offsetRegistry.addAndCommit(entry.getKey(), entry.getValue());
+                }
+                offsetRegistry.commitOffsets();
+                offsetRegistry.forget(partitions);
+            }
+
+            Set<TopicPartition> revoked = new HashSet<>(partitions);
+            pending.removeIf(entry -> revoked.contains(
+                    new TopicPartition(entry.record.topic(), entry.record.partition())));
+            inFlightOffsets.forget(revoked);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            logger.info("Kafka consumer: partitions assigned {}", partitions);
+        }
+    }
+
+    @VisibleForTesting
+    static class PendingRecord {
+        private final ConsumerRecord<String, String> record;
+        private final int lane;
+        private final Runnable onComplete;
+
+        PendingRecord(ConsumerRecord<String, String> record, int lane, Runnable onComplete) {
+            this.record = record;
+            this.lane = lane;
+            this.onComplete = onComplete;
+        }
+    }
+
+    /**
+     * Tracks the offsets of the records which are handled by the lanes. The records are added by the poll loop in
+     * the order they were read and completed by the lanes in any order.
+     */
+    @VisibleForTesting
+    static class InFlightOffsets {
+        private final Map<TopicPartition, PartitionOffsets> partitions = new HashMap<>();
+
+        /**
+         * Adds the record to the in-flight ones.
+         *
+         * @return the callback which marks the record as completed.
+         */
+        Runnable add(ConsumerRecord<?, ?> record) {
+            PartitionOffsets offsets = partitions.computeIfAbsent(
+                    new TopicPartition(record.topic(), record.partition()), partition -> new PartitionOffsets());
+            long offset = record.offset();
+            offsets.add(offset);
+            return () -> offsets.complete(offset);
+        }
+
+        /**
+         * Returns for each partition the last offset up to which all the records are completed, if it has moved
+         * since the previous call.
+         */
+        Map<TopicPartition, Long> drainCompleted() {
+            Map<TopicPartition, Long> result = new HashMap<>();
+            for (Entry<TopicPartition, PartitionOffsets> entry : partitions.entrySet()) {
+                Long offset = entry.getValue().drainCompleted();
+                if (offset != null) {
+                    result.put(entry.getKey(), offset);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Stops tracking the partitions, the records of them completed later are ignored.
+         */
+        void forget(Collection<TopicPartition> revoked) {
+            partitions.keySet().removeAll(revoked);
+        }
+
+        private static class PartitionOffsets {
+            private final Deque<Long> inFlight = new ArrayDeque<>();
+            private final Set<Long> completed = new HashSet<>();
+
+            synchronized void add(long offset) {
+                inFlight.addLast(offset);
+            }
+
+            synchronized void complete(long offset) {
+                completed.add(offset);
+            }
+
+            synchronized Long drainCompleted() {
+                Long last = null;
+                while (!inFlight.isEmpty() && completed.remove(inFlight.peekFirst())) {
+                    last = inFlight.pollFirst();
+                }
+                return last;
+            }
+        }
     }
 
     /**
@@ -145,18 +316,38 @@ public class Consumer implements Runnable {
          * if more than autoCommitInterval ms passed since the last commit.
          */
         void addAndCommit(ConsumerRecord<String, String> record) {
-            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            addAndCommit(new TopicPartition(record.topic(), record.partition()), record.offset());
+        }
 
+        /**
+         * Add the offset of the partition to the registry and perform a commit
+         * if more than autoCommitInterval ms passed since the last commit.
+         */
+        void addAndCommit(TopicPartition partition, long offset) {
             Long previousOffset = partitionToUncommittedOffset.get(partition);
-            if (previousOffset != null && previousOffset > record.offset()) {
+            if (previousOffset != null && previousOffset > offset) {
                 throw new IllegalArgumentException(
                         format("The record has offset %d which less than the previously added %d.",
-                                record.offset(), previousOffset));
+                                offset, previousOffset));
             }
 
-            partitionToUncommittedOffset.put(partition, record.offset());
+            partitionToUncommittedOffset.put(partition, offset);
 
             // commit offsets of processed messages
+            commitIfIntervalPassed();
+        }
+
+        /**
+         * Drops the uncommitted offsets of the partitions, so their offsets may be added from scratch.
+         */
+        void forget(Collection<TopicPartition> partitions) {
+            partitionToUncommittedOffset.keySet().removeAll(partitions);
+        }
+
+        /**
+         * Commits the offsets added since the last commit if more than autoCommitInterval ms passed since it.
+         */
+        void commitIfIntervalPassed() {
             if ((System.currentTimeMillis() - lastCommitTime) >= autoCommitInterval) {
                 commitOffsets();
             }
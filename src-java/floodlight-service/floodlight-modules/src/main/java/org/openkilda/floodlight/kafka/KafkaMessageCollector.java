@@ -38,11 +38,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.RejectedExecutionHandler;
-import java.util.concurrent.SynchronousQueue;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 public class KafkaMessageCollector implements IFloodlightModule {
@@ -95,24 +91,20 @@ public class KafkaMessageCollector implements IFloodlightModule {
     protected void launchTopics(KafkaMessageCollectorConfig consumerConfig,
                                 KafkaChannel kafkaChannel,
                                 ConsumerLauncher launcher) {
-        ExecutorService generalExecutor = buildExecutorWithNoQueue(consumerConfig.getGeneralExecutorCount());
-        logger.info("Kafka Consumer: general executor threads = {}", consumerConfig.getGeneralExecutorCount());
-        launcher.launch(generalExecutor, new KafkaConsumerSetup(kafkaChannel.getSpeakerTopic()));
-        launcher.launch(generalExecutor, new KafkaConsumerSetup(kafkaChannel.getSpeakerFlowTopic()));
-        launcher.launch(generalExecutor, new KafkaConsumerSetup(kafkaChannel.getSpeakerFlowPingTopic()));
+        SwitchLanes generalLanes = new SwitchLanes("kafka-general", consumerConfig.getGeneralExecutorCount(),
+                consumerConfig.getLaneQueueSize());
+        logger.info("Kafka Consumer: general executor lanes = {}", consumerConfig.getGeneralExecutorCount());
+        launcher.launch(generalLanes, new KafkaConsumerSetup(kafkaChannel.getSpeakerTopic()));
+        launcher.launch(generalLanes, new KafkaConsumerSetup(kafkaChannel.getSpeakerFlowTopic()));
+        launcher.launch(generalLanes, new KafkaConsumerSetup(kafkaChannel.getSpeakerFlowPingTopic()));
 
-        ExecutorService discoCommandExecutor = buildExecutorWithNoQueue(consumerConfig.getDiscoExecutorCount());
-        logger.info("Kafka Consumer: disco executor threads = {}", consumerConfig.getDiscoExecutorCount());
+        SwitchLanes discoCommandLanes = new SwitchLanes("kafka-disco", consumerConfig.getDiscoExecutorCount(),
+                consumerConfig.getLaneQueueSize());
+        logger.info("Kafka Consumer: disco executor lanes = {}", consumerConfig.getDiscoExecutorCount());
 
         KafkaConsumerSetup kafkaSetup = new KafkaConsumerSetup(kafkaChannel.getSpeakerDiscoTopic());
         kafkaSetup.offsetResetStrategy(OffsetResetStrategy.LATEST);
-        launcher.launch(discoCommandExecutor, kafkaSetup);
-    }
-
-    protected ExecutorService buildExecutorWithNoQueue(int executorCount) {
-        // A thread pool of fixed sized and no work queue.
-        return new ThreadPoolExecutor(executorCount, executorCount, 0L, TimeUnit.MILLISECONDS,
-                new SynchronousQueue<>(), new RetryableExecutionHandler());
+        launcher.launch(discoCommandLanes, kafkaSetup);
     }
 
     protected static class ConsumerLauncher {
@@ -129,29 +121,11 @@ public class KafkaMessageCollector implements IFloodlightModule {
             this.handlerFactory = new RecordHandler.Factory(context);
         }
 
-        protected void launch(ExecutorService handlerExecutor, KafkaConsumerSetup kafkaSetup) {
-            Consumer consumer = new Consumer(moduleContext, handlerExecutor, kafkaSetup, handlerFactory,
+        protected void launch(SwitchLanes lanes, KafkaConsumerSetup kafkaSetup) {
+            Consumer consumer = new Consumer(moduleContext, lanes, kafkaSetup, handlerFactory,
                     consumerConfig.getAutoCommitInterval());
             Executors.newSingleThreadScheduledExecutor()
                     .scheduleWithFixedDelay(consumer, 0, 1, TimeUnit.MILLISECONDS);
         }
     }
-
-    /**
-     * Handler of rejected messages by ThreadPoolExecutor, in case of reject this handler will wait
-     * until one of executors becomes available.
-     */
-    private static class RetryableExecutionHandler implements RejectedExecutionHandler {
-        @Override
-        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
-            if (!executor.isShutdown()) {
-                try {
-                    executor.getQueue().put(r);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    logger.error("Couldn't retry to process message", e);
-                }
-            }
-        }
-    }
 }
@@ -36,6 +36,14 @@ public interface KafkaMessageCollectorConfig {
     @Min(1)
     int getDiscoExecutorCount();
 
+    /**
+     * Capacity of the queue of each executor lane. The consumer stops fetching records when a lane is full.
+     */
+    @Key("consumer-lane-queue-size")
+    @Default("100")
+    @Min(1)
+    int getLaneQueueSize();
+
     @Key("consumer-auto-commit-interval")
     @Default("1000")
     @Min(1)
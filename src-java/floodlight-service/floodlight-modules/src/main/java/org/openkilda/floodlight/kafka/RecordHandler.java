@@ -75,6 +75,8 @@ import org.openkilda.messaging.Destination;
 import org.openkilda.messaging.MessageContext;
 import org.openkilda.messaging.command.CommandData;
 import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData.PortDiscovery;
 import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
 import org.openkilda.messaging.command.discovery.DiscoverPathCommandData;
 import org.openkilda.messaging.command.discovery.NetworkCommandData;
@@ -134,6 +136,7 @@ import org.openkilda.messaging.info.switches.PortConfigurationResponse;
 import org.openkilda.messaging.info.switches.PortDescription;
 import org.openkilda.messaging.info.switches.SwitchPortsDescription;
 import org.openkilda.messaging.info.switches.SwitchRulesResponse;
+import org.openkilda.messaging.model.FlowCookieDigest;
 import org.openkilda.messaging.model.NetworkEndpoint;
 import org.openkilda.messaging.payload.switches.InstallIslDefaultRulesCommand;
 import org.openkilda.messaging.payload.switches.RemoveIslDefaultRulesCommand;
@@ -149,7 +152,6 @@ import net.floodlightcontroller.core.IOFSwitch;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.projectfloodlight.openflow.protocol.OFFlowMod;
 import org.projectfloodlight.openflow.protocol.OFFlowStatsEntry;
-import org.projectfloodlight.openflow.protocol.OFMeterConfig;
 import org.projectfloodlight.openflow.protocol.OFPortDesc;
 import org.projectfloodlight.openflow.types.DatapathId;
 import org.projectfloodlight.openflow.types.OFPort;
@@ -159,12 +161,15 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 class RecordHandler implements Runnable {
     private static final Logger logger = LoggerFactory.getLogger(RecordHandler.class);
@@ -212,6 +217,8 @@ class RecordHandler implements Runnable {
 
         if (data instanceof DiscoverIslCommandData) {
             doDiscoverIslCommand(message);
+        } else if (data instanceof DiscoverIslBatchCommandData) {
+            doDiscoverIslBatchCommand(message);
         } else if (data instanceof DiscoverPathCommandData) {
             doDiscoverPathCommand(data);
         } else if (data instanceof InstallIngressFlow) {
@@ -341,6 +348,24 @@ class RecordHandler implements Runnable {
                         context.getRegion()));
     }
 
+    private void doDiscoverIslBatchCommand(CommandMessage message) {
+        DiscoverIslBatchCommandData command = (DiscoverIslBatchCommandData) message.getData();
+        SwitchId switchId = command.getSwitchId();
+        Map<OFPort, Long> packetIds = new LinkedHashMap<>();
+        for (PortDiscovery port : command.getPorts()) {
+            packetIds.put(OFPort.of(port.getPortNumber()), port.getPacketId());
+        }
+        context.getPathVerificationService().sendDiscoveryMessages(DatapathId.of(switchId.toLong()), packetIds);
+
+        for (PortDiscovery port : command.getPorts()) {
+            DiscoPacketSendingConfirmation confirmation = new DiscoPacketSendingConfirmation(
+                    new NetworkEndpoint(switchId, port.getPortNumber()), port.getPacketId());
+            getKafkaProducer().sendMessageAndTrack(context.getKafkaTopoDiscoTopic(), switchId.toString(),
+                    new InfoMessage(confirmation, System.currentTimeMillis(), message.getCorrelationId(),
+                            context.getRegion()));
+        }
+    }
+
     private void doDiscoverPathCommand(CommandData data) {
         DiscoverPathCommandData command = (DiscoverPathCommandData) data;
         logger.warn("NOT IMPLEMENTED: sending discover Path to {}", command);
@@ -1248,7 +1273,8 @@ class RecordHandler implements Runnable {
     }
 
     private void doDumpRulesForSwitchManagerRequest(final CommandMessage message) {
-        processDumpRulesRequest(((DumpRulesForSwitchManagerRequest) message.getData()).getSwitchId(),
+        DumpRulesForSwitchManagerRequest request = (DumpRulesForSwitchManagerRequest) message.getData();
+        processDumpRulesRequest(request.getSwitchId(), request.getExpectedDigest(),
                 context.getKafkaSwitchManagerTopic(), message.getCorrelationId(), message.getTimestamp());
     }
 
@@ -1259,32 +1285,58 @@ class RecordHandler implements Runnable {
 
     private void processDumpRulesRequest(final SwitchId switchId, final String replyToTopic,
                                          String correlationId, long timestamp) {
+        processDumpRulesRequest(switchId, null, replyToTopic, correlationId, timestamp);
+    }
+
+    private void processDumpRulesRequest(final SwitchId switchId, FlowCookieDigest expectedDigest,
+                                         final String replyToTopic, String correlationId, long timestamp) {
         final IKafkaProducerService producerService = getKafkaProducer();
 
-        try {
-            logger.debug("Loading installed rules for switch {}", switchId);
+        logger.debug("Loading installed rules for switch {}", switchId);
+        context.getSwitchManager().dumpFlowTableAsync(DatapathId.of(switchId.toLong()))
+                .whenComplete((flowEntries, error) -> {
+                    if (error != null) {
+                        String errorMessage = unwrapError(error).getMessage();
+                        logger.error("Dumping of rules on switch '{}' was unsuccessful: {}", switchId, errorMessage);
+                        anError(ErrorType.NOT_FOUND)
+                                .withMessage(errorMessage)
+                                .withDescription("The switch was not found when requesting a rules dump.")
+                                .withCorrelationId(correlationId)
+                                .withTopic(replyToTopic)
+                                .sendVia(producerService);
+                        return;
+                    }
 
-            List<OFFlowStatsEntry> flowEntries =
-                    context.getSwitchManager().dumpFlowTable(DatapathId.of(switchId.toLong()));
-            List<FlowEntry> flows = flowEntries.stream()
-                    .map(OfFlowStatsMapper.INSTANCE::toFlowEntry)
-                    .collect(Collectors.toList());
+                    Set<Integer> cookieRanges = null;
+                    Stream<OFFlowStatsEntry> dumped = flowEntries.stream();
+                    if (expectedDigest != null) {
+                        Set<Integer> differentRanges = expectedDigest.getDifferentRanges(FlowCookieDigest.of(
+                                flowEntries.stream()
+                                        .map(entry -> entry.getCookie().getValue())
+                                        .collect(Collectors.toList())));
+                        logger.debug("Rules of {} of {} cookie ranges differ on switch {}",
+                                differentRanges.size(), FlowCookieDigest.RANGES_COUNT, switchId);
+                        cookieRanges = differentRanges;
+                        dumped = dumped.filter(entry -> isInCookieRanges(entry.getCookie().getValue(),
+                                differentRanges));
+                    }
 
-            SwitchFlowEntries response = SwitchFlowEntries.builder()
-                    .switchId(switchId)
-                    .flowEntries(flows)
-                    .build();
-            InfoMessage infoMessage = new InfoMessage(response, timestamp, correlationId);
-            producerService.sendMessageAndTrack(replyToTopic, correlationId, infoMessage);
-        } catch (SwitchOperationException e) {
-            logger.error("Dumping of rules on switch '{}' was unsuccessful: {}", switchId, e.getMessage());
-            anError(ErrorType.NOT_FOUND)
-                    .withMessage(e.getMessage())
-                    .withDescription("The switch was not found when requesting a rules dump.")
-                    .withCorrelationId(correlationId)
-                    .withTopic(replyToTopic)
-                    .sendVia(producerService);
-        }
+                    List<FlowEntry> flows = dumped
+                            .map(OfFlowStatsMapper.INSTANCE::toFlowEntry)
+                            .collect(Collectors.toList());
+
+                    SwitchFlowEntries response = SwitchFlowEntries.builder()
+                            .switchId(switchId)
+                            .flowEntries(flows)
+                            .cookieRanges(cookieRanges)
+                            .build();
+                    InfoMessage infoMessage = new InfoMessage(response, timestamp, correlationId);
+                    producerService.sendMessageAndTrack(replyToTopic, correlationId, infoMessage);
+                });
+    }
+
+    private static boolean isInCookieRanges(long cookie, Set<Integer> cookieRanges) {
+        return Cookie.isDefaultRule(cookie) || cookieRanges.contains(FlowCookieDigest.rangeOf(cookie));
     }
 
     /**
@@ -1385,26 +1437,40 @@ class RecordHandler implements Runnable {
 
         final IKafkaProducerService producerService = getKafkaProducer();
 
+        DatapathId dpid = DatapathId.of(request.getSwitchId().toLong());
         try {
-            DatapathId dpid = DatapathId.of(request.getSwitchId().toLong());
             context.getSwitchManager().deleteMeter(dpid, request.getMeterId());
-
-            boolean deleted = context.getSwitchManager().dumpMeters(dpid)
-                    .stream()
-                    .noneMatch(config -> config.getMeterId() == request.getMeterId());
-            DeleteMeterResponse response = new DeleteMeterResponse(deleted);
-            InfoMessage infoMessage = new InfoMessage(response, System.currentTimeMillis(), message.getCorrelationId());
-            producerService.sendMessageAndTrack(replyToTopic, message.getCorrelationId(), infoMessage);
         } catch (SwitchOperationException e) {
-            logger.error("Deleting meter '{}' from switch '{}' was unsuccessful: {}",
-                    request.getMeterId(), request.getSwitchId(), e.getMessage());
-            anError(ErrorType.DATA_INVALID)
-                    .withMessage(e.getMessage())
-                    .withDescription(request.getSwitchId().toString())
-                    .withCorrelationId(message.getCorrelationId())
-                    .withTopic(replyToTopic)
-                    .sendVia(producerService);
+            handleDeleteMeterError(e, message, replyToTopic);
+            return;
         }
+
+        context.getSwitchManager().dumpMetersAsync(dpid)
+                .whenComplete((meterEntries, error) -> {
+                    if (error != null) {
+                        handleDeleteMeterError(unwrapError(error), message, replyToTopic);
+                        return;
+                    }
+
+                    boolean deleted = meterEntries.stream()
+                            .noneMatch(config -> config.getMeterId() == request.getMeterId());
+                    DeleteMeterResponse response = new DeleteMeterResponse(deleted);
+                    InfoMessage infoMessage = new InfoMessage(
+                            response, System.currentTimeMillis(), message.getCorrelationId());
+                    producerService.sendMessageAndTrack(replyToTopic, message.getCorrelationId(), infoMessage);
+                });
+    }
+
+    private void handleDeleteMeterError(Throwable error, CommandMessage message, String replyToTopic) {
+        DeleteMeterRequest request = (DeleteMeterRequest) message.getData();
+        logger.error("Deleting meter '{}' from switch '{}' was unsuccessful: {}",
+                request.getMeterId(), request.getSwitchId(), error.getMessage());
+        anError(ErrorType.DATA_INVALID)
+                .withMessage(error.getMessage())
+                .withDescription(request.getSwitchId().toString())
+                .withCorrelationId(message.getCorrelationId())
+                .withTopic(replyToTopic)
+                .sendVia(getKafkaProducer());
     }
 
     private void doConfigurePort(final CommandMessage message) {
@@ -1531,36 +1597,47 @@ class RecordHandler implements Runnable {
     private void dumpMeters(SwitchId switchId, String correlationId, String replyToTopic, long timestamp) {
         final IKafkaProducerService producerService = getKafkaProducer();
 
-        try {
-            logger.debug("Get all meters for switch {}", switchId);
-            ISwitchManager switchManager = context.getSwitchManager();
-            List<OFMeterConfig> meterEntries = switchManager.dumpMeters(DatapathId.of(switchId.toLong()));
-            List<MeterEntry> meters = meterEntries.stream()
-                    .map(OfMeterConverter::toMeterEntry)
-                    .collect(Collectors.toList());
+        logger.debug("Get all meters for switch {}", switchId);
+        context.getSwitchManager().dumpMetersAsync(DatapathId.of(switchId.toLong()))
+                .whenComplete((meterEntries, error) -> {
+                    if (error != null) {
+                        handleDumpMetersError(unwrapError(error), switchId, correlationId, replyToTopic, timestamp);
+                        return;
+                    }
 
-            SwitchMeterEntries response = SwitchMeterEntries.builder()
-                    .switchId(switchId)
-                    .meterEntries(meters)
-                    .build();
-            InfoMessage infoMessage = new InfoMessage(response, timestamp, correlationId);
-            producerService.sendMessageAndTrack(replyToTopic, correlationId, infoMessage);
-        } catch (UnsupportedSwitchOperationException e) {
+                    List<MeterEntry> meters = meterEntries.stream()
+                            .map(OfMeterConverter::toMeterEntry)
+                            .collect(Collectors.toList());
+
+                    SwitchMeterEntries response = SwitchMeterEntries.builder()
+                            .switchId(switchId)
+                            .meterEntries(meters)
+                            .build();
+                    InfoMessage infoMessage = new InfoMessage(response, timestamp, correlationId);
+                    producerService.sendMessageAndTrack(replyToTopic, correlationId, infoMessage);
+                });
+    }
+
+    private void handleDumpMetersError(Throwable error, SwitchId switchId, String correlationId, String replyToTopic,
+                                       long timestamp) {
+        final IKafkaProducerService producerService = getKafkaProducer();
+
+        if (error instanceof UnsupportedSwitchOperationException) {
             logger.info("Meters not supported: {}", switchId);
             InfoMessage infoMessage = new InfoMessage(new SwitchMeterUnsupported(switchId), timestamp, correlationId);
             producerService.sendMessageAndTrack(replyToTopic, correlationId, infoMessage);
-        } catch (SwitchNotFoundException e) {
+        } else if (error instanceof SwitchNotFoundException) {
             logger.info("Dumping switch meters is unsuccessful. Switch {} not found", switchId);
             anError(ErrorType.NOT_FOUND)
-                    .withMessage(e.getMessage())
+                    .withMessage(error.getMessage())
                     .withDescription(switchId.toString())
                     .withCorrelationId(correlationId)
                     .withTopic(replyToTopic)
                     .sendVia(producerService);
-        } catch (SwitchOperationException e) {
-            logger.error("Unable to dump meters", e);
+        } else {
+            logger.error("Unable to dump meters", error);
             anError(ErrorType.NOT_FOUND)
-                    .withMessage(e.getMessage())
+                    .withMessage(error.getMessage())
                     .withDescription("Unable to dump meters")
                     .withCorrelationId(correlationId)
                     .withTopic(replyToTopic)
@@ -1583,17 +1660,34 @@ class RecordHandler implements Runnable {
 
         try {
             switchManager.modifyMeterForFlow(datapathId, meterId, request.getBandwidth());
+        } catch (SwitchOperationException e) {
+            handleModifyMeterError(e, message, replyToTopic);
+            return;
+        }
 
-            MeterEntry meterEntry = OfMeterConverter.toMeterEntry(switchManager.dumpMeterById(datapathId, meterId));
+        switchManager.dumpMeterByIdAsync(datapathId, meterId)
+                .whenComplete((meterConfig, error) -> {
+                    if (error != null) {
+                        handleModifyMeterError(unwrapError(error), message, replyToTopic);
+                        return;
+                    }
 
-            SwitchMeterEntries response = SwitchMeterEntries.builder()
-                    .switchId(switchId)
-                    .meterEntries(ImmutableList.of(meterEntry))
-                    .build();
+                    SwitchMeterEntries response = SwitchMeterEntries.builder()
+                            .switchId(switchId)
+                            .meterEntries(ImmutableList.of(OfMeterConverter.toMeterEntry(meterConfig)))
+                            .build();
 
-            InfoMessage infoMessage = new InfoMessage(response, message.getTimestamp(), message.getCorrelationId());
-            producerService.sendMessageAndTrack(replyToTopic, message.getCorrelationId(), infoMessage);
-        } catch (UnsupportedSwitchOperationException e) {
+                    InfoMessage infoMessage = new InfoMessage(
+                            response, message.getTimestamp(), message.getCorrelationId());
+                    producerService.sendMessageAndTrack(replyToTopic, message.getCorrelationId(), infoMessage);
+                });
+    }
+
+    private void handleModifyMeterError(Throwable error, CommandMessage message, String replyToTopic) {
+        final IKafkaProducerService producerService = getKafkaProducer();
+
+        if (error instanceof UnsupportedSwitchOperationException) {
+            UnsupportedSwitchOperationException e = (UnsupportedSwitchOperationException) error;
             String messageString = String.format("Not supported: %s", new SwitchId(e.getDpId().getLong()));
             logger.error(messageString, e);
             anError(ErrorType.PARAMETERS_INVALID)
@@ -1602,7 +1696,8 @@ class RecordHandler implements Runnable {
                     .withCorrelationId(message.getCorrelationId())
                     .withTopic(replyToTopic)
                     .sendVia(producerService);
-        } catch (SwitchNotFoundException e) {
+        } else if (error instanceof SwitchNotFoundException) {
+            SwitchNotFoundException e = (SwitchNotFoundException) error;
             logger.error("Update switch meters is unsuccessful. Switch {} not found",
                     new SwitchId(e.getDpId().getLong()));
             anError(ErrorType.NOT_FOUND)
@@ -1611,11 +1706,11 @@ class RecordHandler implements Runnable {
                     .withCorrelationId(message.getCorrelationId())
                     .withTopic(replyToTopic)
                     .sendVia(producerService);
-        } catch (SwitchOperationException e) {
+        } else {
             String messageString = "Unable to update meter";
-            logger.error(messageString, e);
+            logger.error(messageString, error);
             anError(ErrorType.NOT_FOUND)
-                    .withMessage(e.getMessage())
+                    .withMessage(error.getMessage())
                     .withDescription(messageString)
                     .withCorrelationId(message.getCorrelationId())
                     .withTopic(replyToTopic)
@@ -1713,6 +1808,13 @@ class RecordHandler implements Runnable {
         return false;
     }
 
+    private static Throwable unwrapError(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
     private IKafkaProducerService getKafkaProducer() {
         return context.getModuleContext().getServiceImpl(IKafkaProducerService.class);
     }
@@ -0,0 +1,120 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.kafka;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.openkilda.messaging.Utils.MAPPER;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed set of single threaded lanes with bounded queues. Records addressed to the same switch always go to the same
+ * lane, so they are handled one by one in the order they were read, while records of different switches are handled
+ * in parallel.
+ */
+public class SwitchLanes {
+    private static final Logger logger = LoggerFactory.getLogger(SwitchLanes.class);
+
+    /**
+     * Names of the fields which hold the id of the target switch in the speaker commands.
+     */
+    private static final Set<String> SWITCH_ID_FIELDS = ImmutableSet.of(
+            "switch_id", "switch-id", "src_switch", "src_switch_id");
+
+    private final ThreadPoolExecutor[] lanes;
+
+    public SwitchLanes(String name, int lanesCount, int queueSize) {
+        checkArgument(lanesCount > 0, "lanesCount must be positive");
+        checkArgument(queueSize > 0, "queueSize must be positive");
+
+        lanes = new ThreadPoolExecutor[lanesCount];
+        for (int i = 0; i < lanesCount; i++) {
+            ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                    .setNameFormat(String.format("%s-lane-%d", name, i))
+                    .setDaemon(true)
+                    .build();
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueSize), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    /**
+     * Returns the lane for the record: the lane of the target switch if the record refers to a switch, otherwise
+     * the lane of the record's key.
+     */
+    public int laneOf(ConsumerRecord<String, String> record) {
+        String laneKey = lookupSwitchId(record.value());
+        if (laneKey == null) {
+            laneKey = record.key() != null ? record.key() : String.valueOf(record.partition());
+        }
+        return Math.floorMod(laneKey.hashCode(), lanes.length);
+    }
+
+    /**
+     * Puts the task into the queue of the lane.
+     *
+     * @return false if the queue of the lane is full and the task was not accepted.
+     */
+    public boolean offer(int lane, Runnable task) {
+        try {
+            lanes[lane].execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    public int getLanesCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Scans the JSON for the first of the switch id fields without binding the whole message.
+     */
+    static String lookupSwitchId(String json) {
+        if (json == null) {
+            return null;
+        }
+
+        try (JsonParser parser = MAPPER.getFactory().createParser(json)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && SWITCH_ID_FIELDS.contains(parser.getCurrentName())) {
+                    if (parser.nextToken() == JsonToken.VALUE_STRING) {
+                        return parser.getText();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Unable to lookup switch id in record '{}'", json, e);
+        }
+        return null;
+    }
+}
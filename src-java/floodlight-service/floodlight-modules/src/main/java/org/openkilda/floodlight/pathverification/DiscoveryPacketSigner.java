@@ -0,0 +1,133 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.pathverification;
+
+import static org.openkilda.floodlight.pathverification.PathVerificationService.LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Signs and verifies the MAC option of the discovery packet.
+ *
+ * <p>The option has the fixed layout: OUI and optional type (4 bytes), datapath id of the source switch (8 bytes),
+ * send timestamp (8 bytes), packet id (8 bytes), flags (1 byte) and the HMAC-SHA256 of the fields between the optional
+ * type and the tag, truncated to {@link #TAG_SIZE} bytes. Unlike the JWT token it is verified in place, without any
+ * decoding, and the tag is compared in constant time.
+ */
+class DiscoveryPacketSigner {
+    static final int DPID_OFFSET = LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES;
+    static final int TIMESTAMP_OFFSET = DPID_OFFSET + 8;
+    static final int PACKET_ID_OFFSET = TIMESTAMP_OFFSET + 8;
+    static final int FLAGS_OFFSET = PACKET_ID_OFFSET + 8;
+    static final int TAG_OFFSET = FLAGS_OFFSET + 1;
+    static final int TAG_SIZE = 16;
+    static final int OPTION_SIZE = TAG_OFFSET + TAG_SIZE;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNED_SIZE = TAG_OFFSET - DPID_OFFSET;
+    private static final byte FLAG_PACKET_ID = 0x01;
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<State> state;
+
+    DiscoveryPacketSigner(String secret) throws GeneralSecurityException {
+        key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        // fail on the invalid secret right away instead of the first packet
+        State initial = new State(key);
+        state = ThreadLocal.withInitial(() -> {
+            try {
+                return new State(key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        state.set(initial);
+    }
+
+    /**
+     * Fills the signed fields of the option and its tag.
+     *
+     * @param data buffer holding the option.
+     * @param offset offset of the option value (the OUI) in the buffer.
+     */
+    void sign(byte[] data, int offset, long dpid, long timestamp, Long packetId) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        buffer.putLong(offset + DPID_OFFSET, dpid);
+        buffer.putLong(offset + TIMESTAMP_OFFSET, timestamp);
+        buffer.putLong(offset + PACKET_ID_OFFSET, packetId != null ? packetId : 0L);
+        buffer.put(offset + FLAGS_OFFSET, packetId != null ? FLAG_PACKET_ID : 0);
+
+        byte[] digest = digest(data, offset);
+        System.arraycopy(digest, 0, data, offset + TAG_OFFSET, TAG_SIZE);
+    }
+
+    /**
+     * Checks the tag of the option.
+     *
+     * @param data buffer holding the option.
+     * @param offset offset of the option value (the OUI) in the buffer.
+     * @return true if the tag matches the signed fields.
+     */
+    boolean verify(byte[] data, int offset) {
+        byte[] digest = digest(data, offset);
+        int diff = 0;
+        for (int i = 0; i < TAG_SIZE; i++) {
+            diff |= digest[i] ^ data[offset + TAG_OFFSET + i];
+        }
+        return diff == 0;
+    }
+
+    static long getTimestamp(byte[] data, int offset) {
+        return ByteBuffer.wrap(data).getLong(offset + TIMESTAMP_OFFSET);
+    }
+
+    static Long getPacketId(byte[] data, int offset) {
+        if ((data[offset + FLAGS_OFFSET] & FLAG_PACKET_ID) == 0) {
+            return null;
+        }
+        return ByteBuffer.wrap(data).getLong(offset + PACKET_ID_OFFSET);
+    }
+
+    private byte[] digest(byte[] data, int offset) {
+        State current = state.get();
+        current.mac.update(data, offset + DPID_OFFSET, SIGNED_SIZE);
+        try {
+            current.mac.doFinal(current.digest, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        return current.digest;
+    }
+
+    /**
+     * {@link Mac} is not thread safe, so each thread gets its own instance along with the buffer for the digest.
+     */
+    private static class State {
+        private final Mac mac;
+        private final byte[] digest;
+
+        State(SecretKeySpec key) throws GeneralSecurityException {
+            mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            digest = new byte[mac.getMacLength()];
+        }
+    }
+}
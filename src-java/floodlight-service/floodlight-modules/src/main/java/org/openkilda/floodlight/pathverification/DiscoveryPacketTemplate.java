@@ -0,0 +1,191 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.pathverification;
+
+import static org.openkilda.floodlight.pathverification.DiscoveryPacket.OPTIONAL_LLDPTV_PACKET_TYPE;
+import static org.openkilda.floodlight.pathverification.PathVerificationService.LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES;
+import static org.openkilda.floodlight.pathverification.PathVerificationService.MAC_OPTIONAL_TYPE;
+import static org.openkilda.floodlight.pathverification.PathVerificationService.ORGANIZATIONALLY_UNIQUE_IDENTIFIER;
+import static org.openkilda.floodlight.pathverification.PathVerificationService.TIMESTAMP_OPTIONAL_TYPE;
+
+import lombok.Getter;
+import net.floodlightcontroller.core.IOFSwitch;
+import org.projectfloodlight.openflow.protocol.action.OFAction;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Serialized discovery frame of the switch port, the per packet fields are patched into its copy.
+ *
+ * <p>The frame is expected to be Ethernet + IPv4 + UDP + LLDP, as produced by
+ * {@link PathVerificationService#generateDiscoveryPacket}. Only the timestamp, the MAC option and the UDP checksum
+ * differ between the packets of the same port. The JWT token has variable length, it is inserted before the end of
+ * LLDPDU and the IPv4 and UDP lengths are adjusted accordingly.
+ */
+class DiscoveryPacketTemplate {
+    private static final int ETHERNET_HEADER_SIZE = 14;
+    private static final int IP_TOTAL_LENGTH_OFFSET = 2;
+    private static final int IP_CHECKSUM_OFFSET = 10;
+    private static final int IP_SRC_ADDRESS_OFFSET = 12;
+    private static final int UDP_HEADER_SIZE = 8;
+    private static final int UDP_LENGTH_OFFSET = 4;
+    private static final int UDP_CHECKSUM_OFFSET = 6;
+    private static final int LLDP_TLV_HEADER_SIZE = 2;
+
+    private final IOFSwitch sw;
+    private final long dpid;
+    private final byte[] frame;
+    @Getter
+    private final List<OFAction> actions;
+
+    private final int ipOffset;
+    private final int udpOffset;
+    private final int timestampOffset;
+    private final int macOffset;
+    private final int endOffset;
+
+    DiscoveryPacketTemplate(IOFSwitch sw, byte[] frame, List<OFAction> actions) {
+        this.sw = sw;
+        this.dpid = sw.getId().getLong();
+        this.frame = frame;
+        this.actions = actions;
+
+        ipOffset = ETHERNET_HEADER_SIZE;
+        udpOffset = ipOffset + (frame[ipOffset] & 0x0f) * 4;
+
+        int timestamp = -1;
+        int mac = -1;
+        int offset = udpOffset + UDP_HEADER_SIZE;
+        while (offset + LLDP_TLV_HEADER_SIZE <= frame.length) {
+            int header = getUnsignedShort(frame, offset);
+            int type = header >>> 9;
+            int length = header & 0x1ff;
+            if (type == 0) {
+                break;
+            }
+
+            int value = offset + LLDP_TLV_HEADER_SIZE;
+            if (type == OPTIONAL_LLDPTV_PACKET_TYPE && isOwnOption(frame, value, length)) {
+                byte optionalType = frame[value + LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES - 1];
+                if (optionalType == TIMESTAMP_OPTIONAL_TYPE) {
+                    timestamp = value + LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES;
+                } else if (optionalType == MAC_OPTIONAL_TYPE) {
+                    mac = value;
+                }
+            }
+            offset = value + length;
+        }
+        if (timestamp < 0 || offset + LLDP_TLV_HEADER_SIZE > frame.length) {
+            throw new IllegalArgumentException("Discovery frame has no timestamp or end of LLDPDU");
+        }
+
+        timestampOffset = timestamp;
+        macOffset = mac;
+        endOffset = offset;
+    }
+
+    /**
+     * Checks whether the template was made for this connection of the switch. On reconnect the switch gets new
+     * {@link IOFSwitch} object, its address and features can change, so the template must be rebuilt.
+     */
+    boolean isBuiltFor(IOFSwitch target) {
+        return sw == target;
+    }
+
+    /**
+     * Makes the frame of the packet.
+     *
+     * @param timestamp send time.
+     * @param packetId id of the packet, can be null.
+     * @param signer signer of the MAC option, it is ignored if the template has no MAC option.
+     * @param tokenTlv serialized TLV of the JWT token or null.
+     * @return new frame.
+     */
+    byte[] makeFrame(long timestamp, Long packetId, DiscoveryPacketSigner signer, byte[] tokenTlv) {
+        int extraLength = tokenTlv != null ? tokenTlv.length : 0;
+        byte[] data = new byte[frame.length + extraLength];
+        System.arraycopy(frame, 0, data, 0, endOffset);
+        if (tokenTlv != null) {
+            System.arraycopy(tokenTlv, 0, data, endOffset, tokenTlv.length);
+        }
+        System.arraycopy(frame, endOffset, data, endOffset + extraLength, frame.length - endOffset);
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        buffer.putLong(timestampOffset, timestamp);
+        if (macOffset >= 0) {
+            signer.sign(data, macOffset, dpid, timestamp, packetId);
+        }
+
+        if (extraLength != 0) {
+            buffer.putShort(ipOffset + IP_TOTAL_LENGTH_OFFSET,
+                    (short) (getUnsignedShort(data, ipOffset + IP_TOTAL_LENGTH_OFFSET) + extraLength));
+            buffer.putShort(ipOffset + IP_CHECKSUM_OFFSET, (short) 0);
+            buffer.putShort(ipOffset + IP_CHECKSUM_OFFSET,
+                    (short) ~fold(sum(data, ipOffset, udpOffset - ipOffset, 0)));
+
+            buffer.putShort(udpOffset + UDP_LENGTH_OFFSET,
+                    (short) (getUnsignedShort(data, udpOffset + UDP_LENGTH_OFFSET) + extraLength));
+        }
+        updateUdpChecksum(data, buffer);
+
+        return data;
+    }
+
+    private void updateUdpChecksum(byte[] data, ByteBuffer buffer) {
+        int udpLength = getUnsignedShort(data, udpOffset + UDP_LENGTH_OFFSET);
+        buffer.putShort(udpOffset + UDP_CHECKSUM_OFFSET, (short) 0);
+
+        // pseudo header: source and destination addresses, protocol and UDP length
+        int accumulator = sum(data, ipOffset + IP_SRC_ADDRESS_OFFSET, 8, 0);
+        accumulator += data[ipOffset + 9] & 0xff;
+        accumulator += udpLength;
+        accumulator = sum(data, udpOffset, udpLength, accumulator);
+
+        int checksum = ~fold(accumulator) & 0xffff;
+        buffer.putShort(udpOffset + UDP_CHECKSUM_OFFSET, (short) (checksum == 0 ? 0xffff : checksum));
+    }
+
+    private static boolean isOwnOption(byte[] data, int offset, int length) {
+        return length >= LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES
+                && data[offset] == ORGANIZATIONALLY_UNIQUE_IDENTIFIER[0]
+                && data[offset + 1] == ORGANIZATIONALLY_UNIQUE_IDENTIFIER[1]
+                && data[offset + 2] == ORGANIZATIONALLY_UNIQUE_IDENTIFIER[2];
+    }
+
+    private static int sum(byte[] data, int offset, int length, int accumulator) {
+        int end = offset + length;
+        int i = offset;
+        for (; i + 1 < end; i += 2) {
+            accumulator += getUnsignedShort(data, i);
+        }
+        if (i < end) {
+            accumulator += (data[i] & 0xff) << 8;
+        }
+        return fold(accumulator);
+    }
+
+    private static int fold(int accumulator) {
+        while ((accumulator >>> 16) != 0) {
+            accumulator = (accumulator & 0xffff) + (accumulator >>> 16);
+        }
+        return accumulator;
+    }
+
+    private static int getUnsignedShort(byte[] data, int offset) {
+        return ((data[offset] & 0xff) << 8) | (data[offset + 1] & 0xff);
+    }
+}
@@ -19,9 +19,19 @@ import net.floodlightcontroller.core.module.IFloodlightService;
 import org.projectfloodlight.openflow.types.DatapathId;
 import org.projectfloodlight.openflow.types.OFPort;
 
+import java.util.Map;
+
 public interface IPathVerificationService extends IFloodlightService {
 
     boolean sendDiscoveryMessage(DatapathId srcSwId, OFPort port, Long packetId);
 
+    /**
+     * Sends discovery packets via several ports of the switch, all packet-outs are written in one go.
+     *
+     * @param packetIds packet ids of the ports.
+     * @return true if all the packets have been written.
+     */
+    boolean sendDiscoveryMessages(DatapathId srcSwId, Map<OFPort, Long> packetIds);
+
     PathVerificationServiceConfig getConfig();
 }
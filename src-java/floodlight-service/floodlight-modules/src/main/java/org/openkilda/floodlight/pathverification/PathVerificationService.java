@@ -57,7 +57,10 @@ import com.auth0.jwt.interfaces.DecodedJWT;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import lombok.Value;
 import net.floodlightcontroller.core.IOFSwitch;
+import net.floodlightcontroller.core.IOFSwitchListener;
+import net.floodlightcontroller.core.PortChangeType;
 import net.floodlightcontroller.core.internal.IOFSwitchService;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
 import net.floodlightcontroller.core.module.FloodlightModuleException;
@@ -72,6 +75,7 @@ import net.floodlightcontroller.restserver.IRestApiService;
 import net.floodlightcontroller.util.OFMessageUtils;
 import org.apache.commons.codec.binary.Hex;
 import org.bouncycastle.util.Arrays;
+import org.projectfloodlight.openflow.protocol.OFMessage;
 import org.projectfloodlight.openflow.protocol.OFPacketIn;
 import org.projectfloodlight.openflow.protocol.OFPacketOut;
 import org.projectfloodlight.openflow.protocol.OFPortDesc;
@@ -98,14 +102,17 @@ import java.io.UnsupportedEncodingException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.security.GeneralSecurityException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
-public class PathVerificationService implements IFloodlightModule, IPathVerificationService, IInputTranslator {
+public class PathVerificationService implements IFloodlightModule, IPathVerificationService, IInputTranslator,
+        IOFSwitchListener {
     private static final Logger logger = LoggerFactory.getLogger(PathVerificationService.class);
     private static final Logger logIsl = LoggerFactory.getLogger(
             String.format("%s.ISL", PathVerificationService.class.getName()));
@@ -123,6 +130,7 @@ public class PathVerificationService implements IFloodlightModule, IPathVerifica
     public static final byte TOKEN_OPTIONAL_TYPE = 0x03;
     public static final byte SWITCH_T0_OPTIONAL_TYPE = 0x04;
     public static final byte SWITCH_T1_OPTIONAL_TYPE = 0x05;
+    public static final byte MAC_OPTIONAL_TYPE = 0x06;
     public static final int ETHERNET_HEADER_SIZE = 112; // 48 dst mac, 48 src mac, 16 ether type
     public static final int IP_V4_HEADER_SIZE = 160; /*
                                                       * 4 version, 4 IHL, 8 Type of service, 16 length, 16 ID,
@@ -163,8 +171,12 @@ public class PathVerificationService implements IFloodlightModule, IPathVerifica
     private String islLatencyTopic;
     private String region;
     private double islBandwidthQuotient = 1.0;
+    private boolean jwtSignEnabled = true;
     private Algorithm algorithm;
     private JWTVerifier verifier;
+    private DiscoveryPacketSigner signer;
+
+    private final Map<DiscoveryTemplateKey, DiscoveryPacketTemplate> discoveryTemplates = new ConcurrentHashMap<>();
 
     /**
      * IFloodlightModule Methods.
@@ -221,6 +233,7 @@ public class PathVerificationService implements IFloodlightModule, IPathVerifica
         config = provider.getConfiguration(PathVerificationServiceConfig.class);
 
         islBandwidthQuotient = config.getIslBandwidthQuotient();
+        jwtSignEnabled = config.isDiscoveryPacketJwtSignEnabled();
 
         initAlgorithm(config.getHmac256Secret());
     }
@@ -230,7 +243,8 @@ public class PathVerificationService implements IFloodlightModule, IPathVerifica
         try {
             algorithm = Algorithm.HMAC256(secret);
             verifier = JWT.require(algorithm).build();
-        } catch (UnsupportedEncodingException e) {
+            signer = new DiscoveryPacketSigner(secret);
+        } catch (UnsupportedEncodingException | GeneralSecurityException | IllegalArgumentException e) {
             logger.error("Ivalid secret", e);
             throw new FloodlightModuleException("Invalid secret for HMAC256");
         }
@@ -246,6 +260,7 @@ public class PathVerificationService implements IFloodlightModule, IPathVerifica
         region = context.getServiceImpl(KafkaUtilityService.class).getKafkaChannel().getRegion();
         InputService inputService = context.getServiceImpl(InputService.class);
         inputService.addTranslator(OFType.PACKET_IN, this);
+        switchService.addOFSwitchListener(this);
 
         context.getServiceImpl(PingService.class).setup(context);
         context.getServiceImpl(IRestApiService.class)
@@ -263,6 +278,42 @@ public class PathVerificationService implements IFloodlightModule, IPathVerifica
         };
     }
 
+    /**
+     * IOFSwitchListener Methods, used only to drop the discovery templates of gone switches and ports.
+     */
+
+    @Override
+    public void switchAdded(DatapathId switchId) {
+        // the templates are checked against the switch on use
+    }
+
+    @Override
+    public void switchRemoved(DatapathId switchId) {
+        dropDiscoveryTemplates(switchId);
+    }
+
+    @Override
+    public void switchActivated(DatapathId switchId) {
+        // the templates are checked against the switch on use
+    }
+
+    @Override
+    public void switchPortChanged(DatapathId switchId, OFPortDesc port, PortChangeType type) {
+        if (type == PortChangeType.DELETE) {
+            discoveryTemplates.remove(new DiscoveryTemplateKey(switchId, port.getPortNo()));
+        }
+    }
+
+    @Override
+    public void switchChanged(DatapathId switchId) {
+        // the templates are checked against the switch on use
+    }
+
+    @Override
+    public void switchDeactivated(DatapathId switchId) {
+        dropDiscoveryTemplates(switchId);
+    }
+
     /**
      * IPathVerificationService Methods.
      */
@@ -327,6 +378,52 @@ public class PathVerificationService implements IFloodlightModule, IPathVerifica
         return result;
     }
 
+    @Override
+    public boolean sendDiscoveryMessages(DatapathId srcSwId, Map<OFPort, Long> packetIds) {
+        IOFSwitch srcSwitch = switchService.getSwitch(srcSwId);
+        if (srcSwitch == null) {
+            logger.warn("Unable to send discovery packets via {} - switch is not connected", srcSwId);
+            return false;
+        }
+
+        List<OFMessage> packets = new ArrayList<>(packetIds.size());
+        List<OFPort> ports = new ArrayList<>(packetIds.size());
+        try {
+            for (Map.Entry<OFPort, Long> entry : packetIds.entrySet()) {
+                OFPort port = entry.getKey();
+                if (srcSwitch.getPort(port) == null) {
+                    continue;
+                }
+                OFPacketOut ofPacketOut = generateDiscoveryPacket(srcSwitch, port, true, entry.getValue());
+                if (ofPacketOut != null) {
+                    packets.add(ofPacketOut);
+                    ports.add(port);
+                } else {
+                    logger.error("<== Received null from generateDiscoveryPacket, inputs where: "
+                            + "srcSwitch: {}, port: {} id: {}", srcSwitch, port, entry.getValue());
+                }
+            }
+
+            // all packets are passed to the switch connection at once, it flushes them together
+            Collection<OFMessage> failed = srcSwitch.write(packets);
+            for (int i = 0; i < packets.size(); i++) {
+                OFMessage packet = packets.get(i);
+                OFPort port = ports.get(i);
+                if (failed.contains(packet)) {
+                    logger.error("Failed to send PACKET_OUT(ISL discovery packet) via {}-{} id:{} OF-xid:{}",
+                            srcSwitch.getId(), port.getPortNumber(), packetIds.get(port), packet.getXid());
+                } else {
+                    logIsl.info("push discovery package via: {}-{} id:{} OF-xid:{}", srcSwitch.getId(),
+                            port.getPortNumber(), packetIds.get(port), packet.getXid());
+                }
+            }
+            return failed.isEmpty() && packets.size() == packetIds.size();
+        } catch (Exception exception) {
+            logger.error(String.format("Unhandled exception in %s", getClass().getName()), exception);
+            return false;
+        }
+    }
+
     private static LLDPTLV switchTimestampTlv(byte type) {
         byte[] timestampArray = ByteBuffer
                 .allocate(ROUND_TRIP_LATENCY_TIMESTAMP_SIZE / 8 + LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES)
@@ -350,114 +447,156 @@ public class PathVerificationService implements IFloodlightModule, IPathVerifica
      */
     OFPacketOut generateDiscoveryPacket(IOFSwitch srcSw, OFPort port, boolean sign, Long packetId) {
         try {
-            byte[] dpidArray = new byte[8];
-            ByteBuffer dpidBb = ByteBuffer.wrap(dpidArray);
-
-            DatapathId dpid = srcSw.getId();
-            dpidBb.putLong(dpid.getLong());
-            byte[] chassisId = new byte[]{4, 0, 0, 0, 0, 0, 0};
-            System.arraycopy(dpidArray, 2, chassisId, 1, 6);
-            // Set the optionalTLV to the full SwitchID
-            byte[] dpidTlvValue = Arrays.concatenate(
-                    ORGANIZATIONALLY_UNIQUE_IDENTIFIER,
-                    new byte[] {REMOTE_SWITCH_OPTIONAL_TYPE, 0, 0, 0, 0, 0, 0, 0, 0});
-            System.arraycopy(dpidArray, 0, dpidTlvValue, LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES, 8);
-
-            // Set src mac to be able to detect the origin of the packet.
-            // NB: previously we set port's address instead of switch (some switches declare unique address per port)
-            byte[] srcMac = new byte[6];
-            System.arraycopy(dpidArray, 2, srcMac, 0, 6);
-
-            byte[] portId = new byte[]{2, 0, 0};
-            ByteBuffer portBb = ByteBuffer.wrap(portId, 1, 2);
-            portBb.putShort(port.getShortPortNumber());
-
-            byte[] ttlValue = new byte[]{0, 0x78};
-            DiscoveryPacket dp = DiscoveryPacket.builder()
-                    .chassisId(makeIdLldptvPacket(chassisId, CHASSIS_ID_LLDPTV_PACKET_TYPE))
-                    .portId(makeIdLldptvPacket(portId, PORT_ID_LLDPTV_PACKET_TYPE))
-                    .ttl(makeIdLldptvPacket(ttlValue, TTL_LLDPTV_PACKET_TYPE))
-                    .build();
-
-            // Add TLV for t0, this will be overwritten by the switch if it supports switch timestamps
-            dp.getOptionalTlvList().add(switchTimestampTlv(SWITCH_T0_OPTIONAL_TYPE));
-
-            // Add TLV for t1, this will be overwritten by the switch if it supports switch timestamps
-            dp.getOptionalTlvList().add(switchTimestampTlv(SWITCH_T1_OPTIONAL_TYPE));
-
-            LLDPTLV dpidTlv = makeIdLldptvPacket(dpidTlvValue, OPTIONAL_LLDPTV_PACKET_TYPE);
-            dp.getOptionalTlvList().add(dpidTlv);
+            DiscoveryPacketTemplate template;
+            if (sign) {
+                template = getDiscoveryTemplate(srcSw, port);
+            } else {
+                template = makeDiscoveryTemplate(srcSw, port, false);
+            }
 
             // Add T0 based on format from Floodlight LLDP
             long time = System.currentTimeMillis();
             long swLatency = srcSw.getLatency().getValue();
-            byte[] timestampTlvValue = ByteBuffer.allocate(Long.SIZE / 8 + LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES)
-                    .put(ORGANIZATIONALLY_UNIQUE_IDENTIFIER)
-                    .put(TIMESTAMP_OPTIONAL_TYPE) // 0x01 is what we'll use to differentiate DPID 0x00 from time 0x01
-                    .putLong(time + swLatency /* account for our switch's one-way latency */)
-                    .array();
+            long timestamp = time + swLatency; // account for our switch's one-way latency
 
-            LLDPTLV timestampTlv = makeIdLldptvPacket(timestampTlvValue, OPTIONAL_LLDPTV_PACKET_TYPE);
+            byte[] tokenTlv = null;
+            if (sign && jwtSignEnabled) {
+                tokenTlv = makeTokenTlv(srcSw.getId(), timestamp, packetId);
+            }
 
-            dp.getOptionalTlvList().add(timestampTlv);
+            byte[] data = template.makeFrame(timestamp, packetId, signer, tokenTlv);
+            OFPacketOut.Builder pob = srcSw.getOFFactory().buildPacketOut()
+                    .setBufferId(OFBufferId.NO_BUFFER).setActions(template.getActions())
+                    .setData(data);
+            OFMessageUtils.setInPort(pob, OFPort.CONTROLLER);
 
-            // Type
-            byte[] typeTlvValue = ByteBuffer.allocate(Integer.SIZE / 8 + LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES)
-                    .put(ORGANIZATIONALLY_UNIQUE_IDENTIFIER)
-                    .put(PATH_ORDINAL_OPTIONAL_TYPE)
-                    .putInt(PathType.ISL.ordinal()).array();
-            LLDPTLV typeTlv = makeIdLldptvPacket(typeTlvValue, OPTIONAL_LLDPTV_PACKET_TYPE);
-            dp.getOptionalTlvList().add(typeTlv);
+            return pob.build();
+        } catch (Exception e) {
+            logger.error(String.format("error generating discovery packet: %s", e.getMessage()), e);
+        }
+        return null;
+    }
 
-            if (sign) {
-                Builder builder = JWT.create()
-                        .withClaim("dpid", dpid.getLong())
-                        .withClaim("ts", time + swLatency);
-                if (packetId != null) {
-                    builder.withClaim("id", packetId);
-                }
-                String token = builder.sign(algorithm);
+    private DiscoveryPacketTemplate getDiscoveryTemplate(IOFSwitch srcSw, OFPort port) {
+        DiscoveryTemplateKey key = new DiscoveryTemplateKey(srcSw.getId(), port);
+        DiscoveryPacketTemplate template = discoveryTemplates.get(key);
+        if (template == null || !template.isBuiltFor(srcSw)) {
+            template = makeDiscoveryTemplate(srcSw, port, true);
+            discoveryTemplates.put(key, template);
+        }
+        return template;
+    }
 
-                byte[] tokenBytes = token.getBytes(Charset.forName("UTF-8"));
+    private void dropDiscoveryTemplates(DatapathId switchId) {
+        discoveryTemplates.keySet().removeIf(key -> key.getDpid().equals(switchId));
+    }
 
-                byte[] tokenTlvValue = ByteBuffer.allocate(LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES + tokenBytes.length)
-                        .put(ORGANIZATIONALLY_UNIQUE_IDENTIFIER)
-                        .put(TOKEN_OPTIONAL_TYPE)
-                        .put(tokenBytes).array();
-                LLDPTLV tokenTlv = makeIdLldptvPacket(tokenTlvValue, OPTIONAL_LLDPTV_PACKET_TYPE);
+    /**
+     * Serializes the discovery frame with the placeholders for the per packet fields: the timestamp and the MAC
+     * option. The JWT token has variable length, so it isn't a part of the template.
+     */
+    private DiscoveryPacketTemplate makeDiscoveryTemplate(IOFSwitch srcSw, OFPort port, boolean sign) {
+        byte[] dpidArray = new byte[8];
+        ByteBuffer dpidBb = ByteBuffer.wrap(dpidArray);
+
+        DatapathId dpid = srcSw.getId();
+        dpidBb.putLong(dpid.getLong());
+        byte[] chassisId = new byte[]{4, 0, 0, 0, 0, 0, 0};
+        System.arraycopy(dpidArray, 2, chassisId, 1, 6);
+        // Set the optionalTLV to the full SwitchID
+        byte[] dpidTlvValue = Arrays.concatenate(
+                ORGANIZATIONALLY_UNIQUE_IDENTIFIER,
+                new byte[] {REMOTE_SWITCH_OPTIONAL_TYPE, 0, 0, 0, 0, 0, 0, 0, 0});
+        System.arraycopy(dpidArray, 0, dpidTlvValue, LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES, 8);
+
+        // Set src mac to be able to detect the origin of the packet.
+        // NB: previously we set port's address instead of switch (some switches declare unique address per port)
+        byte[] srcMac = new byte[6];
+        System.arraycopy(dpidArray, 2, srcMac, 0, 6);
+
+        byte[] portId = new byte[]{2, 0, 0};
+        ByteBuffer portBb = ByteBuffer.wrap(portId, 1, 2);
+        portBb.putShort(port.getShortPortNumber());
+
+        byte[] ttlValue = new byte[]{0, 0x78};
+        DiscoveryPacket dp = DiscoveryPacket.builder()
+                .chassisId(makeIdLldptvPacket(chassisId, CHASSIS_ID_LLDPTV_PACKET_TYPE))
+                .portId(makeIdLldptvPacket(portId, PORT_ID_LLDPTV_PACKET_TYPE))
+                .ttl(makeIdLldptvPacket(ttlValue, TTL_LLDPTV_PACKET_TYPE))
+                .build();
 
-                dp.getOptionalTlvList().add(tokenTlv);
-            }
+        // Add TLV for t0, this will be overwritten by the switch if it supports switch timestamps
+        dp.getOptionalTlvList().add(switchTimestampTlv(SWITCH_T0_OPTIONAL_TYPE));
 
-            MacAddress dstMac = MacAddress.of(config.getVerificationBcastPacketDst());
-            IPv4Address dstIp = IPv4Address.of(DISCOVERY_PACKET_IP_DST);
-            IPv4 l3 = new IPv4()
-                    .setSourceAddress(
-                            IPv4Address.of(((InetSocketAddress) srcSw.getInetAddress()).getAddress().getAddress()))
-                    .setDestinationAddress(dstIp).setTtl((byte) 64).setProtocol(IpProtocol.UDP);
+        // Add TLV for t1, this will be overwritten by the switch if it supports switch timestamps
+        dp.getOptionalTlvList().add(switchTimestampTlv(SWITCH_T1_OPTIONAL_TYPE));
 
-            UDP l4 = new UDP();
-            l4.setSourcePort(TransportPort.of(DISCOVERY_PACKET_UDP_PORT));
-            l4.setDestinationPort(TransportPort.of(DISCOVERY_PACKET_UDP_PORT));
+        LLDPTLV dpidTlv = makeIdLldptvPacket(dpidTlvValue, OPTIONAL_LLDPTV_PACKET_TYPE);
+        dp.getOptionalTlvList().add(dpidTlv);
 
+        byte[] timestampTlvValue = ByteBuffer.allocate(Long.SIZE / 8 + LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES)
+                .put(ORGANIZATIONALLY_UNIQUE_IDENTIFIER)
+                .put(TIMESTAMP_OPTIONAL_TYPE) // 0x01 is what we'll use to differentiate DPID 0x00 from time 0x01
+                .putLong(0L) // placeholder for send time
+                .array();
 
-            Ethernet l2 = new Ethernet().setSourceMACAddress(MacAddress.of(srcMac))
-                    .setDestinationMACAddress(dstMac).setEtherType(EthType.IPv4);
-            l2.setPayload(l3);
-            l3.setPayload(l4);
-            l4.setPayload(dp);
+        LLDPTLV timestampTlv = makeIdLldptvPacket(timestampTlvValue, OPTIONAL_LLDPTV_PACKET_TYPE);
 
-            byte[] data = l2.serialize();
-            OFPacketOut.Builder pob = srcSw.getOFFactory().buildPacketOut()
-                    .setBufferId(OFBufferId.NO_BUFFER).setActions(getDiscoveryActions(srcSw, port))
-                    .setData(data);
-            OFMessageUtils.setInPort(pob, OFPort.CONTROLLER);
+        dp.getOptionalTlvList().add(timestampTlv);
 
-            return pob.build();
-        } catch (Exception e) {
-            logger.error(String.format("error generating discovery packet: %s", e.getMessage()), e);
+        // Type
+        byte[] typeTlvValue = ByteBuffer.allocate(Integer.SIZE / 8 + LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES)
+                .put(ORGANIZATIONALLY_UNIQUE_IDENTIFIER)
+                .put(PATH_ORDINAL_OPTIONAL_TYPE)
+                .putInt(PathType.ISL.ordinal()).array();
+        LLDPTLV typeTlv = makeIdLldptvPacket(typeTlvValue, OPTIONAL_LLDPTV_PACKET_TYPE);
+        dp.getOptionalTlvList().add(typeTlv);
+
+        if (sign) {
+            byte[] macTlvValue = ByteBuffer.allocate(DiscoveryPacketSigner.OPTION_SIZE)
+                    .put(ORGANIZATIONALLY_UNIQUE_IDENTIFIER)
+                    .put(MAC_OPTIONAL_TYPE)
+                    .array(); // the rest is filled by the signer
+            dp.getOptionalTlvList().add(makeIdLldptvPacket(macTlvValue, OPTIONAL_LLDPTV_PACKET_TYPE));
         }
-        return null;
+
+        MacAddress dstMac = MacAddress.of(config.getVerificationBcastPacketDst());
+        IPv4Address dstIp = IPv4Address.of(DISCOVERY_PACKET_IP_DST);
+        IPv4 l3 = new IPv4()
+                .setSourceAddress(
+                        IPv4Address.of(((InetSocketAddress) srcSw.getInetAddress()).getAddress().getAddress()))
+                .setDestinationAddress(dstIp).setTtl((byte) 64).setProtocol(IpProtocol.UDP);
+
+        UDP l4 = new UDP();
+        l4.setSourcePort(TransportPort.of(DISCOVERY_PACKET_UDP_PORT));
+        l4.setDestinationPort(TransportPort.of(DISCOVERY_PACKET_UDP_PORT));
+
+
+        Ethernet l2 = new Ethernet().setSourceMACAddress(MacAddress.of(srcMac))
+                .setDestinationMACAddress(dstMac).setEtherType(EthType.IPv4);
+        l2.setPayload(l3);
+        l3.setPayload(l4);
+        l4.setPayload(dp);
+
+        return new DiscoveryPacketTemplate(srcSw, l2.serialize(), getDiscoveryActions(srcSw, port));
+    }
+
+    private byte[] makeTokenTlv(DatapathId dpid, long timestamp, Long packetId) {
+        Builder builder = JWT.create()
+                .withClaim("dpid", dpid.getLong())
+                .withClaim("ts", timestamp);
+        if (packetId != null) {
+            builder.withClaim("id", packetId);
+        }
+        String token = builder.sign(algorithm);
+
+        byte[] tokenBytes = token.getBytes(Charset.forName("UTF-8"));
+
+        byte[] tokenTlvValue = ByteBuffer.allocate(LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES + tokenBytes.length)
+                .put(ORGANIZATIONALLY_UNIQUE_IDENTIFIER)
+                .put(TOKEN_OPTIONAL_TYPE)
+                .put(tokenBytes).array();
+        return makeIdLldptvPacket(tokenTlvValue, OPTIONAL_LLDPTV_PACKET_TYPE).serialize();
     }
 
     private LLDPTLV makeIdLldptvPacket(byte[] data, byte type) {
@@ -495,9 +634,13 @@ public class PathVerificationService implements IFloodlightModule, IPathVerifica
      */
     @VisibleForTesting
     static long noviflowTimestamp(byte[] timestamp) {
-        ByteBuffer buffer = ByteBuffer.wrap(timestamp);
-        long seconds = buffer.getInt(0);
-        long nanoseconds = buffer.getInt(4);
+        return noviflowTimestamp(timestamp, 0);
+    }
+
+    private static long noviflowTimestamp(byte[] data, int offset) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        long seconds = buffer.getInt(offset);
+        long nanoseconds = buffer.getInt(offset + 4);
 
         return seconds * TEN_TO_NINE + nanoseconds;
     }
@@ -653,6 +796,8 @@ public class PathVerificationService implements IFloodlightModule, IPathVerifica
         builder.switchT0(-1);
         builder.switchT1(-1);
 
+        LLDPTLV macTlv = null;
+        LLDPTLV tokenTlv = null;
         for (LLDPTLV lldptlv : discoveryPacket.getOptionalTlvList()) {
             if (matchOptionalLldptlv(lldptlv, REMOTE_SWITCH_OPTIONAL_TYPE, 12)) {
                 ByteBuffer dpidBb = ByteBuffer.wrap(lldptlv.getValue());
@@ -665,35 +810,57 @@ public class PathVerificationService implements IFloodlightModule, IPathVerifica
                 ByteBuffer typeBb = ByteBuffer.wrap(lldptlv.getValue());
                 builder.pathOrdinal(typeBb.getInt(LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES));
             } else if (matchOptionalLldptlv(lldptlv, SWITCH_T0_OPTIONAL_TYPE, 12)) {
-                builder.switchT0(noviflowTimestamp(Arrays.copyOfRange(
-                        lldptlv.getValue(), LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES, lldptlv.getValue().length)));
+                builder.switchT0(noviflowTimestamp(lldptlv.getValue(), LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES));
             } else if (matchOptionalLldptlv(lldptlv, SWITCH_T1_OPTIONAL_TYPE, 12)) {
-                builder.switchT1(noviflowTimestamp(Arrays.copyOfRange(
-                        lldptlv.getValue(), LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES, lldptlv.getValue().length)));
+                builder.switchT1(noviflowTimestamp(lldptlv.getValue(), LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES));
+            } else if (matchOptionalLldptlv(lldptlv, MAC_OPTIONAL_TYPE, DiscoveryPacketSigner.OPTION_SIZE)) {
+                macTlv = lldptlv;
             } else if (matchOptionalLldptlv(lldptlv, TOKEN_OPTIONAL_TYPE)) {
-                ByteBuffer bb = ByteBuffer.wrap(lldptlv.getValue());
-                bb.position(LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES);
-                byte[] tokenArray = new byte[lldptlv.getLength() - LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES];
-                bb.get(tokenArray, 0, tokenArray.length);
-                String token = new String(tokenArray);
-
-                try {
-                    DecodedJWT jwt = verifier.verify(token);
-                    Claim idClaim = jwt.getClaim("id");
-                    if (!idClaim.isNull()) {
-                        builder.packetId(idClaim.asLong());
-                    }
-                    builder.signed(true);
-                } catch (JWTVerificationException e) {
-                    logger.error("Packet verification failed", e);
-                    builder.signed(false);
-                }
+                tokenTlv = lldptlv;
             }
         }
 
+        // the MAC option is cheaper to verify, the JWT token is checked only for the packets of older speakers
+        if (macTlv != null) {
+            verifyMac(macTlv, builder);
+        } else if (tokenTlv != null) {
+            verifyToken(tokenTlv, builder);
+        }
+
         return builder.build();
     }
 
+    private void verifyMac(LLDPTLV macTlv, DiscoveryPacketData.DiscoveryPacketDataBuilder builder) {
+        byte[] value = macTlv.getValue();
+        if (signer.verify(value, 0)) {
+            builder.packetId(DiscoveryPacketSigner.getPacketId(value, 0));
+            builder.signed(true);
+        } else {
+            logger.error("Packet verification failed: MAC option doesn't match");
+            builder.signed(false);
+        }
+    }
+
+    private void verifyToken(LLDPTLV tokenTlv, DiscoveryPacketData.DiscoveryPacketDataBuilder builder) {
+        ByteBuffer bb = ByteBuffer.wrap(tokenTlv.getValue());
+        bb.position(LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES);
+        byte[] tokenArray = new byte[tokenTlv.getLength() - LLDP_TLV_OPTIONAL_HEADER_SIZE_IN_BYTES];
+        bb.get(tokenArray, 0, tokenArray.length);
+        String token = new String(tokenArray);
+
+        try {
+            DecodedJWT jwt = verifier.verify(token);
+            Claim idClaim = jwt.getClaim("id");
+            if (!idClaim.isNull()) {
+                builder.packetId(idClaim.asLong());
+            }
+            builder.signed(true);
+        } catch (JWTVerificationException e) {
+            logger.error("Packet verification failed", e);
+            builder.signed(false);
+        }
+    }
+
     private boolean matchOptionalLldptlv(LLDPTLV lldpTlv, int type) {
         return lldpTlv.getType() == OPTIONAL_LLDPTV_PACKET_TYPE
                 && lldpTlv.getValue()[0] == ORGANIZATIONALLY_UNIQUE_IDENTIFIER[0]
@@ -740,4 +907,10 @@ public class PathVerificationService implements IFloodlightModule, IPathVerifica
     private long getAvailableBandwidth(long speed) {
         return (long) (speed * islBandwidthQuotient);
     }
+
+    @Value
+    private static class DiscoveryTemplateKey {
+        private DatapathId dpid;
+        private OFPort port;
+    }
 }
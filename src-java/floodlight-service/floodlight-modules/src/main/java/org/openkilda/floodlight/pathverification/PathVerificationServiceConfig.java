@@ -38,4 +38,12 @@ public interface PathVerificationServiceConfig {
     @Key("verification-bcast-packet-dst")
     @Default("00:26:E1:FF:FF:FF")
     String getVerificationBcastPacketDst();
+
+    /**
+     * Add the JWT token to the discovery packets along with the MAC option. The speakers of older releases verify only
+     * the token, so it must stay enabled until all of them are upgraded.
+     */
+    @Key("discovery-packet-jwt-sign-enabled")
+    @Default("true")
+    boolean isDiscoveryPacketJwtSignEnabled();
 }
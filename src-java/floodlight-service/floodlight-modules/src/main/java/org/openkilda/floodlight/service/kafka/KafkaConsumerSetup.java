@@ -17,6 +17,7 @@ package org.openkilda.floodlight.service.kafka;
 
 import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
 
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.OffsetResetStrategy;
 
@@ -68,4 +69,11 @@ public class KafkaConsumerSetup {
     public void applyInstance(KafkaConsumer<?, ?> consumer) {
         consumer.subscribe(topicsSet);
     }
+
+    /**
+     * Apply setup on kafka-consumer, the listener is notified about the partitions assignment changes.
+     */
+    public void applyInstance(KafkaConsumer<?, ?> consumer, ConsumerRebalanceListener listener) {
+        consumer.subscribe(topicsSet, listener);
+    }
 }
@@ -17,11 +17,11 @@ package org.openkilda.floodlight.service.kafka;
 
 import org.openkilda.messaging.AbstractMessage;
 import org.openkilda.messaging.Message;
+import org.openkilda.messaging.MessageCodec;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.event.IslInfoData;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
 import org.apache.kafka.clients.producer.Callback;
@@ -31,6 +31,9 @@ import org.apache.kafka.clients.producer.RecordMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 public class KafkaProducerService implements IKafkaProducerService {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaProducerService.class);
@@ -38,12 +41,15 @@ public class KafkaProducerService implements IKafkaProducerService {
             String.format("%s.DISCO", KafkaProducerService.class.getName()));
 
     private int failedSendMessageCounter;
-    private Producer<String, String> producer;
-    private final ObjectMapper jsonObjectMapper = new ObjectMapper();
+    private Producer<String, byte[]> producer;
+    private MessageCodec.Format messageFormat;
+    private final MessageCodec codec = new MessageCodec(ObjectMapper::new);
 
     @Override
     public void setup(FloodlightModuleContext moduleContext) {
-        producer = moduleContext.getServiceImpl(KafkaUtilityService.class).makeProducer();
+        KafkaUtilityService kafkaUtility = moduleContext.getServiceImpl(KafkaUtilityService.class);
+        producer = kafkaUtility.makeProducer();
+        messageFormat = kafkaUtility.getMessageFormat();
     }
 
     public void sendMessageAndTrack(String topic, Message message) {
@@ -70,30 +76,40 @@ public class KafkaProducerService implements IKafkaProducerService {
         return sendStatus;
     }
 
-    protected SendStatus produce(ProducerRecord<String, String> record, Callback callback) {
-        logger.debug("Send kafka message: {} <== key:{} value:{}", record.topic(), record.key(), record.value());
+    protected SendStatus produce(ProducerRecord<String, byte[]> record, Callback callback) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Send kafka message: {} <== key:{} value:{}", record.topic(), record.key(),
+                    formatValue(record.value()));
+        }
         return new SendStatus(producer.send(record, callback));
     }
 
-    private ProducerRecord<String, String> encode(String topic, Message payload) {
+    private ProducerRecord<String, byte[]> encode(String topic, Message payload) {
         return encode(topic, null, payload);
     }
 
-    private ProducerRecord<String, String> encode(String topic, String key, Object payload) {
+    private ProducerRecord<String, byte[]> encode(String topic, String key, Object payload) {
         return new ProducerRecord<>(topic, key, encodeValue(payload));
     }
 
-    private String encodeValue(Object message) {
-        String encoded;
+    private byte[] encodeValue(Object message) {
+        byte[] encoded;
         try {
-            encoded = jsonObjectMapper.writeValueAsString(message);
-        } catch (JsonProcessingException e) {
+            encoded = codec.encode(message, messageFormat);
+        } catch (IOException e) {
             throw new IllegalArgumentException(String.format("Can not serialize message: %s", e.toString()), e);
         }
 
         return encoded;
     }
 
+    private String formatValue(byte[] value) {
+        if (MessageCodec.detectFormat(value) == MessageCodec.Format.JSON) {
+            return new String(value, StandardCharsets.UTF_8);
+        }
+        return String.format("<%s %d bytes>", messageFormat, value.length);
+    }
+
     /**
      * get failed sent messages count since last run.
      */
@@ -17,10 +17,12 @@ package org.openkilda.floodlight.service.kafka;
 
 import org.openkilda.floodlight.KafkaChannel;
 import org.openkilda.floodlight.service.IService;
+import org.openkilda.messaging.MessageCodec;
 
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
 import net.floodlightcontroller.core.module.FloodlightModuleException;
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
@@ -44,10 +46,25 @@ public class KafkaUtilityService implements IService {
         return consumer;
     }
 
-    public Producer<String, String> makeProducer() {
+    /**
+     * Create new kafka-consumer, apply setting from {@link KafkaConsumerSetup} argument and notify the listener about
+     * the partitions assigned to and revoked from the consumer.
+     */
+    public Consumer<String, String> makeConsumer(KafkaConsumerSetup setup, ConsumerRebalanceListener listener) {
+        Properties config = setup.applyConfig(owner.getConfig().consumerProperties());
+        KafkaConsumer<String, String> consumer = new KafkaConsumer<>(config);
+        setup.applyInstance(consumer, listener);
+        return consumer;
+    }
+
+    public Producer<String, byte[]> makeProducer() {
         return new KafkaProducer<>(owner.getConfig().producerProperties());
     }
 
+    public MessageCodec.Format getMessageFormat() {
+        return MessageCodec.Format.of(owner.getConfig().getMessageFormat());
+    }
+
     public KafkaChannel getKafkaChannel() {
         return owner;
     }
@@ -0,0 +1,65 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.service.session;
+
+import org.openkilda.messaging.MessageContext;
+
+import net.floodlightcontroller.core.IOFSwitch;
+import org.projectfloodlight.openflow.protocol.OFMessage;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Session which shares the closing barrier with the other sessions of the switch.
+ *
+ * <p>Messages are written into the current batch of the switch. The batch is closed by a single barrier when it
+ * reaches the size limit or when the batching window passes, whatever comes first. The futures of the messages are
+ * completed by the responses of the batch, so the result for the caller is the same as for a regular session.
+ */
+class BatchedSession extends Session {
+    private final SwitchSessions group;
+    private final MessageContext context;
+
+    private boolean closed = false;
+
+    BatchedSession(SwitchSessions group, IOFSwitch sw, MessageContext context) {
+        super(group, sw, context);
+        this.group = group;
+        this.context = context;
+    }
+
+    @Override
+    public CompletableFuture<Optional<OFMessage>> write(OFMessage message) {
+        if (closed) {
+            throw new IllegalStateException("Session is closed");
+        }
+        return group.writeBatched(getSw(), context, message);
+    }
+
+    @Override
+    public void resetError() {
+        // write errors are reported per message, the batch is closed regardless of them
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            throw new IllegalStateException("Session already closed");
+        }
+        closed = true;
+    }
+}
@@ -164,7 +164,7 @@ public class Session implements AutoCloseable {
             }
 
             // check session completion (we have received all responses, if we got response for closing barrier request)
-            if (closingBarrier.isDone()) {
+            if (closingBarrier != null && closingBarrier.isDone()) {
                 incompleteRequestsStream()
                         .forEach(entry -> entry.complete(Optional.empty()));
                 return true;
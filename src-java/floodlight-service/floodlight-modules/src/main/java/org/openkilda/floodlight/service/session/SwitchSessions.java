@@ -22,14 +22,58 @@ import org.projectfloodlight.openflow.protocol.OFMessage;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 class SwitchSessions {
     private final Map<Long, Session> sessionsByXid = new HashMap<>();
 
+    private final int batchSizeLimit;
+    private final long batchWindowMillis;
+    private final ScheduledExecutorService batchScheduler;
+
+    private final Object batchLock = new Object();
+    private Session batch;
+    private int batchSize;
+
+    SwitchSessions() {
+        this(1, 0, null);
+    }
+
+    SwitchSessions(int batchSizeLimit, long batchWindowMillis, ScheduledExecutorService batchScheduler) {
+        this.batchSizeLimit = batchSizeLimit;
+        this.batchWindowMillis = batchWindowMillis;
+        this.batchScheduler = batchScheduler;
+    }
+
     Session open(IOFSwitch sw, MessageContext context) {
+        if (batchSizeLimit > 1 && batchScheduler != null) {
+            return new BatchedSession(this, sw, context);
+        }
         return new Session(this, sw, context);
     }
 
+    /**
+     * Write the message into the current batch, open a new batch if there is none.
+     */
+    CompletableFuture<Optional<OFMessage>> writeBatched(IOFSwitch sw, MessageContext context, OFMessage message) {
+        synchronized (batchLock) {
+            if (batch == null) {
+                Session created = new Session(this, sw, context);
+                batch = created;
+                batchScheduler.schedule(() -> closeBatch(created), batchWindowMillis, TimeUnit.MILLISECONDS);
+            }
+
+            CompletableFuture<Optional<OFMessage>> future = batch.write(message);
+            if (++batchSize >= batchSizeLimit) {
+                closeBatch(batch);
+            }
+            return future;
+        }
+    }
+
     void handleResponse(OFMessage message) {
         Session session;
         synchronized (sessionsByXid) {
@@ -42,6 +86,11 @@ class SwitchSessions {
     }
 
     void disconnect() {
+        synchronized (batchLock) {
+            batch = null;
+            batchSize = 0;
+        }
+
         sessionsByXid.values()
                 // Session can be listed multiple time into sessionsByXid map
                 // so .disconnect() will be called multiple times. Session.disconnect
@@ -57,6 +106,21 @@ class SwitchSessions {
         }
     }
 
+    private void closeBatch(Session expected) {
+        synchronized (batchLock) {
+            if (batch != expected) {
+                // already closed by the size limit
+                return;
+            }
+            batch = null;
+            batchSize = 0;
+
+            // A failed write has already failed its own future, the rest of the batch must still be confirmed.
+            expected.resetError();
+            expected.close();
+        }
+    }
+
     private void unbindSession(Session session) {
         synchronized (sessionsByXid) {
             for (long xid : session.getAllXids()) {
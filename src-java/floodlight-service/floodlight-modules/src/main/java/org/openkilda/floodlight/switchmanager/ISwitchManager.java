@@ -37,6 +37,7 @@ import java.net.InetAddress;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface ISwitchManager extends IFloodlightService {
 
@@ -552,6 +553,33 @@ public interface ISwitchManager extends IFloodlightService {
      */
     OFMeterConfig dumpMeterById(final DatapathId dpid, final long meterId) throws SwitchOperationException;
 
+    /**
+     * Requests the installed flows without blocking the caller.
+     *
+     * @param dpid switch id
+     * @return OF flow stats entries, completed exceptionally with {@link SwitchNotFoundException} if there is no such
+     *         switch or with {@link java.util.concurrent.TimeoutException} if the switch doesn't respond in time
+     */
+    CompletableFuture<List<OFFlowStatsEntry>> dumpFlowTableAsync(DatapathId dpid);
+
+    /**
+     * Requests the installed meters without blocking the caller.
+     *
+     * @param dpid switch id
+     * @return OF meter config stats entries, completed exceptionally with {@link SwitchOperationException} if there
+     *         is no such switch or it doesn't support meters
+     */
+    CompletableFuture<List<OFMeterConfig>> dumpMetersAsync(DatapathId dpid);
+
+    /**
+     * Requests the installed meter without blocking the caller.
+     *
+     * @param dpid switch id
+     * @param meterId a meter id
+     * @return OF meter config stats entry or null if there is no such meter
+     */
+    CompletableFuture<OFMeterConfig> dumpMeterByIdAsync(DatapathId dpid, long meterId);
+
     /**
      * Installs a meter on ingress switch OF_13.
      * TODO: describe params meaning in accordance with OF
@@ -81,9 +81,11 @@ import org.openkilda.floodlight.switchmanager.factory.SwitchFlowFactory;
 import org.openkilda.floodlight.switchmanager.factory.SwitchFlowTuple;
 import org.openkilda.floodlight.switchmanager.factory.generator.SwitchFlowGenerator;
 import org.openkilda.floodlight.switchmanager.web.SwitchManagerWebRoutable;
+import org.openkilda.floodlight.utils.CompletableFutureAdapter;
 import org.openkilda.floodlight.utils.CorrelationContext;
 import org.openkilda.floodlight.utils.NewCorrelationContextRequired;
 import org.openkilda.messaging.Destination;
+import org.openkilda.messaging.MessageContext;
 import org.openkilda.messaging.command.flow.RuleType;
 import org.openkilda.messaging.command.switches.ConnectModeRequest;
 import org.openkilda.messaging.command.switches.DeleteRulesCriteria;
@@ -143,6 +145,8 @@ import org.projectfloodlight.openflow.protocol.OFMeterModCommand;
 import org.projectfloodlight.openflow.protocol.OFPortConfig;
 import org.projectfloodlight.openflow.protocol.OFPortDesc;
 import org.projectfloodlight.openflow.protocol.OFPortMod;
+import org.projectfloodlight.openflow.protocol.OFStatsReply;
+import org.projectfloodlight.openflow.protocol.OFStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFType;
 import org.projectfloodlight.openflow.protocol.action.OFAction;
 import org.projectfloodlight.openflow.protocol.action.OFActionOutput;
@@ -186,6 +190,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -258,6 +263,8 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
     // 0x1FFF lead to rule reject during install attempt on accton based switches.
     private static short OF10_VLAN_MASK = 0x0FFF;
 
+    private static final long STATS_REQUEST_TIMEOUT_SECONDS = 10;
+
     private IOFSwitchService ofSwitchService;
     private IKafkaProducerService producerService;
     private SwitchTrackingService switchTracking;
@@ -266,6 +273,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
 
     private ConnectModeRequest.Mode connectMode;
     private SwitchManagerConfig config;
+    private SwitchStatsRequestLimiter statsRequestLimiter;
 
     /**
      * Create an OFInstructionApplyActions which applies actions.
@@ -330,6 +338,8 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         FloodlightModuleConfigurationProvider provider = FloodlightModuleConfigurationProvider.of(context, this);
         config = provider.getConfiguration(SwitchManagerConfig.class);
         switchFlowFactory = context.getServiceImpl(SwitchFlowFactory.class);
+        statsRequestLimiter = new SwitchStatsRequestLimiter(
+                config.getStatsRequestsPerSwitch(), STATS_REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         String connectModeProperty = config.getConnectMode();
 
         try {
@@ -865,6 +875,77 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         return meterConfig;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<OFFlowStatsEntry>> dumpFlowTableAsync(DatapathId dpid) {
+        return writeStatsRequestAsync(dpid, sw -> sw.getOFFactory().buildFlowStatsRequest()
+                .setOutGroup(OFGroup.ANY)
+                .setCookieMask(U64.ZERO)
+                .build())
+                .thenApply(values -> values.stream()
+                        .map(OFFlowStatsReply::getEntries)
+                        .flatMap(List::stream)
+                        .collect(toList()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<OFMeterConfig>> dumpMetersAsync(DatapathId dpid) {
+        return writeStatsRequestAsync(dpid, sw -> makeMeterConfigStatsRequest(sw, 0xffffffff))
+                .thenApply(values -> values.stream()
+                        .map(OFMeterConfigStatsReply::getEntries)
+                        .flatMap(List::stream)
+                        .collect(toList()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<OFMeterConfig> dumpMeterByIdAsync(DatapathId dpid, long meterId) {
+        return writeStatsRequestAsync(dpid, sw -> makeMeterConfigStatsRequest(sw, meterId))
+                .thenApply(values -> values.stream()
+                        .map(OFMeterConfigStatsReply::getEntries)
+                        .flatMap(List::stream)
+                        .findFirst()
+                        .orElse(null));
+    }
+
+    private OFMeterConfigStatsRequest makeMeterConfigStatsRequest(IOFSwitch sw, long meterId)
+            throws UnsupportedSwitchOperationException {
+        verifySwitchSupportsMeters(sw);
+        return sw.getOFFactory().buildMeterConfigStatsRequest()
+                .setMeterId(meterId)
+                .build();
+    }
+
+    /**
+     * Sends the stats request through the per switch limiter. The switch is looked up right before sending, so the
+     * request which has been waiting for the switch disconnected in the meantime fails with
+     * {@link SwitchNotFoundException}.
+     */
+    private <R extends OFStatsReply> CompletableFuture<List<R>> writeStatsRequestAsync(
+            DatapathId dpid, StatsRequestFactory<R> requestFactory) {
+        MessageContext messageContext = new MessageContext(CorrelationContext.getId());
+        return statsRequestLimiter.submit(dpid, () -> {
+            IOFSwitch sw;
+            OFStatsRequest<R> request;
+            try {
+                sw = lookupSwitch(dpid);
+                request = requestFactory.make(sw);
+            } catch (SwitchOperationException e) {
+                CompletableFuture<List<R>> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                return failed;
+            }
+            return new CompletableFutureAdapter<>(messageContext, sw.writeStatsRequest(request));
+        });
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -2718,4 +2799,9 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         pushFlow(sw, "--InstallGroup--", groupAdd);
         sendBarrierRequest(sw);
     }
+
+    @FunctionalInterface
+    private interface StatsRequestFactory<R extends OFStatsReply> {
+        OFStatsRequest<R> make(IOFSwitch sw) throws SwitchOperationException;
+    }
 }
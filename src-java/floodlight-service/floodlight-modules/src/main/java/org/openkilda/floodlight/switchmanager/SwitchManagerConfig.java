@@ -96,4 +96,11 @@ public interface SwitchManagerConfig {
     @Key("tracking-enabled")
     @Default("true")
     boolean isTrackingEnabled();
+
+    @Key("stats-requests-per-switch")
+    @Default("2")
+    @Min(1)
+    @Description("Maximum number of the concurrent flow and meter dump requests to the same switch, "
+               + "the requests above it wait for the previous ones to complete.")
+    int getStatsRequestsPerSwitch();
 }
@@ -0,0 +1,152 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.switchmanager;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.projectfloodlight.openflow.types.DatapathId;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of the stats requests in flight per switch. The requests above the limit wait in the queue of the
+ * switch and are sent as soon as the previous ones complete, so neither the caller nor any other thread is blocked
+ * while the switch is busy. The request which is not answered in time is completed with {@link TimeoutException}.
+ */
+class SwitchStatsRequestLimiter {
+    private final int maxRequestsPerSwitch;
+    private final long timeoutMillis;
+    private final ScheduledThreadPoolExecutor timer;
+
+    private final Map<DatapathId, SwitchQueue> queues = new HashMap<>();
+
+    SwitchStatsRequestLimiter(int maxRequestsPerSwitch, long timeout, TimeUnit timeUnit) {
+        checkArgument(maxRequestsPerSwitch > 0, "maxRequestsPerSwitch must be positive");
+
+        this.maxRequestsPerSwitch = maxRequestsPerSwitch;
+        this.timeoutMillis = timeUnit.toMillis(timeout);
+
+        timer = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setNameFormat("switch-stats-request-timer")
+                .setDaemon(true)
+                .build());
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Sends the request now or once the switch has a free slot for it.
+     *
+     * @param dpid the switch the request is addressed to.
+     * @param request sends the request, it is called at most once.
+     * @return the result of the request.
+     */
+    <T> CompletableFuture<T> submit(DatapathId dpid, Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable task = () -> send(dpid, request, result);
+
+        boolean sendNow;
+        synchronized (queues) {
+            SwitchQueue queue = queues.computeIfAbsent(dpid, key -> new SwitchQueue());
+            sendNow = queue.inFlight < maxRequestsPerSwitch;
+            if (sendNow) {
+                queue.inFlight += 1;
+            } else {
+                queue.pending.add(task);
+            }
+        }
+
+        if (sendNow) {
+            task.run();
+        }
+        return result;
+    }
+
+    int getInFlight(DatapathId dpid) {
+        synchronized (queues) {
+            SwitchQueue queue = queues.get(dpid);
+            return queue != null ? queue.inFlight : 0;
+        }
+    }
+
+    int getPending(DatapathId dpid) {
+        synchronized (queues) {
+            SwitchQueue queue = queues.get(dpid);
+            return queue != null ? queue.pending.size() : 0;
+        }
+    }
+
+    private <T> void send(DatapathId dpid, Supplier<CompletableFuture<T>> request, CompletableFuture<T> result) {
+        CompletableFuture<T> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+
+        // the response is only cancelled by the timeout
+        final CompletableFuture<T> response = future;
+        ScheduledFuture<?> timeout = timer.schedule(
+                () -> response.cancel(false), timeoutMillis, TimeUnit.MILLISECONDS);
+
+        response.whenComplete((value, error) -> {
+            timeout.cancel(false);
+            release(dpid);
+            if (error instanceof CancellationException) {
+                result.completeExceptionally(new TimeoutException(String.format(
+                        "No response on stats request to %s in %d ms", dpid, timeoutMillis)));
+            } else if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private void release(DatapathId dpid) {
+        Runnable next;
+        synchronized (queues) {
+            SwitchQueue queue = queues.get(dpid);
+            next = queue.pending.poll();
+            if (next == null) {
+                queue.inFlight -= 1;
+                if (queue.inFlight == 0) {
+                    queues.remove(dpid);
+                }
+            }
+        }
+
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    private static class SwitchQueue {
+        private int inFlight = 0;
+        private final Queue<Runnable> pending = new ArrayDeque<>();
+    }
+}
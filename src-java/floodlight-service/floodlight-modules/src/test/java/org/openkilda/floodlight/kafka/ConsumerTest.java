@@ -0,0 +1,122 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.kafka;
+
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.mock;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.floodlight.kafka.Consumer.InFlightOffsets;
+import org.openkilda.floodlight.kafka.Consumer.KafkaOffsetRegistry;
+import org.openkilda.floodlight.kafka.Consumer.PendingRecord;
+import org.openkilda.floodlight.kafka.Consumer.RevokedPartitionsCleaner;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.easymock.EasyMock;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+
+public class ConsumerTest {
+    private static final TopicPartition PARTITION = new TopicPartition("test", 0);
+    private static final TopicPartition ANOTHER_PARTITION = new TopicPartition("test", 1);
+
+    @Test
+    public void shouldReportOffsetOnlyWhenPrecedingRecordsAreCompleted() {
+        InFlightOffsets offsets = new InFlightOffsets();
+        final Runnable first = offsets.add(makeRecord(PARTITION, 10));
+        final Runnable second = offsets.add(makeRecord(PARTITION, 11));
+        final Runnable third = offsets.add(makeRecord(PARTITION, 12));
+
+        second.run();
+        assertTrue(offsets.drainCompleted().isEmpty());
+
+        first.run();
+        assertEquals(Collections.singletonMap(PARTITION, 11L), offsets.drainCompleted());
+        assertTrue(offsets.drainCompleted().isEmpty());
+
+        third.run();
+        assertEquals(Collections.singletonMap(PARTITION, 12L), offsets.drainCompleted());
+    }
+
+    @Test
+    public void shouldDropRecordsOfRevokedPartitions() {
+        // given
+        @SuppressWarnings("unchecked")
+        KafkaConsumer<String, String> consumer = mock(KafkaConsumer.class);
+        consumer.commitSync(Collections.singletonMap(PARTITION, new OffsetAndMetadata(11)));
+        EasyMock.expectLastCall();
+        EasyMock.replay(consumer);
+        KafkaOffsetRegistry registry = new KafkaOffsetRegistry(consumer, 10000L);
+
+        InFlightOffsets offsets = new InFlightOffsets();
+        Deque<PendingRecord> pending = new ArrayDeque<>();
+        offsets.add(makeRecord(PARTITION, 10)).run();
+        final Runnable inLane = offsets.add(makeRecord(PARTITION, 11));
+        pending.add(makePending(offsets, PARTITION, 12));
+        pending.add(makePending(offsets, ANOTHER_PARTITION, 5));
+
+        RevokedPartitionsCleaner cleaner = new RevokedPartitionsCleaner(offsets, pending);
+        cleaner.setOffsetRegistry(registry);
+
+        // when
+        cleaner.onPartitionsRevoked(Collections.singletonList(PARTITION));
+
+        // then
+        EasyMock.verify(consumer);
+        assertEquals(1, pending.size());
+        inLane.run();
+        assertTrue(offsets.drainCompleted().isEmpty());
+    }
+
+    @Test
+    public void shouldAcceptLowerOffsetsOfReassignedPartition() {
+        // given
+        @SuppressWarnings("unchecked")
+        KafkaConsumer<String, String> consumer = mock(KafkaConsumer.class);
+        consumer.commitSync(anyObject());
+        EasyMock.expectLastCall().times(2);
+        EasyMock.replay(consumer);
+        KafkaOffsetRegistry registry = new KafkaOffsetRegistry(consumer, 10000L);
+        registry.addAndCommit(PARTITION, 20);
+
+        RevokedPartitionsCleaner cleaner = new RevokedPartitionsCleaner(new InFlightOffsets(), new ArrayDeque<>());
+        cleaner.setOffsetRegistry(registry);
+
+        // when
+        cleaner.onPartitionsRevoked(Collections.singletonList(PARTITION));
+        registry.addAndCommit(PARTITION, 10);
+        registry.commitOffsets();
+
+        // then
+        EasyMock.verify(consumer);
+    }
+
+    private static PendingRecord makePending(InFlightOffsets offsets, TopicPartition partition, long offset) {
+        ConsumerRecord<String, String> record = makeRecord(partition, offset);
+        return new PendingRecord(record, 0, offsets.add(record));
+    }
+
+    private static ConsumerRecord<String, String> makeRecord(TopicPartition partition, long offset) {
+        return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, "key", "{}");
+    }
+}
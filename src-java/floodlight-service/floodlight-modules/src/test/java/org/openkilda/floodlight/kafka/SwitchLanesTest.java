@@ -0,0 +1,78 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.kafka;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+public class SwitchLanesTest {
+    private static final String COMMAND = "{\"clazz\":\"org.openkilda.messaging.command.CommandMessage\","
+            + "\"payload\":{\"clazz\":\"org.openkilda.messaging.command.flow.RemoveFlow\","
+            + "\"switch_id\":\"%s\",\"cookie\":1},\"correlation_id\":\"%s\"}";
+
+    @Test
+    public void shouldLookupSwitchIdInCommand() {
+        assertEquals("00:00:00:00:00:00:00:01",
+                SwitchLanes.lookupSwitchId(String.format(COMMAND, "00:00:00:00:00:00:00:01", "corr")));
+        assertNull(SwitchLanes.lookupSwitchId("{\"payload\":{\"cookie\":1}}"));
+        assertNull(SwitchLanes.lookupSwitchId("not a json"));
+    }
+
+    @Test
+    public void shouldRouteCommandsOfSameSwitchToSameLane() {
+        SwitchLanes lanes = new SwitchLanes("test", 16, 1);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(lanes.laneOf(makeRecord(String.format(COMMAND, "00:00:00:00:00:00:00:01", "first"))),
+                    lanes.laneOf(makeRecord(String.format(COMMAND, "00:00:00:00:00:00:00:01", "corr-" + i))));
+        }
+    }
+
+    @Test
+    public void shouldRejectTaskWhenLaneIsFull() throws InterruptedException {
+        SwitchLanes lanes = new SwitchLanes("test", 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertTrue(lanes.offer(0, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        }));
+        started.await();
+        assertTrue(lanes.offer(0, () -> { }));
+        assertFalse(lanes.offer(0, () -> { }));
+
+        release.countDown();
+    }
+
+    private static ConsumerRecord<String, String> makeRecord(String value) {
+        return new ConsumerRecord<>("test", 0, 0, "key", value);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
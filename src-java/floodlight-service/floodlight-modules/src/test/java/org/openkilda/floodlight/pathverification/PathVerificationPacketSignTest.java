@@ -30,6 +30,7 @@ import net.floodlightcontroller.core.IOFSwitch;
 import net.floodlightcontroller.core.module.FloodlightModuleException;
 import net.floodlightcontroller.packet.Ethernet;
 import net.floodlightcontroller.packet.IPacket;
+import net.floodlightcontroller.packet.LLDPTLV;
 import org.easymock.EasyMock;
 import org.easymock.EasyMockRunner;
 import org.easymock.IAnswer;
@@ -133,4 +134,54 @@ public class PathVerificationPacketSignTest extends PathVerificationPacketInTest
 
         verify(producerService);
     }
+
+    @Test
+    public void testSignPacketMacAndToken() {
+        DiscoveryPacket discoveryPacket = makeDiscoveryPacket(42L);
+
+        // MAC option only, as sent with the JWT token disabled
+        DiscoveryPacket macOnly = copyWithout(discoveryPacket, PathVerificationService.TOKEN_OPTIONAL_TYPE);
+        DiscoveryPacketData data = pvs.parseDiscoveryPacket(macOnly, 0);
+        Assert.assertTrue(data.isSigned());
+        Assert.assertEquals(Long.valueOf(42L), data.getPacketId());
+
+        // JWT token only, as sent by the speakers of older releases
+        DiscoveryPacket tokenOnly = copyWithout(discoveryPacket, PathVerificationService.MAC_OPTIONAL_TYPE);
+        data = pvs.parseDiscoveryPacket(tokenOnly, 0);
+        Assert.assertTrue(data.isSigned());
+        Assert.assertEquals(Long.valueOf(42L), data.getPacketId());
+    }
+
+    @Test
+    public void testSignPacketInvalidMac() {
+        DiscoveryPacket discoveryPacket = makeDiscoveryPacket(42L);
+        for (LLDPTLV tlv : discoveryPacket.getOptionalTlvList()) {
+            if (tlv.getValue()[3] == PathVerificationService.MAC_OPTIONAL_TYPE) {
+                // forge the packet id
+                tlv.getValue()[DiscoveryPacketSigner.PACKET_ID_OFFSET + 7] ^= 1;
+            }
+        }
+
+        Assert.assertFalse(pvs.parseDiscoveryPacket(discoveryPacket, 0).isSigned());
+    }
+
+    private DiscoveryPacket makeDiscoveryPacket(Long packetId) {
+        OFPacketOut packet = pvs.generateDiscoveryPacket(sw1, OFPort.of(1), true, packetId);
+        Ethernet ethernet = (Ethernet) new Ethernet().deserialize(packet.getData(), 0, packet.getData().length);
+        return pvs.deserialize(ethernet);
+    }
+
+    private static DiscoveryPacket copyWithout(DiscoveryPacket origin, byte optionalType) {
+        DiscoveryPacket copy = DiscoveryPacket.builder()
+                .chassisId(origin.getChassisId())
+                .portId(origin.getPortId())
+                .ttl(origin.getTtl())
+                .build();
+        for (LLDPTLV tlv : origin.getOptionalTlvList()) {
+            if (tlv.getValue()[3] != optionalType) {
+                copy.getOptionalTlvList().add(tlv);
+            }
+        }
+        return copy;
+    }
 }
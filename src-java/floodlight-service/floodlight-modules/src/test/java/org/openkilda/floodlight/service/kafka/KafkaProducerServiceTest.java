@@ -21,6 +21,7 @@ import static org.easymock.EasyMock.getCurrentArguments;
 import static org.easymock.EasyMock.replay;
 import static org.easymock.EasyMock.verify;
 
+import org.openkilda.messaging.MessageCodec;
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.event.PortChangeType;
 import org.openkilda.messaging.info.event.PortInfoData;
@@ -57,7 +58,7 @@ public class KafkaProducerServiceTest extends EasyMockSupport {
     private KafkaProducerService subject;
 
     @SuppressWarnings("unchecked")
-    private Producer<String, String> kafkaProducer = (Producer<String, String>) strictMock(Producer.class);
+    private Producer<String, byte[]> kafkaProducer = (Producer<String, byte[]>) strictMock(Producer.class);
 
     @Before
     public void setUp() {
@@ -67,6 +68,7 @@ public class KafkaProducerServiceTest extends EasyMockSupport {
 
         KafkaUtilityService kafkaUtility = createMock(KafkaUtilityService.class);
         expect(kafkaUtility.makeProducer()).andReturn(kafkaProducer);
+        expect(kafkaUtility.getMessageFormat()).andReturn(MessageCodec.Format.JSON);
         moduleContext.addService(KafkaUtilityService.class, kafkaUtility);
 
         replay(kafkaUtility);
@@ -137,7 +139,7 @@ public class KafkaProducerServiceTest extends EasyMockSupport {
     }
 
     @SuppressWarnings("unchecked")
-    private void setupSendCapture(Capture<ProducerRecord<String, String>> trap, RecordMetadata[] sendResults)
+    private void setupSendCapture(Capture<ProducerRecord<String, byte[]>> trap, RecordMetadata[] sendResults)
             throws Exception {
         for (RecordMetadata metadata : sendResults) {
             Future promise = mock(Future.class);
@@ -226,6 +226,45 @@ public class SessionServiceTest extends EasyMockSupport {
         }
     }
 
+    @Test
+    public void batchedSessionsShareClosingBarrier() throws Exception {
+        SessionService batchingSubject = new SessionService(2, TimeUnit.HOURS.toMillis(1));
+        inputService.addTranslator(OFType.ERROR, batchingSubject);
+        inputService.addTranslator(OFType.BARRIER_REPLY, batchingSubject);
+        ofSwitchService.addOFSwitchListener(anyObject(SwitchEventsTranslator.class));
+
+        IOFSwitch sw = createMock(IOFSwitch.class);
+        setupSwitchMock(sw, dpId);
+        swWriteAlwaysSuccess(sw);
+        doneWithSetUp(sw);
+        batchingSubject.setup(moduleContext);
+        batchingSubject.switchActivate(sw.getId());
+
+        OFFactory ofFactory = sw.getOFFactory();
+        CompletableFuture<Optional<OFMessage>> first;
+        try (Session session = batchingSubject.open(context, sw)) {
+            first = session.write(makePacketOut(ofFactory, 1));
+        }
+        Assert.assertEquals(1, swWriteMessages.getValues().size());
+
+        CompletableFuture<Optional<OFMessage>> second;
+        try (Session session = batchingSubject.open(context, sw)) {
+            second = session.write(makePacketOut(ofFactory, 2));
+        }
+
+        List<OFMessage> swActualWrite = swWriteMessages.getValues();
+        Assert.assertEquals(3, swActualWrite.size());
+        OFMessage barrier = swActualWrite.get(2);
+        Assert.assertEquals(OFType.BARRIER_REQUEST, barrier.getType());
+        Assert.assertFalse(first.isDone());
+        Assert.assertFalse(second.isDone());
+
+        batchingSubject.handleResponse(sw.getId(), ofFactory.buildBarrierReply().setXid(barrier.getXid()).build());
+
+        Assert.assertFalse(first.get().isPresent());
+        Assert.assertFalse(second.get().isPresent());
+    }
+
     private OFPacketOut makePacketOut(OFFactory ofFactory, int inPort) {
         return ofFactory.buildPacketOut()
                 .setInPort(OFPort.of(inPort))
@@ -39,6 +39,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.openkilda.floodlight.Constants.inputPort;
 import static org.openkilda.floodlight.Constants.inputVlanId;
 import static org.openkilda.floodlight.Constants.meterId;
@@ -92,6 +93,7 @@ import org.openkilda.floodlight.KildaCoreConfig;
 import org.openkilda.floodlight.OFFactoryVer12Mock;
 import org.openkilda.floodlight.config.provider.FloodlightModuleConfigurationProvider;
 import org.openkilda.floodlight.error.InvalidMeterIdException;
+import org.openkilda.floodlight.error.SwitchNotFoundException;
 import org.openkilda.floodlight.error.SwitchOperationException;
 import org.openkilda.floodlight.pathverification.IPathVerificationService;
 import org.openkilda.floodlight.pathverification.PathVerificationService;
@@ -166,6 +168,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 public class SwitchManagerTest {
@@ -816,6 +819,39 @@ public class SwitchManagerTest {
         assertTrue(meters.isEmpty());
     }
 
+    @Test
+    public void dumpMetersAsync() throws Exception {
+        OFMeterConfig firstMeter = ofFactory.buildMeterConfig().setMeterId(1).build();
+        OFMeterConfig secondMeter = ofFactory.buildMeterConfig().setMeterId(2).build();
+
+        expect(ofSwitchService.getActiveSwitch(dpid)).andStubReturn(iofSwitch);
+        expect(switchDescription.getManufacturerDescription()).andStubReturn("");
+        expect(iofSwitch.getSwitchDescription()).andStubReturn(switchDescription);
+        expect(iofSwitch.getOFFactory()).andStubReturn(ofFactory);
+        expect(iofSwitch.writeStatsRequest(isA(OFMeterConfigStatsRequest.class))).andStubReturn(
+                Futures.immediateFuture(Lists.newArrayList(
+                        ofFactory.buildMeterConfigStatsReply().setEntries(Lists.newArrayList(firstMeter)).build(),
+                        ofFactory.buildMeterConfigStatsReply().setEntries(Lists.newArrayList(secondMeter)).build())));
+
+        replay(ofSwitchService, iofSwitch, switchDescription);
+
+        List<OFMeterConfig> meters = switchManager.dumpMetersAsync(dpid).get(1, TimeUnit.SECONDS);
+        assertEquals(Sets.newHashSet(firstMeter, secondMeter), new HashSet<>(meters));
+    }
+
+    @Test
+    public void dumpMetersAsyncSwitchNotFound() throws Exception {
+        expect(ofSwitchService.getActiveSwitch(dpid)).andStubReturn(null);
+        replay(ofSwitchService);
+
+        try {
+            switchManager.dumpMetersAsync(dpid).get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof SwitchNotFoundException);
+        }
+    }
+
     @Test
     public void installBandwidthMeterForCentecSwitch() throws Exception {
         runInstallMeterTest(bandwidth, Math.round(bandwidth * config.getFlowMeterBurstCoefficient()), true, false);
@@ -0,0 +1,116 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.switchmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.projectfloodlight.openflow.types.DatapathId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class SwitchStatsRequestLimiterTest {
+    private static final DatapathId SWITCH_ALPHA = DatapathId.of(1);
+    private static final DatapathId SWITCH_BETA = DatapathId.of(2);
+
+    @Test
+    public void shouldQueueRequestsAboveLimit() throws Exception {
+        SwitchStatsRequestLimiter limiter = new SwitchStatsRequestLimiter(2, 1, TimeUnit.MINUTES);
+        List<CompletableFuture<Integer>> requests = new ArrayList<>();
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(limiter.submit(SWITCH_ALPHA, () -> makeRequest(requests)));
+        }
+
+        assertEquals(2, requests.size());
+        assertEquals(2, limiter.getInFlight(SWITCH_ALPHA));
+        assertEquals(1, limiter.getPending(SWITCH_ALPHA));
+
+        requests.get(0).complete(0);
+        assertEquals(0, (int) results.get(0).get());
+        assertEquals(3, requests.size());
+        assertEquals(2, limiter.getInFlight(SWITCH_ALPHA));
+        assertEquals(0, limiter.getPending(SWITCH_ALPHA));
+
+        requests.get(2).complete(2);
+        requests.get(1).complete(1);
+        assertEquals(1, (int) results.get(1).get());
+        assertEquals(2, (int) results.get(2).get());
+        assertEquals(0, limiter.getInFlight(SWITCH_ALPHA));
+    }
+
+    @Test
+    public void shouldNotLimitRequestsToOtherSwitches() {
+        SwitchStatsRequestLimiter limiter = new SwitchStatsRequestLimiter(1, 1, TimeUnit.MINUTES);
+        List<CompletableFuture<Integer>> requests = new ArrayList<>();
+
+        limiter.submit(SWITCH_ALPHA, () -> makeRequest(requests));
+        limiter.submit(SWITCH_BETA, () -> makeRequest(requests));
+
+        assertEquals(2, requests.size());
+        assertEquals(1, limiter.getInFlight(SWITCH_ALPHA));
+        assertEquals(1, limiter.getInFlight(SWITCH_BETA));
+    }
+
+    @Test
+    public void shouldReleaseSlotOnFailedRequest() throws Exception {
+        SwitchStatsRequestLimiter limiter = new SwitchStatsRequestLimiter(1, 1, TimeUnit.MINUTES);
+        List<CompletableFuture<Integer>> requests = new ArrayList<>();
+
+        CompletableFuture<Integer> failed = limiter.submit(SWITCH_ALPHA, () -> {
+            throw new IllegalStateException("can't send");
+        });
+        assertTrue(failed.isCompletedExceptionally());
+
+        CompletableFuture<Integer> next = limiter.submit(SWITCH_ALPHA, () -> makeRequest(requests));
+        assertEquals(1, requests.size());
+        requests.get(0).complete(1);
+        assertEquals(1, (int) next.get());
+        assertEquals(0, limiter.getInFlight(SWITCH_ALPHA));
+    }
+
+    @Test
+    public void shouldFailAndCancelRequestOnTimeout() throws Exception {
+        SwitchStatsRequestLimiter limiter = new SwitchStatsRequestLimiter(1, 10, TimeUnit.MILLISECONDS);
+        List<CompletableFuture<Integer>> requests = new ArrayList<>();
+
+        CompletableFuture<Integer> result = limiter.submit(SWITCH_ALPHA, () -> makeRequest(requests));
+        try {
+            result.get(1, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+
+        assertTrue(result.isCompletedExceptionally());
+        assertTrue(requests.get(0).isCancelled());
+        assertEquals(0, limiter.getInFlight(SWITCH_ALPHA));
+        assertFalse(result.isCancelled());
+    }
+
+    private static CompletableFuture<Integer> makeRequest(List<CompletableFuture<Integer>> requests) {
+        CompletableFuture<Integer> request = new CompletableFuture<>();
+        requests.add(request);
+        return request;
+    }
+}
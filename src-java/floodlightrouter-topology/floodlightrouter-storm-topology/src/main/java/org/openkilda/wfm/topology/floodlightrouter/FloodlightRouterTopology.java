@@ -33,6 +33,7 @@ import org.apache.storm.kafka.spout.KafkaSpout;
 import org.apache.storm.topology.TopologyBuilder;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -51,25 +52,28 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     }
 
     private void createKildaFlowSpout(TopologyBuilder builder, int parallelism, List<String> kildaFlowTopics) {
-        KafkaSpout kildaFlowSpout = buildKafkaSpout(kildaFlowTopics,
+        KafkaSpout kildaFlowSpout = buildPassthroughSpout(kildaFlowTopics,
                 ComponentType.KILDA_FLOW_KAFKA_SPOUT);
         builder.setSpout(ComponentType.KILDA_FLOW_KAFKA_SPOUT, kildaFlowSpout, parallelism);
     }
 
     private void createKildaFlowKafkaBolt(TopologyBuilder builder, int parallelism, KafkaTopicsConfig topicsConfig) {
-        KafkaBolt kildaFlowKafkaBolt = buildKafkaBolt(topicsConfig.getFlowTopic());
+        KafkaBolt kildaFlowKafkaBolt = buildPassthroughKafkaBolt(topicsConfig.getFlowTopic());
         builder.setBolt(ComponentType.KILDA_FLOW_KAFKA_BOLT, kildaFlowKafkaBolt, parallelism)
                 .shuffleGrouping(ComponentType.KILDA_FLOW_REPLY_BOLT, Stream.KILDA_FLOW);
     }
 
     private void createKildaFlowHsSpout(TopologyBuilder builder, int parallelism, List<String> kildaFlowTopics) {
-        KafkaSpout kildaFlowHsSpout = buildKafkaSpoutForAbstractMessage(kildaFlowTopics,
-                ComponentType.KILDA_FLOW_HS_KAFKA_SPOUT);
+        KafkaSpout kildaFlowHsSpout = topologyConfig.isPassthroughEnabled()
+                ? buildKafkaSpoutForRawMessage(kildaFlowTopics, ComponentType.KILDA_FLOW_HS_KAFKA_SPOUT)
+                : buildKafkaSpoutForAbstractMessage(kildaFlowTopics, ComponentType.KILDA_FLOW_HS_KAFKA_SPOUT);
         builder.setSpout(ComponentType.KILDA_FLOW_HS_KAFKA_SPOUT, kildaFlowHsSpout, parallelism);
     }
 
     private void createKildaFlowHsKafkaBolt(TopologyBuilder builder, int parallelism, KafkaTopicsConfig topicsConfig) {
-        KafkaBolt kildaFlowHsKafkaBolt = buildKafkaBoltWithAbstractMessageSupport(topicsConfig.getFlowHsSpeakerTopic());
+        KafkaBolt kildaFlowHsKafkaBolt = topologyConfig.isPassthroughEnabled()
+                ? buildKafkaBoltForRawMessage(topicsConfig.getFlowHsSpeakerTopic())
+                : buildKafkaBoltWithAbstractMessageSupport(topicsConfig.getFlowHsSpeakerTopic());
         builder.setBolt(ComponentType.KILDA_FLOW_HS_KAFKA_BOLT, kildaFlowHsKafkaBolt, parallelism)
                 .shuffleGrouping(ComponentType.KILDA_FLOW_HS_REPLY_BOLT, Stream.KILDA_HS_FLOW);
     }
@@ -98,13 +102,13 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     }
 
     private void createKildaPingSpout(TopologyBuilder builder, int parallelism, List<String> kildaPingTopics) {
-        KafkaSpout kildaPingSpout = buildKafkaSpout(kildaPingTopics,
+        KafkaSpout kildaPingSpout = buildPassthroughSpout(kildaPingTopics,
                 ComponentType.KILDA_PING_KAFKA_SPOUT);
         builder.setSpout(ComponentType.KILDA_PING_KAFKA_SPOUT, kildaPingSpout, parallelism);
     }
 
     private void createKildaPingKafkaBolt(TopologyBuilder builder, int parallelism, KafkaTopicsConfig topicsConfig) {
-        KafkaBolt kildaPingKafkaBolt = buildKafkaBolt(topicsConfig.getPingTopic());
+        KafkaBolt kildaPingKafkaBolt = buildPassthroughKafkaBolt(topicsConfig.getPingTopic());
         builder.setBolt(ComponentType.KILDA_PING_KAFKA_BOLT, kildaPingKafkaBolt, parallelism)
                 .shuffleGrouping(ComponentType.KILDA_PING_REPLY_BOLT, Stream.KILDA_PING);
     }
@@ -123,13 +127,13 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     }
 
     private void createKildaStatsSpout(TopologyBuilder builder, int parallelism, List<String> kildaStatsTopics) {
-        KafkaSpout kildaStatsSpout = buildKafkaSpout(kildaStatsTopics,
+        KafkaSpout kildaStatsSpout = buildPassthroughSpout(kildaStatsTopics,
                 ComponentType.KILDA_STATS_KAFKA_SPOUT);
         builder.setSpout(ComponentType.KILDA_STATS_KAFKA_SPOUT, kildaStatsSpout, parallelism);
     }
 
     private void createKildaStatsKafkaBolt(TopologyBuilder builder, int parallelism, KafkaTopicsConfig topicsConfig) {
-        KafkaBolt kildaStatsKafkaBolt = buildKafkaBolt(topicsConfig.getStatsTopic());
+        KafkaBolt kildaStatsKafkaBolt = buildPassthroughKafkaBolt(topicsConfig.getStatsTopic());
         builder.setBolt(ComponentType.KILDA_STATS_KAFKA_BOLT, kildaStatsKafkaBolt, parallelism)
                 .shuffleGrouping(ComponentType.KILDA_STATS_REPLY_BOLT, Stream.KILDA_STATS);
     }
@@ -148,14 +152,14 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     }
 
     private void createKildaIslLatencySpout(TopologyBuilder builder, int parallelism, List<String> kildaStatsTopics) {
-        KafkaSpout kildaStatsSpout = buildKafkaSpout(kildaStatsTopics,
+        KafkaSpout kildaStatsSpout = buildPassthroughSpout(kildaStatsTopics,
                 ComponentType.KILDA_ISL_LATENCY_KAFKA_SPOUT);
         builder.setSpout(ComponentType.KILDA_ISL_LATENCY_KAFKA_SPOUT, kildaStatsSpout, parallelism);
     }
 
     private void createKildaIslLatencyKafkaBolt(TopologyBuilder builder, int parallelism,
                                                 KafkaTopicsConfig topicsConfig) {
-        KafkaBolt kildaStatsKafkaBolt = buildKafkaBolt(topicsConfig.getTopoIslLatencyTopic());
+        KafkaBolt kildaStatsKafkaBolt = buildPassthroughKafkaBolt(topicsConfig.getTopoIslLatencyTopic());
         builder.setBolt(ComponentType.KILDA_ISL_LATENCY_KAFKA_BOLT, kildaStatsKafkaBolt, parallelism)
                 .shuffleGrouping(ComponentType.KILDA_ISL_LATENCY_REPLY_BOLT, Stream.KILDA_ISL_LATENCY);
     }
@@ -171,13 +175,13 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     }
 
     private void createKildaConnectedDevicesSpout(TopologyBuilder builder, int parallelism, List<String> topics) {
-        KafkaSpout spout = buildKafkaSpout(topics, ComponentType.KILDA_CONNECTED_DEVICES_KAFKA_SPOUT);
+        KafkaSpout spout = buildPassthroughSpout(topics, ComponentType.KILDA_CONNECTED_DEVICES_KAFKA_SPOUT);
         builder.setSpout(ComponentType.KILDA_CONNECTED_DEVICES_KAFKA_SPOUT, spout, parallelism);
     }
 
     private void createKildaConnectedDevicesKafkaBolt(TopologyBuilder builder, int parallelism,
                                                       KafkaTopicsConfig topicsConfig) {
-        KafkaBolt kafkaBolt = buildKafkaBolt(topicsConfig.getTopoConnectedDevicesTopic());
+        KafkaBolt kafkaBolt = buildPassthroughKafkaBolt(topicsConfig.getTopoConnectedDevicesTopic());
         builder.setBolt(ComponentType.KILDA_CONNECTED_DEVICES_KAFKA_BOLT, kafkaBolt, parallelism)
                 .shuffleGrouping(ComponentType.KILDA_CONNECTED_DEVICES_REPLY_BOLT, Stream.KILDA_CONNECTED_DEVICES);
     }
@@ -194,14 +198,14 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
 
     private void createKildaSwitchManagerSpout(TopologyBuilder builder, int parallelism,
                                                List<String> kildaSwitchManagerTopics) {
-        KafkaSpout kildaSwitchManagerSpout = buildKafkaSpout(kildaSwitchManagerTopics,
+        KafkaSpout kildaSwitchManagerSpout = buildPassthroughSpout(kildaSwitchManagerTopics,
                 ComponentType.KILDA_SWITCH_MANAGER_KAFKA_SPOUT);
         builder.setSpout(ComponentType.KILDA_SWITCH_MANAGER_KAFKA_SPOUT, kildaSwitchManagerSpout, parallelism);
     }
 
     private void createKildaSwitchManagerKafkaBolt(TopologyBuilder builder, int parallelism,
                                                    KafkaTopicsConfig topicsConfig) {
-        KafkaBolt kildaSwitchManagerKafkaBolt = buildKafkaBolt(topicsConfig.getTopoSwitchManagerTopic());
+        KafkaBolt kildaSwitchManagerKafkaBolt = buildPassthroughKafkaBolt(topicsConfig.getTopoSwitchManagerTopic());
         builder.setBolt(ComponentType.KILDA_SWITCH_MANAGER_KAFKA_BOLT, kildaSwitchManagerKafkaBolt, parallelism)
                 .shuffleGrouping(ComponentType.SPEAKER_REQUEST_BOLT, Stream.KILDA_SWITCH_MANAGER)
                 .shuffleGrouping(ComponentType.KILDA_SWITCH_MANAGER_REPLY_BOLT, Stream.KILDA_SWITCH_MANAGER);
@@ -221,14 +225,14 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
 
     private void createKildaNorthboundSpout(TopologyBuilder builder, int parallelism,
                                                List<String> kildaNorthboundTopics) {
-        KafkaSpout kildaNorthboundSpout = buildKafkaSpout(kildaNorthboundTopics,
+        KafkaSpout kildaNorthboundSpout = buildPassthroughSpout(kildaNorthboundTopics,
                 ComponentType.NORTHBOUND_REPLY_KAFKA_SPOUT);
         builder.setSpout(ComponentType.NORTHBOUND_REPLY_KAFKA_SPOUT, kildaNorthboundSpout, parallelism);
     }
 
     private void createKildaNorthboundKafkaBolt(TopologyBuilder builder, int parallelism,
                                                    KafkaTopicsConfig topicsConfig) {
-        KafkaBolt kildaNorthboundKafkaBolt = buildKafkaBolt(topicsConfig.getNorthboundTopic());
+        KafkaBolt kildaNorthboundKafkaBolt = buildPassthroughKafkaBolt(topicsConfig.getNorthboundTopic());
         builder.setBolt(ComponentType.NORTHBOUND_REPLY_KAFKA_BOLT, kildaNorthboundKafkaBolt, parallelism)
                 .shuffleGrouping(ComponentType.SPEAKER_REQUEST_BOLT, Stream.NORTHBOUND_REPLY)
                 .shuffleGrouping(ComponentType.NORTHBOUND_REPLY_BOLT, Stream.NORTHBOUND_REPLY);
@@ -248,14 +252,14 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
 
     private void createKildaNbWorkerSpout(TopologyBuilder builder, int parallelism,
                                             List<String> kildaNbWorkerTopics) {
-        KafkaSpout kildaNbWorkerSpout = buildKafkaSpout(kildaNbWorkerTopics,
+        KafkaSpout kildaNbWorkerSpout = buildPassthroughSpout(kildaNbWorkerTopics,
                 ComponentType.KILDA_NB_WORKER_KAFKA_SPOUT);
         builder.setSpout(ComponentType.KILDA_NB_WORKER_KAFKA_SPOUT, kildaNbWorkerSpout, parallelism);
     }
 
     private void createKildaNbWorkerKafkaBolt(TopologyBuilder builder, int parallelism,
                                                 KafkaTopicsConfig topicsConfig) {
-        KafkaBolt kildaNbWorkerKafkaBolt = buildKafkaBolt(topicsConfig.getTopoNbTopic());
+        KafkaBolt kildaNbWorkerKafkaBolt = buildPassthroughKafkaBolt(topicsConfig.getTopoNbTopic());
         builder.setBolt(ComponentType.KILDA_NB_WORKER_KAFKA_BOLT, kildaNbWorkerKafkaBolt, parallelism)
                 .shuffleGrouping(ComponentType.KILDA_NB_WORKER_REPLY_BOLT, Stream.NB_WORKER);
     }
@@ -289,12 +293,12 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
 
     private void createSpeakerFlowRequestSpoutAndKafkaBolt(TopologyBuilder builder, int parallelism,
                                                            KafkaTopicsConfig topicsConfig) {
-        KafkaSpout speakerFlowKafkaSpout = buildKafkaSpout(topicsConfig.getSpeakerFlowTopic(),
+        KafkaSpout speakerFlowKafkaSpout = buildPassthroughSpout(topicsConfig.getSpeakerFlowTopic(),
                 ComponentType.SPEAKER_FLOW_KAFKA_SPOUT);
         builder.setSpout(ComponentType.SPEAKER_FLOW_KAFKA_SPOUT, speakerFlowKafkaSpout);
 
         for (String region: topologyConfig.getFloodlightRegions()) {
-            KafkaBolt speakerFlowKafkaBolt = buildKafkaBolt(
+            KafkaBolt speakerFlowKafkaBolt = buildPassthroughKafkaBolt(
                     Stream.formatWithRegion(topicsConfig.getSpeakerFlowRegionTopic(), region));
             builder.setBolt(Stream.formatWithRegion(ComponentType.SPEAKER_FLOW_KAFKA_BOLT, region),
                     speakerFlowKafkaBolt, parallelism)
@@ -305,6 +309,14 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
 
     private void createSpeakerFlowHsRequestSpoutAndKafkaBolt(TopologyBuilder builder, int parallelism,
                                                              KafkaTopicsConfig topicsConfig) {
+        if (topologyConfig.isPassthroughEnabled()) {
+            // the requests are proxied as is into the same topics as the ones from the speaker flow spout
+            KafkaSpout speakerFlowKafkaSpout = buildPassthroughSpout(topicsConfig.getSpeakerFlowHsTopic(),
+                    ComponentType.SPEAKER_FLOW_HS_KAFKA_SPOUT);
+            builder.setSpout(ComponentType.SPEAKER_FLOW_HS_KAFKA_SPOUT, speakerFlowKafkaSpout);
+            return;
+        }
+
         KafkaSpout speakerFlowKafkaSpout = buildKafkaSpoutForAbstractMessage(topicsConfig.getSpeakerFlowHsTopic(),
                 ComponentType.SPEAKER_FLOW_HS_KAFKA_SPOUT);
         builder.setSpout(ComponentType.SPEAKER_FLOW_HS_KAFKA_SPOUT, speakerFlowKafkaSpout);
@@ -321,12 +333,12 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
 
     private void createSpeakerFlowPingRequestStream(TopologyBuilder builder, int parallelism,
                                                     KafkaTopicsConfig topicsConfig) {
-        KafkaSpout speakerPingKafkaSpout = buildKafkaSpout(topicsConfig.getSpeakerFlowPingTopic(),
+        KafkaSpout speakerPingKafkaSpout = buildPassthroughSpout(topicsConfig.getSpeakerFlowPingTopic(),
                 ComponentType.SPEAKER_PING_KAFKA_SPOUT);
         builder.setSpout(ComponentType.SPEAKER_PING_KAFKA_SPOUT, speakerPingKafkaSpout);
 
         for (String region: topologyConfig.getFloodlightRegions()) {
-            KafkaBolt speakerPingKafkaBolt = buildKafkaBolt(
+            KafkaBolt speakerPingKafkaBolt = buildPassthroughKafkaBolt(
                     Stream.formatWithRegion(topicsConfig.getSpeakerFlowPingRegionTopic(), region));
             builder.setBolt(Stream.formatWithRegion(ComponentType.SPEAKER_PING_KAFKA_BOLT, region),
                     speakerPingKafkaBolt, parallelism)
@@ -393,7 +405,7 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
 
     private void createSpeakerDiscoSpout(TopologyBuilder builder, int parallelism,
                                          String kildaTopoDiscoTopic) {
-        KafkaSpout speakerDiscoSpout = buildKafkaSpout(kildaTopoDiscoTopic,
+        KafkaSpout speakerDiscoSpout = buildPassthroughSpout(kildaTopoDiscoTopic,
                 ComponentType.SPEAKER_DISCO_KAFKA_SPOUT);
         builder.setSpout(ComponentType.SPEAKER_DISCO_KAFKA_SPOUT, speakerDiscoSpout, parallelism);
     }
@@ -401,7 +413,7 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
     private void createSpeakerDiscoKafkaBolt(TopologyBuilder builder, int parallelism,
                                              KafkaTopicsConfig topicsConfig) {
         for (String region: topologyConfig.getFloodlightRegions()) {
-            KafkaBolt speakerDiscoKafkaBolt = buildKafkaBolt(
+            KafkaBolt speakerDiscoKafkaBolt = buildPassthroughKafkaBolt(
                     Stream.formatWithRegion(topicsConfig.getSpeakerDiscoRegionTopic(), region));
             builder.setBolt(Stream.formatWithRegion(ComponentType.SPEAKER_DISCO_KAFKA_BOLT, region),
                     speakerDiscoKafkaBolt, parallelism)
@@ -461,7 +473,7 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
                                              int parallelism,
                                              KafkaTopicsConfig topicsConfig,
                                              List<String> kildaFlStatsSwitchesTopics) {
-        KafkaSpout flStatsSwitchesSpout = buildKafkaSpout(kildaFlStatsSwitchesTopics,
+        KafkaSpout flStatsSwitchesSpout = buildPassthroughSpout(kildaFlStatsSwitchesTopics,
                 ComponentType.FL_STATS_SWITCHES_SPOUT);
         builder.setSpout(ComponentType.FL_STATS_SWITCHES_SPOUT, flStatsSwitchesSpout);
 
@@ -469,11 +481,36 @@ public class FloodlightRouterTopology extends AbstractTopology<FloodlightRouterT
         builder.setBolt(ComponentType.FL_STATS_SWITCHES_REPLY_BOLT, replyBolt, parallelism)
                 .shuffleGrouping(ComponentType.FL_STATS_SWITCHES_SPOUT);
 
-        KafkaBolt kildaFlStatsSwtichesKafkaBolt = buildKafkaBolt(topicsConfig.getFlStatsSwitchesPrivTopic());
+        KafkaBolt kildaFlStatsSwtichesKafkaBolt = buildPassthroughKafkaBolt(
+                topicsConfig.getFlStatsSwitchesPrivTopic());
         builder.setBolt(ComponentType.FL_STATS_SWITCHES_KAFKA_BOLT, kildaFlStatsSwtichesKafkaBolt, parallelism)
                 .shuffleGrouping(ComponentType.FL_STATS_SWITCHES_REPLY_BOLT, Stream.FL_STATS_SWITCHES);
     }
 
+    private KafkaSpout buildPassthroughSpout(String topic, String spoutId) {
+        return buildPassthroughSpout(Collections.singletonList(topic), spoutId);
+    }
+
+    /**
+     * Creates Kafka spout passing the messages without decoding them if passthrough is enabled.
+     */
+    private KafkaSpout buildPassthroughSpout(List<String> topics, String spoutId) {
+        if (topologyConfig.isPassthroughEnabled()) {
+            return buildKafkaSpoutForRawMessage(topics, spoutId);
+        }
+        return buildKafkaSpout(topics, spoutId);
+    }
+
+    /**
+     * Creates Kafka bolt writing the messages as is if passthrough is enabled.
+     */
+    private KafkaBolt buildPassthroughKafkaBolt(String topic) {
+        if (topologyConfig.isPassthroughEnabled()) {
+            return buildKafkaBoltForRawMessage(topic);
+        }
+        return buildKafkaBolt(topic);
+    }
+
     @Override
     public StormTopology createTopology() {
         logger.info("Creating FlowTopology - {}", topologyName);
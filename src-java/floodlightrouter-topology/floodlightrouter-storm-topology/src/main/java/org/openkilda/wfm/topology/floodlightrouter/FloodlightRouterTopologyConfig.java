@@ -43,4 +43,8 @@ public interface FloodlightRouterTopologyConfig extends AbstractTopologyConfig {
     @Default("1")
     @Converter(StringToSetConverter.class)
     Set<String> getFloodlightRegions();
+
+    @Key("floodlight.router.passthrough") // proxy the messages without decoding them where it is possible
+    @Default("true")
+    boolean isPassthroughEnabled();
 }
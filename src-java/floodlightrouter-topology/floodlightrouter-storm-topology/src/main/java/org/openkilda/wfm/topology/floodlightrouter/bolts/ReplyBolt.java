@@ -18,6 +18,7 @@ package org.openkilda.wfm.topology.floodlightrouter.bolts;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.topology.AbstractTopology;
 import org.openkilda.wfm.topology.utils.MessageKafkaTranslator;
+import org.openkilda.wfm.topology.utils.SerializationUtils;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.storm.kafka.bolt.mapper.FieldNameBasedTupleToKafkaMapper;
@@ -26,6 +27,8 @@ import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
+import java.io.IOException;
+
 @Slf4j
 public class ReplyBolt extends AbstractBolt {
 
@@ -39,6 +42,16 @@ public class ReplyBolt extends AbstractBolt {
     protected void handleInput(Tuple input) throws Exception {
         String key = input.getStringByField(AbstractTopology.KEY_FIELD);
         Object message = pullValue(input, MessageKafkaTranslator.FIELD_ID_PAYLOAD, Object.class);
+        if (message instanceof byte[]) {
+            // the consumers of the replies may expect JSON only, so the replies encoded in smile are converted
+            try {
+                message = SerializationUtils.CODEC.toJson((byte[]) message);
+            } catch (IOException e) {
+                log.error("Unable to convert message from {} into JSON: {}", input.getSourceComponent(),
+                        e.getMessage());
+                return;
+            }
+        }
         Values values = new Values(key, message);
         getOutput().emit(outputStream, input, values);
     }
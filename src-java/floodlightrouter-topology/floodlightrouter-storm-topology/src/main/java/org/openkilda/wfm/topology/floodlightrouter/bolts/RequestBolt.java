@@ -22,10 +22,12 @@ import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.error.PipelineException;
 import org.openkilda.wfm.topology.AbstractTopology;
 import org.openkilda.wfm.topology.floodlightrouter.Stream;
+import org.openkilda.wfm.topology.floodlightrouter.service.RawMessageUtils;
 import org.openkilda.wfm.topology.floodlightrouter.service.RouterUtils;
 import org.openkilda.wfm.topology.floodlightrouter.service.SwitchMapping;
 import org.openkilda.wfm.topology.floodlightrouter.service.SwitchTracker;
 import org.openkilda.wfm.topology.utils.KafkaRecordTranslator;
+import org.openkilda.wfm.topology.utils.SerializationUtils;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.storm.kafka.bolt.mapper.FieldNameBasedTupleToKafkaMapper;
@@ -34,6 +36,8 @@ import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Set;
 
 @Slf4j
@@ -77,17 +81,22 @@ public class RequestBolt extends AbstractBolt {
             if (region != null) {
                 proxyRequestToSpeaker(input, region);
             } else {
-                log.error("Unable to lookup region for message: {}", message);
+                log.error("Unable to lookup region for message: {}", formatRequest(message));
             }
         } else {
-            log.error("Unable to lookup switch for message: {}", message);
+            log.error("Unable to lookup switch for message: {}", formatRequest(message));
         }
     }
 
     private SwitchId lookupSwitchId(Object message) {
         SwitchId switchId;
 
-        if (message instanceof AbstractMessage) {
+        if (message instanceof byte[]) {
+            switchId = RawMessageUtils.lookupSwitchId((byte[]) message);
+            if (switchId == null) {
+                switchId = lookupSwitchIdInDecoded((byte[]) message);
+            }
+        } else if (message instanceof AbstractMessage) {
             switchId = RouterUtils.lookupSwitchId((AbstractMessage) message);
         } else {
             switchId = RouterUtils.lookupSwitchId((Message) message);
@@ -96,6 +105,31 @@ public class RequestBolt extends AbstractBolt {
         return switchId;
     }
 
+    /**
+     * Fallback for the messages unknown to {@link RawMessageUtils}, they are decoded only to find the switch and are
+     * proxied as is.
+     */
+    private SwitchId lookupSwitchIdInDecoded(byte[] payload) {
+        try {
+            return RouterUtils.lookupSwitchId(SerializationUtils.CODEC.decode(payload, Message.class));
+        } catch (IOException e) {
+            log.debug("Message is not a {}: {}", Message.class.getName(), e.getMessage());
+        }
+        try {
+            return RouterUtils.lookupSwitchId(SerializationUtils.CODEC.decode(payload, AbstractMessage.class));
+        } catch (IOException e) {
+            log.error("Unable to decode message {}: {}", formatRequest(payload), e.getMessage());
+        }
+        return null;
+    }
+
+    private static Object formatRequest(Object message) {
+        if (message instanceof byte[]) {
+            return new String((byte[]) message, StandardCharsets.UTF_8);
+        }
+        return message;
+    }
+
     protected void proxyRequestToSpeaker(Tuple input, String region) throws PipelineException {
         String targetStream = Stream.formatWithRegion(outputMessageStream, region);
         String key = pullRequestKey(input);
@@ -0,0 +1,129 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.service;
+
+import org.openkilda.floodlight.api.request.SpeakerRequest;
+import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData;
+import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
+import org.openkilda.messaging.command.flow.BaseFlow;
+import org.openkilda.messaging.floodlight.request.PingRequest;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.topology.utils.SerializationUtils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Looks up the target switch in the encoded message without decoding it.
+ *
+ * <p>The message is scanned by the streaming parser: the type of each object is taken from its "clazz" property
+ * (Jackson writes the type id first) and the fields that don't lead to the switch id are skipped. Only the most
+ * frequent speaker requests are known here, for the rest the lookup gives null and the message has to be decoded and
+ * passed to {@link RouterUtils#lookupSwitchId}.
+ */
+public final class RawMessageUtils {
+    private static final String TYPE_PROPERTY = "clazz";
+
+    /**
+     * Path to the switch id (or to the nested typed object) in the objects of the type and its subtypes.
+     */
+    private static final Map<Class<?>, List<String>> SWITCH_ID_PATHS = ImmutableMap.<Class<?>, List<String>>builder()
+            .put(CommandMessage.class, ImmutableList.of("payload"))
+            .put(BaseFlow.class, ImmutableList.of("switch_id"))
+            .put(DiscoverIslCommandData.class, ImmutableList.of("switch_id"))
+            .put(DiscoverIslBatchCommandData.class, ImmutableList.of("switch_id"))
+            .put(PingRequest.class, ImmutableList.of("ping", "source", "switch-id"))
+            .put(SpeakerRequest.class, ImmutableList.of("switch_id"))
+            .build();
+
+    private static final Map<String, Optional<List<String>>> pathsByTypeName = new ConcurrentHashMap<>();
+
+    private RawMessageUtils() {}
+
+    /**
+     * Lookup SwitchId in the encoded message.
+     * @param payload - message in any of the formats supported by {@link SerializationUtils#CODEC}
+     * @return - SwitchId or null if the message is unknown or malformed
+     */
+    public static SwitchId lookupSwitchId(byte[] payload) {
+        try (JsonParser parser = SerializationUtils.CODEC.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            return lookupInTypedObject(parser);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static SwitchId lookupInTypedObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME || !TYPE_PROPERTY.equals(parser.getCurrentName())
+                || parser.nextToken() != JsonToken.VALUE_STRING) {
+            return null;
+        }
+
+        List<String> path = pathsByTypeName.computeIfAbsent(parser.getText(), RawMessageUtils::resolvePath)
+                .orElse(null);
+        if (path == null) {
+            return null;
+        }
+        return lookupInObject(parser, path, 0);
+    }
+
+    private static SwitchId lookupInObject(JsonParser parser, List<String> path, int depth) throws IOException {
+        String target = path.get(depth);
+        boolean last = depth == path.size() - 1;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!target.equals(name)) {
+                parser.skipChildren();
+            } else if (value == JsonToken.START_OBJECT) {
+                return last ? lookupInTypedObject(parser) : lookupInObject(parser, path, depth + 1);
+            } else if (last && value == JsonToken.VALUE_STRING) {
+                return new SwitchId(parser.getText());
+            } else {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static Optional<List<String>> resolvePath(String typeName) {
+        Class<?> type;
+        try {
+            type = Class.forName(typeName, false, RawMessageUtils.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+
+        for (Map.Entry<Class<?>, List<String>> entry : SWITCH_ID_PATHS.entrySet()) {
+            if (entry.getKey().isAssignableFrom(type)) {
+                return Optional.of(entry.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,110 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.bolts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.messaging.Message;
+import org.openkilda.messaging.MessageCodec;
+import org.openkilda.messaging.MessageCodec.Format;
+import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.topology.AbstractTopology;
+import org.openkilda.wfm.topology.utils.MessageKafkaTranslator;
+import org.openkilda.wfm.topology.utils.SerializationUtils;
+
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.tuple.Tuple;
+import org.apache.storm.tuple.Values;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReplyBoltTest {
+    private static final String OUTPUT_STREAM = "kilda.reply";
+    private static final String KEY = "key";
+
+    private ReplyBolt subject;
+
+    @Mock
+    private TopologyContext topologyContext;
+
+    @Mock
+    private OutputCollector outputCollector;
+
+    @Before
+    public void setUp() {
+        subject = new ReplyBolt(OUTPUT_STREAM);
+        when(topologyContext.getThisTaskId()).thenReturn(1);
+        subject.prepare(Collections.emptyMap(), topologyContext, outputCollector);
+    }
+
+    @Test
+    public void shouldConvertSmileReplyIntoJson() throws Exception {
+        CommandMessage reply = makeReply();
+        byte[] payload = SerializationUtils.CODEC.encode(reply, Format.SMILE);
+        Tuple tuple = makeTuple(payload);
+
+        subject.handleInput(tuple);
+
+        byte[] emitted = (byte[]) captureEmitted(tuple).get(1);
+        assertEquals(Format.JSON, MessageCodec.detectFormat(emitted));
+        CommandMessage decoded = (CommandMessage) SerializationUtils.MAPPER.readValue(emitted, Message.class);
+        assertEquals(reply.getCorrelationId(), decoded.getCorrelationId());
+        assertEquals(reply.getData(), decoded.getData());
+    }
+
+    @Test
+    public void shouldPassJsonReplyAsIs() throws Exception {
+        byte[] payload = SerializationUtils.CODEC.encode(makeReply(), Format.JSON);
+        Tuple tuple = makeTuple(payload);
+
+        subject.handleInput(tuple);
+
+        assertSame(payload, captureEmitted(tuple).get(1));
+    }
+
+    private Values captureEmitted(Tuple tuple) {
+        ArgumentCaptor<Values> captor = ArgumentCaptor.forClass(Values.class);
+        verify(outputCollector).emit(eq(OUTPUT_STREAM), eq(tuple), captor.capture());
+        assertEquals(KEY, captor.getValue().get(0));
+        return captor.getValue();
+    }
+
+    private static Tuple makeTuple(byte[] payload) {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.getStringByField(AbstractTopology.KEY_FIELD)).thenReturn(KEY);
+        when(tuple.getValueByField(MessageKafkaTranslator.FIELD_ID_PAYLOAD)).thenReturn(payload);
+        return tuple;
+    }
+
+    private static CommandMessage makeReply() {
+        return new CommandMessage(new DiscoverIslCommandData(new SwitchId(1), 1, 1L), 3L, "reply");
+    }
+}
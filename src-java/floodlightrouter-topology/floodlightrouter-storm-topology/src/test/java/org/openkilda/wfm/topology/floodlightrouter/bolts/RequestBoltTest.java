@@ -17,6 +17,7 @@ package org.openkilda.wfm.topology.floodlightrouter.bolts;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -29,6 +30,7 @@ import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
 import org.openkilda.model.SwitchId;
 import org.openkilda.wfm.topology.floodlightrouter.Stream;
 import org.openkilda.wfm.topology.floodlightrouter.service.SwitchMapping;
+import org.openkilda.wfm.topology.utils.SerializationUtils;
 
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.task.TopologyContext;
@@ -117,6 +119,30 @@ public class RequestBoltTest {
         assertEquals(discoCommand, discoCommandValuesCaptor.getValue().get(1));
     }
 
+    @Test
+    public void verifyRawConsumerToSpeakerTupleConsistency() throws Exception {
+        SwitchMapping switchMapping = new SwitchMapping(switchAlpha, REGION_ONE);
+        Tuple notificationTuple = mock(Tuple.class);
+        when(notificationTuple.getValueByField(FIELD_ID_MESSAGE)).thenReturn(switchMapping);
+        when(notificationTuple.getSourceStreamId()).thenReturn(Stream.REGION_NOTIFICATION);
+        subject.handleInput(notificationTuple);
+        CommandMessage discoCommand = new CommandMessage(
+                new DiscoverIslCommandData(switchAlpha, 1, 1L),
+                3L, "discovery-confirmation");
+        byte[] payload = SerializationUtils.MAPPER.writeValueAsBytes(discoCommand);
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.getStringByField(FIELD_ID_KEY)).thenReturn(switchAlpha.toString());
+        when(tuple.getValueByField(FIELD_ID_MESSAGE)).thenReturn(payload);
+        subject.handleInput(tuple);
+        ArgumentCaptor<Values> discoCommandValuesCaptor = ArgumentCaptor.forClass(Values.class);
+        verify(outputCollector).emit(eq(Stream.formatWithRegion(Stream.SPEAKER_DISCO, REGION_ONE)),
+                eq(tuple),
+                discoCommandValuesCaptor.capture());
+
+        assertEquals(switchAlpha.toString(), discoCommandValuesCaptor.getValue().get(0));
+        assertSame(payload, discoCommandValuesCaptor.getValue().get(1));
+    }
+
     @Test
     public void verifyConsumerToSpeakerTupleFails() throws Exception {
         SwitchMapping switchMapping = new SwitchMapping(switchBeta, REGION_ONE);
@@ -0,0 +1,81 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.floodlightrouter.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.openkilda.messaging.MessageCodec;
+import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
+import org.openkilda.messaging.command.switches.DumpRulesRequest;
+import org.openkilda.messaging.floodlight.request.PingRequest;
+import org.openkilda.messaging.model.NetworkEndpoint;
+import org.openkilda.messaging.model.Ping;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.topology.utils.SerializationUtils;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class RawMessageUtilsTest {
+    private static final SwitchId SWITCH_ALPHA = new SwitchId(1);
+    private static final SwitchId SWITCH_BETA = new SwitchId(2);
+
+    @Test
+    public void shouldLookupSwitchIdInDiscoveryCommand() throws Exception {
+        CommandMessage message = new CommandMessage(
+                new DiscoverIslCommandData(SWITCH_ALPHA, 1, 1L), 3L, "discovery-confirmation");
+
+        assertEquals(SWITCH_ALPHA, RawMessageUtils.lookupSwitchId(encodeJson(message)));
+    }
+
+    @Test
+    public void shouldLookupSwitchIdInPingRequest() throws Exception {
+        Ping ping = new Ping((short) 100, new NetworkEndpoint(SWITCH_BETA, 8), new NetworkEndpoint(SWITCH_ALPHA, 10));
+        CommandMessage message = new CommandMessage(new PingRequest(ping), 3L, "ping");
+
+        assertEquals(SWITCH_BETA, RawMessageUtils.lookupSwitchId(encodeJson(message)));
+    }
+
+    @Test
+    public void shouldLookupSwitchIdInSmileEncodedMessage() throws Exception {
+        CommandMessage message = new CommandMessage(
+                new DiscoverIslCommandData(SWITCH_ALPHA, 1, 1L), 3L, "discovery-confirmation");
+
+        assertEquals(SWITCH_ALPHA, RawMessageUtils.lookupSwitchId(
+                SerializationUtils.CODEC.encode(message, MessageCodec.Format.SMILE)));
+    }
+
+    @Test
+    public void shouldNotLookupSwitchIdInUnknownMessage() throws Exception {
+        CommandMessage message = new CommandMessage(new DumpRulesRequest(SWITCH_ALPHA), 3L, "dump-rules");
+
+        assertNull(RawMessageUtils.lookupSwitchId(encodeJson(message)));
+    }
+
+    @Test
+    public void shouldNotLookupSwitchIdInMalformedMessage() {
+        assertNull(RawMessageUtils.lookupSwitchId("{\"clazz\":".getBytes(StandardCharsets.UTF_8)));
+        assertNull(RawMessageUtils.lookupSwitchId("[]".getBytes(StandardCharsets.UTF_8)));
+        assertNull(RawMessageUtils.lookupSwitchId(new byte[0]));
+    }
+
+    private static byte[] encodeJson(Object message) throws Exception {
+        return SerializationUtils.MAPPER.writeValueAsBytes(message);
+    }
+}
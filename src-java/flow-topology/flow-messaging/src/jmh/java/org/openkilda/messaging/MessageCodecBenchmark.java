@@ -0,0 +1,150 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging;
+
+import org.openkilda.messaging.MessageCodec.Format;
+import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.command.flow.FlowRequest;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.event.IslChangeType;
+import org.openkilda.messaging.info.event.IslInfoData;
+import org.openkilda.messaging.info.event.PathNode;
+import org.openkilda.messaging.info.stats.FlowStatsData;
+import org.openkilda.messaging.info.stats.FlowStatsEntry;
+import org.openkilda.messaging.payload.flow.FlowEncapsulationType;
+import org.openkilda.model.SwitchId;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JSON and Smile encoding of the messages which make most of the traffic between speakers and topologies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Slf4j
+public class MessageCodecBenchmark {
+    private static final SwitchId SOURCE_SWITCH = new SwitchId("00:00:00:00:00:00:00:01");
+    private static final SwitchId DEST_SWITCH = new SwitchId("00:00:00:00:00:00:00:02");
+
+    /**
+     * Count of the flow entries in a flow stats reply, it's close to the count of flows on a loaded switch.
+     */
+    private static final int FLOW_STATS_ENTRIES = 500;
+
+    @Param({"FLOW_STATS", "ISL", "FLOW_REQUEST"})
+    private PayloadType payloadType;
+
+    @Param({"JSON", "SMILE"})
+    private Format format;
+
+    private final MessageCodec codec = new MessageCodec(ObjectMapper::new);
+    private Message message;
+    private byte[] encoded;
+
+    /**
+     * Builds the message and its encoded form.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        message = payloadType.makeMessage();
+        encoded = codec.encode(message, format);
+        log.info("{} in {}: {} bytes", payloadType, format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return codec.encode(message, format);
+    }
+
+    @Benchmark
+    public Message decode() throws IOException {
+        return codec.decode(encoded, Message.class);
+    }
+
+    public enum PayloadType {
+        FLOW_STATS {
+            @Override
+            Message makeMessage() {
+                List<FlowStatsEntry> entries = new ArrayList<>(FLOW_STATS_ENTRIES);
+                for (int i = 0; i < FLOW_STATS_ENTRIES; i++) {
+                    entries.add(new FlowStatsEntry(0, 0x4000000000000000L + i, 1000L * i, 64000L * i, i % 48 + 1,
+                            (i + 1) % 48 + 1));
+                }
+                return new InfoMessage(new FlowStatsData(SOURCE_SWITCH, entries), 0, "stats");
+            }
+        },
+        ISL {
+            @Override
+            Message makeMessage() {
+                IslInfoData isl = IslInfoData.builder()
+                        .latency(1200)
+                        .source(new PathNode(SOURCE_SWITCH, 1, 0))
+                        .destination(new PathNode(DEST_SWITCH, 2, 1))
+                        .speed(10000000)
+                        .availableBandwidth(10000000)
+                        .maxBandwidth(10000000)
+                        .defaultMaxBandwidth(10000000)
+                        .state(IslChangeType.DISCOVERED)
+                        .packetId(1L)
+                        .build();
+                return new InfoMessage(isl, 0, "discovery");
+            }
+        },
+        FLOW_REQUEST {
+            @Override
+            Message makeMessage() {
+                FlowRequest request = FlowRequest.builder()
+                        .flowId("flow-benchmark")
+                        .sourceSwitch(SOURCE_SWITCH)
+                        .sourcePort(10)
+                        .sourceVlan(100)
+                        .destinationSwitch(DEST_SWITCH)
+                        .destinationPort(20)
+                        .destinationVlan(200)
+                        .bandwidth(10000)
+                        .description("benchmark flow")
+                        .encapsulationType(FlowEncapsulationType.TRANSIT_VLAN)
+                        .type(FlowRequest.Type.CREATE)
+                        .build();
+                return new CommandMessage(request, 0, "northbound");
+            }
+        };
+
+        abstract Message makeMessage();
+    }
+}
@@ -0,0 +1,69 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging.command.flow;
+
+import org.openkilda.messaging.command.CommandData;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Reroutes of several flows, e.g. the ones affected by the same ISL failure. The paths of all of them are computed
+ * over the same network view, the reroutes themselves are performed independently.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class FlowRerouteBatchRequest extends CommandData {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Reroutes in the order of priority.
+     */
+    @JsonProperty("reroutes")
+    private List<Reroute> reroutes;
+
+    @JsonCreator
+    public FlowRerouteBatchRequest(@NonNull @JsonProperty("reroutes") List<Reroute> reroutes) {
+        this.reroutes = reroutes;
+    }
+
+    /**
+     * Reroute of a flow, it keeps its own correlation id.
+     */
+    @Value
+    public static class Reroute implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        @JsonProperty("correlation_id")
+        private String correlationId;
+
+        @JsonProperty("request")
+        private FlowRerouteRequest request;
+
+        @JsonCreator
+        public Reroute(@NonNull @JsonProperty("correlation_id") String correlationId,
+                       @NonNull @JsonProperty("request") FlowRerouteRequest request) {
+            this.correlationId = correlationId;
+            this.request = request;
+        }
+    }
+}
@@ -17,14 +17,37 @@ package org.openkilda.messaging.command.flow;
 
 import org.openkilda.messaging.command.CommandData;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
 import lombok.Value;
 
 /**
  * Dump all flows northbound request.
  */
 @Value
+@EqualsAndHashCode(callSuper = false)
 public class FlowsDumpRequest extends CommandData {
+    /**
+     * The flows are dumped in the order of their ids starting after this one, null to start from the first flow.
+     */
+    @JsonProperty("after_flow_id")
+    private String afterFlowId;
+
+    /**
+     * Max number of flows to dump, null to dump all flows.
+     */
+    @JsonProperty("limit")
+    private Integer limit;
 
     public FlowsDumpRequest() {
+        this(null, null);
+    }
+
+    @JsonCreator
+    public FlowsDumpRequest(@JsonProperty("after_flow_id") String afterFlowId,
+                            @JsonProperty("limit") Integer limit) {
+        this.afterFlowId = afterFlowId;
+        this.limit = limit;
     }
 }
@@ -32,6 +32,10 @@ public interface FlowTopologyConfig extends AbstractTopologyConfig {
     @Converter(DurationConverter.class)
     Duration getCommandTransactionExpirationTime();
 
+    @Key("flow.dump.chunk.size")
+    @Default("100")
+    int getFlowDumpChunkSize();
+
     default String getKafkaFlowTopic() {
         return getKafkaTopics().getFlowTopic();
     }
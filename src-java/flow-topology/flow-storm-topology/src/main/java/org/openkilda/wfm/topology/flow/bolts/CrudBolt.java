@@ -29,6 +29,7 @@ import org.openkilda.messaging.command.flow.FlowCreateRequest;
 import org.openkilda.messaging.command.flow.FlowPathSwapRequest;
 import org.openkilda.messaging.command.flow.FlowRerouteRequest;
 import org.openkilda.messaging.command.flow.FlowUpdateRequest;
+import org.openkilda.messaging.command.flow.FlowsDumpRequest;
 import org.openkilda.messaging.command.flow.PeriodicPingCommand;
 import org.openkilda.messaging.command.flow.UpdateFlowPathStatusRequest;
 import org.openkilda.messaging.ctrl.AbstractDumpState;
@@ -114,6 +115,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class CrudBolt extends BaseRichBolt implements ICtrlBolt {
 
@@ -127,6 +129,8 @@ public class CrudBolt extends BaseRichBolt implements ICtrlBolt {
 
     private final FlowResourcesConfig flowResourcesConfig;
 
+    private final int dumpChunkSize;
+
     private transient RepositoryFactory repositoryFactory;
 
     private transient KildaConfigurationRepository kildaConfigurationRepository;
@@ -147,10 +151,11 @@ public class CrudBolt extends BaseRichBolt implements ICtrlBolt {
     private transient OutputCollector outputCollector;
 
     public CrudBolt(PersistenceManager persistenceManager, PathComputerConfig pathComputerConfig,
-                    FlowResourcesConfig flowResourcesConfig) {
+                    FlowResourcesConfig flowResourcesConfig, int dumpChunkSize) {
         this.persistenceManager = persistenceManager;
         this.pathComputerConfig = pathComputerConfig;
         this.flowResourcesConfig = flowResourcesConfig;
+        this.dumpChunkSize = dumpChunkSize;
     }
 
     /**
@@ -652,22 +657,16 @@ public class CrudBolt extends BaseRichBolt implements ICtrlBolt {
     }
 
     private void handleDumpRequest(CommandMessage message, Tuple tuple) {
-        List<FlowData> flows = flowService.getAllFlows();
+        FlowsDumpRequest request = (FlowsDumpRequest) message.getData();
+        List<FlowData> flows = flowService.getAllFlows(request.getAfterFlowId(), request.getLimit());
         logger.debug("Dump flows: found {} items", flows.size());
 
-        String requestId = message.getCorrelationId();
-        if (flows.isEmpty()) {
-            Message response = new ChunkedInfoMessage(null, System.currentTimeMillis(), requestId, requestId,
-                    flows.size());
+        List<FlowReadResponse> responses = flows.stream()
+                .map(flowData -> new FlowReadResponse(flowData.getFlowDto(), null))
+                .collect(Collectors.toList());
+        for (Message response : ChunkedInfoMessage.createChunks(
+                responses, message.getCorrelationId(), dumpChunkSize)) {
             outputCollector.emit(StreamType.RESPONSE.toString(), tuple, new Values(response));
-        } else {
-            int i = 0;
-            for (FlowData flowData : flows) {
-                Message response = new ChunkedInfoMessage(new FlowReadResponse(flowData.getFlowDto(), null),
-                        System.currentTimeMillis(), requestId, i++, flows.size());
-
-                outputCollector.emit(StreamType.RESPONSE.toString(), tuple, new Values(response));
-            }
         }
     }
 
@@ -30,6 +30,7 @@ import org.openkilda.wfm.topology.flow.model.FlowPathsWithEncapsulation;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -67,11 +68,17 @@ public class BaseFlowService {
     }
 
     /**
-     * Fetches all flows without flow groups.
+     * Fetches the flows without flow groups. With the cursor or the limit given, the flows are ordered by id.
+     *
+     * @param afterFlowId the id of the flow to start after, null to start from the first flow.
+     * @param limit max number of flows, null to fetch all flows.
      */
-    public List<FlowData> getFlows() {
+    public List<FlowData> getFlows(String afterFlowId, Integer limit) {
         dashboardLogger.onFlowDump();
-        return flowRepository.findAll().stream()
+        Collection<Flow> flows = afterFlowId == null && limit == null
+                ? flowRepository.findAll()
+                : flowRepository.findPage(afterFlowId, limit != null ? limit : Integer.MAX_VALUE);
+        return flows.stream()
                 .map(FlowMapper.INSTANCE::map)
                 .map(FlowData::new)
                 .collect(Collectors.toList());
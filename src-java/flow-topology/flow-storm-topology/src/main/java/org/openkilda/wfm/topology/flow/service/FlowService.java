@@ -933,12 +933,15 @@ public class FlowService extends BaseFlowService {
     }
 
     /**
-     * Loads all available flows.
+     * Loads the available flows. With the cursor or the limit given, the flows are ordered by id.
+     *
+     * @param afterFlowId the id of the flow to start after, null to start from the first flow.
+     * @param limit max number of flows, null to load all flows.
      */
-    public List<FlowData> getAllFlows() {
+    public List<FlowData> getAllFlows(String afterFlowId, Integer limit) {
         // NB: workaround for an issue with OGM/neo4j, when ClientException 'Unable to load NODE with id' is thrown
         return (List<FlowData>) getReadOperationFailsafe().get(() ->
-                transactionManager.doInTransaction(() -> getFlows())
+                transactionManager.doInTransaction(() -> getFlows(afterFlowId, limit))
         );
     }
 
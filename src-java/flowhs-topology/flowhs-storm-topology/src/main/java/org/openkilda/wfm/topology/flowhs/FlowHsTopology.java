@@ -16,7 +16,9 @@
 package org.openkilda.wfm.topology.flowhs;
 
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.ROUTER_TO_FLOW_CREATE_HUB;
+import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.REROUTE_BATCH_TO_FLOW_REROUTE_HUB;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.ROUTER_TO_FLOW_DELETE_HUB;
+import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.ROUTER_TO_FLOW_REROUTE_BATCH;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.ROUTER_TO_FLOW_REROUTE_HUB;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.ROUTER_TO_FLOW_UPDATE_HUB;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.SPEAKER_WORKER_TO_HUB_CREATE;
@@ -41,6 +43,7 @@ import org.openkilda.wfm.topology.flowhs.bolts.FlowCreateHubBolt;
 import org.openkilda.wfm.topology.flowhs.bolts.FlowCreateHubBolt.FlowCreateConfig;
 import org.openkilda.wfm.topology.flowhs.bolts.FlowDeleteHubBolt;
 import org.openkilda.wfm.topology.flowhs.bolts.FlowDeleteHubBolt.FlowDeleteConfig;
+import org.openkilda.wfm.topology.flowhs.bolts.FlowRerouteBatchBolt;
 import org.openkilda.wfm.topology.flowhs.bolts.FlowRerouteHubBolt;
 import org.openkilda.wfm.topology.flowhs.bolts.FlowRerouteHubBolt.FlowRerouteConfig;
 import org.openkilda.wfm.topology.flowhs.bolts.FlowUpdateHubBolt;
@@ -77,6 +80,8 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
         PersistenceManager persistenceManager =
                 PersistenceProvider.getInstance().createPersistenceManager(configurationProvider);
 
+        flowRerouteBatch(tb, persistenceManager);
+
         flowCreateHub(tb, persistenceManager);
         flowUpdateHub(tb, persistenceManager);
         flowRerouteHub(tb, persistenceManager);
@@ -93,6 +98,7 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
 
         northboundOutput(tb);
         pingOutput(tb);
+        rerouteOutput(tb);
 
         history(tb, persistenceManager);
 
@@ -110,6 +116,14 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
                 .shuffleGrouping(ComponentId.FLOW_SPOUT.name());
     }
 
+    private void flowRerouteBatch(TopologyBuilder topologyBuilder, PersistenceManager persistenceManager) {
+        PathComputerConfig pathComputerConfig = configurationProvider.getConfiguration(PathComputerConfig.class);
+        FlowRerouteBatchBolt batchBolt = new FlowRerouteBatchBolt(persistenceManager, pathComputerConfig);
+        topologyBuilder.setBolt(ComponentId.FLOW_REROUTE_BATCH_BOLT.name(), batchBolt, parallelism)
+                .fieldsGrouping(ComponentId.FLOW_ROUTER_BOLT.name(), ROUTER_TO_FLOW_REROUTE_BATCH.name(),
+                        FIELDS_KEY);
+    }
+
     private void flowCreateHub(TopologyBuilder topologyBuilder, PersistenceManager persistenceManager) {
         int hubTimeout = (int) TimeUnit.SECONDS.toMillis(topologyConfig.getCreateHubTimeoutSeconds());
 
@@ -170,6 +184,7 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
                 .autoAck(true)
                 .timeoutMs(hubTimeout)
                 .requestSenderComponent(ComponentId.FLOW_ROUTER_BOLT.name())
+                .batchSenderComponent(ComponentId.FLOW_REROUTE_BATCH_BOLT.name())
                 .workerComponent(ComponentId.FLOW_REROUTE_SPEAKER_WORKER.name())
                 .build();
 
@@ -179,6 +194,8 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
                 flowResourcesConfig);
         topologyBuilder.setBolt(ComponentId.FLOW_REROUTE_HUB.name(), hubBolt, parallelism)
                 .fieldsGrouping(ComponentId.FLOW_ROUTER_BOLT.name(), ROUTER_TO_FLOW_REROUTE_HUB.name(), FLOW_FIELD)
+                .fieldsGrouping(ComponentId.FLOW_REROUTE_BATCH_BOLT.name(), REROUTE_BATCH_TO_FLOW_REROUTE_HUB.name(),
+                        FLOW_FIELD)
                 .directGrouping(ComponentId.FLOW_REROUTE_SPEAKER_WORKER.name(),
                         Stream.SPEAKER_WORKER_TO_HUB_REROUTE.name())
                 .directGrouping(CoordinatorBolt.ID);
@@ -324,6 +341,15 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
                 .shuffleGrouping(ComponentId.FLOW_DELETE_HUB.name(), Stream.HUB_TO_PING_SENDER.name());
     }
 
+    private void rerouteOutput(TopologyBuilder topologyBuilder) {
+        KafkaBolt rerouteKafkaBolt = buildKafkaBolt(getConfig().getKafkaTopoReroutePathsTopic());
+        topologyBuilder.setBolt(ComponentId.REROUTE_SENDER.name(), rerouteKafkaBolt, parallelism)
+                .shuffleGrouping(ComponentId.FLOW_CREATE_HUB.name(), Stream.HUB_TO_REROUTE_SENDER.name())
+                .shuffleGrouping(ComponentId.FLOW_UPDATE_HUB.name(), Stream.HUB_TO_REROUTE_SENDER.name())
+                .shuffleGrouping(ComponentId.FLOW_REROUTE_HUB.name(), Stream.HUB_TO_REROUTE_SENDER.name())
+                .shuffleGrouping(ComponentId.FLOW_DELETE_HUB.name(), Stream.HUB_TO_REROUTE_SENDER.name());
+    }
+
     private void history(TopologyBuilder topologyBuilder, PersistenceManager persistenceManager) {
         HistoryBolt historyBolt = new HistoryBolt(persistenceManager);
         topologyBuilder.setBolt(ComponentId.HISTORY_BOLT.name(), historyBolt, parallelism)
@@ -338,6 +364,7 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
         SPEAKER_WORKER_SPOUT("fl.worker.spout"),
 
         FLOW_ROUTER_BOLT("flow.router.bolt"),
+        FLOW_REROUTE_BATCH_BOLT("flow.reroute.batch.bolt"),
         FLOW_CREATE_HUB("flow.create.hub.bolt"),
         FLOW_UPDATE_HUB("flow.update.hub.bolt"),
         FLOW_REROUTE_HUB("flow.reroute.hub.bolt"),
@@ -350,6 +377,7 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
 
         NB_RESPONSE_SENDER("nb.kafka.bolt"),
         FLOW_PING_SENDER("ping.kafka.bolt"),
+        REROUTE_SENDER("reroute.kafka.bolt"),
 
         SPEAKER_REQUEST_SENDER("speaker.kafka.bolt"),
 
@@ -373,6 +401,8 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
         ROUTER_TO_FLOW_UPDATE_HUB,
         ROUTER_TO_FLOW_REROUTE_HUB,
         ROUTER_TO_FLOW_DELETE_HUB,
+        ROUTER_TO_FLOW_REROUTE_BATCH,
+        REROUTE_BATCH_TO_FLOW_REROUTE_HUB,
 
         HUB_TO_SPEAKER_WORKER,
         HUB_TO_HISTORY_BOLT,
@@ -384,7 +414,8 @@ public class FlowHsTopology extends AbstractTopology<FlowHsTopologyConfig> {
 
         SPEAKER_WORKER_REQUEST_SENDER,
         HUB_TO_NB_RESPONSE_SENDER,
-        HUB_TO_PING_SENDER
+        HUB_TO_PING_SENDER,
+        HUB_TO_REROUTE_SENDER
     }
 
     /**
@@ -41,6 +41,10 @@ public interface FlowHsTopologyConfig extends AbstractTopologyConfig {
         return getKafkaTopics().getPingTopic();
     }
 
+    default String getKafkaTopoReroutePathsTopic() {
+        return getKafkaTopics().getTopoReroutePathsTopic();
+    }
+
     @Key("flow.hub.transaction.retries")
     @Default("3")
     int getHubTransactionRetries();
@@ -0,0 +1,93 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.flowhs.bolts;
+
+import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.REROUTE_BATCH_TO_FLOW_REROUTE_HUB;
+import static org.openkilda.wfm.topology.utils.KafkaRecordTranslator.FIELD_ID_PAYLOAD;
+
+import org.openkilda.messaging.command.flow.FlowRerouteBatchRequest;
+import org.openkilda.messaging.command.flow.FlowRerouteRequest;
+import org.openkilda.pce.AvailableNetworkFactory;
+import org.openkilda.pce.PathComputer;
+import org.openkilda.pce.PathComputerConfig;
+import org.openkilda.pce.PathComputerFactory;
+import org.openkilda.pce.PathPair;
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.wfm.AbstractBolt;
+import org.openkilda.wfm.CommandContext;
+import org.openkilda.wfm.error.PipelineException;
+import org.openkilda.wfm.topology.flowhs.service.FlowRerouteBatchService;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.storm.topology.OutputFieldsDeclarer;
+import org.apache.storm.tuple.Tuple;
+import org.apache.storm.tuple.Values;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Computes the paths of a reroute batch and passes each reroute of the batch to the reroute hub along with its
+ * precomputed path. Kept apart from {@link RouterBolt}, so the requests of other operations don't wait for the path
+ * computation of the batch.
+ */
+@Slf4j
+public class FlowRerouteBatchBolt extends AbstractBolt {
+    private final PersistenceManager persistenceManager;
+    private final PathComputerConfig pathComputerConfig;
+
+    private transient FlowRerouteBatchService rerouteBatchService;
+
+    public FlowRerouteBatchBolt(PersistenceManager persistenceManager, PathComputerConfig pathComputerConfig) {
+        this.persistenceManager = persistenceManager;
+        this.pathComputerConfig = pathComputerConfig;
+    }
+
+    @Override
+    protected void init() {
+        AvailableNetworkFactory availableNetworkFactory =
+                new AvailableNetworkFactory(pathComputerConfig, persistenceManager.getRepositoryFactory());
+        PathComputer pathComputer =
+                new PathComputerFactory(pathComputerConfig, availableNetworkFactory).getPathComputer();
+        rerouteBatchService = new FlowRerouteBatchService(persistenceManager, pathComputer);
+    }
+
+    @Override
+    protected void handleInput(Tuple input) throws PipelineException {
+        FlowRerouteBatchRequest batch = pullValue(input, FIELD_ID_PAYLOAD, FlowRerouteBatchRequest.class);
+        List<FlowRerouteBatchRequest.Reroute> reroutes = batch.getReroutes();
+        log.info("Received a batch of {} reroute requests. MessageId {}", reroutes.size(), input.getMessageId());
+
+        Map<String, PathPair> paths = rerouteBatchService.computePaths(reroutes.stream()
+                .map(reroute -> reroute.getRequest().getFlowId())
+                .collect(Collectors.toList()));
+
+        // each reroute goes on with its own key and context, exactly like a standalone reroute request
+        for (FlowRerouteBatchRequest.Reroute reroute : reroutes) {
+            FlowRerouteRequest rerouteRequest = reroute.getRequest();
+            String flowId = rerouteRequest.getFlowId();
+            Values values = new Values(reroute.getCorrelationId(), flowId, rerouteRequest, paths.get(flowId),
+                    new CommandContext(reroute.getCorrelationId()));
+            emit(REROUTE_BATCH_TO_FLOW_REROUTE_HUB.name(), input, values);
+        }
+    }
+
+    @Override
+    public void declareOutputFields(OutputFieldsDeclarer declarer) {
+        declarer.declareStream(REROUTE_BATCH_TO_FLOW_REROUTE_HUB.name(), RouterBolt.REROUTE_STREAM_FIELDS);
+    }
+}
@@ -18,17 +18,23 @@ package org.openkilda.wfm.topology.flowhs.bolts;
 import static org.openkilda.messaging.Utils.CORRELATION_ID;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.HUB_TO_HISTORY_BOLT;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.HUB_TO_NB_RESPONSE_SENDER;
+import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.HUB_TO_REROUTE_SENDER;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.HUB_TO_SPEAKER_WORKER;
+import static org.openkilda.wfm.topology.flowhs.bolts.RouterBolt.PRECOMPUTED_PATHS_FIELD;
 import static org.openkilda.wfm.topology.utils.KafkaRecordTranslator.FIELD_ID_PAYLOAD;
 
 import org.openkilda.floodlight.api.request.FlowSegmentRequest;
 import org.openkilda.floodlight.api.response.SpeakerFlowSegmentResponse;
 import org.openkilda.messaging.Message;
+import org.openkilda.messaging.command.CommandMessage;
 import org.openkilda.messaging.command.flow.FlowRerouteRequest;
+import org.openkilda.messaging.command.reroute.FlowPathsChanged;
 import org.openkilda.pce.AvailableNetworkFactory;
 import org.openkilda.pce.PathComputer;
 import org.openkilda.pce.PathComputerConfig;
 import org.openkilda.pce.PathComputerFactory;
+import org.openkilda.pce.PathPair;
+import org.openkilda.pce.cache.NetworkCache;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.CommandContext;
 import org.openkilda.wfm.error.PipelineException;
@@ -58,6 +64,7 @@ public class FlowRerouteHubBolt extends HubBolt implements FlowRerouteHubCarrier
     private final FlowResourcesConfig flowResourcesConfig;
 
     private transient FlowRerouteService service;
+    private transient NetworkCache networkCache;
     private String currentKey;
 
     public FlowRerouteHubBolt(FlowRerouteConfig config, PersistenceManager persistenceManager,
@@ -72,24 +79,43 @@ public class FlowRerouteHubBolt extends HubBolt implements FlowRerouteHubCarrier
 
     @Override
     protected void init() {
-        AvailableNetworkFactory availableNetworkFactory =
-                new AvailableNetworkFactory(pathComputerConfig, persistenceManager.getRepositoryFactory());
+        if (pathComputerConfig.isNetworkCacheEnabled()) {
+            networkCache = new NetworkCache(pathComputerConfig, persistenceManager.getRepositoryFactory());
+        }
+        AvailableNetworkFactory availableNetworkFactory = new AvailableNetworkFactory(
+                pathComputerConfig, persistenceManager.getRepositoryFactory(), networkCache);
         PathComputer pathComputer =
                 new PathComputerFactory(pathComputerConfig, availableNetworkFactory).getPathComputer();
 
-        FlowResourcesManager resourcesManager = new FlowResourcesManager(persistenceManager, flowResourcesConfig);
+        FlowResourcesManager resourcesManager =
+                new FlowResourcesManager(persistenceManager, flowResourcesConfig, getComponentId());
         service = new FlowRerouteService(this, persistenceManager, pathComputer, resourcesManager,
                 config.getTransactionRetriesLimit(), config.getPathAllocationRetriesLimit(),
                 config.getPathAllocationRetryDelay(), config.getSpeakerCommandRetriesLimit());
     }
 
+    @Override
+    protected void handleInput(Tuple input) throws Exception {
+        if (input.getSourceComponent().equals(config.getBatchSenderComponent())) {
+            // the reroutes of a batch are regular requests, which come with the precomputed paths
+            registerCallback(pullKey(input));
+            onRequest(input);
+        } else {
+            super.handleInput(input);
+        }
+    }
+
     @Override
     protected void onRequest(Tuple input) throws PipelineException {
         currentKey = pullKey(input);
         FlowRerouteRequest request = pullValue(input, FIELD_ID_PAYLOAD, FlowRerouteRequest.class);
+        PathPair primaryPathHint = pullValue(input, PRECOMPUTED_PATHS_FIELD, PathPair.class);
+        if (networkCache != null) {
+            networkCache.invalidateOnChange(request.getAffectedIsl());
+        }
         FlowRerouteFact reroute = new FlowRerouteFact(
                 currentKey, getCommandContext(), request.getFlowId(), request.getAffectedIsl(), request.isForce(),
-                request.isEffectivelyDown(), request.getReason(), 0);
+                request.isEffectivelyDown(), request.getReason(), 0, primaryPathHint);
         service.handleRequest(reroute);
     }
 
@@ -130,6 +156,13 @@ public class FlowRerouteHubBolt extends HubBolt implements FlowRerouteHubCarrier
         log.info("Not implemented for re-route operation. Skipping for the flow {}", flowId);
     }
 
+    @Override
+    public void sendFlowPathsChangedNotification(String flowId) {
+        Message message = new CommandMessage(new FlowPathsChanged(flowId), getCommandContext().getCreateTime(),
+                getCommandContext().getCorrelationId());
+        emitWithContext(Stream.HUB_TO_REROUTE_SENDER.name(), getCurrentTuple(), new Values(currentKey, message));
+    }
+
     @Override
     public void cancelTimeoutCallback(String key) {
         cancelCallback(key);
@@ -187,6 +220,7 @@ public class FlowRerouteHubBolt extends HubBolt implements FlowRerouteHubCarrier
         declarer.declareStream(HUB_TO_SPEAKER_WORKER.name(), MessageKafkaTranslator.STREAM_FIELDS);
         declarer.declareStream(HUB_TO_NB_RESPONSE_SENDER.name(), MessageKafkaTranslator.STREAM_FIELDS);
         declarer.declareStream(HUB_TO_HISTORY_BOLT.name(), MessageKafkaTranslator.STREAM_FIELDS);
+        declarer.declareStream(HUB_TO_REROUTE_SENDER.name(), MessageKafkaTranslator.STREAM_FIELDS);
     }
 
     @Getter
@@ -195,12 +229,15 @@ public class FlowRerouteHubBolt extends HubBolt implements FlowRerouteHubCarrier
         private int pathAllocationRetriesLimit;
         private int pathAllocationRetryDelay;
         private int speakerCommandRetriesLimit;
+        private String batchSenderComponent;
 
         @Builder(builderMethodName = "flowRerouteBuilder", builderClassName = "flowRerouteBuild")
-        public FlowRerouteConfig(String requestSenderComponent, String workerComponent, int timeoutMs, boolean autoAck,
+        public FlowRerouteConfig(String requestSenderComponent, String batchSenderComponent, String workerComponent,
+                                 int timeoutMs, boolean autoAck,
                                  int transactionRetriesLimit, int pathAllocationRetriesLimit,
                                  int pathAllocationRetryDelay, int speakerCommandRetriesLimit) {
             super(requestSenderComponent, workerComponent, timeoutMs, autoAck);
+            this.batchSenderComponent = batchSenderComponent;
             this.transactionRetriesLimit = transactionRetriesLimit;
             this.pathAllocationRetriesLimit = pathAllocationRetriesLimit;
             this.pathAllocationRetryDelay = pathAllocationRetryDelay;
@@ -18,6 +18,7 @@ package org.openkilda.wfm.topology.flowhs.bolts;
 import static java.lang.String.format;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.ROUTER_TO_FLOW_CREATE_HUB;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.ROUTER_TO_FLOW_DELETE_HUB;
+import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.ROUTER_TO_FLOW_REROUTE_BATCH;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.ROUTER_TO_FLOW_REROUTE_HUB;
 import static org.openkilda.wfm.topology.flowhs.FlowHsTopology.Stream.ROUTER_TO_FLOW_UPDATE_HUB;
 import static org.openkilda.wfm.topology.utils.KafkaRecordTranslator.FIELD_ID_KEY;
@@ -27,6 +28,7 @@ import org.openkilda.messaging.MessageData;
 import org.openkilda.messaging.command.CommandMessage;
 import org.openkilda.messaging.command.flow.FlowDeleteRequest;
 import org.openkilda.messaging.command.flow.FlowRequest;
+import org.openkilda.messaging.command.flow.FlowRerouteBatchRequest;
 import org.openkilda.messaging.command.flow.FlowRerouteRequest;
 import org.openkilda.wfm.AbstractBolt;
 
@@ -41,8 +43,13 @@ import org.apache.storm.tuple.Values;
 public class RouterBolt extends AbstractBolt {
 
     public static final String FLOW_ID_FIELD = "flow-id";
+    public static final String PRECOMPUTED_PATHS_FIELD = "precomputed-paths";
     private static final Fields STREAM_FIELDS =
             new Fields(FIELD_ID_KEY, FLOW_ID_FIELD, FIELD_ID_PAYLOAD, FIELD_ID_CONTEXT);
+    public static final Fields REROUTE_STREAM_FIELDS =
+            new Fields(FIELD_ID_KEY, FLOW_ID_FIELD, FIELD_ID_PAYLOAD, PRECOMPUTED_PATHS_FIELD, FIELD_ID_CONTEXT);
+    private static final Fields REROUTE_BATCH_STREAM_FIELDS =
+            new Fields(FIELD_ID_KEY, FIELD_ID_PAYLOAD, FIELD_ID_CONTEXT);
 
     @Override
     protected void handleInput(Tuple input) {
@@ -77,8 +84,12 @@ public class RouterBolt extends AbstractBolt {
             FlowRerouteRequest rerouteRequest = (FlowRerouteRequest) data;
             log.debug("Received a reroute request {}/{} with key {}. MessageId {}", rerouteRequest.getFlowId(),
                     rerouteRequest.getAffectedIsl(), key, input.getMessageId());
-            Values values = new Values(key, rerouteRequest.getFlowId(), data);
+            Values values = new Values(key, rerouteRequest.getFlowId(), data, null);
             emitWithContext(ROUTER_TO_FLOW_REROUTE_HUB.name(), input, values);
+        } else if (data instanceof FlowRerouteBatchRequest) {
+            log.debug("Received a batch of {} reroute requests with key {}. MessageId {}",
+                    ((FlowRerouteBatchRequest) data).getReroutes().size(), key, input.getMessageId());
+            emitWithContext(ROUTER_TO_FLOW_REROUTE_BATCH.name(), input, new Values(key, data));
         } else if (data instanceof FlowDeleteRequest) {
             FlowDeleteRequest deleteRequest = (FlowDeleteRequest) data;
             log.debug("Received a delete request {} with key {}. MessageId {}", deleteRequest.getFlowId(),
@@ -94,7 +105,8 @@ public class RouterBolt extends AbstractBolt {
     public void declareOutputFields(OutputFieldsDeclarer declarer) {
         declarer.declareStream(ROUTER_TO_FLOW_CREATE_HUB.name(), STREAM_FIELDS);
         declarer.declareStream(ROUTER_TO_FLOW_UPDATE_HUB.name(), STREAM_FIELDS);
-        declarer.declareStream(ROUTER_TO_FLOW_REROUTE_HUB.name(), STREAM_FIELDS);
+        declarer.declareStream(ROUTER_TO_FLOW_REROUTE_HUB.name(), REROUTE_STREAM_FIELDS);
+        declarer.declareStream(ROUTER_TO_FLOW_REROUTE_BATCH.name(), REROUTE_BATCH_STREAM_FIELDS);
         declarer.declareStream(ROUTER_TO_FLOW_DELETE_HUB.name(), STREAM_FIELDS);
     }
 }
@@ -51,7 +51,10 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.FailsafeException;
 import net.jodah.failsafe.RetryPolicy;
+import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -71,6 +74,9 @@ public abstract class BaseResourceAllocationAction<T extends FlowPathSwappingFsm
     protected final FlowPathBuilder flowPathBuilder;
     protected final FlowOperationsDashboardLogger dashboardLogger;
 
+    // The paths created by the current allocation transaction, the path computer is notified once it's committed.
+    private final List<Pair<Flow, PathPair>> pathsPendingCommit = new ArrayList<>();
+
     public BaseResourceAllocationAction(PersistenceManager persistenceManager, int transactionRetriesLimit,
                                         int pathAllocationRetriesLimit, int pathAllocationRetryDelay,
                                         PathComputer pathComputer, FlowResourcesManager resourcesManager,
@@ -176,11 +182,21 @@ public abstract class BaseResourceAllocationAction<T extends FlowPathSwappingFsm
         RetryPolicy txRetryPolicy = new RetryPolicy()
                 .retryOn(RecoverablePersistenceException.class)
                 .withMaxRetries(transactionRetriesLimit);
+        pathsPendingCommit.clear();
         try {
-            persistenceManager.getTransactionManager().doInTransaction(txRetryPolicy, () -> allocate(stateMachine));
+            persistenceManager.getTransactionManager().doInTransaction(txRetryPolicy, () -> {
+                // a retried transaction starts over, the paths of the rolled back one are not allocated
+                pathsPendingCommit.clear();
+                allocate(stateMachine);
+            });
         } catch (FailsafeException ex) {
             throw ex.getCause();
         }
+
+        for (Pair<Flow, PathPair> allocated : pathsPendingCommit) {
+            pathComputer.onPathAllocated(allocated.getLeft(), allocated.getRight());
+        }
+        pathsPendingCommit.clear();
     }
 
     protected boolean isNotSamePath(PathPair pathPair, FlowPathPair flowPathPair) {
@@ -210,6 +226,7 @@ public abstract class BaseResourceAllocationAction<T extends FlowPathSwappingFsm
             updateIslsForFlowPath(newForwardPath, pathsToReuseBandwidth.getForward());
             updateIslsForFlowPath(newReversePath, pathsToReuseBandwidth.getReverse());
         });
+        pathsPendingCommit.add(Pair.of(flow, pathPair));
 
         return newFlowPaths;
     }
@@ -17,6 +17,7 @@ package org.openkilda.wfm.topology.flowhs.fsm.reroute;
 
 import org.openkilda.floodlight.api.response.SpeakerFlowSegmentResponse;
 import org.openkilda.model.IslEndpoint;
+import org.openkilda.pce.PathPair;
 import org.openkilda.wfm.topology.flowhs.fsm.common.FlowContext;
 
 import lombok.Builder;
@@ -33,16 +34,18 @@ public class FlowRerouteContext extends FlowContext {
     private boolean forceReroute;
     private boolean effectivelyDown;
     private String rerouteReason;
+    private PathPair primaryPathHint;
 
     @Builder
     public FlowRerouteContext(
             SpeakerFlowSegmentResponse speakerFlowResponse, String flowId, Set<IslEndpoint> affectedIsl,
-            boolean forceReroute, boolean effectivelyDown, String rerouteReason) {
+            boolean forceReroute, boolean effectivelyDown, String rerouteReason, PathPair primaryPathHint) {
         super(speakerFlowResponse);
         this.flowId = flowId;
         this.affectedIsl = affectedIsl;
         this.forceReroute = forceReroute;
         this.effectivelyDown = effectivelyDown;
         this.rerouteReason = rerouteReason;
+        this.primaryPathHint = primaryPathHint;
     }
 }
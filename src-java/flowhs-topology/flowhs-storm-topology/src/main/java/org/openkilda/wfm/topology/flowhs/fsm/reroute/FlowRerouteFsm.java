@@ -23,6 +23,7 @@ import org.openkilda.model.FlowEncapsulationType;
 import org.openkilda.model.FlowStatus;
 import org.openkilda.model.IslEndpoint;
 import org.openkilda.pce.PathComputer;
+import org.openkilda.pce.PathPair;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.CommandContext;
 import org.openkilda.wfm.share.flow.resources.FlowResourcesManager;
@@ -94,6 +95,7 @@ public final class FlowRerouteFsm extends FlowPathSwappingFsm<FlowRerouteFsm, St
     private String rerouteReason;
     private Set<IslEndpoint> affectedIsls;
     private boolean forceReroute;
+    private PathPair primaryPathHint;
 
     public FlowRerouteFsm(CommandContext commandContext, FlowRerouteHubCarrier carrier, String flowId,
                           Integer rerouteCounter) {
@@ -56,6 +56,10 @@ public class AllocatePrimaryResourcesAction extends
         String flowId = stateMachine.getFlowId();
         Flow flow = getFlow(flowId);
 
+        // The hint is taken once, the retries of the allocation compute the path on their own.
+        PathPair primaryPathHint = stateMachine.getPrimaryPathHint();
+        stateMachine.setPrimaryPathHint(null);
+
         if (stateMachine.getNewEncapsulationType() != null) {
             // This is for PCE to use proper (updated) encapsulation type.
             flow.setEncapsulationType(stateMachine.getNewEncapsulationType());
@@ -66,8 +70,14 @@ public class AllocatePrimaryResourcesAction extends
                 .reverse(flow.getReversePath())
                 .build();
 
-        log.debug("Finding a new primary path for flow {}", flowId);
-        PathPair potentialPath = pathComputer.getPath(flow, flow.getFlowPathIds());
+        PathPair potentialPath;
+        if (isApplicableHint(primaryPathHint, flow, stateMachine)) {
+            log.debug("Using the precomputed primary path for flow {}", flowId);
+            potentialPath = primaryPathHint;
+        } else {
+            log.debug("Finding a new primary path for flow {}", flowId);
+            potentialPath = pathComputer.getPath(flow, flow.getFlowPathIds());
+        }
         boolean newPathFound = isNotSamePath(potentialPath, oldPaths);
         if (newPathFound || stateMachine.isRecreateIfSamePath()) {
             if (!newPathFound) {
@@ -90,6 +100,13 @@ public class AllocatePrimaryResourcesAction extends
         }
     }
 
+    private boolean isApplicableHint(PathPair hint, Flow flow, FlowRerouteFsm stateMachine) {
+        return hint != null
+                && stateMachine.getNewEncapsulationType() == null
+                && hint.getForward().getSrcSwitchId().equals(flow.getSrcSwitch().getSwitchId())
+                && hint.getForward().getDestSwitchId().equals(flow.getDestSwitch().getSwitchId());
+    }
+
     @Override
     protected void onFailure(FlowRerouteFsm stateMachine) {
         stateMachine.setNewPrimaryResources(null);
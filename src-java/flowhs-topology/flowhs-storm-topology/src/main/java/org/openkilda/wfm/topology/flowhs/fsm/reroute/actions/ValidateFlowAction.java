@@ -140,6 +140,7 @@ public class ValidateFlowAction extends NbTrackableAction<FlowRerouteFsm, State,
                 rerouteReason == null ? null : "Reason: " + rerouteReason);
         stateMachine.setRerouteReason(rerouteReason);
         stateMachine.setAffectedIsls(context.getAffectedIsl());
+        stateMachine.setPrimaryPathHint(context.getPrimaryPathHint());
         stateMachine.setForceReroute(context.isForceReroute());
 
         return Optional.empty();
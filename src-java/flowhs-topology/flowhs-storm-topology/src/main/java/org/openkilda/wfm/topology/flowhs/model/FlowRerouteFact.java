@@ -16,6 +16,7 @@
 package org.openkilda.wfm.topology.flowhs.model;
 
 import org.openkilda.model.IslEndpoint;
+import org.openkilda.pce.PathPair;
 import org.openkilda.wfm.CommandContext;
 
 import lombok.Value;
@@ -33,6 +34,10 @@ public class FlowRerouteFact {
     private boolean effectivelyDown;
     private String rerouteReason;
     private int rerouteCounter;
+    /**
+     * Primary path computed in advance, e.g. for the batch of reroutes. It is a hint only, can be null.
+     */
+    private PathPair primaryPathHint;
 
     public FlowRerouteFact(
             String key, CommandContext commandContext, String flowId, Set<IslEndpoint> affectedIsl,
@@ -43,6 +48,14 @@ public class FlowRerouteFact {
     public FlowRerouteFact(
             String key, CommandContext commandContext, String flowId, Set<IslEndpoint> affectedIsl,
             boolean forceReroute, boolean effectivelyDown, String rerouteReason, int rerouteCounter) {
+        this(key, commandContext, flowId, affectedIsl, forceReroute, effectivelyDown, rerouteReason, rerouteCounter,
+                null);
+    }
+
+    public FlowRerouteFact(
+            String key, CommandContext commandContext, String flowId, Set<IslEndpoint> affectedIsl,
+            boolean forceReroute, boolean effectivelyDown, String rerouteReason, int rerouteCounter,
+            PathPair primaryPathHint) {
         this.key = key;
         this.commandContext = commandContext;
         this.flowId = flowId;
@@ -57,5 +70,6 @@ public class FlowRerouteFact {
         this.effectivelyDown = effectivelyDown;
         this.rerouteReason = rerouteReason;
         this.rerouteCounter = rerouteCounter;
+        this.primaryPathHint = primaryPathHint;
     }
 }
@@ -152,6 +152,7 @@ public class FlowCreateService {
             fsms.remove(key);
 
             carrier.cancelTimeoutCallback(key);
+            carrier.sendFlowPathsChangedNotification(fsm.getFlowId());
         }
     }
 }
@@ -140,6 +140,7 @@ public class FlowDeleteService {
             fsms.remove(key);
 
             carrier.cancelTimeoutCallback(key);
+            carrier.sendFlowPathsChangedNotification(fsm.getFlowId());
         }
     }
 }
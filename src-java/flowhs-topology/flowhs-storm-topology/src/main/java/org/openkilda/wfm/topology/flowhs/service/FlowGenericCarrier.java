@@ -36,4 +36,10 @@ public interface FlowGenericCarrier {
      * @param enabled flag
      */
     void sendPeriodicPingNotification(String flowId, boolean enabled);
+
+    /**
+     * Notifies the reroute topology that the paths of the flow could be changed.
+     * @param flowId flow id
+     */
+    void sendFlowPathsChangedNotification(String flowId);
 }
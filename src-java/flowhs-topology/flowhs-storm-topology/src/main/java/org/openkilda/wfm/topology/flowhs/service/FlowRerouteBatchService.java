@@ -0,0 +1,76 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.flowhs.service;
+
+import org.openkilda.model.Flow;
+import org.openkilda.pce.BatchPathComputationResult;
+import org.openkilda.pce.PathComputer;
+import org.openkilda.pce.PathPair;
+import org.openkilda.pce.exception.RecoverableException;
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.persistence.repositories.FlowRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the primary paths for a batch of reroutes over the same view of the network. The paths are only hints for
+ * the reroute FSMs: each reroute still allocates the resources on its own and falls back to the regular path
+ * computation if the hint can't be used.
+ */
+@Slf4j
+public class FlowRerouteBatchService {
+    private final FlowRepository flowRepository;
+    private final PathComputer pathComputer;
+
+    public FlowRerouteBatchService(PersistenceManager persistenceManager, PathComputer pathComputer) {
+        this.flowRepository = persistenceManager.getRepositoryFactory().createFlowRepository();
+        this.pathComputer = pathComputer;
+    }
+
+    /**
+     * Computes the paths of the flows.
+     *
+     * @param flowIds ids of the flows in the order of priority.
+     * @return the paths of the routed flows keyed by flow id, the unknown and unroutable flows are absent.
+     */
+    public Map<String, PathPair> computePaths(Collection<String> flowIds) {
+        List<Flow> flows = new ArrayList<>(flowIds.size());
+        for (String flowId : flowIds) {
+            flowRepository.findById(flowId).ifPresent(flows::add);
+        }
+        if (flows.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            BatchPathComputationResult result = pathComputer.getPaths(flows);
+            if (!result.getUnroutableFlows().isEmpty()) {
+                log.info("No paths were found for {} of {} flows in the reroute batch: {}",
+                        result.getUnroutableFlows().size(), flows.size(), result.getUnroutableFlows().keySet());
+            }
+            return result.getPaths();
+        } catch (RecoverableException e) {
+            log.warn("Failed to compute paths for the reroute batch, each flow will compute its own path", e);
+            return Collections.emptyMap();
+        }
+    }
+}
@@ -173,6 +173,7 @@ public class FlowRerouteService {
                 .forceReroute(reroute.isForceReroute())
                 .effectivelyDown(reroute.isEffectivelyDown())
                 .rerouteReason(reroute.getRerouteReason())
+                .primaryPathHint(reroute.getPrimaryPathHint())
                 .build();
         fsmExecutor.fire(fsm, Event.NEXT, context);
 
@@ -198,6 +199,7 @@ public class FlowRerouteService {
         if (fsm.isTerminated()) {
             log.debug("FSM with key {} is finished with state {}", key, fsm.getCurrentState());
             performHousekeeping(fsm.getFlowId(), key);
+            carrier.sendFlowPathsChangedNotification(fsm.getFlowId());
 
             // use some sort of recursion here, because iterative way require too complex scheme to clean/use retryQueue
             retryManager.read(fsm.getFlowId()).ifPresent(carrier::injectPostponedRequest);
@@ -161,6 +161,7 @@ public class FlowUpdateService {
             fsms.remove(key);
 
             carrier.cancelTimeoutCallback(key);
+            carrier.sendFlowPathsChangedNotification(fsm.getFlowId());
         }
     }
 }
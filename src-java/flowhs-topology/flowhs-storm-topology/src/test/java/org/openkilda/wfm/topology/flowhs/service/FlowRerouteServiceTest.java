@@ -222,6 +222,29 @@ public class FlowRerouteServiceTest extends AbstractFlowTest {
         verify(carrier, times(1)).sendNorthboundResponse(any());
     }
 
+    @Test
+    public void shouldUsePrimaryPathHintOnlyOnce()
+            throws RecoverableException, UnroutableFlowException, ResourceAllocationException {
+        Flow flow = build2SwitchFlow();
+        when(pathComputer.getPath(any(), any())).thenReturn(build2SwitchPathPair(2, 3));
+        buildFlowResources();
+
+        when(islRepository.updateAvailableBandwidth(any(), anyInt(), any(), anyInt(), anyLong()))
+                .thenThrow(ResourceAllocationException.class);
+
+        rerouteService.handleRequest(new FlowRerouteFact(
+                "test_key", commandContext, FLOW_ID, null, false, false, null, 0, build2SwitchPathPair(2, 3)));
+
+        assertEquals(FlowStatus.UP, flow.getStatus());
+        assertEquals(OLD_FORWARD_FLOW_PATH, flow.getForwardPathId());
+        assertEquals(OLD_REVERSE_FLOW_PATH, flow.getReversePathId());
+        // the first attempt takes the hint, the retries compute the path
+        verify(pathComputer, times(PATH_ALLOCATION_RETRIES_LIMIT)).getPath(any(), any());
+        verify(flowResourcesManager, times(PATH_ALLOCATION_RETRIES_LIMIT + 1)).allocateFlowResources(any());
+        verify(carrier, never()).sendSpeakerRequest(any());
+        verify(carrier, times(1)).sendNorthboundResponse(any());
+    }
+
     @Test
     public void shouldFailRerouteFlowIfNoResourcesAvailable()
             throws RecoverableException, UnroutableFlowException, ResourceAllocationException {
@@ -52,6 +52,16 @@ public interface IslLatencyTopologyConfig extends AbstractTopologyConfig {
     @Min(1)
     int getLatencyUpdateTimeRange();
 
+    @Key("latency.update.flush.interval") // how often scheduled latency updates are written to neo4j in seconds
+    @Default("5")
+    @Min(1)
+    int getLatencyUpdateFlushInterval();
+
+    @Key("latency.records.capacity") // max count of latency records stored for each ISL
+    @Default("1024")
+    @Min(1)
+    int getLatencyRecordsCapacity();
+
     @Key("latency.discovery.interval.multiplier")
     @Default("3")
     @Min(1)
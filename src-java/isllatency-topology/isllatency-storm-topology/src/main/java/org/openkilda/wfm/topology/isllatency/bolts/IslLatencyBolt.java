@@ -31,21 +31,29 @@ import org.openkilda.wfm.topology.AbstractTopology;
 import org.openkilda.wfm.topology.isllatency.service.IslLatencyService;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.storm.Config;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Tuple;
+import org.apache.storm.utils.TupleUtils;
+
+import java.util.Map;
 
 @Slf4j
 public class IslLatencyBolt extends AbstractBolt {
     private final PersistenceManager persistenceManager;
     private final long latencyUpdateInterval; // emit data in DB interval
     private final long latencyUpdateTimeRange; // average latency will be calculated in this time range
+    private final int flushInterval; // write scheduled latency updates in DB interval
+    private final int latencyRecordsCapacity;
     private transient IslLatencyService islLatencyService;
 
     public IslLatencyBolt(PersistenceManager persistenceManager, long latencyUpdateInterval,
-                          long latencyUpdateTimeRange) {
+                          long latencyUpdateTimeRange, int flushInterval, int latencyRecordsCapacity) {
         this.persistenceManager = persistenceManager;
         this.latencyUpdateInterval = latencyUpdateInterval;
         this.latencyUpdateTimeRange = latencyUpdateTimeRange;
+        this.flushInterval = flushInterval;
+        this.latencyRecordsCapacity = latencyRecordsCapacity;
     }
 
     @Override
@@ -53,7 +61,27 @@ public class IslLatencyBolt extends AbstractBolt {
         TransactionManager transactionManager = persistenceManager.getTransactionManager();
         RepositoryFactory repositoryFactory = persistenceManager.getRepositoryFactory();
         islLatencyService = new IslLatencyService(transactionManager, repositoryFactory,
-                latencyUpdateInterval, latencyUpdateTimeRange);
+                latencyUpdateInterval, latencyUpdateTimeRange, latencyRecordsCapacity);
+    }
+
+    @Override
+    public Map<String, Object> getComponentConfiguration() {
+        Config conf = new Config();
+        conf.put(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS, flushInterval);
+        return conf;
+    }
+
+    @Override
+    public void execute(Tuple input) {
+        if (TupleUtils.isTick(input)) {
+            try {
+                islLatencyService.flushLatencyUpdates();
+            } finally {
+                ack(input);
+            }
+        } else {
+            super.execute(input);
+        }
     }
 
     @Override
@@ -0,0 +1,106 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.isllatency.model;
+
+import lombok.Getter;
+
+/**
+ * Latency records of an ISL in the order of arrival, kept in primitive arrays.
+ *
+ * <p>The buffer grows on demand up to the capacity, after that the oldest record is dropped on each add. The sum of
+ * the stored latencies is maintained along with the records, so the average is computed without iterating them.
+ */
+public class LatencyRingBuffer {
+    private static final int INITIAL_SIZE = 16;
+
+    @Getter
+    private final int capacity;
+    private long[] timestamps;
+    private long[] latencies;
+    private int head;
+    @Getter
+    private int size;
+    private long sum;
+
+    public LatencyRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(String.format("Capacity must be positive, but was %d", capacity));
+        }
+        this.capacity = capacity;
+        int initialSize = Math.min(capacity, INITIAL_SIZE);
+        timestamps = new long[initialSize];
+        latencies = new long[initialSize];
+    }
+
+    /**
+     * Adds the record, the oldest record is dropped if the buffer is full.
+     */
+    public void add(long latency, long timestamp) {
+        if (size == capacity) {
+            poll();
+        } else if (size == latencies.length) {
+            grow();
+        }
+        int tail = (head + size) % latencies.length;
+        timestamps[tail] = timestamp;
+        latencies[tail] = latency;
+        sum += latency;
+        size++;
+    }
+
+    /**
+     * Drops the records from the head of the buffer while their timestamp is less than the given one.
+     */
+    public void pollExpired(long oldestTimestamp) {
+        while (size > 0 && timestamps[head] < oldestTimestamp) {
+            poll();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the average of the stored latencies or -1 if the buffer is empty.
+     */
+    public long getAverage() {
+        if (size == 0) {
+            return -1;
+        }
+        return sum / size;
+    }
+
+    private void poll() {
+        sum -= latencies[head];
+        head = (head + 1) % latencies.length;
+        size--;
+    }
+
+    private void grow() {
+        int length = Math.min(capacity, latencies.length * 2);
+        long[] newTimestamps = new long[length];
+        long[] newLatencies = new long[length];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % latencies.length;
+            newTimestamps[i] = timestamps[index];
+            newLatencies[i] = latencies[index];
+        }
+        timestamps = newTimestamps;
+        latencies = newLatencies;
+        head = 0;
+    }
+}
@@ -17,28 +17,27 @@ package org.openkilda.wfm.topology.isllatency.service;
 
 import org.openkilda.messaging.info.event.IslOneWayLatency;
 import org.openkilda.messaging.info.event.IslRoundTripLatency;
-import org.openkilda.model.Isl;
-import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.PersistenceException;
 import org.openkilda.persistence.TransactionManager;
 import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.persistence.repositories.IslRepository.LatencyUpdate;
 import org.openkilda.persistence.repositories.RepositoryFactory;
-import org.openkilda.persistence.repositories.SwitchRepository;
-import org.openkilda.wfm.error.IslNotFoundException;
-import org.openkilda.wfm.error.SwitchNotFoundException;
 import org.openkilda.wfm.share.model.Endpoint;
 import org.openkilda.wfm.topology.isllatency.model.IslKey;
-import org.openkilda.wfm.topology.isllatency.model.LatencyRecord;
+import org.openkilda.wfm.topology.isllatency.model.LatencyRingBuffer;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 
 @Slf4j
@@ -47,27 +46,29 @@ public class IslLatencyService {
     public static final String ROUND_TRIP_LATENCY = "round trip";
     private TransactionManager transactionManager;
     private IslRepository islRepository;
-    private SwitchRepository switchRepository;
     private final long latencyUpdateInterval; // emit data in DB interval
     private final long latencyUpdateTimeRange; // average latency will be calculated in this time range
+    private final int latencyRecordsCapacity; // max count of latency records stored for each ISL
 
-    private Map<IslKey, Queue<LatencyRecord>> roundTripLatencyStorage;
-    private Map<IslKey, Queue<LatencyRecord>> oneWayLatencyStorage;
+    private Map<IslKey, LatencyRingBuffer> roundTripLatencyStorage;
+    private Map<IslKey, LatencyRingBuffer> oneWayLatencyStorage;
     private Map<IslKey, Instant> nextUpdateTimeMap;
     private Set<IslKey> roundTripLatencyIsSet; // Contains ISLs for which round trip latency were stored in DB
+    private Map<IslKey, Long> pendingLatencyUpdates; // latencies to be written in DB by the next flush
 
     public IslLatencyService(TransactionManager transactionManager,
                              RepositoryFactory repositoryFactory, long latencyUpdateInterval,
-                             long latencyUpdateTimeRange) {
+                             long latencyUpdateTimeRange, int latencyRecordsCapacity) {
         this.transactionManager = transactionManager;
         this.latencyUpdateInterval = latencyUpdateInterval;
         this.latencyUpdateTimeRange = latencyUpdateTimeRange;
+        this.latencyRecordsCapacity = latencyRecordsCapacity;
         islRepository = repositoryFactory.createIslRepository();
-        switchRepository = repositoryFactory.createSwitchRepository();
         oneWayLatencyStorage = new HashMap<>();
         roundTripLatencyStorage = new HashMap<>();
         roundTripLatencyIsSet = new HashSet<>();
         nextUpdateTimeMap = new HashMap<>();
+        pendingLatencyUpdates = new LinkedHashMap<>();
     }
 
     /**
@@ -91,8 +92,8 @@ public class IslLatencyService {
 
         IslKey islKey = new IslKey(data, destination);
 
-        roundTripLatencyStorage.putIfAbsent(islKey, new LinkedList<>());
-        roundTripLatencyStorage.get(islKey).add(new LatencyRecord(data.getLatency(), timestamp));
+        roundTripLatencyStorage.computeIfAbsent(islKey, key -> new LatencyRingBuffer(latencyRecordsCapacity))
+                .add(data.getLatency(), timestamp);
 
         if (isUpdateRequired(islKey) || !roundTripLatencyIsSet.contains(islKey)) {
             updateRoundTripLatency(data, destination, islKey);
@@ -112,8 +113,8 @@ public class IslLatencyService {
 
         IslKey islKey = new IslKey(data);
 
-        oneWayLatencyStorage.putIfAbsent(islKey, new LinkedList<>());
-        oneWayLatencyStorage.get(islKey).add(new LatencyRecord(data.getLatency(), timestamp));
+        oneWayLatencyStorage.computeIfAbsent(islKey, key -> new LatencyRingBuffer(latencyRecordsCapacity))
+                .add(data.getLatency(), timestamp);
 
         if (isUpdateRequired(islKey)) {
             updateOneWayLatencyIfNeeded(data, islKey);
@@ -121,7 +122,7 @@ public class IslLatencyService {
     }
 
     private void updateRoundTripLatency(IslRoundTripLatency data, Endpoint destination, IslKey islKey) {
-        Queue<LatencyRecord> roundTripRecords = roundTripLatencyStorage.get(islKey);
+        LatencyRingBuffer roundTripRecords = roundTripLatencyStorage.get(islKey);
 
         pollExpiredRecords(roundTripRecords);
         pollExpiredRecords(oneWayLatencyStorage.get(islKey));
@@ -133,7 +134,7 @@ public class IslLatencyService {
                     destination.getDatapath(), destination.getPortNumber(), data.getPacketId());
         }
 
-        long averageLatency = calculateAverageLatency(roundTripRecords);
+        long averageLatency = roundTripRecords.getAverage();
 
         boolean updated = updateLatencyInDataBase(data, destination, averageLatency);
 
@@ -144,10 +145,10 @@ public class IslLatencyService {
     }
 
     private void updateOneWayLatencyIfNeeded(IslOneWayLatency data, IslKey islKey) {
-        Queue<LatencyRecord> oneWayRecords = oneWayLatencyStorage.get(islKey);
+        LatencyRingBuffer oneWayRecords = oneWayLatencyStorage.get(islKey);
         pollExpiredRecords(oneWayRecords);
 
-        Queue<LatencyRecord> roundTripRecords = roundTripLatencyStorage.get(islKey);
+        LatencyRingBuffer roundTripRecords = roundTripLatencyStorage.get(islKey);
         pollExpiredRecords(roundTripRecords);
         if (roundTripRecords != null && !roundTripRecords.isEmpty()) {
             // next round trip latency packet will update ISL latency
@@ -155,13 +156,13 @@ public class IslLatencyService {
         }
 
         IslKey reverseIslKey = islKey.getReverse();
-        Queue<LatencyRecord> reverseRoundTripRecords = roundTripLatencyStorage.get(reverseIslKey);
+        LatencyRingBuffer reverseRoundTripRecords = roundTripLatencyStorage.get(reverseIslKey);
         pollExpiredRecords(reverseRoundTripRecords);
 
         boolean updated;
         if (reverseRoundTripRecords != null && !reverseRoundTripRecords.isEmpty()) {
             // reverse ISL has round trip latency records. We can use them for forward ISL
-            long averageReverseLatency = calculateAverageLatency(reverseRoundTripRecords);
+            long averageReverseLatency = reverseRoundTripRecords.getAverage();
             updated = updateLatencyInDataBase(data, averageReverseLatency);
         } else {
             // There are no round trip latency records for both ISL direction. We have to use one way latency records
@@ -173,7 +174,7 @@ public class IslLatencyService {
                 return;
             }
 
-            long averageOneWayLatency = calculateAverageLatency(oneWayRecords);
+            long averageOneWayLatency = oneWayRecords.getAverage();
             updated = updateLatencyInDataBase(data, averageOneWayLatency);
         }
 
@@ -202,42 +203,61 @@ public class IslLatencyService {
             return false;
         }
 
-        try {
-            updateIslLatency(srcSwitch, srcPort, dstSwitch, dstPort, latency);
-            log.debug("Updated {} latency for ISL {}_{} ===( {} ns )===> {}_{}. Packet id:{}",
-                    latencyType, srcSwitch, srcPort, latency, dstSwitch, dstPort, packetId);
-        } catch (SwitchNotFoundException | IslNotFoundException e) {
-            log.warn("Couldn't update {} latency for ISL {}_{} ===> {}_{}. Packet id:{}. {}",
-                    latencyType, srcSwitch, srcPort, dstSwitch, dstPort, packetId, e.getMessage());
-            return false;
-        }
+        pendingLatencyUpdates.put(new IslKey(srcSwitch, srcPort, dstSwitch, dstPort), latency);
+        log.debug("Scheduled {} latency update for ISL {}_{} ===( {} ns )===> {}_{}. Packet id:{}",
+                latencyType, srcSwitch, srcPort, latency, dstSwitch, dstPort, packetId);
         return true;
     }
 
-    @VisibleForTesting
-    void pollExpiredRecords(Queue<LatencyRecord> recordsQueue) {
-        if (recordsQueue == null) {
+    /**
+     * Writes the latencies scheduled since the previous flush into DB by a single query.
+     *
+     * <p>The ISLs which are not found in DB are treated as never updated, so the next latency record of such ISL
+     * schedules the update again. If DB fails, the updates are kept to be written by the next flush.
+     */
+    public void flushLatencyUpdates() {
+        if (pendingLatencyUpdates.isEmpty()) {
             return;
         }
-        Instant oldestTimeInRange = Instant.now().minusSeconds(latencyUpdateTimeRange);
-        while (!recordsQueue.isEmpty()
-                && Instant.ofEpochMilli(recordsQueue.peek().getTimestamp()).isBefore(oldestTimeInRange)) {
-            recordsQueue.poll();
+
+        List<LatencyUpdate> updates = new ArrayList<>(pendingLatencyUpdates.size());
+        for (Map.Entry<IslKey, Long> entry : pendingLatencyUpdates.entrySet()) {
+            IslKey islKey = entry.getKey();
+            updates.add(new LatencyUpdate(islKey.getSrcSwitchId(), islKey.getSrcPort(),
+                    islKey.getDstSwitchId(), islKey.getDstPort(), entry.getValue()));
         }
-    }
+        pendingLatencyUpdates.clear();
 
-    @VisibleForTesting
-    long calculateAverageLatency(Queue<LatencyRecord> recordsQueue) {
-        if (recordsQueue.isEmpty()) {
-            log.error("Couldn't calculate average latency. Records queue is empty");
-            return -1;
+        Collection<LatencyUpdate> notFound;
+        try {
+            notFound = transactionManager.doInTransaction(() -> islRepository.updateLatencies(updates));
+        } catch (PersistenceException e) {
+            log.error("Couldn't update latency of {} ISLs, will retry by the next flush", updates.size(), e);
+            for (LatencyUpdate update : updates) {
+                // the latency scheduled after the failed flush is more recent
+                pendingLatencyUpdates.putIfAbsent(new IslKey(update.getSrcSwitchId(), update.getSrcPort(),
+                        update.getDstSwitchId(), update.getDstPort()), update.getLatency());
+            }
+            return;
         }
 
-        long sum = 0;
-        for (LatencyRecord record : recordsQueue) {
-            sum += record.getLatency();
+        for (LatencyUpdate update : notFound) {
+            log.warn("Couldn't update latency for ISL {}_{} ===> {}_{}. ISL not found",
+                    update.getSrcSwitchId(), update.getSrcPort(), update.getDstSwitchId(), update.getDstPort());
+            IslKey islKey = new IslKey(update.getSrcSwitchId(), update.getSrcPort(),
+                    update.getDstSwitchId(), update.getDstPort());
+            nextUpdateTimeMap.remove(islKey);
+            roundTripLatencyIsSet.remove(islKey);
         }
-        return sum / recordsQueue.size();
+        log.debug("Updated latency of {} ISLs", updates.size() - notFound.size());
+    }
+
+    @VisibleForTesting
+    void pollExpiredRecords(LatencyRingBuffer records) {
+        if (records == null) {
+            return;
+        }
+        records.pollExpired(Instant.now().minusSeconds(latencyUpdateTimeRange).toEpochMilli());
     }
 
     @VisibleForTesting
@@ -249,34 +269,4 @@ public class IslLatencyService {
     Instant getNextUpdateTime() {
         return Instant.now().plusSeconds(latencyUpdateInterval);
     }
-
-    /**
-     * Update latency of isl by source and destination endpoint.
-     *
-     * @param srcSwitchId ID of source switch.
-     * @param srcPort source port.
-     * @param dstSwitchId ID of destination switch.
-     * @param dstPort destination port.
-     * @param latency latency to update
-     *
-     * @throws SwitchNotFoundException if src or dst switch is not found
-     * @throws IslNotFoundException if isl is not found
-     */
-    @VisibleForTesting
-    void updateIslLatency(
-            SwitchId srcSwitchId, int srcPort, SwitchId dstSwitchId, int dstPort, long latency)
-            throws SwitchNotFoundException, IslNotFoundException {
-        transactionManager.doInTransaction(() -> {
-            Switch srcSwitch = switchRepository.findById(srcSwitchId)
-                    .orElseThrow(() -> new SwitchNotFoundException(srcSwitchId));
-            Switch dstSwitch = switchRepository.findById(dstSwitchId)
-                    .orElseThrow(() -> new SwitchNotFoundException(dstSwitchId));
-
-            switchRepository.lockSwitches(srcSwitch, dstSwitch);
-            Isl isl = islRepository.findByEndpoints(srcSwitchId, srcPort, dstSwitchId, dstPort)
-                    .orElseThrow(() -> new IslNotFoundException(srcSwitchId, srcPort, dstSwitchId, dstPort));
-            isl.setLatency(latency);
-            islRepository.createOrUpdate(isl);
-        });
-    }
 }
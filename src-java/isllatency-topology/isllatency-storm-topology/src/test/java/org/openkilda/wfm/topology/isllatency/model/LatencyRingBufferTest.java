@@ -0,0 +1,81 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.isllatency.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyRingBufferTest {
+
+    @Test
+    public void averageTest() {
+        LatencyRingBuffer buffer = new LatencyRingBuffer(10);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i, 1);
+        }
+        assertEquals(5, buffer.getSize());
+        assertEquals(3, buffer.getAverage());
+    }
+
+    @Test
+    public void averageOfEmptyBufferTest() {
+        LatencyRingBuffer buffer = new LatencyRingBuffer(10);
+        assertTrue(buffer.isEmpty());
+        assertEquals(-1, buffer.getAverage());
+    }
+
+    @Test
+    public void oldestRecordIsDroppedWhenFullTest() {
+        LatencyRingBuffer buffer = new LatencyRingBuffer(40);
+        for (int i = 0; i < 100; i++) {
+            buffer.add(i, i);
+        }
+        assertEquals(40, buffer.getSize());
+        // records from 60 to 99 are kept
+        assertEquals(79, buffer.getAverage());
+
+        buffer.pollExpired(90);
+        assertEquals(10, buffer.getSize());
+        assertEquals(94, buffer.getAverage());
+    }
+
+    @Test
+    public void pollExpiredTest() {
+        LatencyRingBuffer buffer = new LatencyRingBuffer(100);
+        for (int i = 0; i < 20; i++) {
+            buffer.add(i * 10, i);
+        }
+
+        buffer.pollExpired(15);
+        assertEquals(5, buffer.getSize());
+        assertEquals(170, buffer.getAverage());
+
+        buffer.pollExpired(100);
+        assertTrue(buffer.isEmpty());
+
+        buffer.add(7, 200);
+        assertFalse(buffer.isEmpty());
+        assertEquals(7, buffer.getAverage());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveCapacityTest() {
+        new LatencyRingBuffer(0);
+    }
+}
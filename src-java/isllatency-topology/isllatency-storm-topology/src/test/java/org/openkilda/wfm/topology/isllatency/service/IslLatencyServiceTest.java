@@ -18,6 +18,8 @@ package org.openkilda.wfm.topology.isllatency.service;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
 
 import org.openkilda.messaging.info.event.IslOneWayLatency;
 import org.openkilda.messaging.info.event.IslRoundTripLatency;
@@ -26,21 +28,21 @@ import org.openkilda.model.IslStatus;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.Neo4jBasedTest;
+import org.openkilda.persistence.PersistenceException;
+import org.openkilda.persistence.TransactionCallback;
+import org.openkilda.persistence.TransactionManager;
 import org.openkilda.persistence.repositories.IslRepository;
 import org.openkilda.persistence.repositories.SwitchRepository;
-import org.openkilda.wfm.error.IslNotFoundException;
-import org.openkilda.wfm.error.SwitchNotFoundException;
 import org.openkilda.wfm.share.model.Endpoint;
 import org.openkilda.wfm.topology.isllatency.model.IslKey;
-import org.openkilda.wfm.topology.isllatency.model.LatencyRecord;
+import org.openkilda.wfm.topology.isllatency.model.LatencyRingBuffer;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentMatchers;
 
 import java.time.Instant;
-import java.util.LinkedList;
-import java.util.Queue;
 
 public class IslLatencyServiceTest extends Neo4jBasedTest {
     private static final SwitchId SWITCH_ID_1 = new SwitchId("00:00:00:00:00:00:00:01");
@@ -49,12 +51,11 @@ public class IslLatencyServiceTest extends Neo4jBasedTest {
     private static final int PORT_2 = 2;
     private static final int INITIAL_LATENCY = 123;
     private static final long PACKET_ID = 0;
-    private static final SwitchId NON_EXISTENT_SWITCH_ID = new SwitchId(123);
-    private static final int NON_EXISTENT_PORT = 555;
     private static final Endpoint FORWARD_DESTINATION = Endpoint.of(SWITCH_ID_2, PORT_2);
     private static final IslKey FORWARD_ISL_KEY = new IslKey(SWITCH_ID_1, PORT_1, SWITCH_ID_2, PORT_2);
     public static final int LATENCY_UPDATE_INTERVAL = 100;
     public static final int LATENCY_UPDATE_TIME_RANGE = 10;
+    public static final int LATENCY_RECORDS_CAPACITY = 100;
 
 
     private SwitchRepository switchRepository;
@@ -65,7 +66,7 @@ public class IslLatencyServiceTest extends Neo4jBasedTest {
     public void setup() {
         islLatencyService = new IslLatencyService(
                 persistenceManager.getTransactionManager(), persistenceManager.getRepositoryFactory(),
-                LATENCY_UPDATE_INTERVAL, LATENCY_UPDATE_TIME_RANGE);
+                LATENCY_UPDATE_INTERVAL, LATENCY_UPDATE_TIME_RANGE, LATENCY_RECORDS_CAPACITY);
         switchRepository = persistenceManager.getRepositoryFactory().createSwitchRepository();
         islRepository = persistenceManager.getRepositoryFactory().createIslRepository();
 
@@ -82,36 +83,47 @@ public class IslLatencyServiceTest extends Neo4jBasedTest {
         switchRepository.forceDelete(SWITCH_ID_2);
     }
 
-    @Test(expected = SwitchNotFoundException.class)
-    public void updateIslLatencyNonExistentSrcEndpointTest() throws IslNotFoundException, SwitchNotFoundException {
-        islLatencyService.updateIslLatency(NON_EXISTENT_SWITCH_ID, PORT_1, SWITCH_ID_2, PORT_2, 0);
-    }
-
-    @Test(expected = SwitchNotFoundException.class)
-    public void updateIslLatencyNonExistentDstEndpointTest() throws IslNotFoundException, SwitchNotFoundException {
-        islLatencyService.updateIslLatency(SWITCH_ID_1, PORT_1, NON_EXISTENT_SWITCH_ID, PORT_2, 0);
-    }
+    @Test
+    public void flushLatencyUpdatesTest() {
+        islLatencyService.handleOneWayIslLatency(createForwardOneWayLatency(1000), System.currentTimeMillis());
+        // latency is written in DB only by flush
+        assertForwardLatency(INITIAL_LATENCY);
 
-    @Test(expected = IslNotFoundException.class)
-    public void updateIslLatencyNonExistentIslTest() throws IslNotFoundException, SwitchNotFoundException {
-        islLatencyService.updateIslLatency(SWITCH_ID_1, NON_EXISTENT_PORT, SWITCH_ID_2, NON_EXISTENT_PORT, 0);
+        islLatencyService.flushLatencyUpdates();
+        assertForwardLatency(1000);
+        assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
     }
 
     @Test
-    public void updateIslLatencyTest() throws IslNotFoundException, SwitchNotFoundException {
-        islLatencyService.updateIslLatency(SWITCH_ID_1, PORT_1, SWITCH_ID_2, PORT_2, 1000);
+    public void flushLatencyUpdatesAfterPersistenceErrorTest() {
+        TransactionManager transactionManager = spy(persistenceManager.getTransactionManager());
+        doThrow(new PersistenceException("DB is unavailable")).doCallRealMethod().when(transactionManager)
+                .doInTransaction(ArgumentMatchers.<TransactionCallback<Object, RuntimeException>>any());
+        islLatencyService = new IslLatencyService(
+                transactionManager, persistenceManager.getRepositoryFactory(),
+                LATENCY_UPDATE_INTERVAL, LATENCY_UPDATE_TIME_RANGE, LATENCY_RECORDS_CAPACITY);
+
+        islLatencyService.handleOneWayIslLatency(createForwardOneWayLatency(1000), System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
+        assertForwardLatency(INITIAL_LATENCY);
+
+        // the failed update is written by the next flush
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(1000);
+        assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
     }
 
     @Test
     public void handleOneWayIslLatencyTest() {
         assertTrue(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleOneWayIslLatency(createForwardOneWayLatency(1), System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(1);
 
         // second latency will be put in cache
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleOneWayIslLatency(createForwardOneWayLatency(10000), System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(1);
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
     }
@@ -121,12 +133,14 @@ public class IslLatencyServiceTest extends Neo4jBasedTest {
         assertTrue(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleRoundTripIslLatency(
                 createForwardRoundTripLatency(5), FORWARD_DESTINATION, System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(5);
 
         // second latency will be put in cache
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleRoundTripIslLatency(
                 createForwardRoundTripLatency(50000), FORWARD_DESTINATION, System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(5);
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
     }
@@ -135,23 +149,27 @@ public class IslLatencyServiceTest extends Neo4jBasedTest {
     public void handleRoundTripIslLatencyAfterOneWayIslLatencyTest() {
         assertTrue(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleOneWayIslLatency(createForwardOneWayLatency(7), System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(7);
 
         // second latency will be put in cache
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleOneWayIslLatency(createForwardOneWayLatency(70000), System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(7);
 
         // round trip latency will rewrite one way latency
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleRoundTripIslLatency(
                 createForwardRoundTripLatency(8), FORWARD_DESTINATION, System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(8);
 
         // second latency will be put in cache
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
         islLatencyService.handleRoundTripIslLatency(
                 createForwardRoundTripLatency(80000), FORWARD_DESTINATION, System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
         assertForwardLatency(8);
         assertFalse(islLatencyService.isUpdateRequired(FORWARD_ISL_KEY));
     }
@@ -176,6 +194,7 @@ public class IslLatencyServiceTest extends Neo4jBasedTest {
 
         IslOneWayLatency nonExistent = new IslOneWayLatency(SWITCH_ID_1, fakePort, SWITCH_ID_2, fakePort, 3, PACKET_ID);
         islLatencyService.handleOneWayIslLatency(nonExistent, System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
 
         assertTrue(islLatencyService.isUpdateRequired(islKey));
     }
@@ -190,6 +209,7 @@ public class IslLatencyServiceTest extends Neo4jBasedTest {
         IslRoundTripLatency nonExistent = new IslRoundTripLatency(SWITCH_ID_1, fakePort, 4, PACKET_ID);
         islLatencyService.handleRoundTripIslLatency(
                 nonExistent, Endpoint.of(SWITCH_ID_2, fakePort), System.currentTimeMillis());
+        islLatencyService.flushLatencyUpdates();
 
         assertTrue(islLatencyService.isUpdateRequired(islKey));
     }
@@ -201,44 +221,26 @@ public class IslLatencyServiceTest extends Neo4jBasedTest {
         assertEquals(expectedTime, actualTime.toEpochMilli(), 50);
     }
 
-    @Test
-    public void calculateAverageLatencyTest() {
-        Queue<LatencyRecord> latencyRecords = new LinkedList<>();
-
-        for (int i = 1; i <= 5; i++) {
-            latencyRecords.add(new LatencyRecord(i, 1));
-        }
-        assertEquals(3, islLatencyService.calculateAverageLatency(latencyRecords));
-    }
-
-    @Test
-    public void calculateAverageLatencyEmptyTest() {
-        assertEquals(-1, islLatencyService.calculateAverageLatency(new LinkedList<>()));
-    }
-
     @Test
     public void pollExpiredRecordsTest() {
         Instant time = Instant.now().minusSeconds(LATENCY_UPDATE_TIME_RANGE * 2);
-        Queue<LatencyRecord> latencyRecords = new LinkedList<>();
+        LatencyRingBuffer latencyRecords = new LatencyRingBuffer(LATENCY_RECORDS_CAPACITY);
 
         for (int i = 0; i < 5; i++) {
-            latencyRecords.add(new LatencyRecord(i, time.toEpochMilli()));
+            latencyRecords.add(i, time.toEpochMilli());
             time = time.plusSeconds(1);
         }
 
         time = Instant.now().minusSeconds(LATENCY_UPDATE_TIME_RANGE - 7);
         for (int i = 5; i < 10; i++) {
-            latencyRecords.add(new LatencyRecord(i, time.toEpochMilli()));
+            latencyRecords.add(i, time.toEpochMilli());
             time = time.plusSeconds(1);
         }
 
-        assertEquals(10, latencyRecords.size());
+        assertEquals(10, latencyRecords.getSize());
         islLatencyService.pollExpiredRecords(latencyRecords);
-        assertEquals(5, latencyRecords.size());
-
-        for (int i = 5; i < 10; i++) {
-            assertEquals(i, latencyRecords.poll().getLatency());
-        }
+        assertEquals(5, latencyRecords.getSize());
+        assertEquals(7, latencyRecords.getAverage());
     }
 
     private Switch createSwitch(SwitchId switchId) {
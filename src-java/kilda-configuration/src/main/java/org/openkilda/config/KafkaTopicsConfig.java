@@ -188,6 +188,10 @@ public interface KafkaTopicsConfig {
     @Default("kilda.topo.reroute.storm")
     String getTopoRerouteTopic();
 
+    @Key("topo.reroute.paths")
+    @Default("kilda.topo.reroute.paths.storm")
+    String getTopoReroutePathsTopic();
+
     @Key("topo.isl.status")
     @Default("kilda.network.isl.status.priv")
     String getNetworkIslStatusTopic();
@@ -0,0 +1,122 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.model;
+
+import static java.lang.String.format;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.Setter;
+import org.neo4j.ogm.annotation.GeneratedValue;
+import org.neo4j.ogm.annotation.Id;
+import org.neo4j.ogm.annotation.Index;
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.annotation.Property;
+import org.neo4j.ogm.annotation.typeconversion.Convert;
+import org.neo4j.ogm.typeconversion.InstantStringConverter;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Represents a block of resource ids (e.g. flow cookies or transit vlans) leased to a worker, which allocates them
+ * without consulting the other workers until the lease expires.
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(exclude = {"entityId", "uniqueIndex"})
+@NodeEntity(label = "resource_lease")
+public class ResourceLease implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // Hidden as needed for OGM only.
+    @Id
+    @GeneratedValue
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.NONE)
+    private Long entityId;
+
+    @NonNull
+    @Property(name = "resource_type")
+    @Index
+    private String resourceType;
+
+    @Property(name = "first_id")
+    private long firstId;
+
+    @Property(name = "last_id")
+    private long lastId;
+
+    @NonNull
+    @Property(name = "owner")
+    private String owner;
+
+    @NonNull
+    @Property(name = "expires_at")
+    @Convert(InstantStringConverter.class)
+    private Instant expiresAt;
+
+    // Hidden as used to imitate unique composite index for non-enterprise Neo4j versions.
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.NONE)
+    @Property(name = "unique_index")
+    @Index(unique = true)
+    private String uniqueIndex;
+
+    @Builder(toBuilder = true)
+    public ResourceLease(@NonNull String resourceType, long firstId, long lastId, @NonNull String owner,
+                         @NonNull Instant expiresAt) {
+        this.resourceType = resourceType;
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+        calculateUniqueIndex();
+    }
+
+    /**
+     * Set the resource type and update related index(es).
+     */
+    public final void setResourceType(@NonNull String resourceType) {
+        this.resourceType = resourceType;
+        calculateUniqueIndex();
+    }
+
+    /**
+     * Set the first id of the block and update related index(es).
+     */
+    public final void setFirstId(long firstId) {
+        this.firstId = firstId;
+        calculateUniqueIndex();
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean contains(long id) {
+        return id >= firstId && id <= lastId;
+    }
+
+    private void calculateUniqueIndex() {
+        uniqueIndex = format("%s_%d", resourceType, firstId);
+    }
+}
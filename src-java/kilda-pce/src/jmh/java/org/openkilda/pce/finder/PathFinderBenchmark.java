@@ -0,0 +1,138 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.PathComputerFactory.PathFinderType;
+import org.openkilda.pce.cache.NetworkLink;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.WeightFunction;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares path finders on generated mesh topologies: a ring of switches (to keep the graph connected) with
+ * additional links between random switches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PathFinderBenchmark {
+    private static final int ALLOWED_DEPTH = 35;
+    private static final int EXTRA_LINKS_PER_SWITCH = 3;
+    private static final int ENDPOINT_PAIRS = 64;
+    private static final int PATHS_COUNT = 5;
+    private static final WeightFunction WEIGHT_FUNCTION = edge -> (long) edge.getCost();
+
+    @Param({"500", "2000"})
+    private int switchCount;
+
+    @Param({"BEST_WEIGHT_AND_SHORTEST", "DIJKSTRA"})
+    private PathFinderType finderType;
+
+    private AvailableNetwork network;
+    private PathFinder pathFinder;
+    private SwitchId[][] endpoints;
+    private int next;
+
+    /**
+     * Generates the topology and the endpoint pairs. The seed is fixed, so all finders get the same input.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(switchCount);
+        network = new AvailableNetwork();
+        int port = 1;
+        for (int i = 0; i < switchCount; i++) {
+            port = addBidirectionalLink(i, (i + 1) % switchCount, port, 1 + random.nextInt(100));
+            for (int j = 0; j < EXTRA_LINKS_PER_SWITCH; j++) {
+                int peer = random.nextInt(switchCount);
+                if (peer != i) {
+                    port = addBidirectionalLink(i, peer, port, 1 + random.nextInt(100));
+                }
+            }
+        }
+
+        endpoints = new SwitchId[ENDPOINT_PAIRS][];
+        for (int i = 0; i < ENDPOINT_PAIRS; i++) {
+            int src = random.nextInt(switchCount);
+            int dst = (src + 1 + random.nextInt(switchCount - 1)) % switchCount;
+            endpoints[i] = new SwitchId[] {new SwitchId(src + 1), new SwitchId(dst + 1)};
+        }
+
+        pathFinder = finderType == PathFinderType.DIJKSTRA
+                ? new DijkstraPathFinder(ALLOWED_DEPTH)
+                : new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+    }
+
+    @Benchmark
+    public Pair<List<Edge>, List<Edge>> findPath() throws UnroutableFlowException {
+        SwitchId[] pair = nextPair();
+        return pathFinder.findPathInNetwork(network, pair[0], pair[1], WEIGHT_FUNCTION);
+    }
+
+    @Benchmark
+    public List<List<Edge>> findNPaths() throws UnroutableFlowException {
+        SwitchId[] pair = nextPair();
+        return pathFinder.findNPathsBetweenSwitches(network, pair[0], pair[1], PATHS_COUNT, WEIGHT_FUNCTION);
+    }
+
+    private SwitchId[] nextPair() {
+        next = (next + 1) % ENDPOINT_PAIRS;
+        return endpoints[next];
+    }
+
+    private int addBidirectionalLink(int src, int dst, int port, int cost) {
+        SwitchId srcSwitchId = new SwitchId(src + 1);
+        SwitchId dstSwitchId = new SwitchId(dst + 1);
+        network.addLink(buildLink(srcSwitchId, port, dstSwitchId, port + 1, cost));
+        network.addLink(buildLink(dstSwitchId, port + 1, srcSwitchId, port, cost));
+        return port + 2;
+    }
+
+    private static NetworkLink buildLink(SwitchId srcSwitchId, int srcPort, SwitchId dstSwitchId, int dstPort,
+                                         int cost) {
+        return NetworkLink.builder()
+                .srcSwitchId(srcSwitchId)
+                .srcPort(srcPort)
+                .destSwitchId(dstSwitchId)
+                .destPort(dstPort)
+                .cost(cost)
+                .availableBandwidth(Long.MAX_VALUE)
+                .build();
+    }
+}
@@ -16,8 +16,14 @@
 package org.openkilda.pce;
 
 import org.openkilda.model.Flow;
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.FlowPath;
 import org.openkilda.model.Isl;
 import org.openkilda.model.PathId;
+import org.openkilda.model.PathSegment;
+import org.openkilda.pce.cache.NetworkCache;
+import org.openkilda.pce.cache.NetworkLink;
+import org.openkilda.pce.cache.NetworkSnapshot;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.impl.AvailableNetwork;
 import org.openkilda.persistence.PersistenceException;
@@ -27,10 +33,17 @@ import org.openkilda.persistence.repositories.RepositoryFactory;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A factory for {@link AvailableNetwork} instances.
@@ -40,11 +53,22 @@ public class AvailableNetworkFactory {
     private PathComputerConfig config;
     private IslRepository islRepository;
     private FlowPathRepository flowPathRepository;
+    private NetworkCache networkCache;
 
     public AvailableNetworkFactory(PathComputerConfig config, RepositoryFactory repositoryFactory) {
+        this(config, repositoryFactory, null);
+    }
+
+    /**
+     * Constructs the factory which builds {@link AvailableNetwork} from the snapshots kept by the network cache
+     * instead of reading all active ISLs from the persistence layer for each request.
+     */
+    public AvailableNetworkFactory(PathComputerConfig config, RepositoryFactory repositoryFactory,
+                                   NetworkCache networkCache) {
         this.config = config;
         this.islRepository = repositoryFactory.createIslRepository();
         this.flowPathRepository = repositoryFactory.createFlowPathRepository();
+        this.networkCache = networkCache;
     }
 
     /**
@@ -59,9 +83,16 @@ public class AvailableNetworkFactory {
         BuildStrategy buildStrategy = BuildStrategy.from(config.getNetworkStrategy());
         AvailableNetwork network = new AvailableNetwork();
         try {
-            // Reads all active links from the database and creates representation of the network.
-            Collection<Isl> links = getAvailableIsls(buildStrategy, flow);
-            links.forEach(network::addLink);
+            if (networkCache != null) {
+                // Takes active links from the cached snapshot and creates representation of the network.
+                NetworkSnapshot snapshot = networkCache.getSnapshot(flow.getEncapsulationType());
+                getAvailableLinks(buildStrategy, flow, snapshot, NetworkLink::getAvailableBandwidth)
+                        .forEach(network::addLink);
+            } else {
+                // Reads all active links from the database and creates representation of the network.
+                Collection<Isl> links = getAvailableIsls(buildStrategy, flow);
+                links.forEach(network::addLink);
+            }
 
             if (!reusePathsResources.isEmpty() && !flow.isIgnoreBandwidth()) {
                 // ISLs occupied by the flow (take the bandwidth already occupied by the flow into account).
@@ -69,10 +100,122 @@ public class AvailableNetworkFactory {
                         reusePathsResources, flow.getBandwidth(), flow.getEncapsulationType());
                 flowLinks.forEach(network::addLink);
             }
+
+            fillDiversityWeights(network, flow, reusePathsResources);
         } catch (PersistenceException e) {
             throw new RecoverableException("An error from neo4j", e);
         }
 
+        return network;
+    }
+
+    /**
+     * Gets a {@link AvailableNetwork} for a flow of a batch. The network is built from the snapshot without
+     * reading ISLs from the persistence layer, the bandwidth of the flow's own paths is reused.
+     *
+     * @param flow                      the flow, for which {@link AvailableNetwork} is constructing.
+     * @param snapshot                  the active links, see {@link #getNetworkSnapshot(FlowEncapsulationType)}.
+     * @param consumedBandwidth         the bandwidth taken from the snapshot links by the flows computed earlier
+     *                                  in the batch.
+     * @return {@link AvailableNetwork} instance.
+     */
+    public AvailableNetwork getAvailableNetwork(Flow flow, NetworkSnapshot snapshot,
+                                                Map<NetworkLink.Key, Long> consumedBandwidth)
+            throws RecoverableException {
+        BuildStrategy buildStrategy = BuildStrategy.from(config.getNetworkStrategy());
+        ToLongFunction<NetworkLink> availableBandwidth =
+                makeAvailableBandwidthFunction(getReusedBandwidth(flow), consumedBandwidth);
+
+        AvailableNetwork network = new AvailableNetwork();
+        for (NetworkLink link : getAvailableLinks(buildStrategy, flow, snapshot, availableBandwidth)) {
+            long bandwidth = availableBandwidth.applyAsLong(link);
+            network.addLink(bandwidth == link.getAvailableBandwidth()
+                    ? link : link.toBuilder().availableBandwidth(bandwidth).build());
+        }
+
+        try {
+            fillDiversityWeights(network, flow, flow.getFlowPathIds());
+        } catch (PersistenceException e) {
+            throw new RecoverableException("An error from neo4j", e);
+        }
+
+        return network;
+    }
+
+    /**
+     * Gets the active links which support the encapsulation type, a common base for a batch of computations.
+     * The cached snapshot is returned if the network cache is used, otherwise the links are read from
+     * the persistence layer.
+     */
+    public NetworkSnapshot getNetworkSnapshot(FlowEncapsulationType encapsulationType) throws RecoverableException {
+        if (networkCache != null) {
+            return networkCache.getSnapshot(encapsulationType);
+        }
+        try {
+            Collection<NetworkLink> links = islRepository.findAllActiveByEncapsulationType(encapsulationType).stream()
+                    .map(NetworkLink::fromIsl)
+                    .collect(Collectors.toList());
+            return NetworkSnapshot.load(encapsulationType, 0, Instant.now(), links);
+        } catch (PersistenceException e) {
+            throw new RecoverableException("An error from neo4j", e);
+        }
+    }
+
+    /**
+     * Checks whether the path computed for another flow of the batch fits into the snapshot for this flow: all its
+     * links are active and, unless the flow ignores bandwidth, have enough available bandwidth.
+     *
+     * @param flow                      the flow to check the path for.
+     * @param pathPair                  the path to check.
+     * @param snapshot                  the active links, see {@link #getNetworkSnapshot(FlowEncapsulationType)}.
+     * @param consumedBandwidth         the bandwidth taken from the snapshot links by the flows computed earlier
+     *                                  in the batch.
+     */
+    public boolean isPathAvailable(Flow flow, PathPair pathPair, NetworkSnapshot snapshot,
+                                   Map<NetworkLink.Key, Long> consumedBandwidth) {
+        ToLongFunction<NetworkLink> availableBandwidth =
+                makeAvailableBandwidthFunction(getReusedBandwidth(flow), consumedBandwidth);
+        return Stream.of(pathPair.getForward(), pathPair.getReverse())
+                .flatMap(path -> path.getSegments().stream())
+                .allMatch(segment -> {
+                    NetworkLink link = snapshot.getLink(new NetworkLink.Key(segment.getSrcSwitchId(),
+                            segment.getSrcPort(), segment.getDestSwitchId(), segment.getDestPort()));
+                    return link != null
+                            && (flow.isIgnoreBandwidth()
+                            || availableBandwidth.applyAsLong(link) >= flow.getBandwidth());
+                });
+    }
+
+    private static ToLongFunction<NetworkLink> makeAvailableBandwidthFunction(
+            Map<NetworkLink.Key, Long> reusedBandwidth, Map<NetworkLink.Key, Long> consumedBandwidth) {
+        return link -> {
+            NetworkLink.Key key = link.getKey();
+            return link.getAvailableBandwidth() - consumedBandwidth.getOrDefault(key, 0L)
+                    + reusedBandwidth.getOrDefault(key, 0L);
+        };
+    }
+
+    /**
+     * Gets the bandwidth of the flow's own paths per link, it is reused in the computation of a new path.
+     */
+    public Map<NetworkLink.Key, Long> getReusedBandwidth(Flow flow) {
+        if (flow.isIgnoreBandwidth()) {
+            return Collections.emptyMap();
+        }
+        Map<NetworkLink.Key, Long> occupied = new HashMap<>();
+        for (FlowPath path : flow.getPaths()) {
+            if (path.isIgnoreBandwidth()) {
+                continue;
+            }
+            for (PathSegment segment : path.getSegments()) {
+                occupied.merge(new NetworkLink.Key(segment.getSrcSwitch().getSwitchId(), segment.getSrcPort(),
+                        segment.getDestSwitch().getSwitchId(), segment.getDestPort()), path.getBandwidth(), Long::sum);
+            }
+        }
+        return occupied;
+    }
+
+    private void fillDiversityWeights(AvailableNetwork network, Flow flow, List<PathId> reusePathsResources) {
         if (flow.getGroupId() != null) {
             log.info("Filling AvailableNetwork diverse weighs for group with id {}", flow.getGroupId());
 
@@ -90,8 +233,6 @@ public class AvailableNetworkFactory {
                                 network.processDiversitySegmentsWithPop(flowPath.getSegments());
                             }));
         }
-
-        return network;
     }
 
     private Collection<Isl> getAvailableIsls(BuildStrategy buildStrategy, Flow flow) {
@@ -113,6 +254,61 @@ public class AvailableNetworkFactory {
         }
     }
 
+    private Collection<NetworkLink> getAvailableLinks(BuildStrategy buildStrategy, Flow flow,
+                                                      NetworkSnapshot snapshot,
+                                                      ToLongFunction<NetworkLink> availableBandwidth) {
+        Collection<NetworkLink> links;
+        if (flow.isIgnoreBandwidth()) {
+            links = snapshot.getLinks();
+        } else if (buildStrategy == BuildStrategy.COST) {
+            links = snapshot.getLinks().stream()
+                    .filter(link -> availableBandwidth.applyAsLong(link) >= flow.getBandwidth())
+                    .collect(Collectors.toList());
+        } else if (buildStrategy == BuildStrategy.SYMMETRIC_COST) {
+            links = snapshot.getLinks().stream()
+                    .filter(link -> availableBandwidth.applyAsLong(link) >= flow.getBandwidth())
+                    .filter(link -> {
+                        NetworkLink reverse = snapshot.getLink(link.getReverseKey());
+                        return reverse != null && availableBandwidth.applyAsLong(reverse) >= flow.getBandwidth();
+                    })
+                    .collect(Collectors.toList());
+        } else {
+            throw new UnsupportedOperationException(String.format("Unsupported buildStrategy type %s", buildStrategy));
+        }
+
+        List<String> messages = links.stream()
+                .filter(link -> link.getCost() < 0)
+                .map(link -> String.format("(%s_%d ===> %s_%d cost: %d)", link.getSrcSwitchId(), link.getSrcPort(),
+                        link.getDestSwitchId(), link.getDestPort(), link.getCost()))
+                .collect(Collectors.toList());
+        if (!messages.isEmpty()) {
+            log.error("Invalid network state. Following ISLs have negative costs: {}", String.join(", ", messages));
+        }
+        return links;
+    }
+
+    /**
+     * Accounts the bandwidth of the allocated paths in the cached network, so the following computations don't
+     * have to wait for the next snapshot refresh to see it. Does nothing if the network cache is not used.
+     */
+    public void consumeBandwidth(Flow flow, PathPair pathPair) {
+        if (networkCache == null || flow.isIgnoreBandwidth()) {
+            return;
+        }
+        networkCache.consumeBandwidth(Arrays.asList(pathPair.getForward(), pathPair.getReverse()),
+                flow.getBandwidth());
+    }
+
+    /**
+     * Drops the cached network for the encapsulation type if it was patched since loading.
+     *
+     * @return true if the next {@link AvailableNetwork} will be built from a fresh snapshot, so a failed
+     *         computation is worth retrying.
+     */
+    public boolean invalidateModifiedNetwork(FlowEncapsulationType encapsulationType) {
+        return networkCache != null && networkCache.invalidateIfModified(encapsulationType);
+    }
+
     private void validateIslsCost(Collection<Isl> isls) {
         List<String> messages = new ArrayList<>();
 
@@ -23,6 +23,7 @@ import org.openkilda.model.SwitchId;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.exception.UnroutableFlowException;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -53,6 +54,26 @@ public interface PathComputer {
     PathPair getPath(Flow flow, List<PathId> reusePathsResources)
             throws UnroutableFlowException, RecoverableException;
 
+    /**
+     * Gets paths for a batch of flows, e.g. for the flows affected by the same network event. The network is read
+     * once per encapsulation type and the bandwidth of each computed flow is deducted from it before the next one,
+     * so flows are routed as if they were computed one by one. Each flow reuses the resources of its own paths.
+     *
+     * @param flows the flows to compute paths for, in the order of priority.
+     * @return {@link PathPair} instances of the routed flows and the reasons for the unroutable ones.
+     */
+    BatchPathComputationResult getPaths(Collection<Flow> flows) throws RecoverableException;
+
+    /**
+     * Notifies that the path has been allocated for the flow and the allocation is committed, so the implementation
+     * may account the consumed bandwidth in the network view kept between computations.
+     *
+     * @param flow the flow the path is allocated for.
+     * @param pathPair the allocated path.
+     */
+    default void onPathAllocated(Flow flow, PathPair pathPair) {
+    }
+
     /**
      * Gets N best paths.
      *
@@ -48,6 +48,30 @@ public interface PathComputerConfig extends Serializable {
     @Default("COST")
     String getNetworkStrategy();
 
+    @Key("path.finder")
+    @Default("BEST_WEIGHT_AND_SHORTEST")
+    String getPathFinder();
+
+    @Key("batch.parallelism")
+    @Default("1")
+    int getBatchParallelism();
+
+    @Key("k.shortest.paths.parallelism")
+    @Default("1")
+    int getKShortestPathsParallelism();
+
+    @Key("k.shortest.paths.time.budget.millis")
+    @Default("0")
+    long getKShortestPathsTimeBudgetMillis();
+
+    @Key("network.cache.enabled")
+    @Default("false")
+    boolean isNetworkCacheEnabled();
+
+    @Key("network.cache.refresh.interval.seconds")
+    @Default("30")
+    int getNetworkCacheRefreshIntervalSeconds();
+
     @Key("isl.cost.when.unstable")
     @Default("10000")
     int getUnstableCostRaise();
@@ -16,6 +16,8 @@
 package org.openkilda.pce;
 
 import org.openkilda.pce.finder.BestWeightAndShortestPathFinder;
+import org.openkilda.pce.finder.DijkstraPathFinder;
+import org.openkilda.pce.finder.PathFinder;
 import org.openkilda.pce.impl.InMemoryPathComputer;
 
 /**
@@ -38,8 +40,36 @@ public class PathComputerFactory {
      * @return {@link PathComputer} instance
      */
     public PathComputer getPathComputer() {
-        return new InMemoryPathComputer(availableNetworkFactory,
-                new BestWeightAndShortestPathFinder(config.getMaxAllowedDepth()),
-                config);
+        return new InMemoryPathComputer(availableNetworkFactory, getPathFinder(), config);
+    }
+
+    private PathFinder getPathFinder() {
+        switch (PathFinderType.from(config.getPathFinder())) {
+            case DIJKSTRA:
+                return new DijkstraPathFinder(config.getMaxAllowedDepth(), config.getKShortestPathsParallelism());
+            case BEST_WEIGHT_AND_SHORTEST:
+            default:
+                return new BestWeightAndShortestPathFinder(config.getMaxAllowedDepth());
+        }
+    }
+
+    public enum PathFinderType {
+        /**
+         * Depth-first search with pruning by the best known weight.
+         */
+        BEST_WEIGHT_AND_SHORTEST,
+
+        /**
+         * Dijkstra's algorithm over a binary heap.
+         */
+        DIJKSTRA;
+
+        private static PathFinderType from(String pathFinder) {
+            try {
+                return valueOf(pathFinder.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("PathFinder %s is not supported", pathFinder));
+            }
+        }
     }
 }
@@ -0,0 +1,154 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.cache;
+
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.IslEndpoint;
+import org.openkilda.pce.Path;
+import org.openkilda.pce.PathComputerConfig;
+import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.persistence.repositories.RepositoryFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Long-lived in-memory copy of the active network used by path computation. It keeps one {@link NetworkSnapshot}
+ * per transit encapsulation type, loads it lazily, accounts bandwidth of the computed paths, drops it on reported
+ * network changes and reconciles it with the persistence layer once the refresh interval is exceeded.
+ * <p/>
+ * Readers always get an immutable snapshot, so the cost of serving a path computation doesn't depend on the number
+ * of concurrent computations. Writers are serialized.
+ */
+@Slf4j
+public class NetworkCache {
+    private final IslRepository islRepository;
+    private final Duration refreshInterval;
+    private final Clock clock;
+
+    private final Map<FlowEncapsulationType, NetworkSnapshot> snapshots = new EnumMap<>(FlowEncapsulationType.class);
+    private final AtomicLong versionSequence = new AtomicLong();
+    private Set<IslEndpoint> lastChange = Collections.emptySet();
+
+    public NetworkCache(PathComputerConfig config, RepositoryFactory repositoryFactory) {
+        this(repositoryFactory.createIslRepository(),
+                Duration.ofSeconds(config.getNetworkCacheRefreshIntervalSeconds()), Clock.systemUTC());
+    }
+
+    @VisibleForTesting
+    NetworkCache(IslRepository islRepository, Duration refreshInterval, Clock clock) {
+        this.islRepository = islRepository;
+        this.refreshInterval = refreshInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the current snapshot of links which support the encapsulation type. The snapshot is (re)loaded from
+     * the persistence layer if it is missing or older than the refresh interval.
+     */
+    public synchronized NetworkSnapshot getSnapshot(FlowEncapsulationType encapsulationType) {
+        NetworkSnapshot snapshot = snapshots.get(encapsulationType);
+        Instant now = clock.instant();
+        if (snapshot == null || !now.isBefore(snapshot.getLoadedAt().plus(refreshInterval))) {
+            snapshot = load(encapsulationType, now);
+            snapshots.put(encapsulationType, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drops all snapshots, so the next request reads the network from the persistence layer.
+     */
+    public synchronized void invalidate() {
+        snapshots.clear();
+    }
+
+    /**
+     * Drops the snapshot for the encapsulation type if it was patched locally since loading, i.e. if it may differ
+     * from the persisted state.
+     *
+     * @return true if the snapshot was dropped.
+     */
+    public synchronized boolean invalidateIfModified(FlowEncapsulationType encapsulationType) {
+        NetworkSnapshot snapshot = snapshots.get(encapsulationType);
+        if (snapshot != null && snapshot.isModified()) {
+            snapshots.remove(encapsulationType);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Handles a network change reported by the affected ISL endpoints (e.g. from a reroute request). The snapshots are
+     * dropped once per distinct set of endpoints, so a storm of requests caused by the same ISL event reloads the
+     * network only once.
+     */
+    public synchronized void invalidateOnChange(Set<IslEndpoint> affectedEndpoints) {
+        if (affectedEndpoints.isEmpty() || affectedEndpoints.equals(lastChange)) {
+            return;
+        }
+        log.debug("Network change on {} has been reported, drop network snapshots", affectedEndpoints);
+        lastChange = new HashSet<>(affectedEndpoints);
+        snapshots.clear();
+    }
+
+    /**
+     * Deducts the bandwidth along the paths from all snapshots that contain their links. It is used to account paths
+     * allocated since the snapshot was loaded, the deduction is replaced by the persisted value on the next refresh.
+     */
+    public synchronized void consumeBandwidth(Collection<Path> paths, long bandwidth) {
+        Collection<NetworkLink.Key> keys = paths.stream()
+                .flatMap(path -> path.getSegments().stream())
+                .map(segment -> new NetworkLink.Key(segment.getSrcSwitchId(), segment.getSrcPort(),
+                        segment.getDestSwitchId(), segment.getDestPort()))
+                .collect(Collectors.toList());
+        if (bandwidth <= 0 || keys.isEmpty()) {
+            return;
+        }
+        patchAll(links -> keys.forEach(key -> links.computeIfPresent(key,
+                (ignore, link) -> link.toBuilder()
+                        .availableBandwidth(link.getAvailableBandwidth() - bandwidth)
+                        .build())));
+    }
+
+    private void patchAll(Consumer<Map<NetworkLink.Key, NetworkLink>> modification) {
+        snapshots.replaceAll((encapsulationType, snapshot) ->
+                snapshot.update(versionSequence.incrementAndGet(), modification));
+    }
+
+    private NetworkSnapshot load(FlowEncapsulationType encapsulationType, Instant now) {
+        Collection<NetworkLink> links = islRepository.findAllActiveByEncapsulationType(encapsulationType).stream()
+                .map(NetworkLink::fromIsl)
+                .collect(Collectors.toList());
+        NetworkSnapshot snapshot = NetworkSnapshot.load(
+                encapsulationType, versionSequence.incrementAndGet(), now, links);
+        log.debug("Loaded network snapshot {} with {} links", snapshot, snapshot.size());
+        return snapshot;
+    }
+}
@@ -0,0 +1,83 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.cache;
+
+import org.openkilda.model.Isl;
+import org.openkilda.model.SwitchId;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Immutable, persistence-detached view of an active ISL. Unlike {@link Isl} it can be safely shared between
+ * threads and kept across transactions.
+ */
+@Value
+@Builder(toBuilder = true)
+public class NetworkLink {
+    @NonNull
+    private SwitchId srcSwitchId;
+    private String srcPop;
+    private int srcPort;
+    @NonNull
+    private SwitchId destSwitchId;
+    private String destPop;
+    private int destPort;
+
+    private int cost;
+    private long latency;
+    private long availableBandwidth;
+    private boolean underMaintenance;
+    private boolean unstable;
+
+    public Key getKey() {
+        return new Key(srcSwitchId, srcPort, destSwitchId, destPort);
+    }
+
+    public Key getReverseKey() {
+        return new Key(destSwitchId, destPort, srcSwitchId, srcPort);
+    }
+
+    /**
+     * Makes a detached copy of the {@link Isl} properties used by path computation.
+     */
+    public static NetworkLink fromIsl(Isl isl) {
+        return NetworkLink.builder()
+                .srcSwitchId(isl.getSrcSwitch().getSwitchId())
+                .srcPop(isl.getSrcSwitch().getPop())
+                .srcPort(isl.getSrcPort())
+                .destSwitchId(isl.getDestSwitch().getSwitchId())
+                .destPop(isl.getDestSwitch().getPop())
+                .destPort(isl.getDestPort())
+                .cost(isl.getCost())
+                .latency(isl.getLatency())
+                .availableBandwidth(isl.getAvailableBandwidth())
+                .underMaintenance(isl.isUnderMaintenance())
+                .unstable(isl.isUnstable())
+                .build();
+    }
+
+    @Value
+    public static class Key {
+        @NonNull
+        private SwitchId srcSwitchId;
+        private int srcPort;
+        @NonNull
+        private SwitchId destSwitchId;
+        private int destPort;
+    }
+}
@@ -0,0 +1,99 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.cache;
+
+import org.openkilda.model.FlowEncapsulationType;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Immutable, versioned set of active links which support a specific transit encapsulation. Modifications produce
+ * a new snapshot (copy-on-write), so a snapshot handed to a path computation never changes underneath it.
+ */
+@Getter
+@ToString(exclude = "links")
+public final class NetworkSnapshot {
+    @NonNull
+    private final FlowEncapsulationType encapsulationType;
+
+    private final long version;
+
+    /**
+     * The moment when the links were read from the persistence layer.
+     */
+    @NonNull
+    private final Instant loadedAt;
+
+    /**
+     * Whether the snapshot was changed locally since it was read from the persistence layer.
+     */
+    private final boolean modified;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<NetworkLink.Key, NetworkLink> links;
+
+    private NetworkSnapshot(FlowEncapsulationType encapsulationType, long version, Instant loadedAt,
+                            boolean modified, Map<NetworkLink.Key, NetworkLink> links) {
+        this.encapsulationType = encapsulationType;
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.modified = modified;
+        this.links = Collections.unmodifiableMap(links);
+    }
+
+    /**
+     * Creates a snapshot from the links read from the persistence layer.
+     */
+    public static NetworkSnapshot load(FlowEncapsulationType encapsulationType, long version, Instant loadedAt,
+                                       Collection<NetworkLink> links) {
+        Map<NetworkLink.Key, NetworkLink> index = new HashMap<>(links.size() * 2);
+        for (NetworkLink link : links) {
+            index.put(link.getKey(), link);
+        }
+        return new NetworkSnapshot(encapsulationType, version, loadedAt, false, index);
+    }
+
+    public Collection<NetworkLink> getLinks() {
+        return links.values();
+    }
+
+    public NetworkLink getLink(NetworkLink.Key key) {
+        return links.get(key);
+    }
+
+    public int size() {
+        return links.size();
+    }
+
+    /**
+     * Produces a new version of the snapshot by applying the modification to a copy of the links.
+     */
+    public NetworkSnapshot update(long newVersion, Consumer<Map<NetworkLink.Key, NetworkLink>> modification) {
+        Map<NetworkLink.Key, NetworkLink> copy = new HashMap<>(links);
+        modification.accept(copy);
+        return new NetworkSnapshot(encapsulationType, newVersion, loadedAt, true, copy);
+    }
+}
@@ -32,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Deque;
@@ -118,14 +119,15 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
     }
 
     /**
-     * Find N (or less) best paths. To find N paths Yen's algorithm is used.
+     * Find N (or less) best paths within the time budget. To find N paths Yen's algorithm is used.
      *
      * @return an list of N (or less) best paths.
      */
     @Override
     public List<List<Edge>> findNPathsBetweenSwitches(
             AvailableNetwork network, SwitchId startSwitchId, SwitchId endSwitchId, int count,
-            WeightFunction weightFunction) throws UnroutableFlowException {
+            WeightFunction weightFunction, Duration timeBudget) throws UnroutableFlowException {
+        Deadline deadline = Deadline.after(timeBudget);
 
         Node start = network.getSwitch(startSwitchId);
         Node end = network.getSwitch(endSwitchId);
@@ -141,7 +143,7 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
         // Initialize the set to store the potential kth shortest path.
         Set<List<Edge>> potentialKthShortestPaths = new HashSet<>();
 
-        for (int k = 1; k < count; k++) {
+        for (int k = 1; k < count && !deadline.isExceeded(); k++) {
             List<Edge> bestPath = bestPaths.get(k - 1);
             for (int i = 0; i < bestPath.size(); i++) {
                 // Spur node is retrieved from the previous k-shortest path.
@@ -254,7 +256,7 @@ public class BestWeightAndShortestPathFinder implements PathFinder {
      *
      * @return A pair of ordered lists that represents the path from start to end, or an empty list
      */
-    private List<Edge> getPath(Node start, Node end, WeightFunction weightFunction) {
+    protected List<Edge> getPath(Node start, Node end, WeightFunction weightFunction) {
         long bestWeight = Long.MAX_VALUE; // Need to be long because it stores sum of ints.
         SearchNode bestPath = null;
 
@@ -0,0 +1,47 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import java.time.Duration;
+
+/**
+ * A point in time (by the monotonic clock) after which a path search should stop and return what it has found.
+ */
+final class Deadline {
+    private static final Deadline NONE = new Deadline(0, false);
+
+    private final long nanoTime;
+    private final boolean limited;
+
+    private Deadline(long nanoTime, boolean limited) {
+        this.nanoTime = nanoTime;
+        this.limited = limited;
+    }
+
+    /**
+     * Creates a deadline which comes after the time budget. A zero or negative budget means no deadline.
+     */
+    static Deadline after(Duration timeBudget) {
+        if (timeBudget == null || timeBudget.isZero() || timeBudget.isNegative()) {
+            return NONE;
+        }
+        return new Deadline(System.nanoTime() + timeBudget.toNanos(), true);
+    }
+
+    boolean isExceeded() {
+        return limited && System.nanoTime() - nanoTime >= 0;
+    }
+}
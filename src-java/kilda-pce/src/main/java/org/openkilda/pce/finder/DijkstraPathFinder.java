@@ -0,0 +1,584 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import static java.lang.String.format;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.impl.SharedForkJoinPools;
+import org.openkilda.pce.model.CompactNetwork;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.Node;
+import org.openkilda.pce.model.WeightFunction;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the best weight path with Dijkstra's algorithm over a binary heap. All search data is kept in primitive
+ * arrays, each outgoing link is weighed once per expansion and no intermediate path copies are made.
+ * <p/>
+ * The depth limit is honoured exactly: a switch may be expanded again only if it is reached with fewer hops than
+ * on every previous expansion (each next expansion has a greater or equal weight), so a cheap but too deep path
+ * doesn't hide a more expensive one which fits the limit. Ties are broken by the number of hops and then by
+ * switch ids along the path, which matches the order the depth-first search walks the neighbours in.
+ * <p/>
+ * A single search walks the network model lazily. Yen's k-shortest paths builds a {@link CompactNetwork} once and
+ * excludes links and switches of the root paths with bit masks instead of removing and restoring them in the
+ * network model. The masks of a spur search are immutable, so the spur searches of each k may run in parallel on
+ * a shared fork-join pool. The reverse path and the max weight search are inherited from
+ * {@link BestWeightAndShortestPathFinder}.
+ */
+public class DijkstraPathFinder extends BestWeightAndShortestPathFinder {
+    private final int allowedDepth;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs the finder with the specified limit on path depth.
+     *
+     * @param allowedDepth the allowed depth for a potential path.
+     */
+    public DijkstraPathFinder(int allowedDepth) {
+        this(allowedDepth, 1);
+    }
+
+    /**
+     * Constructs the finder with the specified limit on path depth and the number of threads to run the spur
+     * searches of Yen's algorithm in.
+     *
+     * @param allowedDepth the allowed depth for a potential path.
+     * @param parallelism the number of threads for spur searches, 1 or less means the calling thread only. The pool
+     *                    of the threads is shared with other finders of the same parallelism.
+     */
+    public DijkstraPathFinder(int allowedDepth, int parallelism) {
+        super(allowedDepth);
+        this.allowedDepth = allowedDepth;
+        this.pool = parallelism > 1 ? SharedForkJoinPools.get(parallelism) : null;
+    }
+
+    @Override
+    protected List<Edge> getPath(Node start, Node end, WeightFunction weightFunction) {
+        NetworkSearch search = new NetworkSearch();
+        search.addLabel(search.indexOf(start), 0, 0, -1, -1);
+
+        while (!search.isEmpty()) {
+            int label = search.poll();
+            if (!search.settle(label)) {
+                continue;
+            }
+            int node = search.getNode(label);
+            if (search.nodes[node].equals(end)) {
+                return search.toEdges(search.buildPath(label));
+            }
+            int hops = search.getHops(label);
+            if (hops >= allowedDepth) {
+                continue;
+            }
+
+            long weight = search.getWeight(label);
+            for (Edge edge : search.getOutgoingLinks(node)) {
+                int target = search.indexOf(edge.getDestSwitch());
+                if (search.canImprove(target, hops + 1)) {
+                    search.addLabel(target, weight + weightFunction.apply(edge), hops + 1, label,
+                            search.addEdge(edge));
+                }
+            }
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * Find N (or less) best paths within the time budget. To find N paths Yen's algorithm is used.
+     *
+     * @return an list of N (or less) best paths.
+     */
+    @Override
+    public List<List<Edge>> findNPathsBetweenSwitches(
+            AvailableNetwork network, SwitchId startSwitchId, SwitchId endSwitchId, int count,
+            WeightFunction weightFunction, Duration timeBudget) throws UnroutableFlowException {
+        Deadline deadline = Deadline.after(timeBudget);
+
+        Node start = network.getSwitch(startSwitchId);
+        Node end = network.getSwitch(endSwitchId);
+        if (start == null || end == null) {
+            throw new UnroutableFlowException(format("Switch %s doesn't have links with enough bandwidth",
+                    start == null ? startSwitchId : endSwitchId));
+        }
+
+        CompactNetwork graph = CompactNetwork.build(start, weightFunction);
+        int startIndex = graph.indexOf(startSwitchId);
+        int endIndex = graph.indexOf(endSwitchId);
+
+        // Determine the shortest path from the start to the end.
+        List<CandidatePath> bestPaths = new ArrayList<>();
+        bestPaths.add(new CandidatePath(graph, endIndex < 0 ? new int[0]
+                : findPath(graph, startIndex, endIndex, new BitSet(), new BitSet())));
+
+        // Initialize the set to store the potential kth shortest path.
+        Set<CandidatePath> potentialKthShortestPaths = new HashSet<>();
+
+        ForkJoinPool spurPool = count > 1 ? pool : null;
+        for (int k = 1; k < count && !deadline.isExceeded(); k++) {
+            int[] bestPath = bestPaths.get(k - 1).getEdges();
+            List<SpurSearch> spurSearches = new ArrayList<>(bestPath.length);
+            for (int i = 0; i < bestPath.length; i++) {
+                spurSearches.add(new SpurSearch(graph, bestPaths, bestPath, i));
+            }
+
+            potentialKthShortestPaths.addAll(runSpurSearches(spurPool, graph, endIndex, spurSearches));
+
+            // Add the lowest weight path becomes the k-shortest path.
+            CandidatePath newBestPath = getBestPotentialKthShortestPath(potentialKthShortestPaths, bestPaths);
+            if (newBestPath == null) {
+                break;
+            }
+            bestPaths.add(newBestPath);
+        }
+
+        List<List<Edge>> result = new ArrayList<>(bestPaths.size());
+        for (CandidatePath path : bestPaths) {
+            result.add(graph.toEdges(path.getEdges()));
+        }
+        return result;
+    }
+
+    private List<CandidatePath> runSpurSearches(ForkJoinPool pool, CompactNetwork graph, int end,
+                                                List<SpurSearch> spurSearches) {
+        if (pool == null || spurSearches.size() <= 1) {
+            return spurSearches.stream()
+                    .map(spurSearch -> spurSearch.run(graph, end))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        try {
+            return pool.submit(() -> spurSearches.parallelStream()
+                    .map(spurSearch -> spurSearch.run(graph, end))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching for spur paths", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to search for spur paths", e.getCause());
+        }
+    }
+
+    private int[] findPath(CompactNetwork graph, int start, int end, BitSet removedEdges, BitSet removedNodes) {
+        CompactSearch search = new CompactSearch(graph.getNodesCount());
+        search.addLabel(start, 0, 0, -1, -1);
+
+        while (!search.isEmpty()) {
+            int label = search.poll();
+            if (!search.settle(label)) {
+                continue;
+            }
+            int node = search.getNode(label);
+            if (node == end) {
+                return search.buildPath(label);
+            }
+            int hops = search.getHops(label);
+            if (hops >= allowedDepth) {
+                continue;
+            }
+
+            long weight = search.getWeight(label);
+            for (int edge = graph.getOutgoingEdgesFrom(node); edge < graph.getOutgoingEdgesTo(node); edge++) {
+                int target = graph.getDestNode(edge);
+                if (search.canImprove(target, hops + 1) && !removedEdges.get(edge) && !removedNodes.get(target)) {
+                    search.addLabel(target, weight + graph.getWeight(edge), hops + 1, label, edge);
+                }
+            }
+        }
+
+        return new int[0];
+    }
+
+    private static boolean isSameRoot(int[] left, int[] right, int length) {
+        for (int i = 0; i < length; i++) {
+            if (left[i] != right[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static CandidatePath getBestPotentialKthShortestPath(Set<CandidatePath> potentialKthShortestPaths,
+                                                                 List<CandidatePath> bestPaths) {
+        CandidatePath bestKthShortestPath = null;
+        for (CandidatePath path : potentialKthShortestPaths) {
+            if (!bestPaths.contains(path) && (bestKthShortestPath == null
+                    || path.getMinAvailableBandwidth() > bestKthShortestPath.getMinAvailableBandwidth()
+                    || (path.getMinAvailableBandwidth() == bestKthShortestPath.getMinAvailableBandwidth()
+                    && path.getWeight() < bestKthShortestPath.getWeight()))) {
+                bestKthShortestPath = path;
+            }
+        }
+        potentialKthShortestPaths.remove(bestKthShortestPath);
+        return bestKthShortestPath;
+    }
+
+    /**
+     * A spur search of Yen's algorithm: the root path of the previous k-shortest path and the masks of the links and
+     * switches to exclude. The masks are built upfront and never change, so spur searches of the same k run
+     * independently of each other.
+     */
+    private final class SpurSearch {
+        private final int[] rootPath;
+        private final int spurNode;
+        private final BitSet removedEdges;
+        private final BitSet removedNodes;
+
+        SpurSearch(CompactNetwork graph, List<CandidatePath> bestPaths, int[] bestPath, int spurIndex) {
+            rootPath = Arrays.copyOf(bestPath, spurIndex);
+            // Spur node is retrieved from the previous k-shortest path.
+            spurNode = graph.getSrcNode(bestPath[spurIndex]);
+
+            // Exclude the links that are part of the previous shortest paths which share the same root path.
+            removedEdges = new BitSet(graph.getEdgesCount());
+            for (CandidatePath candidate : bestPaths) {
+                int[] path = candidate.getEdges();
+                if (path.length > spurIndex && isSameRoot(bestPath, path, spurIndex)
+                        && graph.getSrcNode(path[spurIndex]) == spurNode) {
+                    removedEdges.set(path[spurIndex]);
+                    int reverse = graph.getReverseEdge(path[spurIndex]);
+                    if (reverse >= 0) {
+                        removedEdges.set(reverse);
+                    }
+                }
+            }
+
+            // Exclude the switches of the root path (without spur node).
+            removedNodes = new BitSet(graph.getNodesCount());
+            for (int edge : rootPath) {
+                removedNodes.set(graph.getSrcNode(edge));
+            }
+        }
+
+        /**
+         * Calculates the spur path from the spur node to the end.
+         *
+         * @return the entire path made up of the root path and spur path, or null if there is no spur path.
+         */
+        CandidatePath run(CompactNetwork graph, int end) {
+            int[] pathFromSpurNode = findPath(graph, spurNode, end, removedEdges, removedNodes);
+            if (pathFromSpurNode.length == 0) {
+                return null;
+            }
+            int[] totalPath = Arrays.copyOf(rootPath, rootPath.length + pathFromSpurNode.length);
+            System.arraycopy(pathFromSpurNode, 0, totalPath, rootPath.length, pathFromSpurNode.length);
+            return new CandidatePath(graph, totalPath);
+        }
+    }
+
+    /**
+     * A path of edge indexes of a {@link CompactNetwork} with its precalculated weight and bandwidth.
+     */
+    @Getter
+    @EqualsAndHashCode(of = "edges")
+    private static final class CandidatePath {
+        private final int[] edges;
+        private final long weight;
+        private final long minAvailableBandwidth;
+
+        CandidatePath(CompactNetwork graph, int[] edges) {
+            this.edges = edges;
+            long totalWeight = 0;
+            long minBandwidth = Long.MAX_VALUE;
+            for (int edge : edges) {
+                totalWeight += graph.getWeight(edge);
+                minBandwidth = Math.min(minBandwidth, graph.getAvailableBandwidth(edge));
+            }
+            this.weight = totalWeight;
+            this.minAvailableBandwidth = minBandwidth;
+        }
+    }
+
+    /**
+     * Search over the network model. Switches and links are interned into int indexes on discovery.
+     */
+    private static final class NetworkSearch extends LabelQueue {
+        private static final Comparator<Edge> NEIGHBOUR_ORDER =
+                Comparator.comparing(edge -> edge.getDestSwitch().getSwitchId());
+
+        private final Map<Node, Integer> indexes = new HashMap<>();
+        private final List<Edge> edges = new ArrayList<>();
+        private Node[] nodes = new Node[INITIAL_CAPACITY];
+        private Edge[][] outgoing = new Edge[INITIAL_CAPACITY][];
+        private int nodesCount;
+
+        NetworkSearch() {
+            super(INITIAL_CAPACITY);
+        }
+
+        int indexOf(Node node) {
+            Integer index = indexes.get(node);
+            if (index != null) {
+                return index;
+            }
+            if (nodesCount == nodes.length) {
+                int capacity = nodesCount * 2;
+                nodes = Arrays.copyOf(nodes, capacity);
+                outgoing = Arrays.copyOf(outgoing, capacity);
+                ensureNodesCapacity(capacity);
+            }
+            nodes[nodesCount] = node;
+            indexes.put(node, nodesCount);
+            return nodesCount++;
+        }
+
+        Edge[] getOutgoingLinks(int node) {
+            if (outgoing[node] == null) {
+                Edge[] links = nodes[node].getOutgoingLinks().toArray(new Edge[0]);
+                Arrays.sort(links, NEIGHBOUR_ORDER);
+                outgoing[node] = links;
+            }
+            return outgoing[node];
+        }
+
+        int addEdge(Edge edge) {
+            edges.add(edge);
+            return edges.size() - 1;
+        }
+
+        List<Edge> toEdges(int[] path) {
+            List<Edge> result = new ArrayList<>(path.length);
+            for (int edge : path) {
+                result.add(edges.get(edge));
+            }
+            return result;
+        }
+
+        @Override
+        int compareNodes(int left, int right) {
+            return nodes[left].getSwitchId().compareTo(nodes[right].getSwitchId());
+        }
+    }
+
+    /**
+     * Search over a {@link CompactNetwork}, its switch indexes follow the switch id order.
+     */
+    private static final class CompactSearch extends LabelQueue {
+        CompactSearch(int nodesCount) {
+            super(nodesCount);
+        }
+
+        @Override
+        int compareNodes(int left, int right) {
+            return Integer.compare(left, right);
+        }
+    }
+
+    /**
+     * Labels of a single search and the binary heap over them. A label is a (switch, weight, hops) tuple with links
+     * to its parent label and to the edge it was reached by.
+     */
+    private abstract static class LabelQueue {
+        static final int INITIAL_CAPACITY = 64;
+
+        private int[] settledHops;
+
+        private int[] labelNode = new int[INITIAL_CAPACITY];
+        private long[] labelWeight = new long[INITIAL_CAPACITY];
+        private int[] labelHops = new int[INITIAL_CAPACITY];
+        private int[] labelParent = new int[INITIAL_CAPACITY];
+        private int[] labelEdge = new int[INITIAL_CAPACITY];
+        private int labelsCount;
+
+        private int[] heap = new int[INITIAL_CAPACITY];
+        private int heapSize;
+
+        LabelQueue(int nodesCapacity) {
+            settledHops = new int[nodesCapacity];
+            Arrays.fill(settledHops, Integer.MAX_VALUE);
+        }
+
+        abstract int compareNodes(int left, int right);
+
+        void ensureNodesCapacity(int capacity) {
+            int current = settledHops.length;
+            if (capacity > current) {
+                settledHops = Arrays.copyOf(settledHops, capacity);
+                Arrays.fill(settledHops, current, capacity, Integer.MAX_VALUE);
+            }
+        }
+
+        void addLabel(int node, long weight, int hops, int parent, int edge) {
+            if (labelsCount == labelNode.length) {
+                int capacity = labelsCount * 2;
+                labelNode = Arrays.copyOf(labelNode, capacity);
+                labelWeight = Arrays.copyOf(labelWeight, capacity);
+                labelHops = Arrays.copyOf(labelHops, capacity);
+                labelParent = Arrays.copyOf(labelParent, capacity);
+                labelEdge = Arrays.copyOf(labelEdge, capacity);
+            }
+            int label = labelsCount++;
+            labelNode[label] = node;
+            labelWeight[label] = weight;
+            labelHops[label] = hops;
+            labelParent[label] = parent;
+            labelEdge[label] = edge;
+            push(label);
+        }
+
+        int getNode(int label) {
+            return labelNode[label];
+        }
+
+        long getWeight(int label) {
+            return labelWeight[label];
+        }
+
+        int getHops(int label) {
+            return labelHops[label];
+        }
+
+        /**
+         * Marks the switch of the label as expanded with the label hops.
+         *
+         * @return false if a lighter label with the same or lower number of hops has already been expanded.
+         */
+        boolean settle(int label) {
+            int node = labelNode[label];
+            if (labelHops[label] >= settledHops[node]) {
+                return false;
+            }
+            settledHops[node] = labelHops[label];
+            return true;
+        }
+
+        boolean canImprove(int node, int hops) {
+            return hops < settledHops[node];
+        }
+
+        int[] buildPath(int label) {
+            int[] path = new int[labelHops[label]];
+            for (int current = label, i = path.length - 1; i >= 0; current = labelParent[current], i--) {
+                path[i] = labelEdge[current];
+            }
+            return path;
+        }
+
+        boolean isEmpty() {
+            return heapSize == 0;
+        }
+
+        int poll() {
+            int top = heap[0];
+            heapSize--;
+            if (heapSize > 0) {
+                heap[0] = heap[heapSize];
+                siftDown(0);
+            }
+            return top;
+        }
+
+        private void push(int label) {
+            if (heapSize == heap.length) {
+                heap = Arrays.copyOf(heap, heapSize * 2);
+            }
+            heap[heapSize] = label;
+            siftUp(heapSize++);
+        }
+
+        private void siftUp(int position) {
+            int label = heap[position];
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (!less(label, heap[parent])) {
+                    break;
+                }
+                heap[position] = heap[parent];
+                position = parent;
+            }
+            heap[position] = label;
+        }
+
+        private void siftDown(int position) {
+            int label = heap[position];
+            int half = heapSize >>> 1;
+            while (position < half) {
+                int child = 2 * position + 1;
+                int right = child + 1;
+                if (right < heapSize && less(heap[right], heap[child])) {
+                    child = right;
+                }
+                if (!less(heap[child], label)) {
+                    break;
+                }
+                heap[position] = heap[child];
+                position = child;
+            }
+            heap[position] = label;
+        }
+
+        private boolean less(int left, int right) {
+            if (labelWeight[left] != labelWeight[right]) {
+                return labelWeight[left] < labelWeight[right];
+            }
+            if (labelHops[left] != labelHops[right]) {
+                return labelHops[left] < labelHops[right];
+            }
+            int bySwitch = labelNode[left] == labelNode[right]
+                    ? comparePaths(left, right)
+                    : compareNodes(labelNode[left], labelNode[right]);
+            if (bySwitch != 0) {
+                return bySwitch < 0;
+            }
+            return left < right;
+        }
+
+        /**
+         * Compares two paths of the same length by switch ids starting from the source. Only called on full ties,
+         * so the allocation here doesn't affect a regular search.
+         */
+        private int comparePaths(int left, int right) {
+            int length = labelHops[left] + 1;
+            int[] leftNodes = new int[length];
+            int[] rightNodes = new int[length];
+            for (int i = length - 1; i >= 0; i--) {
+                leftNodes[i] = labelNode[left];
+                rightNodes[i] = labelNode[right];
+                left = labelParent[left];
+                right = labelParent[right];
+            }
+            for (int i = 0; i < length; i++) {
+                if (leftNodes[i] != rightNodes[i]) {
+                    return compareNodes(leftNodes[i], rightNodes[i]);
+                }
+            }
+            return 0;
+        }
+    }
+}
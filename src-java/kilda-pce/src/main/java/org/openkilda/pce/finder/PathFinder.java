@@ -23,6 +23,7 @@ import org.openkilda.pce.model.WeightFunction;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -54,6 +55,19 @@ public interface PathFinder {
      *
      * @return an list of N (or less) best paths.
      */
+    default List<List<Edge>> findNPathsBetweenSwitches(AvailableNetwork network, SwitchId startSwitchId,
+                                                       SwitchId endSwitchId, int count, WeightFunction weightFunction)
+            throws UnroutableFlowException {
+        return findNPathsBetweenSwitches(network, startSwitchId, endSwitchId, count, weightFunction, Duration.ZERO);
+    }
+
+    /**
+     * Find N (or less) best paths within the time budget. Once the budget is exceeded, the paths found so far are
+     * returned (at least the best one). A zero or negative budget means no limit.
+     *
+     * @return an list of N (or less) best paths.
+     */
     List<List<Edge>> findNPathsBetweenSwitches(AvailableNetwork network, SwitchId startSwitchId, SwitchId endSwitchId,
-                                               int count, WeightFunction weightFunction) throws UnroutableFlowException;
+                                               int count, WeightFunction weightFunction, Duration timeBudget)
+            throws UnroutableFlowException;
 }
@@ -19,6 +19,7 @@ import org.openkilda.model.Isl;
 import org.openkilda.model.PathSegment;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
+import org.openkilda.pce.cache.NetworkLink;
 import org.openkilda.pce.model.Edge;
 import org.openkilda.pce.model.Node;
 import org.openkilda.pce.model.WeightFunction;
@@ -81,6 +82,24 @@ public class AvailableNetwork {
         }
     }
 
+    /**
+     * Creates switches (if they are not created yet) and a link between them from the cached network snapshot.
+     */
+    public void addLink(NetworkLink link) {
+        Node srcSwitch = switches.computeIfAbsent(link.getSrcSwitchId(),
+                switchId -> Node.fromSwitchId(switchId, link.getSrcPop()));
+        Node dstSwitch = switches.computeIfAbsent(link.getDestSwitchId(),
+                switchId -> Node.fromSwitchId(switchId, link.getDestPop()));
+
+        Edge edge = Edge.fromNetworkLinkToBuilder(link)
+                .srcSwitch(srcSwitch)
+                .destSwitch(dstSwitch)
+                .build();
+        edges.add(edge);
+        srcSwitch.getOutgoingLinks().add(edge);
+        dstSwitch.getIncomingLinks().add(edge);
+    }
+
     private Node getOrInitSwitch(final Switch sw) {
         return switches.computeIfAbsent(sw.getSwitchId(), switchId ->  Node.fromSwitch(sw));
     }
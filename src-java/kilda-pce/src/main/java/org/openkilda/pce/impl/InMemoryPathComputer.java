@@ -25,24 +25,39 @@ import org.openkilda.model.PathId;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.pce.AvailableNetworkFactory;
+import org.openkilda.pce.BatchPathComputationResult;
 import org.openkilda.pce.Path;
 import org.openkilda.pce.PathComputer;
 import org.openkilda.pce.PathComputerConfig;
 import org.openkilda.pce.PathPair;
+import org.openkilda.pce.cache.NetworkLink;
+import org.openkilda.pce.cache.NetworkSnapshot;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.exception.UnroutableFlowException;
 import org.openkilda.pce.finder.PathFinder;
 import org.openkilda.pce.model.Edge;
 import org.openkilda.pce.model.WeightFunction;
 
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link PathComputer} that operates over in-memory {@link AvailableNetwork}.
@@ -54,18 +69,33 @@ public class InMemoryPathComputer implements PathComputer {
     private final AvailableNetworkFactory availableNetworkFactory;
     private final PathFinder pathFinder;
     private final PathComputerConfig config;
+    private final ForkJoinPool batchPool;
 
     public InMemoryPathComputer(AvailableNetworkFactory availableNetworkFactory, PathFinder pathFinder,
                                 PathComputerConfig config) {
         this.availableNetworkFactory = availableNetworkFactory;
         this.pathFinder = pathFinder;
         this.config = config;
+
+        int batchParallelism = config.getBatchParallelism();
+        batchPool = batchParallelism > 1 ? SharedForkJoinPools.get(batchParallelism) : null;
     }
 
     @Override
     public PathPair getPath(Flow flow, List<PathId> reusePathsResources)
             throws UnroutableFlowException, RecoverableException {
-        return getPath(availableNetworkFactory.getAvailableNetwork(flow, reusePathsResources), flow);
+        PathPair pathPair;
+        try {
+            pathPair = getPath(availableNetworkFactory.getAvailableNetwork(flow, reusePathsResources), flow);
+        } catch (UnroutableFlowException e) {
+            if (!availableNetworkFactory.invalidateModifiedNetwork(flow.getEncapsulationType())) {
+                throw e;
+            }
+            log.info("Retry path computation for flow {} over the refreshed network: {}",
+                    flow.getFlowId(), e.getMessage());
+            pathPair = getPath(availableNetworkFactory.getAvailableNetwork(flow, reusePathsResources), flow);
+        }
+        return pathPair;
     }
 
     private PathPair getPath(AvailableNetwork network, Flow flow) throws UnroutableFlowException {
@@ -93,6 +123,106 @@ public class InMemoryPathComputer implements PathComputer {
         return convertToPathPair(flow.getSrcSwitch().getSwitchId(), flow.getDestSwitch().getSwitchId(), biPath);
     }
 
+    @Override
+    public BatchPathComputationResult getPaths(Collection<Flow> flows) throws RecoverableException {
+        Map<String, PathPair> paths = new LinkedHashMap<>();
+        Map<String, UnroutableFlowException> unroutableFlows = new LinkedHashMap<>();
+        int deduplicated = 0;
+
+        Map<FlowEncapsulationType, List<Flow>> flowsByEncapsulation = flows.stream()
+                .collect(Collectors.groupingBy(Flow::getEncapsulationType,
+                        () -> new EnumMap<>(FlowEncapsulationType.class), Collectors.toList()));
+        for (Entry<FlowEncapsulationType, List<Flow>> entry : flowsByEncapsulation.entrySet()) {
+            NetworkSnapshot snapshot = availableNetworkFactory.getNetworkSnapshot(entry.getKey());
+            Map<String, PathPair> precomputed = getPathsInParallel(entry.getValue(), snapshot);
+            Map<NetworkLink.Key, Long> consumedBandwidth = new HashMap<>();
+            Map<Demand, PathPair> routedDemands = new HashMap<>();
+
+            for (Flow flow : entry.getValue()) {
+                Demand demand = flow.getGroupId() == null
+                        ? new Demand(flow, availableNetworkFactory.getReusedBandwidth(flow)) : null;
+                PathPair pathPair = precomputed.get(flow.getFlowId());
+                if (pathPair == null || isAffectedByConsumption(pathPair, consumedBandwidth)) {
+                    PathPair sameDemandPath = demand != null ? routedDemands.get(demand) : null;
+                    if (sameDemandPath != null && availableNetworkFactory.isPathAvailable(
+                            flow, sameDemandPath, snapshot, consumedBandwidth)) {
+                        pathPair = sameDemandPath;
+                        deduplicated++;
+                    } else {
+                        try {
+                            pathPair = getPath(availableNetworkFactory.getAvailableNetwork(
+                                    flow, snapshot, consumedBandwidth), flow);
+                        } catch (UnroutableFlowException e) {
+                            unroutableFlows.put(flow.getFlowId(), e);
+                            continue;
+                        }
+                    }
+                }
+                if (demand != null) {
+                    routedDemands.put(demand, pathPair);
+                }
+                if (!flow.isIgnoreBandwidth()) {
+                    Stream.of(pathPair.getForward(), pathPair.getReverse())
+                            .flatMap(path -> path.getSegments().stream())
+                            .forEach(segment -> consumedBandwidth.merge(toLinkKey(segment), flow.getBandwidth(),
+                                    Long::sum));
+                }
+                paths.put(flow.getFlowId(), pathPair);
+            }
+        }
+
+        log.info("Computed paths for {} of {} flows in a batch, {} of them took the path of the same demand",
+                paths.size(), flows.size(), deduplicated);
+        return new BatchPathComputationResult(paths, unroutableFlows);
+    }
+
+    @Override
+    public void onPathAllocated(Flow flow, PathPair pathPair) {
+        availableNetworkFactory.consumeBandwidth(flow, pathPair);
+    }
+
+    /**
+     * Computes paths of the flows in parallel over the unchanged snapshot. A path which goes over links consumed
+     * by a preceding flow of the batch has to be recomputed, others stay the best ones as link weights don't depend
+     * on the available bandwidth. Flows with diversity groups are skipped as they need the persistence layer.
+     */
+    private Map<String, PathPair> getPathsInParallel(List<Flow> flows, NetworkSnapshot snapshot) {
+        List<Flow> independentFlows = flows.stream()
+                .filter(flow -> flow.getGroupId() == null)
+                .collect(Collectors.toList());
+        if (batchPool == null || independentFlows.size() <= 1) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, PathPair> result = new ConcurrentHashMap<>();
+        try {
+            batchPool.submit(() -> independentFlows.parallelStream().forEach(flow -> {
+                try {
+                    result.put(flow.getFlowId(), getPath(availableNetworkFactory.getAvailableNetwork(
+                            flow, snapshot, Collections.emptyMap()), flow));
+                } catch (UnroutableFlowException | RecoverableException e) {
+                    log.debug("Flow {} will be recomputed sequentially: {}", flow.getFlowId(), e.getMessage());
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Failed to compute paths in parallel, fall back to sequential computation", e);
+        }
+        return result;
+    }
+
+    private static boolean isAffectedByConsumption(PathPair pathPair, Map<NetworkLink.Key, Long> consumedBandwidth) {
+        return !consumedBandwidth.isEmpty() && Stream.of(pathPair.getForward(), pathPair.getReverse())
+                .flatMap(path -> path.getSegments().stream())
+                .anyMatch(segment -> consumedBandwidth.containsKey(toLinkKey(segment)));
+    }
+
+    private static NetworkLink.Key toLinkKey(Path.Segment segment) {
+        return new NetworkLink.Key(segment.getSrcSwitchId(), segment.getSrcPort(),
+                segment.getDestSwitchId(), segment.getDestPort());
+    }
+
     private Pair<List<Edge>, List<Edge>> findPathInNetwork(Flow flow, AvailableNetwork network,
                                                            WeightFunction weightFunction)
             throws UnroutableFlowException {
@@ -134,7 +264,8 @@ public class InMemoryPathComputer implements PathComputer {
 
         List<List<Edge>> paths =
                 pathFinder.findNPathsBetweenSwitches(availableNetwork, srcSwitchId, dstSwitchId, count,
-                        getWeightFunctionByStrategy(pathComputationStrategy));
+                        getWeightFunctionByStrategy(pathComputationStrategy),
+                        Duration.ofMillis(config.getKShortestPathsTimeBudgetMillis()));
         return paths.stream()
                 .map(edges -> convertToPath(srcSwitchId, dstSwitchId, edges))
                 .sorted(Comparator.comparing(Path::getMinAvailableBandwidth)
@@ -221,4 +352,33 @@ public class InMemoryPathComputer implements PathComputer {
                 .latency(edge.getLatency())
                 .build();
     }
+
+    /**
+     * Path requirements of a flow without diversity group. The flows of the same demand get the same network from
+     * the snapshot, except for the bandwidth consumed by the preceding flows of the batch. Link weights don't depend
+     * on the bandwidth, so the path found for one of them stays the best for another one while it has enough
+     * bandwidth.
+     */
+    @Value
+    private static class Demand {
+        private FlowEncapsulationType encapsulationType;
+        private SwitchId srcSwitchId;
+        private SwitchId destSwitchId;
+        private long bandwidth;
+        private boolean ignoreBandwidth;
+        private PathComputationStrategy pathComputationStrategy;
+        private Long maxLatency;
+        private Map<NetworkLink.Key, Long> reusedBandwidth;
+
+        Demand(Flow flow, Map<NetworkLink.Key, Long> reusedBandwidth) {
+            encapsulationType = flow.getEncapsulationType();
+            srcSwitchId = flow.getSrcSwitch().getSwitchId();
+            destSwitchId = flow.getDestSwitch().getSwitchId();
+            bandwidth = flow.getBandwidth();
+            ignoreBandwidth = flow.isIgnoreBandwidth();
+            pathComputationStrategy = flow.getPathComputationStrategy();
+            maxLatency = flow.getMaxLatency();
+            this.reusedBandwidth = reusedBandwidth;
+        }
+    }
 }
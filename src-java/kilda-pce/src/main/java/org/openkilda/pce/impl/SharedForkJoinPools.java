@@ -0,0 +1,44 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Long-lived fork-join pools for parallel path computations, one per parallelism level. Path computers and finders
+ * may be created per request, so they take the pool from here instead of starting and stopping threads on each
+ * computation. Workers of an idle pool are terminated by the pool itself and are daemon threads.
+ */
+public final class SharedForkJoinPools {
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the pool of the parallelism level.
+     *
+     * @param parallelism the number of threads, must be greater than 1.
+     */
+    public static ForkJoinPool get(int parallelism) {
+        if (parallelism <= 1) {
+            throw new IllegalArgumentException(String.format("Invalid parallelism %d", parallelism));
+        }
+        return POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+    }
+
+    private SharedForkJoinPools() {
+    }
+}
@@ -0,0 +1,201 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.model;
+
+import org.openkilda.model.SwitchId;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only, array based (CSR) copy of the part of the network reachable from a switch. Switches are interned into
+ * int indexes in the order of their switch ids, edges are numbered so that the outgoing links of a switch form
+ * a contiguous range ordered by the destination switch. Edge weights are calculated once on build.
+ * <p/>
+ * The graph is never mutated: searches exclude links and switches with bit masks, so a single instance serves
+ * any number of searches (e.g. the spur searches of Yen's algorithm).
+ */
+public final class CompactNetwork {
+    private final SwitchId[] switchIds;
+    private final Map<SwitchId, Integer> indexes;
+
+    private final int[] outgoingOffsets;
+    private final int[] srcNodes;
+    private final int[] destNodes;
+    private final long[] weights;
+    private final long[] availableBandwidths;
+    private final Edge[] edges;
+
+    private int[] reverseEdges;
+
+    private CompactNetwork(SwitchId[] switchIds, Map<SwitchId, Integer> indexes, int[] outgoingOffsets,
+                           int[] srcNodes, int[] destNodes, long[] weights, long[] availableBandwidths,
+                           Edge[] edges) {
+        this.switchIds = switchIds;
+        this.indexes = indexes;
+        this.outgoingOffsets = outgoingOffsets;
+        this.srcNodes = srcNodes;
+        this.destNodes = destNodes;
+        this.weights = weights;
+        this.availableBandwidths = availableBandwidths;
+        this.edges = edges;
+    }
+
+    /**
+     * Builds the graph of the switches and links reachable from the start switch.
+     *
+     * @param start the switch to start the traversal from.
+     * @param weightFunction the function to weigh the links with.
+     */
+    public static CompactNetwork build(Node start, WeightFunction weightFunction) {
+        List<Node> nodes = new ArrayList<>();
+        Map<SwitchId, Integer> discovered = new HashMap<>();
+        Deque<Node> toVisit = new ArrayDeque<>();
+        discovered.put(start.getSwitchId(), 0);
+        toVisit.add(start);
+        int edgesCount = 0;
+        while (!toVisit.isEmpty()) {
+            Node current = toVisit.poll();
+            nodes.add(current);
+            for (Edge edge : current.getOutgoingLinks()) {
+                edgesCount++;
+                Node dest = edge.getDestSwitch();
+                if (discovered.putIfAbsent(dest.getSwitchId(), 0) == null) {
+                    toVisit.add(dest);
+                }
+            }
+        }
+
+        nodes.sort(Comparator.comparing(Node::getSwitchId));
+        SwitchId[] switchIds = new SwitchId[nodes.size()];
+        Map<SwitchId, Integer> indexes = new HashMap<>(nodes.size() * 2);
+        for (int i = 0; i < switchIds.length; i++) {
+            switchIds[i] = nodes.get(i).getSwitchId();
+            indexes.put(switchIds[i], i);
+        }
+
+        int[] outgoingOffsets = new int[switchIds.length + 1];
+        int[] srcNodes = new int[edgesCount];
+        int[] destNodes = new int[edgesCount];
+        long[] weights = new long[edgesCount];
+        long[] availableBandwidths = new long[edgesCount];
+        Edge[] edges = new Edge[edgesCount];
+        Comparator<Edge> neighbourOrder = Comparator.<Edge, Integer>comparing(
+                edge -> indexes.get(edge.getDestSwitch().getSwitchId()))
+                .thenComparingInt(Edge::getSrcPort);
+
+        int position = 0;
+        for (int node = 0; node < switchIds.length; node++) {
+            outgoingOffsets[node] = position;
+            Edge[] outgoing = nodes.get(node).getOutgoingLinks().toArray(new Edge[0]);
+            Arrays.sort(outgoing, neighbourOrder);
+            for (Edge edge : outgoing) {
+                srcNodes[position] = node;
+                destNodes[position] = indexes.get(edge.getDestSwitch().getSwitchId());
+                weights[position] = weightFunction.apply(edge);
+                availableBandwidths[position] = edge.getAvailableBandwidth();
+                edges[position] = edge;
+                position++;
+            }
+        }
+        outgoingOffsets[switchIds.length] = position;
+
+        return new CompactNetwork(switchIds, indexes, outgoingOffsets, srcNodes, destNodes, weights,
+                availableBandwidths, edges);
+    }
+
+    public int getNodesCount() {
+        return switchIds.length;
+    }
+
+    public int getEdgesCount() {
+        return edges.length;
+    }
+
+    /**
+     * Returns the index of the switch or -1 if it isn't reachable from the start switch.
+     */
+    public int indexOf(SwitchId switchId) {
+        Integer index = indexes.get(switchId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the first of the outgoing edges of the switch.
+     */
+    public int getOutgoingEdgesFrom(int node) {
+        return outgoingOffsets[node];
+    }
+
+    /**
+     * Returns the edge after the last of the outgoing edges of the switch.
+     */
+    public int getOutgoingEdgesTo(int node) {
+        return outgoingOffsets[node + 1];
+    }
+
+    public int getSrcNode(int edge) {
+        return srcNodes[edge];
+    }
+
+    public int getDestNode(int edge) {
+        return destNodes[edge];
+    }
+
+    public long getWeight(int edge) {
+        return weights[edge];
+    }
+
+    public long getAvailableBandwidth(int edge) {
+        return availableBandwidths[edge];
+    }
+
+    /**
+     * Returns the edge with swapped endpoints (the same ISL in the opposite direction) or -1 if there is no such
+     * edge in the graph.
+     */
+    public synchronized int getReverseEdge(int edge) {
+        if (reverseEdges == null) {
+            Map<Edge, Integer> edgeIndexes = new HashMap<>(edges.length * 2);
+            for (int i = 0; i < edges.length; i++) {
+                edgeIndexes.put(edges[i], i);
+            }
+            int[] reverse = new int[edges.length];
+            for (int i = 0; i < edges.length; i++) {
+                reverse[i] = edgeIndexes.getOrDefault(edges[i].swap(), -1);
+            }
+            reverseEdges = reverse;
+        }
+        return reverseEdges[edge];
+    }
+
+    /**
+     * Maps a path of edge indexes back to the network model.
+     */
+    public List<Edge> toEdges(int[] path) {
+        List<Edge> result = new ArrayList<>(path.length);
+        for (int edge : path) {
+            result.add(edges[edge]);
+        }
+        return result;
+    }
+}
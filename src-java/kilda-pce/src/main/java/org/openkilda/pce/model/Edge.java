@@ -16,6 +16,7 @@
 package org.openkilda.pce.model;
 
 import org.openkilda.model.Isl;
+import org.openkilda.pce.cache.NetworkLink;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -82,4 +83,21 @@ public class Edge {
                 .unstable(isl.isUnstable())
                 .availableBandwidth(isl.getAvailableBandwidth());
     }
+
+    /**
+     * Constructs {@link Edge} builder and maps properties from passed {@link NetworkLink} to them.
+     *
+     * @param link the cached link.
+     * @return a builder instance
+     */
+    public static Edge.EdgeBuilder fromNetworkLinkToBuilder(NetworkLink link) {
+        return Edge.builder()
+                .srcPort(link.getSrcPort())
+                .destPort(link.getDestPort())
+                .cost(link.getCost())
+                .latency(link.getLatency())
+                .underMaintenance(link.isUnderMaintenance())
+                .unstable(link.isUnstable())
+                .availableBandwidth(link.getAvailableBandwidth());
+    }
 }
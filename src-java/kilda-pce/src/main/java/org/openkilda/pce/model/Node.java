@@ -69,9 +69,20 @@ public class Node {
      * @return new {@link Node} instance.
      */
     public static Node fromSwitch(Switch sw) {
+        return fromSwitchId(sw.getSwitchId(), sw.getPop());
+    }
+
+    /**
+     * Constructs {@link Node} instance with passed {@link SwitchId} and pop.
+     *
+     * @param switchId the switch id.
+     * @param pop the pop of the switch.
+     * @return new {@link Node} instance.
+     */
+    public static Node fromSwitchId(SwitchId switchId, String pop) {
         return Node.builder()
-                .switchId(sw.getSwitchId())
-                .pop(sw.getPop())
+                .switchId(switchId)
+                .pop(pop)
                 .incomingLinks(new HashSet<>())
                 .outgoingLinks(new HashSet<>())
                 .build();
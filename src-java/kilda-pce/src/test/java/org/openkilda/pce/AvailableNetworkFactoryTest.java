@@ -17,6 +17,11 @@ package org.openkilda.pce;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.openkilda.model.Flow;
@@ -25,10 +30,14 @@ import org.openkilda.model.Isl;
 import org.openkilda.model.IslConfig;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
+import org.openkilda.pce.cache.NetworkCache;
+import org.openkilda.pce.cache.NetworkLink;
+import org.openkilda.pce.cache.NetworkSnapshot;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.impl.AvailableNetwork;
 import org.openkilda.pce.model.Edge;
 import org.openkilda.pce.model.Node;
+import org.openkilda.persistence.PersistenceException;
 import org.openkilda.persistence.repositories.FlowPathRepository;
 import org.openkilda.persistence.repositories.IslRepository;
 import org.openkilda.persistence.repositories.RepositoryFactory;
@@ -38,6 +47,8 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 
 public class AvailableNetworkFactoryTest {
@@ -123,6 +134,50 @@ public class AvailableNetworkFactoryTest {
         assertAvailableNetworkIsCorrect(isl, availableNetwork);
     }
 
+    @Test
+    public void shouldBuildAvailableNetworkFromNetworkCache() throws RecoverableException {
+        Flow flow = getFlow(false);
+        Isl isl = getIsl(flow);
+        isl.setAvailableBandwidth(flow.getBandwidth());
+        Isl reverseIsl = isl.toBuilder()
+                .srcSwitch(isl.getDestSwitch())
+                .srcPort(isl.getDestPort())
+                .destSwitch(isl.getSrcSwitch())
+                .destPort(isl.getSrcPort())
+                .availableBandwidth(flow.getBandwidth() - 1)
+                .build();
+        reverseIsl.setIslConfig(IslConfig.builder().build());
+
+        when(config.getNetworkStrategy()).thenReturn("COST");
+        when(config.getNetworkCacheRefreshIntervalSeconds()).thenReturn(60);
+        when(islRepository.findAllActiveByEncapsulationType(flow.getEncapsulationType()))
+                .thenReturn(Arrays.asList(isl, reverseIsl));
+
+        AvailableNetworkFactory cachedNetworkFactory = new AvailableNetworkFactory(config, repositoryFactory,
+                new NetworkCache(config, repositoryFactory));
+        AvailableNetwork availableNetwork = cachedNetworkFactory.getAvailableNetwork(flow, Collections.emptyList());
+        cachedNetworkFactory.getAvailableNetwork(flow, Collections.emptyList());
+
+        // the reverse ISL has not enough bandwidth
+        assertAvailableNetworkIsCorrect(isl, availableNetwork);
+        verify(islRepository, times(1)).findAllActiveByEncapsulationType(flow.getEncapsulationType());
+        verify(islRepository, never()).findActiveWithAvailableBandwidth(anyLong(), any());
+    }
+
+    @Test(expected = RecoverableException.class)
+    public void shouldWrapPersistenceErrorOfDiversityGroupForBatch() throws RecoverableException {
+        Flow flow = getFlow(false);
+        flow.setGroupId("diverse");
+
+        when(config.getNetworkStrategy()).thenReturn("COST");
+        when(flowPathRepository.findPathIdsByFlowGroupId("diverse"))
+                .thenThrow(new PersistenceException("test"));
+
+        NetworkSnapshot snapshot = NetworkSnapshot.load(flow.getEncapsulationType(), 0, Instant.now(),
+                Collections.singletonList(NetworkLink.fromIsl(getIsl(flow))));
+        availableNetworkFactory.getAvailableNetwork(flow, snapshot, Collections.emptyMap());
+    }
+
     private static Flow getFlow(boolean ignoreBandwidth) {
         return Flow.builder()
                 .flowId("test-id")
@@ -0,0 +1,142 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.Isl;
+import org.openkilda.model.IslConfig;
+import org.openkilda.model.IslEndpoint;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.Path;
+import org.openkilda.persistence.repositories.IslRepository;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+
+public class NetworkCacheTest {
+    private static final SwitchId SWITCH_ID_1 = new SwitchId(1);
+    private static final SwitchId SWITCH_ID_2 = new SwitchId(2);
+    private static final FlowEncapsulationType ENCAPSULATION_TYPE = FlowEncapsulationType.TRANSIT_VLAN;
+    private static final Duration REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    @Mock
+    private IslRepository islRepository;
+    @Mock
+    private Clock clock;
+
+    private NetworkCache networkCache;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(islRepository.findAllActiveByEncapsulationType(ENCAPSULATION_TYPE))
+                .thenReturn(Collections.singletonList(getIsl(100)));
+
+        networkCache = new NetworkCache(islRepository, REFRESH_INTERVAL, clock);
+    }
+
+    @Test
+    public void shouldReuseSnapshotWithinRefreshInterval() {
+        NetworkSnapshot first = networkCache.getSnapshot(ENCAPSULATION_TYPE);
+        when(clock.instant()).thenReturn(Instant.EPOCH.plus(REFRESH_INTERVAL).minusMillis(1));
+        NetworkSnapshot second = networkCache.getSnapshot(ENCAPSULATION_TYPE);
+
+        assertSame(first, second);
+        assertEquals(1, first.size());
+        verify(islRepository, times(1)).findAllActiveByEncapsulationType(ENCAPSULATION_TYPE);
+    }
+
+    @Test
+    public void shouldReloadSnapshotAfterRefreshInterval() {
+        NetworkSnapshot first = networkCache.getSnapshot(ENCAPSULATION_TYPE);
+        when(clock.instant()).thenReturn(Instant.EPOCH.plus(REFRESH_INTERVAL));
+        NetworkSnapshot second = networkCache.getSnapshot(ENCAPSULATION_TYPE);
+
+        assertNotEquals(first.getVersion(), second.getVersion());
+        verify(islRepository, times(2)).findAllActiveByEncapsulationType(ENCAPSULATION_TYPE);
+    }
+
+    @Test
+    public void shouldConsumeBandwidthInNewSnapshotVersion() {
+        NetworkSnapshot original = networkCache.getSnapshot(ENCAPSULATION_TYPE);
+        Path path = Path.builder()
+                .srcSwitchId(SWITCH_ID_1)
+                .destSwitchId(SWITCH_ID_2)
+                .segments(Collections.singletonList(Path.Segment.builder()
+                        .srcSwitchId(SWITCH_ID_1).srcPort(1)
+                        .destSwitchId(SWITCH_ID_2).destPort(2)
+                        .build()))
+                .build();
+
+        networkCache.consumeBandwidth(Collections.singletonList(path), 40);
+        NetworkSnapshot updated = networkCache.getSnapshot(ENCAPSULATION_TYPE);
+
+        NetworkLink.Key key = new NetworkLink.Key(SWITCH_ID_1, 1, SWITCH_ID_2, 2);
+        assertEquals(100, original.getLink(key).getAvailableBandwidth());
+        assertFalse(original.isModified());
+        assertEquals(60, updated.getLink(key).getAvailableBandwidth());
+        assertTrue(updated.isModified());
+        verify(islRepository, times(1)).findAllActiveByEncapsulationType(ENCAPSULATION_TYPE);
+
+        assertTrue(networkCache.invalidateIfModified(ENCAPSULATION_TYPE));
+        assertEquals(100, networkCache.getSnapshot(ENCAPSULATION_TYPE).getLink(key).getAvailableBandwidth());
+    }
+
+    @Test
+    public void shouldInvalidateSnapshotOncePerNetworkChange() {
+        networkCache.getSnapshot(ENCAPSULATION_TYPE);
+        IslEndpoint endpoint = new IslEndpoint(SWITCH_ID_1, 1);
+
+        networkCache.invalidateOnChange(Collections.singleton(endpoint));
+        networkCache.getSnapshot(ENCAPSULATION_TYPE);
+        networkCache.invalidateOnChange(Collections.singleton(endpoint));
+        networkCache.getSnapshot(ENCAPSULATION_TYPE);
+
+        verify(islRepository, times(2)).findAllActiveByEncapsulationType(ENCAPSULATION_TYPE);
+    }
+
+    private static Isl getIsl(long availableBandwidth) {
+        Isl isl = Isl.builder()
+                .srcSwitch(Switch.builder().switchId(SWITCH_ID_1).build())
+                .srcPort(1)
+                .destSwitch(Switch.builder().switchId(SWITCH_ID_2).build())
+                .destPort(2)
+                .cost(10)
+                .availableBandwidth(availableBandwidth)
+                .build();
+        isl.setIslConfig(IslConfig.builder().build());
+        return isl;
+    }
+}
@@ -75,7 +75,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldChooseExpensiveOverTooDeep() throws  UnroutableFlowException {
         AvailableNetwork network = buildLongAndExpensivePathsNetwork();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(2);
+        PathFinder pathFinder = createPathFinder(2);
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_4, WEIGHT_FUNCTION);
         List<Edge> fpath = pairPath.getLeft();
@@ -92,7 +92,7 @@ public class BestWeightAndShortestPathFinderTest {
             throws  UnroutableFlowException {
         AvailableNetwork network = buildLongAndExpensivePathsNetwork();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(2);
+        PathFinder pathFinder = createPathFinder(2);
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_4, SWITCH_ID_1, WEIGHT_FUNCTION);
         List<Edge> fpath = pairPath.getLeft();
@@ -108,7 +108,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldChooseDeeperOverExpensive() throws  UnroutableFlowException {
         AvailableNetwork network = buildLongAndExpensivePathsNetwork();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(4);
+        PathFinder pathFinder = createPathFinder(4);
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_4, WEIGHT_FUNCTION);
         List<Edge> fpath = pairPath.getLeft();
@@ -124,7 +124,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldChooseCheaperWithSameDepth() throws  UnroutableFlowException {
         AvailableNetwork network = buildLongAndExpensivePathsNetwork();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(3);
+        PathFinder pathFinder = createPathFinder(3);
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_5, WEIGHT_FUNCTION);
         List<Edge> fpath = pairPath.getLeft();
@@ -140,7 +140,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldChooseCheaperOverTooDeepMaxWeightStrategy() throws  UnroutableFlowException {
         AvailableNetwork network = buildLongAndExpensivePathsNetwork();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(2);
+        PathFinder pathFinder = createPathFinder(2);
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_3, WEIGHT_FUNCTION, Long.MAX_VALUE);
         List<Edge> fpath = pairPath.getLeft();
@@ -157,7 +157,7 @@ public class BestWeightAndShortestPathFinderTest {
             throws  UnroutableFlowException {
         AvailableNetwork network = buildLongAndExpensivePathsNetwork();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(2);
+        PathFinder pathFinder = createPathFinder(2);
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_3, SWITCH_ID_1, WEIGHT_FUNCTION, Long.MAX_VALUE);
         List<Edge> fpath = pairPath.getLeft();
@@ -173,7 +173,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldChooseDeeperOverCheaperMaxWeightStrategy() throws  UnroutableFlowException {
         AvailableNetwork network = buildLongAndExpensivePathsNetwork();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(4);
+        PathFinder pathFinder = createPathFinder(4);
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_3, WEIGHT_FUNCTION, Long.MAX_VALUE);
         List<Edge> fpath = pairPath.getLeft();
@@ -189,7 +189,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldChooseExpensiveWithSameDepthMaxWeightStrategy() throws  UnroutableFlowException {
         AvailableNetwork network = buildLongAndExpensivePathsNetwork();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(3);
+        PathFinder pathFinder = createPathFinder(3);
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_5, WEIGHT_FUNCTION, Long.MAX_VALUE);
         List<Edge> fpath = pairPath.getLeft();
@@ -226,7 +226,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldFailWhenPathIsLongerThenAllowedDepth() throws UnroutableFlowException {
         AvailableNetwork network = buildTestNetwork();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(1);
+        PathFinder pathFinder = createPathFinder(1);
         pathFinder.findPathInNetwork(network, SWITCH_ID_D, SWITCH_ID_F, WEIGHT_FUNCTION);
     }
 
@@ -234,7 +234,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldFailWhenPathIsLongerThenAllowedDepthMaxWeightStrategy() throws UnroutableFlowException {
         AvailableNetwork network = buildTestNetwork();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(1);
+        PathFinder pathFinder = createPathFinder(1);
         pathFinder.findPathInNetwork(network, SWITCH_ID_D, SWITCH_ID_F, WEIGHT_FUNCTION, Long.MAX_VALUE);
     }
 
@@ -242,7 +242,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldReturnTheShortestPath() throws  UnroutableFlowException {
         AvailableNetwork network = buildTestNetwork();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_E, SWITCH_ID_F, WEIGHT_FUNCTION);
         List<Edge> fpath = pairPath.getLeft();
@@ -263,7 +263,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldReturnThePathClosestToMaxWeight() throws  UnroutableFlowException {
         //given 3 paths that cost: 198, 200, 201
         AvailableNetwork network = buildThreePathsNetwork();
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         //when: request a path with maxWeight 201
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_5, WEIGHT_FUNCTION, 201);
@@ -281,7 +281,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldReturnThePathBottomClosestToMaxWeight() throws  UnroutableFlowException {
         //given 3 paths that cost: 198, 200, 201
         AvailableNetwork network = buildThreePathsNetwork();
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         //when: request a path with maxWeight 200
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_5, WEIGHT_FUNCTION, 200);
@@ -303,7 +303,7 @@ public class BestWeightAndShortestPathFinderTest {
         addLink(network, SWITCH_ID_2, SWITCH_ID_1, 1, 1, 102, 0, null, false);
         addLink(network, SWITCH_ID_1, SWITCH_ID_2, 2, 2, 101, 0, null, false);
         addLink(network, SWITCH_ID_2, SWITCH_ID_1, 2, 2, 100, 0, null, false);
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         //when: request a path with maxWeight 103
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_2, WEIGHT_FUNCTION, 103);
@@ -324,7 +324,7 @@ public class BestWeightAndShortestPathFinderTest {
         addLink(network, SWITCH_ID_2, SWITCH_ID_1, 1, 1, 99, 0, null, false);
         addLink(network, SWITCH_ID_1, SWITCH_ID_2, 2, 2, 100, 0, null, false);
         addLink(network, SWITCH_ID_2, SWITCH_ID_1, 2, 2, 102, 0, null, false);
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         //when: request a best-latency path
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_2, WEIGHT_FUNCTION);
@@ -341,7 +341,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldFailIfNoPathLessThanMaxWeight() throws  UnroutableFlowException {
         //given 3 paths that cost: 198, 200, 201
         AvailableNetwork network = buildThreePathsNetwork();
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         //when: request a path with maxWeight 198
         pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_5, WEIGHT_FUNCTION, 198);
         //then: no path found
@@ -353,7 +353,7 @@ public class BestWeightAndShortestPathFinderTest {
 
         SwitchId srcDpid = new SwitchId("00:00:00:00:00:00:00:ff");
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         pathFinder.findPathInNetwork(network, srcDpid, SWITCH_ID_F, WEIGHT_FUNCTION);
     }
 
@@ -363,14 +363,14 @@ public class BestWeightAndShortestPathFinderTest {
 
         SwitchId srcDpid = new SwitchId("00:00:00:00:00:00:00:ff");
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         pathFinder.findPathInNetwork(network, srcDpid, SWITCH_ID_F, WEIGHT_FUNCTION, Long.MAX_VALUE);
     }
 
     @Test
     public void testForwardAndBackwardPathsEquality() throws UnroutableFlowException {
         AvailableNetwork network = buildEqualCostsNetwork();
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         Pair<List<Edge>, List<Edge>> paths =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_5, WEIGHT_FUNCTION);
 
@@ -385,7 +385,7 @@ public class BestWeightAndShortestPathFinderTest {
         // shouldn't affect path if added once
         network.getSwitch(SWITCH_ID_A).increaseDiversityGroupUseCounter();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         Pair<List<Edge>, List<Edge>> paths =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_D, SWITCH_ID_F, WEIGHT_FUNCTION);
 
@@ -399,7 +399,7 @@ public class BestWeightAndShortestPathFinderTest {
         //switch on '200' path has a diversity weight increase
         network.getSwitch(SWITCH_ID_3).increaseDiversityGroupUseCounter();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         //when: request a path with maxWeight 201
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_5, WEIGHT_FUNCTION, 201);
@@ -413,7 +413,7 @@ public class BestWeightAndShortestPathFinderTest {
     @Test
     public void shouldFindSymmetricPath() throws UnroutableFlowException {
         AvailableNetwork network = buildLinearNetworkWithPairLinks();
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(2);
+        PathFinder pathFinder = createPathFinder(2);
 
         Pair<List<Edge>, List<Edge>> pathPair =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_3, WEIGHT_FUNCTION);
@@ -470,7 +470,7 @@ public class BestWeightAndShortestPathFinderTest {
         // taken into account during searching of reverse path.
         AvailableNetwork network = buildNetworkWithCostInReversePathBiggerThanForward();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         Pair<List<Edge>, List<Edge>> paths =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_5, WEIGHT_FUNCTION);
 
@@ -485,7 +485,7 @@ public class BestWeightAndShortestPathFinderTest {
         // and the sequence of switches must match the forward path.
         AvailableNetwork network = buildNetworkWithCostInReversePathBiggerThanForward();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         Pair<List<Edge>, List<Edge>> paths =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_5, WEIGHT_FUNCTION, 10201);
 
@@ -528,7 +528,7 @@ public class BestWeightAndShortestPathFinderTest {
     public void shouldHandleVeryExpensiveLinks() throws  UnroutableFlowException {
         AvailableNetwork network = buildExpensiveNetwork();
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         Pair<List<Edge>, List<Edge>> paths =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_3, WEIGHT_FUNCTION);
 
@@ -654,7 +654,7 @@ public class BestWeightAndShortestPathFinderTest {
         // Network without unstable and under maintenance links.
         AvailableNetwork network = buildTestNetworkForVerifyIslConfig(false, false);
 
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         Pair<List<Edge>, List<Edge>> pairPath =
                 pathFinder.findPathInNetwork(network, SWITCH_ID_A, SWITCH_ID_B, WEIGHT_FUNCTION);
         List<Edge> forwardPath = pairPath.getLeft();
@@ -741,7 +741,7 @@ public class BestWeightAndShortestPathFinderTest {
     @Test
     public void shouldFindNPath() throws  UnroutableFlowException {
         AvailableNetwork network = buildTestNetworkForTestYensAlgorithm();
-        BestWeightAndShortestPathFinder pathFinder = new BestWeightAndShortestPathFinder(ALLOWED_DEPTH);
+        PathFinder pathFinder = createPathFinder(ALLOWED_DEPTH);
         List<List<SwitchId>> expectedPaths = new ArrayList<>();
 
         expectedPaths.add(Lists.newArrayList(SWITCH_ID_A, SWITCH_ID_D, SWITCH_ID_C, SWITCH_ID_F));
@@ -805,6 +805,10 @@ public class BestWeightAndShortestPathFinderTest {
         assertEquals(expectedPaths, convertPaths(paths));
     }
 
+    protected PathFinder createPathFinder(int allowedDepth) {
+        return new BestWeightAndShortestPathFinder(allowedDepth);
+    }
+
     private AvailableNetwork buildTestNetworkForTestYensAlgorithm() {
         /*
          *   Topology:
@@ -0,0 +1,141 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import static org.junit.Assert.assertEquals;
+
+import org.openkilda.model.Isl;
+import org.openkilda.model.IslConfig;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.Edge;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+public class DijkstraPathFinderTest extends BestWeightAndShortestPathFinderTest {
+    private static final SwitchId SWITCH_ID_1 = new SwitchId(1);
+    private static final SwitchId SWITCH_ID_2 = new SwitchId(2);
+    private static final SwitchId SWITCH_ID_3 = new SwitchId(3);
+    private static final SwitchId SWITCH_ID_4 = new SwitchId(4);
+
+    @Override
+    protected PathFinder createPathFinder(int allowedDepth) {
+        return new DijkstraPathFinder(allowedDepth);
+    }
+
+    @Test
+    public void shouldPreferHeavierPathWhenLighterOneExceedsDepth() throws Exception {
+        // 1-2-3-4 is the lightest path but it has 3 hops, 1-3-4 fits the depth limit of 2.
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 1, 1);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_3, 2, 2, 1);
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_3, 3, 3, 100);
+        addBidirectionalLink(network, SWITCH_ID_3, SWITCH_ID_4, 4, 4, 1);
+
+        Pair<List<Edge>, List<Edge>> paths = createPathFinder(2)
+                .findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_4, edge -> (long) edge.getCost());
+
+        List<Edge> forward = paths.getLeft();
+        assertEquals(2, forward.size());
+        assertEquals(SWITCH_ID_3, forward.get(0).getDestSwitch().getSwitchId());
+        assertEquals(SWITCH_ID_4, forward.get(1).getDestSwitch().getSwitchId());
+        assertEquals(2, paths.getRight().size());
+    }
+
+    @Test
+    public void shouldBreakTiesBySwitchId() throws Exception {
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_3, 1, 1, 10);
+        addBidirectionalLink(network, SWITCH_ID_3, SWITCH_ID_4, 2, 2, 10);
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 3, 3, 10);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_4, 4, 4, 10);
+
+        List<Edge> forward = createPathFinder(10)
+                .findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_4, edge -> (long) edge.getCost()).getLeft();
+
+        assertEquals(SWITCH_ID_2, forward.get(0).getDestSwitch().getSwitchId());
+    }
+
+    @Test
+    public void shouldFindSameNPathsInParallel() throws Exception {
+        AvailableNetwork network = buildGridNetwork(5);
+        SwitchId start = new SwitchId(1);
+        SwitchId end = new SwitchId(25);
+
+        List<List<Edge>> sequential = new DijkstraPathFinder(10)
+                .findNPathsBetweenSwitches(network, start, end, 30, edge -> (long) edge.getCost());
+        List<List<Edge>> parallel = new DijkstraPathFinder(10, 4)
+                .findNPathsBetweenSwitches(network, start, end, 30, edge -> (long) edge.getCost());
+
+        assertEquals(30, sequential.size());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void shouldReturnBestPathWhenTimeBudgetIsExceeded() throws Exception {
+        AvailableNetwork network = buildGridNetwork(5);
+
+        List<List<Edge>> paths = createPathFinder(10).findNPathsBetweenSwitches(network, new SwitchId(1),
+                new SwitchId(25), 30, edge -> (long) edge.getCost(), Duration.ofNanos(1));
+
+        assertEquals(1, paths.size());
+        assertEquals(8, paths.get(0).size());
+    }
+
+    private AvailableNetwork buildGridNetwork(int size) {
+        AvailableNetwork network = new AvailableNetwork();
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                int id = row * size + column + 1;
+                if (column + 1 < size) {
+                    addBidirectionalLink(network, new SwitchId(id), new SwitchId(id + 1), 2 * id, 2 * id + 1,
+                            10 + id % 3);
+                }
+                if (row + 1 < size) {
+                    addBidirectionalLink(network, new SwitchId(id), new SwitchId(id + size), 2 * id + 1000,
+                            2 * id + 1001, 10 + id % 4);
+                }
+            }
+        }
+        return network;
+    }
+
+    private void addBidirectionalLink(AvailableNetwork network, SwitchId first, SwitchId second,
+                                      int firstPort, int secondPort, int cost) {
+        Switch firstSwitch = Switch.builder().switchId(first).build();
+        Switch secondSwitch = Switch.builder().switchId(second).build();
+        network.addLink(buildIsl(firstSwitch, firstPort, secondSwitch, secondPort, cost));
+        network.addLink(buildIsl(secondSwitch, secondPort, firstSwitch, firstPort, cost));
+    }
+
+    private Isl buildIsl(Switch srcSwitch, int srcPort, Switch destSwitch, int destPort, int cost) {
+        Isl isl = Isl.builder()
+                .srcSwitch(srcSwitch)
+                .srcPort(srcPort)
+                .destSwitch(destSwitch)
+                .destPort(destPort)
+                .cost(cost)
+                .availableBandwidth(500000)
+                .build();
+        isl.setIslConfig(IslConfig.builder().build());
+        return isl;
+    }
+}
@@ -0,0 +1,202 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.model.Flow;
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.FlowPath;
+import org.openkilda.model.Isl;
+import org.openkilda.model.IslConfig;
+import org.openkilda.model.PathComputationStrategy;
+import org.openkilda.model.PathId;
+import org.openkilda.model.PathSegment;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.AvailableNetworkFactory;
+import org.openkilda.pce.BatchPathComputationResult;
+import org.openkilda.pce.Path;
+import org.openkilda.pce.PathComputerConfig;
+import org.openkilda.pce.finder.BestWeightAndShortestPathFinder;
+import org.openkilda.persistence.repositories.FlowPathRepository;
+import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.persistence.repositories.RepositoryFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class InMemoryPathComputerTest {
+    private static final FlowEncapsulationType ENCAPSULATION_TYPE = FlowEncapsulationType.TRANSIT_VLAN;
+    private static final Switch SWITCH_1 = Switch.builder().switchId(new SwitchId(1)).build();
+    private static final Switch SWITCH_2 = Switch.builder().switchId(new SwitchId(2)).build();
+    private static final Switch SWITCH_3 = Switch.builder().switchId(new SwitchId(3)).build();
+
+    @Mock
+    private PathComputerConfig config;
+    @Mock
+    private RepositoryFactory repositoryFactory;
+    @Mock
+    private IslRepository islRepository;
+    @Mock
+    private FlowPathRepository flowPathRepository;
+
+    private final List<Isl> isls = new ArrayList<>();
+    private InMemoryPathComputer pathComputer;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+
+        when(repositoryFactory.createIslRepository()).thenReturn(islRepository);
+        when(repositoryFactory.createFlowPathRepository()).thenReturn(flowPathRepository);
+        when(config.getNetworkStrategy()).thenReturn("COST");
+        when(config.getBatchParallelism()).thenReturn(1);
+        when(islRepository.findAllActiveByEncapsulationType(ENCAPSULATION_TYPE)).thenReturn(isls);
+
+        // 1 - 2 is the best route, 1 - 3 - 2 is the backup one.
+        addBidirectionalIsl(SWITCH_1, 1, SWITCH_2, 1, 1, 100);
+        addBidirectionalIsl(SWITCH_1, 2, SWITCH_3, 2, 10, 100);
+        addBidirectionalIsl(SWITCH_3, 3, SWITCH_2, 3, 10, 100);
+
+        pathComputer = new InMemoryPathComputer(new AvailableNetworkFactory(config, repositoryFactory),
+                new BestWeightAndShortestPathFinder(10), config);
+    }
+
+    @Test
+    public void shouldDeductBandwidthOfPrecedingFlowsInBatch() throws Exception {
+        BatchPathComputationResult result = pathComputer.getPaths(Arrays.asList(getFlow("first", 60),
+                getFlow("second", 60)));
+
+        assertTrue(result.getUnroutableFlows().isEmpty());
+        assertEquals(1, result.getPaths().get("first").getForward().getSegments().size());
+        assertEquals(2, result.getPaths().get("second").getForward().getSegments().size());
+        assertEquals(2, result.getPaths().get("second").getReverse().getSegments().size());
+        verify(islRepository, times(1)).findAllActiveByEncapsulationType(ENCAPSULATION_TYPE);
+        verify(islRepository, never()).findActiveWithAvailableBandwidth(anyLong(), any());
+    }
+
+    @Test
+    public void shouldComputeBatchInParallel() throws Exception {
+        when(config.getBatchParallelism()).thenReturn(2);
+
+        BatchPathComputationResult result = pathComputer.getPaths(Arrays.asList(getFlow("first", 60),
+                getFlow("second", 60), getFlow("third", 30)));
+
+        assertTrue(result.getUnroutableFlows().isEmpty());
+        assertEquals(1, result.getPaths().get("first").getForward().getSegments().size());
+        // recomputed as the parallel result goes over the link consumed by the first flow
+        assertEquals(2, result.getPaths().get("second").getForward().getSegments().size());
+        assertEquals(1, result.getPaths().get("third").getForward().getSegments().size());
+    }
+
+    @Test
+    public void shouldReportUnroutableFlows() throws Exception {
+        BatchPathComputationResult result = pathComputer.getPaths(Arrays.asList(getFlow("first", 60),
+                getFlow("second", 60), getFlow("third", 60)));
+
+        assertEquals(2, result.getPaths().size());
+        assertEquals(Collections.singleton("third"), result.getUnroutableFlows().keySet());
+    }
+
+    @Test
+    public void shouldTakePathOfSameDemandWhileItHasBandwidth() throws Exception {
+        BatchPathComputationResult result = pathComputer.getPaths(Arrays.asList(getFlow("first", 30),
+                getFlow("second", 30), getFlow("third", 30), getFlow("fourth", 30)));
+
+        assertTrue(result.getUnroutableFlows().isEmpty());
+        assertSame(result.getPaths().get("first"), result.getPaths().get("second"));
+        assertSame(result.getPaths().get("first"), result.getPaths().get("third"));
+        // the best link has only 10 left
+        assertEquals(2, result.getPaths().get("fourth").getForward().getSegments().size());
+    }
+
+    @Test
+    public void shouldReuseBandwidthOfFlowPaths() throws Exception {
+        isls.forEach(isl -> isl.setAvailableBandwidth(isl.getSrcPort() == 1 ? 40 : 100));
+        Flow flow = getFlow("flow", 60);
+        flow.setForwardPath(getFlowPath(flow, SWITCH_1, SWITCH_2, 60));
+        flow.setReversePath(getFlowPath(flow, SWITCH_2, SWITCH_1, 60));
+
+        BatchPathComputationResult result = pathComputer.getPaths(Collections.singletonList(flow));
+
+        Path forward = result.getPaths().get("flow").getForward();
+        assertEquals(1, forward.getSegments().size());
+        assertEquals(SWITCH_2.getSwitchId(), forward.getSegments().get(0).getDestSwitchId());
+    }
+
+    private void addBidirectionalIsl(Switch first, int firstPort, Switch second, int secondPort, int cost,
+                                     long availableBandwidth) {
+        isls.add(buildIsl(first, firstPort, second, secondPort, cost, availableBandwidth));
+        isls.add(buildIsl(second, secondPort, first, firstPort, cost, availableBandwidth));
+    }
+
+    private static Isl buildIsl(Switch srcSwitch, int srcPort, Switch destSwitch, int destPort, int cost,
+                                long availableBandwidth) {
+        Isl isl = Isl.builder()
+                .srcSwitch(srcSwitch)
+                .srcPort(srcPort)
+                .destSwitch(destSwitch)
+                .destPort(destPort)
+                .cost(cost)
+                .availableBandwidth(availableBandwidth)
+                .build();
+        isl.setIslConfig(IslConfig.builder().build());
+        return isl;
+    }
+
+    private static Flow getFlow(String flowId, long bandwidth) {
+        return Flow.builder()
+                .flowId(flowId)
+                .srcSwitch(SWITCH_1)
+                .destSwitch(SWITCH_2)
+                .encapsulationType(ENCAPSULATION_TYPE)
+                .pathComputationStrategy(PathComputationStrategy.COST)
+                .bandwidth(bandwidth)
+                .build();
+    }
+
+    private static FlowPath getFlowPath(Flow flow, Switch srcSwitch, Switch destSwitch, long bandwidth) {
+        return FlowPath.builder()
+                .pathId(new PathId(flow.getFlowId() + srcSwitch.getSwitchId()))
+                .srcSwitch(srcSwitch)
+                .destSwitch(destSwitch)
+                .flow(flow)
+                .bandwidth(bandwidth)
+                .segments(Collections.singletonList(PathSegment.builder()
+                        .srcSwitch(srcSwitch)
+                        .srcPort(1)
+                        .destSwitch(destSwitch)
+                        .destPort(1)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.model;
+
+import static org.junit.Assert.assertEquals;
+
+import org.openkilda.model.Isl;
+import org.openkilda.model.IslConfig;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.impl.AvailableNetwork;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class CompactNetworkTest {
+    private static final SwitchId SWITCH_ID_1 = new SwitchId(1);
+    private static final SwitchId SWITCH_ID_2 = new SwitchId(2);
+    private static final SwitchId SWITCH_ID_3 = new SwitchId(3);
+    private static final SwitchId SWITCH_ID_4 = new SwitchId(4);
+
+    private AvailableNetwork network;
+
+    @Before
+    public void setUp() {
+        network = new AvailableNetwork();
+        addLink(SWITCH_ID_3, 1, SWITCH_ID_1, 1, 10);
+        addLink(SWITCH_ID_1, 1, SWITCH_ID_3, 1, 10);
+        addLink(SWITCH_ID_3, 2, SWITCH_ID_2, 2, 20);
+        addLink(SWITCH_ID_2, 2, SWITCH_ID_3, 2, 20);
+        // one-way link: switch 4 is reachable from 3, but not vice versa
+        addLink(SWITCH_ID_3, 3, SWITCH_ID_4, 3, 30);
+    }
+
+    @Test
+    public void shouldIndexSwitchesInSwitchIdOrder() {
+        CompactNetwork graph = CompactNetwork.build(network.getSwitch(SWITCH_ID_3), edge -> (long) edge.getCost());
+
+        assertEquals(4, graph.getNodesCount());
+        assertEquals(5, graph.getEdgesCount());
+        assertEquals(0, graph.indexOf(SWITCH_ID_1));
+        assertEquals(1, graph.indexOf(SWITCH_ID_2));
+        assertEquals(2, graph.indexOf(SWITCH_ID_3));
+        assertEquals(3, graph.indexOf(SWITCH_ID_4));
+
+        // outgoing links of a switch are ordered by the destination switch
+        int node = graph.indexOf(SWITCH_ID_3);
+        int first = graph.getOutgoingEdgesFrom(node);
+        assertEquals(first + 3, graph.getOutgoingEdgesTo(node));
+        assertEquals(graph.indexOf(SWITCH_ID_1), graph.getDestNode(first));
+        assertEquals(10, graph.getWeight(first));
+        assertEquals(graph.indexOf(SWITCH_ID_2), graph.getDestNode(first + 1));
+        assertEquals(20, graph.getWeight(first + 1));
+        assertEquals(graph.indexOf(SWITCH_ID_4), graph.getDestNode(first + 2));
+        assertEquals(30, graph.getWeight(first + 2));
+    }
+
+    @Test
+    public void shouldResolveReverseEdges() {
+        CompactNetwork graph = CompactNetwork.build(network.getSwitch(SWITCH_ID_1), edge -> (long) edge.getCost());
+
+        for (int edge = 0; edge < graph.getEdgesCount(); edge++) {
+            int reverse = graph.getReverseEdge(edge);
+            if (graph.getDestNode(edge) == graph.indexOf(SWITCH_ID_4)) {
+                assertEquals(-1, reverse);
+            } else {
+                assertEquals(graph.getSrcNode(edge), graph.getDestNode(reverse));
+                assertEquals(graph.getDestNode(edge), graph.getSrcNode(reverse));
+            }
+        }
+    }
+
+    @Test
+    public void shouldContainOnlyReachableSwitches() {
+        CompactNetwork graph = CompactNetwork.build(network.getSwitch(SWITCH_ID_4), edge -> (long) edge.getCost());
+
+        assertEquals(1, graph.getNodesCount());
+        assertEquals(0, graph.getEdgesCount());
+        assertEquals(-1, graph.indexOf(SWITCH_ID_1));
+    }
+
+    private void addLink(SwitchId srcSwitchId, int srcPort, SwitchId dstSwitchId, int dstPort, int cost) {
+        Isl isl = Isl.builder()
+                .srcSwitch(Switch.builder().switchId(srcSwitchId).build())
+                .srcPort(srcPort)
+                .destSwitch(Switch.builder().switchId(dstSwitchId).build())
+                .destPort(dstPort)
+                .cost(cost)
+                .build();
+        isl.setIslConfig(IslConfig.builder().build());
+        network.addLink(isl);
+    }
+}
@@ -0,0 +1,95 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence;
+
+import static java.lang.String.format;
+
+import org.openkilda.model.SwitchId;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process implementation of {@link SwitchLockManager}, the switches are mapped onto a fixed set of locks.
+ *
+ * <p>It doesn't touch the database, so it's only suitable when all the writers of the flow paths and ISLs run in the
+ * same JVM and share the instance. The locks are taken in ascending order of the stripes. A stripe that doesn't
+ * become free within the timeout fails the transaction with {@link RecoverablePersistenceException}, because the
+ * holder may be waiting for a database lock taken by the current transaction and the database doesn't see such
+ * deadlocks.
+ */
+public class StripedSwitchLockManager implements SwitchLockManager {
+    private final ReentrantLock[] stripes;
+    private final long timeoutMillis;
+    private final ThreadLocal<Deque<ReentrantLock>> heldLocks = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public StripedSwitchLockManager(int stripesCount, long timeoutMillis) {
+        if (Integer.bitCount(stripesCount) != 1) {
+            throw new IllegalArgumentException(format("Stripes count must be a power of 2: %d", stripesCount));
+        }
+        this.stripes = new ReentrantLock[stripesCount];
+        for (int i = 0; i < stripesCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public void lockSwitches(Collection<SwitchId> switchIds) {
+        SortedSet<Integer> indexes = new TreeSet<>();
+        for (SwitchId switchId : switchIds) {
+            indexes.add(stripeOf(switchId));
+        }
+
+        Deque<ReentrantLock> held = heldLocks.get();
+        for (int index : indexes) {
+            ReentrantLock lock = stripes[index];
+            if (lock.isHeldByCurrentThread()) {
+                continue;
+            }
+            try {
+                if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    throw new RecoverablePersistenceException(
+                            format("Unable to lock switches %s within %d ms", switchIds, timeoutMillis));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PersistenceException(format("Interrupted while locking switches %s", switchIds), e);
+            }
+            held.push(lock);
+        }
+    }
+
+    @Override
+    public void releaseSwitches() {
+        Deque<ReentrantLock> held = heldLocks.get();
+        while (!held.isEmpty()) {
+            held.pop().unlock();
+        }
+    }
+
+    private int stripeOf(SwitchId switchId) {
+        long value = switchId.toLong();
+        int hash = (int) (value ^ (value >>> 32));
+        hash ^= hash >>> 16;
+        return hash & (stripes.length - 1);
+    }
+}
@@ -0,0 +1,38 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence;
+
+import org.openkilda.model.SwitchId;
+
+import java.util.Collection;
+
+/**
+ * Locks the switches for the rest of the current transaction, so concurrent modifications of the flow paths and ISLs
+ * going through the same switches are serialized.
+ */
+public interface SwitchLockManager {
+    /**
+     * Locks the switches, it must be called within a transaction. To avoid deadlocks, the implementations take the
+     * locks in a consistent order regardless of the order of the switches in the collection.
+     */
+    void lockSwitches(Collection<SwitchId> switchIds);
+
+    /**
+     * Releases the locks taken by the current thread. It's called by the transaction manager once the outermost
+     * transaction is committed or rolled back.
+     */
+    void releaseSwitches();
+}
@@ -22,6 +22,8 @@ import java.util.Optional;
 public interface FlowCookieRepository extends Repository<FlowCookie> {
     Optional<FlowCookie> findByCookie(long unmaskedCookie);
 
+    boolean exists(long unmaskedCookie);
+
     /**
      * Find an unmasked cookie which is not assigned to any flow.
      * Use the provided {@code defaultCookie} as the first candidate.
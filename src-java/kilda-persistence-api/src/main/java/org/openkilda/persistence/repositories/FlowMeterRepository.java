@@ -20,6 +20,7 @@ import org.openkilda.model.MeterId;
 import org.openkilda.model.PathId;
 import org.openkilda.model.SwitchId;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface FlowMeterRepository extends Repository<FlowMeter> {
@@ -32,6 +33,16 @@ public interface FlowMeterRepository extends Repository<FlowMeter> {
      */
     Optional<FlowMeter> findByPathId(PathId pathId);
 
+    /**
+     * Find meters installed on the switch.
+     *
+     * @param switchId switch ID
+     * @return a collection of {@link FlowMeter}
+     */
+    Collection<FlowMeter> findBySwitchId(SwitchId switchId);
+
+    boolean exists(SwitchId switchId, MeterId meterId);
+
     /**
      * Find a meter id which is not assigned to any flow.
      * Use the provided {@code defaultMeterId} as the first candidate.
@@ -30,6 +30,8 @@ public interface FlowPathRepository extends Repository<FlowPath> {
 
     Optional<FlowPath> findById(PathId pathId, FetchStrategy fetchStrategy);
 
+    Collection<FlowPath> findByIds(Collection<PathId> pathIds);
+
     Optional<FlowPath> findByFlowIdAndCookie(String flowId, Cookie flowCookie);
 
     Collection<FlowPath> findByFlowId(String flowId);
@@ -33,6 +33,16 @@ public interface FlowRepository extends Repository<Flow> {
      */
     Collection<Flow> findAll();
 
+    /**
+     * Fetches the page of flows ordered by flow id.
+     * <p/>
+     * IMPORTANT: the method doesn't complete the flow and flow path entities with related path segments!
+     *
+     * @param afterFlowId the id of the flow the page starts after, null to start from the first flow.
+     * @param limit max number of flows in the page.
+     */
+    Collection<Flow> findPage(String afterFlowId, int limit);
+
     boolean exists(String flowId);
 
     Optional<Flow> findById(String flowId);
@@ -45,6 +55,8 @@ public interface FlowRepository extends Repository<Flow> {
 
     Collection<Flow> findWithPeriodicPingsEnabled();
 
+    Collection<Flow> findWithPeriodicPingsEnabled(FetchStrategy fetchStrategy);
+
     Collection<Flow> findByEndpoint(SwitchId switchId, int port);
 
     /**
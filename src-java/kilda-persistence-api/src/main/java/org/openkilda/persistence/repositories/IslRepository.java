@@ -20,6 +20,8 @@ import org.openkilda.model.Isl;
 import org.openkilda.model.PathId;
 import org.openkilda.model.SwitchId;
 
+import lombok.Value;
+
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -98,4 +100,21 @@ public interface IslRepository extends Repository<Isl> {
      */
     long updateAvailableBandwidth(SwitchId srcSwitchId, int srcPort, SwitchId dstSwitchId, int dstPort,
                                   long usedBandwidth);
+
+    /**
+     * Update latency of several ISLs by a single query.
+     *
+     * @param updates latencies of the ISLs.
+     * @return the updates whose ISLs are not found.
+     */
+    Collection<LatencyUpdate> updateLatencies(Collection<LatencyUpdate> updates);
+
+    @Value
+    class LatencyUpdate {
+        SwitchId srcSwitchId;
+        int srcPort;
+        SwitchId dstSwitchId;
+        int dstPort;
+        long latency;
+    }
 }
@@ -69,4 +69,6 @@ public interface RepositoryFactory {
     PortPropertiesRepository createPortPropertiesRepository();
 
     PathSegmentRepository createPathSegmentRepository();
+
+    ResourceLeaseRepository createResourceLeaseRepository();
 }
@@ -0,0 +1,36 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.repositories;
+
+import org.openkilda.model.ResourceLease;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface ResourceLeaseRepository extends Repository<ResourceLease> {
+    Collection<ResourceLease> findByResourceType(String resourceType);
+
+    /**
+     * Reassigns the lease to the owner unless the lease has been reassigned or renewed since it was read.
+     * The passed entity is not updated.
+     *
+     * @param lease the lease as it was read.
+     * @param owner the new owner of the lease.
+     * @param expiresAt the new expiration time of the lease.
+     * @return whether the lease was reassigned.
+     */
+    boolean takeOver(ResourceLease lease, String owner, Instant expiresAt);
+}
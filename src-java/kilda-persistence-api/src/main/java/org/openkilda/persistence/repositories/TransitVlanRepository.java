@@ -28,6 +28,8 @@ public interface TransitVlanRepository extends Repository<TransitVlan> {
 
     Optional<TransitVlan> findByVlan(int vlan);
 
+    boolean exists(int vlan);
+
     /**
      * Find a transit vlan which is not assigned to any flow.
      * Use the provided defaultVlan as the first candidate.
@@ -0,0 +1,67 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.openkilda.model.SwitchId;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class StripedSwitchLockManagerTest {
+    private static final SwitchId SWITCH_ID_A = new SwitchId(1);
+    private static final SwitchId SWITCH_ID_B = new SwitchId(2);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequirePowerOfTwoStripes() {
+        new StripedSwitchLockManager(100, 10);
+    }
+
+    @Test
+    public void shouldLockSwitchesTillRelease() throws Exception {
+        StripedSwitchLockManager lockManager = new StripedSwitchLockManager(16, 50);
+        lockManager.lockSwitches(Arrays.asList(SWITCH_ID_B, SWITCH_ID_A));
+        // locking the same switches again within the transaction is allowed
+        lockManager.lockSwitches(Collections.singletonList(SWITCH_ID_A));
+
+        try {
+            lockInOtherThread(lockManager, SWITCH_ID_A);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RecoverablePersistenceException);
+        }
+
+        lockManager.releaseSwitches();
+        assertEquals(Boolean.TRUE, lockInOtherThread(lockManager, SWITCH_ID_A));
+    }
+
+    private static Boolean lockInOtherThread(StripedSwitchLockManager lockManager, SwitchId switchId)
+            throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            lockManager.lockSwitches(Collections.singletonList(switchId));
+            lockManager.releaseSwitches();
+            return true;
+        }).get(1, TimeUnit.SECONDS);
+    }
+}
@@ -17,6 +17,7 @@ package org.openkilda.persistence;
 
 import com.sabre.oss.conf4j.annotation.Configuration;
 import com.sabre.oss.conf4j.annotation.Default;
+import com.sabre.oss.conf4j.annotation.Description;
 import com.sabre.oss.conf4j.annotation.Key;
 
 import java.io.Serializable;
@@ -40,4 +41,10 @@ public interface Neo4jConfig extends Serializable {
     @Key("indexes.auto")
     @Default("validate")
     String getIndexesAuto();
+
+    @Key("switch.locks.in-process")
+    @Default("false")
+    @Description("Lock the switches on flow path and ISL updates in the JVM instead of the database. "
+            + "Only safe if all the writers run in the same JVM.")
+    boolean isInProcessSwitchLocks();
 }
@@ -93,7 +93,8 @@ public class Neo4jPersistenceManager implements PersistenceManager {
                                     SwitchIdConverter.class,
                                     SwitchStatusConverter.class)));
 
-                    neo4jTransactionManager = new Neo4jTransactionManager(sessionFactory);
+                    neo4jTransactionManager = new Neo4jTransactionManager(sessionFactory,
+                            neo4jConfig.isInProcessSwitchLocks());
                 }
             }
         }
@@ -16,6 +16,7 @@
 package org.openkilda.persistence;
 
 import org.openkilda.persistence.repositories.impl.Neo4jSessionFactory;
+import org.openkilda.persistence.repositories.impl.Neo4jSwitchLockManager;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.SneakyThrows;
@@ -38,11 +39,20 @@ import java.util.concurrent.TimeUnit;
 final class Neo4jTransactionManager implements TransactionManager, Neo4jSessionFactory {
     private static final ThreadLocal<Session> SESSION_HOLDER = new ThreadLocal<>();
 
+    /**
+     * The in-process locks must be shared by all the transaction managers of the JVM.
+     */
+    private static final SwitchLockManager IN_PROCESS_SWITCH_LOCK_MANAGER =
+            new StripedSwitchLockManager(1024, TimeUnit.SECONDS.toMillis(10));
+
     private final SessionFactory sessionFactory;
     private final RetryPolicy retryPolicyBlank;
+    private final SwitchLockManager switchLockManager;
 
-    public Neo4jTransactionManager(SessionFactory sessionFactory) {
+    public Neo4jTransactionManager(SessionFactory sessionFactory, boolean inProcessSwitchLocks) {
         this.sessionFactory = sessionFactory;
+        this.switchLockManager = inProcessSwitchLocks
+                ? IN_PROCESS_SWITCH_LOCK_MANAGER : new Neo4jSwitchLockManager(this);
         this.retryPolicyBlank = new RetryPolicy()
                 .retryOn(RecoverablePersistenceException.class)
                 .withJitter(50, TimeUnit.MICROSECONDS)
@@ -59,6 +69,11 @@ final class Neo4jTransactionManager implements TransactionManager, Neo4jSessionF
         return Optional.ofNullable(SESSION_HOLDER.get()).orElseGet(sessionFactory::openSession);
     }
 
+    @Override
+    public SwitchLockManager getSwitchLockManager() {
+        return switchLockManager;
+    }
+
     @SneakyThrows
     @Override
     public <T, E extends Throwable> T doInTransaction(TransactionCallback<T, E> action) throws E {
@@ -154,6 +169,7 @@ final class Neo4jTransactionManager implements TransactionManager, Neo4jSessionF
             if (transaction.status() == Status.COMMITTED || transaction.status() == Status.CLOSED) {
                 // Release the session associated with the transaction and the current thread.
                 SESSION_HOLDER.remove();
+                switchLockManager.releaseSwitches();
             }
         }
     }
@@ -183,6 +199,7 @@ final class Neo4jTransactionManager implements TransactionManager, Neo4jSessionF
             if (transaction.status() == Status.ROLLEDBACK || transaction.status() == Status.CLOSED) {
                 // Release the session associated with the transaction and the current thread.
                 SESSION_HOLDER.remove();
+                switchLockManager.releaseSwitches();
             }
         }
     }
@@ -16,6 +16,7 @@
 package org.openkilda.persistence.repositories.impl;
 
 import static java.lang.String.format;
+import static java.util.Collections.singleton;
 
 import org.openkilda.model.FlowCookie;
 import org.openkilda.persistence.PersistenceException;
@@ -51,6 +52,13 @@ public class Neo4jFlowCookieRepository extends Neo4jGenericRepository<FlowCookie
         return cookies.isEmpty() ? Optional.empty() : Optional.of(cookies.iterator().next());
     }
 
+    @Override
+    public boolean exists(long unmaskedCookie) {
+        Filter cookieFilter = new Filter(UNMASKED_COOKIE_PROPERTY_NAME, ComparisonOperator.EQUALS, unmaskedCookie);
+
+        return getSession().count(getEntityType(), singleton(cookieFilter)) > 0;
+    }
+
     @Override
     public Optional<Long> findUnassignedCookie(long defaultCookie) {
         Map<String, Object> parameters = ImmutableMap.of(
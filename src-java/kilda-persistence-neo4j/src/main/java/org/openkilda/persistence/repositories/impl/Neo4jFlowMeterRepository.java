@@ -28,6 +28,7 @@ import org.openkilda.persistence.repositories.FlowMeterRepository;
 import com.google.common.collect.ImmutableMap;
 import org.neo4j.ogm.cypher.ComparisonOperator;
 import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
 
 import java.util.Collection;
 import java.util.Map;
@@ -38,6 +39,8 @@ import java.util.Optional;
  */
 public class Neo4jFlowMeterRepository extends Neo4jGenericRepository<FlowMeter> implements FlowMeterRepository {
     static final String PATH_ID_PROPERTY_NAME = "path_id";
+    static final String SWITCH_ID_PROPERTY_NAME = "switch_id";
+    static final String METER_ID_PROPERTY_NAME = "meter_id";
 
     public Neo4jFlowMeterRepository(Neo4jSessionFactory sessionFactory, TransactionManager transactionManager) {
         super(sessionFactory, transactionManager);
@@ -54,6 +57,20 @@ public class Neo4jFlowMeterRepository extends Neo4jGenericRepository<FlowMeter>
         return meters.isEmpty() ? Optional.empty() : Optional.of(meters.iterator().next());
     }
 
+    @Override
+    public Collection<FlowMeter> findBySwitchId(SwitchId switchId) {
+        return loadAll(new Filter(SWITCH_ID_PROPERTY_NAME, ComparisonOperator.EQUALS, switchId));
+    }
+
+    @Override
+    public boolean exists(SwitchId switchId, MeterId meterId) {
+        Filters filters = new Filters();
+        filters.and(new Filter(SWITCH_ID_PROPERTY_NAME, ComparisonOperator.EQUALS, switchId));
+        filters.and(new Filter(METER_ID_PROPERTY_NAME, ComparisonOperator.EQUALS, meterId));
+
+        return getSession().count(getEntityType(), filters) > 0;
+    }
+
     @Override
     public Optional<MeterId> findUnassignedMeterId(SwitchId switchId, MeterId defaultMeterId) {
         Map<String, Object> parameters = ImmutableMap.of(
@@ -92,6 +92,21 @@ public class Neo4jFlowPathRepository extends Neo4jGenericRepository<FlowPath> im
         return Optional.of(flowPaths.iterator().next());
     }
 
+    @Override
+    public Collection<FlowPath> findByIds(Collection<PathId> pathIds) {
+        if (pathIds.isEmpty()) {
+            return emptyList();
+        }
+
+        Set<String> rawPathIds = pathIds.stream()
+                .map(pathIdConverter::toGraphProperty)
+                .collect(Collectors.toSet());
+        Filter pathIdsFilter = new Filter(PATH_ID_PROPERTY_NAME, new InOperatorWithNoConverterComparison(rawPathIds));
+        pathIdsFilter.setPropertyConverter(null);
+
+        return loadAll(pathIdsFilter);
+    }
+
     @Override
     public Optional<FlowPath> findByFlowIdAndCookie(String flowId, Cookie cookie) {
         Filter flowIdFilter = new Filter(FLOW_ID_PROPERTY_NAME, ComparisonOperator.EQUALS, flowId);
@@ -34,6 +34,9 @@ import com.google.common.collect.ImmutableMap;
 import lombok.extern.slf4j.Slf4j;
 import org.neo4j.ogm.cypher.ComparisonOperator;
 import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.typeconversion.InstantStringConverter;
@@ -85,6 +88,17 @@ public class Neo4jFlowRepository extends Neo4jGenericRepository<Flow> implements
         return loadAll(EMPTY_FILTERS, FetchStrategy.DIRECT_RELATIONS);
     }
 
+    @Override
+    public Collection<Flow> findPage(String afterFlowId, int limit) {
+        Filters filters = new Filters();
+        if (afterFlowId != null) {
+            filters.add(new Filter(FLOW_ID_PROPERTY_NAME, ComparisonOperator.GREATER_THAN, afterFlowId));
+        }
+
+        return loadAll(filters, new SortOrder().add(FLOW_ID_PROPERTY_NAME), new Pagination(0, limit),
+                FetchStrategy.DIRECT_RELATIONS);
+    }
+
     @Override
     public long countFlows() {
         return getSession().countEntitiesOfType(getEntityType());
@@ -133,9 +147,14 @@ public class Neo4jFlowRepository extends Neo4jGenericRepository<Flow> implements
 
     @Override
     public Collection<Flow> findWithPeriodicPingsEnabled() {
+        return findWithPeriodicPingsEnabled(getDefaultFetchStrategy());
+    }
+
+    @Override
+    public Collection<Flow> findWithPeriodicPingsEnabled(FetchStrategy fetchStrategy) {
         Filter periodicPingsFilter = new Filter(PERIODIC_PINGS_PROPERTY_NAME, ComparisonOperator.EQUALS, true);
 
-        return loadAll(periodicPingsFilter);
+        return loadAll(periodicPingsFilter, fetchStrategy);
     }
 
     @Override
@@ -27,13 +27,13 @@ import org.openkilda.persistence.RecoverablePersistenceException;
 import org.openkilda.persistence.TransactionManager;
 import org.openkilda.persistence.repositories.Repository;
 
-import com.google.common.collect.ImmutableMap;
 import lombok.extern.slf4j.Slf4j;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.TransientException;
 import org.neo4j.ogm.cypher.ComparisonOperator;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.exception.CypherException;
 import org.neo4j.ogm.exception.core.MappingException;
@@ -45,7 +45,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -168,6 +167,19 @@ abstract class Neo4jGenericRepository<T> implements Repository<T> {
         }
     }
 
+    protected Collection<T> loadAll(Filters filters, SortOrder sortOrder, Pagination pagination,
+                                    FetchStrategy fetchStrategy) {
+        try {
+            return getSession().loadAll(getEntityType(), filters, sortOrder, pagination,
+                    getDepthLoadEntity(fetchStrategy));
+        } catch (MappingException ex) {
+            log.error("OGM mapping exception", ex.getCause());
+            throw new PersistenceException("Unable to load " + getEntityType(), ex);
+        } catch (TransientException ex) {
+            throw new RecoverablePersistenceException("Unable to load " + getEntityType(), ex);
+        }
+    }
+
     protected Filter createSrcSwitchFilter(SwitchId switchId) {
         Filter srcSwitchFilter = new Filter(SWITCH_NAME_PROPERTY_NAME, ComparisonOperator.EQUALS, switchId.toString());
         srcSwitchFilter.setNestedPath(new Filter.NestedPathSegment(SRC_SWITCH_FIELD, Switch.class));
@@ -194,21 +206,7 @@ abstract class Neo4jGenericRepository<T> implements Repository<T> {
     }
 
     protected void lockSwitches(Stream<SwitchId> switches) {
-        // Lock switches in ascending order of switchId.
-        switches.<Map<SwitchId, SwitchId>>collect(TreeMap::new, (m, e) -> m.put(e, e), Map::putAll)
-                .values()
-                .forEach(this::lockSwitch);
-    }
-
-    private void lockSwitch(SwitchId switchId) {
-        Map<String, Object> parameters = ImmutableMap.of("name", switchId.toString());
-        Optional<Long> updatedEntityId = queryForLong(
-                "MATCH (sw:switch {name: $name}) "
-                        + "SET sw.tx_override_workaround='dummy' "
-                        + "RETURN id(sw) as id", parameters, "id");
-        if (!updatedEntityId.isPresent()) {
-            throw new PersistenceException(format("Switch not found to be locked: %s", switchId));
-        }
+        sessionFactory.getSwitchLockManager().lockSwitches(switches.collect(Collectors.toSet()));
     }
 
     protected Optional<Long> queryForLong(String cypher, Map<String, ?> parameters, String resultKey) {
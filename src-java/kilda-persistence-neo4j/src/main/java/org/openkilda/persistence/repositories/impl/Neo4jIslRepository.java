@@ -40,7 +40,9 @@ import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.session.Neo4jSession;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -304,6 +306,53 @@ public class Neo4jIslRepository extends Neo4jGenericRepository<Isl> implements I
         return updatedAvailableBandwidth;
     }
 
+    @Override
+    public Collection<LatencyUpdate> updateLatencies(Collection<LatencyUpdate> updates) {
+        List<LatencyUpdate> updateList = new ArrayList<>(updates);
+        List<Map<String, Object>> rows = new ArrayList<>(updateList.size());
+        for (int i = 0; i < updateList.size(); i++) {
+            LatencyUpdate update = updateList.get(i);
+            rows.add(ImmutableMap.<String, Object>builder()
+                    .put("index", i)
+                    .put("src_switch", switchIdConverter.toGraphProperty(update.getSrcSwitchId()))
+                    .put("src_port", update.getSrcPort())
+                    .put("dst_switch", switchIdConverter.toGraphProperty(update.getDstSwitchId()))
+                    .put("dst_port", update.getDstPort())
+                    .put("latency", update.getLatency())
+                    .build());
+        }
+        if (rows.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String query = "UNWIND $updates AS update "
+                + "MATCH (src:switch {name: update.src_switch}), (dst:switch {name: update.dst_switch}) "
+                + "MATCH (src)-[link:isl {src_port: update.src_port, dst_port: update.dst_port}]->(dst) "
+                + "SET link.latency = update.latency "
+                + "RETURN id(link) as id, update.index as index";
+
+        Result result = getSession().query(query, ImmutableMap.of("updates", rows));
+        boolean[] found = new boolean[updateList.size()];
+        for (Map<String, Object> queryResult : result.queryResults()) {
+            int index = ((Number) queryResult.get("index")).intValue();
+            found[index] = true;
+
+            Object updatedEntity = ((Neo4jSession) getSession()).context()
+                    .getRelationshipEntity((Long) queryResult.get("id"));
+            if (updatedEntity instanceof Isl) {
+                ((Isl) updatedEntity).setLatency(updateList.get(index).getLatency());
+            }
+        }
+
+        List<LatencyUpdate> notFound = new ArrayList<>();
+        for (int i = 0; i < found.length; i++) {
+            if (!found[i]) {
+                notFound.add(updateList.get(i));
+            }
+        }
+        return notFound;
+    }
+
     @Override
     protected Class<Isl> getEntityType() {
         return Isl.class;
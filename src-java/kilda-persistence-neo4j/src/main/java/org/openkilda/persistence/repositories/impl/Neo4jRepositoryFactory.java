@@ -30,6 +30,7 @@ import org.openkilda.persistence.repositories.LinkPropsRepository;
 import org.openkilda.persistence.repositories.PathSegmentRepository;
 import org.openkilda.persistence.repositories.PortPropertiesRepository;
 import org.openkilda.persistence.repositories.RepositoryFactory;
+import org.openkilda.persistence.repositories.ResourceLeaseRepository;
 import org.openkilda.persistence.repositories.SwitchConnectedDeviceRepository;
 import org.openkilda.persistence.repositories.SwitchPropertiesRepository;
 import org.openkilda.persistence.repositories.SwitchRepository;
@@ -171,4 +172,9 @@ public class Neo4jRepositoryFactory implements RepositoryFactory {
     public PathSegmentRepository createPathSegmentRepository() {
         return new Neo4jPathSegmentRepository(sessionFactory, transactionManager);
     }
+
+    @Override
+    public ResourceLeaseRepository createResourceLeaseRepository() {
+        return new Neo4jResourceLeaseRepository(sessionFactory, transactionManager);
+    }
 }
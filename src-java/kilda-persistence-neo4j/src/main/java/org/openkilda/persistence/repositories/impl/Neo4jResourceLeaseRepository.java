@@ -0,0 +1,74 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.repositories.impl;
+
+import org.openkilda.model.ResourceLease;
+import org.openkilda.persistence.TransactionManager;
+import org.openkilda.persistence.repositories.ResourceLeaseRepository;
+
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.typeconversion.InstantStringConverter;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Neo4j OGM implementation of {@link ResourceLeaseRepository}.
+ */
+public class Neo4jResourceLeaseRepository extends Neo4jGenericRepository<ResourceLease>
+        implements ResourceLeaseRepository {
+    static final String RESOURCE_TYPE_PROPERTY_NAME = "resource_type";
+
+    private final InstantStringConverter instantConverter = new InstantStringConverter();
+
+    public Neo4jResourceLeaseRepository(Neo4jSessionFactory sessionFactory, TransactionManager transactionManager) {
+        super(sessionFactory, transactionManager);
+    }
+
+    @Override
+    public Collection<ResourceLease> findByResourceType(String resourceType) {
+        return loadAll(new Filter(RESOURCE_TYPE_PROPERTY_NAME, ComparisonOperator.EQUALS, resourceType));
+    }
+
+    @Override
+    public boolean takeOver(ResourceLease lease, String owner, Instant expiresAt) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("resource_type", lease.getResourceType());
+        parameters.put("first_id", lease.getFirstId());
+        parameters.put("expected_owner", lease.getOwner());
+        parameters.put("expected_expires_at", instantConverter.toGraphProperty(lease.getExpiresAt()));
+        parameters.put("owner", owner);
+        parameters.put("expires_at", instantConverter.toGraphProperty(expiresAt));
+
+        // The first SET takes the write lock, so the lease is compared with the last committed state.
+        String query = "MATCH (l:resource_lease {resource_type: $resource_type, first_id: $first_id}) "
+                + "SET l.tx_override_workaround='dummy' "
+                + "WITH l "
+                + "WHERE l.owner = $expected_owner AND l.expires_at = $expected_expires_at "
+                + "SET l.owner = $owner, l.expires_at = $expires_at "
+                + "RETURN count(l) AS updated";
+
+        return queryForLong(query, parameters, "updated").orElse(0L) > 0;
+    }
+
+    @Override
+    protected Class<ResourceLease> getEntityType() {
+        return ResourceLease.class;
+    }
+}
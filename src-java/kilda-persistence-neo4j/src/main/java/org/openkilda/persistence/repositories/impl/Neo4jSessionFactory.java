@@ -15,6 +15,8 @@
 
 package org.openkilda.persistence.repositories.impl;
 
+import org.openkilda.persistence.SwitchLockManager;
+
 import org.neo4j.ogm.session.Session;
 
 /**
@@ -22,4 +24,6 @@ import org.neo4j.ogm.session.Session;
  */
 public interface Neo4jSessionFactory {
     Session getSession();
+
+    SwitchLockManager getSwitchLockManager();
 }
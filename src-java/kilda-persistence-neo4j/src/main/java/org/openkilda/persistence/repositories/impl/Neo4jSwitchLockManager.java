@@ -0,0 +1,77 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.repositories.impl;
+
+import static java.lang.String.format;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.PersistenceException;
+import org.openkilda.persistence.SwitchLockManager;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Neo4j implementation of {@link SwitchLockManager}, it takes the write locks of the switch nodes. The locks are held
+ * by the database till the end of the transaction, so they work across processes.
+ *
+ * <p>All the switches are locked by a single query, they are passed to it in ascending order of switchId.
+ */
+public class Neo4jSwitchLockManager implements SwitchLockManager {
+    private final Neo4jSessionFactory sessionFactory;
+
+    public Neo4jSwitchLockManager(Neo4jSessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public void lockSwitches(Collection<SwitchId> switchIds) {
+        Set<SwitchId> switches = new TreeSet<>(switchIds);
+        if (switches.isEmpty()) {
+            return;
+        }
+
+        List<String> names = switches.stream()
+                .map(SwitchId::toString)
+                .collect(Collectors.toList());
+        Map<String, Object> parameters = ImmutableMap.of("names", names);
+        Set<String> locked = StreamSupport.stream(sessionFactory.getSession().query(
+                "UNWIND $names AS name "
+                        + "MATCH (sw:switch {name: name}) "
+                        + "SET sw.tx_override_workaround='dummy' "
+                        + "RETURN sw.name as name", parameters).spliterator(), false)
+                .map(result -> result.get("name").toString())
+                .collect(Collectors.toSet());
+        if (locked.size() != names.size()) {
+            List<String> missing = names.stream()
+                    .filter(name -> !locked.contains(name))
+                    .collect(Collectors.toList());
+            throw new PersistenceException(format("Switch not found to be locked: %s", missing));
+        }
+    }
+
+    @Override
+    public void releaseSwitches() {
+        // the database releases the locks on commit or rollback
+    }
+}
@@ -16,6 +16,7 @@
 package org.openkilda.persistence.repositories.impl;
 
 import static java.lang.String.format;
+import static java.util.Collections.singleton;
 
 import org.openkilda.model.FlowPath;
 import org.openkilda.model.PathId;
@@ -90,6 +91,13 @@ public class Neo4jTransitVlanRepository extends Neo4jGenericRepository<TransitVl
         }
     }
 
+    @Override
+    public boolean exists(int vlan) {
+        Filter vlanFilter = new Filter(VLAN_PROPERTY_NAME, ComparisonOperator.EQUALS, vlan);
+
+        return getSession().count(getEntityType(), singleton(vlanFilter)) > 0;
+    }
+
     @Override
     public Optional<Integer> findUnassignedTransitVlan(int defaultVlan) {
         Map<String, Object> parameters = ImmutableMap.of(
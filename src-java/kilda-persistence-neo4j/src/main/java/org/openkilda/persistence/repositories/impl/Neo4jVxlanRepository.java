@@ -15,6 +15,8 @@
 
 package org.openkilda.persistence.repositories.impl;
 
+import static java.util.Collections.singleton;
+
 import org.openkilda.model.PathId;
 import org.openkilda.model.Vxlan;
 import org.openkilda.persistence.TransactionManager;
@@ -33,6 +35,7 @@ import java.util.Optional;
  */
 public class Neo4jVxlanRepository extends Neo4jGenericRepository<Vxlan> implements VxlanRepository {
     static final String PATH_ID_PROPERTY_NAME = "path_id";
+    static final String VNI_PROPERTY_NAME = "vni";
 
     public Neo4jVxlanRepository(Neo4jSessionFactory sessionFactory, TransactionManager transactionManager) {
         super(sessionFactory, transactionManager);
@@ -49,6 +52,13 @@ public class Neo4jVxlanRepository extends Neo4jGenericRepository<Vxlan> implemen
         return result;
     }
 
+    @Override
+    public boolean exists(int vni) {
+        Filter vniFilter = new Filter(VNI_PROPERTY_NAME, ComparisonOperator.EQUALS, vni);
+
+        return getSession().count(getEntityType(), singleton(vniFilter)) > 0;
+    }
+
     @Override
     public Optional<Integer> findUnassignedVxlan(int defaultVni) {
         Map<String, Object> parameters = ImmutableMap.of(
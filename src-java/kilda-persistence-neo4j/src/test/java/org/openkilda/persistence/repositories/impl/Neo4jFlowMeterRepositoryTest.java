@@ -80,6 +80,25 @@ public class Neo4jFlowMeterRepositoryTest extends Neo4jBasedTest {
         assertFalse(meters.isPresent());
     }
 
+    @Test
+    public void shouldFindMetersBySwitchId() {
+        Switch otherSwitch = buildTestSwitch(2);
+        switchRepository.createOrUpdate(otherSwitch);
+
+        flowMeterRepository.createOrUpdate(createFlowMeter(1, new PathId(TEST_PATH_ID)));
+        flowMeterRepository.createOrUpdate(FlowMeter.builder()
+                .switchId(otherSwitch.getSwitchId())
+                .meterId(new MeterId(1))
+                .pathId(new PathId(TEST_PATH_ID + "_other"))
+                .flowId(TEST_FLOW_ID)
+                .build());
+
+        Collection<FlowMeter> meters = flowMeterRepository.findBySwitchId(theSwitch.getSwitchId());
+
+        assertEquals(1, meters.size());
+        assertEquals(theSwitch.getSwitchId(), meters.iterator().next().getSwitchId());
+    }
+
     @Test
     public void shouldDeleteFlowMeter() {
         FlowMeter meter = createFlowMeter();
@@ -135,6 +135,17 @@ public class Neo4jFlowPathRepositoryTest extends Neo4jBasedTest {
         assertEquals(foundFlow.getFlowId(), foundForwardPath.getFlow().getFlowId());
     }
 
+    @Test
+    public void shouldFindPathsByIds() {
+        Flow flowWithPaths = buildTestFlowPathPair();
+        flowRepository.createOrUpdate(flowWithPaths);
+
+        Collection<FlowPath> foundPaths = flowPathRepository.findByIds(
+                asList(flowWithPaths.getForwardPathId(), new PathId("unknown_path")));
+        assertThat(foundPaths, hasSize(1));
+        assertEquals(flowWithPaths.getForwardPathId(), foundPaths.iterator().next().getPathId());
+    }
+
     @Test
     public void shouldFlowPathUpdateKeepRelations() {
         Flow flowWithPaths = buildTestFlowPathPair();
@@ -32,6 +32,7 @@ import org.openkilda.model.PathId;
 import org.openkilda.model.PathSegment;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.FetchStrategy;
 import org.openkilda.persistence.Neo4jBasedTest;
 import org.openkilda.persistence.repositories.FlowPathRepository;
 import org.openkilda.persistence.repositories.FlowRepository;
@@ -187,6 +188,41 @@ public class Neo4jFlowRepositoryTest extends Neo4jBasedTest {
         assertTrue(foundFlow.isPresent());
     }
 
+    @Test
+    public void shouldFindFlowsWithPeriodicPingsEnabledWithDirectRelations() {
+        Flow flow = buildTestFlow(TEST_FLOW_ID, switchA, switchB);
+        flow.setPeriodicPings(true);
+        flowRepository.createOrUpdate(flow);
+        flowRepository.createOrUpdate(buildTestFlow(TEST_FLOW_ID_2, switchA, 3, 3, switchB, 4, 4));
+
+        List<Flow> foundFlows = Lists.newArrayList(
+                flowRepository.findWithPeriodicPingsEnabled(FetchStrategy.DIRECT_RELATIONS));
+        assertThat(foundFlows, Matchers.hasSize(1));
+
+        Flow foundFlow = foundFlows.get(0);
+        assertEquals(TEST_FLOW_ID, foundFlow.getFlowId());
+        assertEquals(switchA.getSwitchId(), foundFlow.getSrcSwitch().getSwitchId());
+        assertEquals(flow.getForwardPath().getCookie(), foundFlow.getForwardPath().getCookie());
+        assertEquals(flow.getReversePath().getCookie(), foundFlow.getReversePath().getCookie());
+    }
+
+    @Test
+    public void shouldFindFlowsPage() {
+        flowRepository.createOrUpdate(buildTestFlow(TEST_FLOW_ID_3, switchA, 5, 5, switchB, 6, 6));
+        flowRepository.createOrUpdate(buildTestFlow(TEST_FLOW_ID, switchA, switchB));
+        flowRepository.createOrUpdate(buildTestFlow(TEST_FLOW_ID_2, switchA, 3, 3, switchB, 4, 4));
+
+        List<String> firstPage = flowRepository.findPage(null, 2).stream()
+                .map(Flow::getFlowId)
+                .collect(Collectors.toList());
+        assertEquals(Lists.newArrayList(TEST_FLOW_ID, TEST_FLOW_ID_2), firstPage);
+
+        List<String> secondPage = flowRepository.findPage(TEST_FLOW_ID_2, 2).stream()
+                .map(Flow::getFlowId)
+                .collect(Collectors.toList());
+        assertEquals(Collections.singletonList(TEST_FLOW_ID_3), secondPage);
+    }
+
     @Test
     public void shouldFindFlowByGroupId() {
         Flow flow = buildTestFlow(TEST_FLOW_ID, switchA, switchB);
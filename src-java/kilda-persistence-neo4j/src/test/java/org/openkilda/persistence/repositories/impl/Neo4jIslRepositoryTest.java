@@ -38,6 +38,7 @@ import org.openkilda.persistence.Neo4jBasedTest;
 import org.openkilda.persistence.repositories.FlowPathRepository;
 import org.openkilda.persistence.repositories.FlowRepository;
 import org.openkilda.persistence.repositories.IslRepository;
+import org.openkilda.persistence.repositories.IslRepository.LatencyUpdate;
 import org.openkilda.persistence.repositories.SwitchPropertiesRepository;
 import org.openkilda.persistence.repositories.SwitchRepository;
 
@@ -49,6 +50,9 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -135,6 +139,35 @@ public class Neo4jIslRepositoryTest extends Neo4jBasedTest {
         assertEquals(switchB.getSwitchId(), foundIsls.get(0).getDestSwitch().getSwitchId());
     }
 
+    @Test
+    public void shouldUpdateLatencies() {
+        Isl forward = new Isl();
+        forward.setSrcSwitch(switchA);
+        forward.setSrcPort(111);
+        forward.setDestSwitch(switchB);
+        forward.setDestPort(112);
+        islRepository.createOrUpdate(forward);
+
+        Isl reverse = new Isl();
+        reverse.setSrcSwitch(switchB);
+        reverse.setSrcPort(112);
+        reverse.setDestSwitch(switchA);
+        reverse.setDestPort(111);
+        islRepository.createOrUpdate(reverse);
+
+        LatencyUpdate missing = new LatencyUpdate(TEST_SWITCH_A_ID, 1, TEST_SWITCH_B_ID, 2, 30);
+        Collection<LatencyUpdate> notFound = islRepository.updateLatencies(Arrays.asList(
+                new LatencyUpdate(TEST_SWITCH_A_ID, 111, TEST_SWITCH_B_ID, 112, 10),
+                new LatencyUpdate(TEST_SWITCH_B_ID, 112, TEST_SWITCH_A_ID, 111, 20),
+                missing));
+
+        assertEquals(Collections.singletonList(missing), new ArrayList<>(notFound));
+        assertEquals(10, islRepository.findByEndpoints(TEST_SWITCH_A_ID, 111, TEST_SWITCH_B_ID, 112)
+                .get().getLatency());
+        assertEquals(20, islRepository.findByEndpoints(TEST_SWITCH_B_ID, 112, TEST_SWITCH_A_ID, 111)
+                .get().getLatency());
+    }
+
     @Test
     public void shouldFindIslBySrcEndpoint() {
         Isl isl = new Isl();
@@ -31,6 +31,7 @@ import org.openkilda.model.PathSegment;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.Neo4jBasedTest;
+import org.openkilda.persistence.PersistenceException;
 import org.openkilda.persistence.repositories.FlowRepository;
 import org.openkilda.persistence.repositories.SwitchRepository;
 
@@ -300,4 +301,29 @@ public class Neo4jSwitchRepositoryTest extends Neo4jBasedTest {
 
         flowRepository.createOrUpdate(flow);
     }
+
+    @Test
+    public void shouldLockSwitches() {
+        Switch switchA = Switch.builder().switchId(TEST_SWITCH_ID_A).build();
+        switchRepository.createOrUpdate(switchA);
+        Switch switchB = Switch.builder().switchId(TEST_SWITCH_ID_B).build();
+        switchRepository.createOrUpdate(switchB);
+
+        txManager.doInTransaction(() -> {
+            switchRepository.lockSwitches(switchB, switchA, switchB);
+            // the switch nodes are write-locked by setting the property within the transaction
+            assertEquals(Long.valueOf(2), neo4jSessionFactory.getSession().queryForObject(Long.class,
+                    "MATCH (sw:switch) WHERE sw.tx_override_workaround = 'dummy' RETURN count(sw)",
+                    Collections.emptyMap()));
+        });
+    }
+
+    @Test(expected = PersistenceException.class)
+    public void shouldFailToLockMissingSwitch() {
+        Switch switchA = Switch.builder().switchId(TEST_SWITCH_ID_A).build();
+        switchRepository.createOrUpdate(switchA);
+
+        txManager.doInTransaction(() -> switchRepository.lockSwitches(switchA,
+                Switch.builder().switchId(TEST_SWITCH_ID_C).build()));
+    }
 }
@@ -196,7 +196,7 @@ public class NbWorkerTopology extends AbstractTopology<NbWorkerTopologyConfig> {
         tb.setBolt(HISTORY_BOLT_NAME, historyBolt, parallelism)
                 .shuffleGrouping(ROUTER_BOLT_NAME, StreamType.HISTORY.toString());
 
-        ResponseSplitterBolt splitterBolt = new ResponseSplitterBolt();
+        ResponseSplitterBolt splitterBolt = new ResponseSplitterBolt(topologyConfig.getResponseChunkSize());
         tb.setBolt(SPLITTER_BOLT_NAME, splitterBolt, parallelism)
                 .shuffleGrouping(SWITCHES_BOLT_NAME)
                 .shuffleGrouping(LINKS_BOLT_NAME)
@@ -69,6 +69,12 @@ public interface NbWorkerTopologyConfig extends AbstractTopologyConfig {
     @Description("The timeout for performing H&S operations")
     int getProcessTimeout();
 
+    @Key("nbworker.response.chunk.size")
+    @Default("100")
+    @Min(1)
+    @Description("The max number of items in one message of the chunked response")
+    int getResponseChunkSize();
+
     @Key("burst.coefficient")
     @Default("1.05")
     double getFlowMeterBurstCoefficient();
@@ -18,7 +18,6 @@ package org.openkilda.wfm.topology.nbworker.bolts;
 import static org.apache.storm.kafka.bolt.mapper.FieldNameBasedTupleToKafkaMapper.BOLT_KEY;
 import static org.apache.storm.kafka.bolt.mapper.FieldNameBasedTupleToKafkaMapper.BOLT_MESSAGE;
 
-import org.openkilda.messaging.Message;
 import org.openkilda.messaging.info.ChunkedInfoMessage;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.wfm.AbstractBolt;
@@ -30,12 +29,18 @@ import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class ResponseSplitterBolt extends AbstractBolt {
     public static final String FIELD_ID_RESPONSE = "response";
 
+    private final int chunkSize;
+
+    public ResponseSplitterBolt(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
     @Override
     protected void handleInput(Tuple input) throws PipelineException {
         List<InfoData> responses = pullValue(input, FIELD_ID_RESPONSE, List.class);
@@ -45,22 +50,12 @@ public class ResponseSplitterBolt extends AbstractBolt {
     }
 
     private void sendChunkedResponse(List<InfoData> responses, Tuple input, String requestId) {
-        List<Message> messages = new ArrayList<>(responses.size());
         if (CollectionUtils.isEmpty(responses)) {
             log.debug("No records found in the database");
-            Message message = new ChunkedInfoMessage(null, System.currentTimeMillis(), requestId, requestId,
-                    responses.size());
-            messages.add(message);
-        } else {
-            int i = 0;
-            for (InfoData data : responses) {
-                Message message = new ChunkedInfoMessage(data, System.currentTimeMillis(), requestId, i++,
-                        responses.size());
-                messages.add(message);
-            }
-
-            log.debug("Response is divided into {} messages", messages.size());
         }
+        List<ChunkedInfoMessage> messages = ChunkedInfoMessage.createChunks(
+                responses != null ? responses : Collections.emptyList(), requestId, chunkSize);
+        log.debug("Response is divided into {} messages", messages.size());
 
         // emit all found messages
         messages.forEach(message ->
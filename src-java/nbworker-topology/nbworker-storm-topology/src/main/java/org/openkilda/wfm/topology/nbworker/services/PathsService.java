@@ -25,6 +25,7 @@ import org.openkilda.pce.Path;
 import org.openkilda.pce.PathComputer;
 import org.openkilda.pce.PathComputerConfig;
 import org.openkilda.pce.PathComputerFactory;
+import org.openkilda.pce.cache.NetworkCache;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.exception.UnroutableFlowException;
 import org.openkilda.persistence.repositories.KildaConfigurationRepository;
@@ -49,8 +50,10 @@ public class PathsService {
     public PathsService(RepositoryFactory repositoryFactory, PathComputerConfig pathComputerConfig) {
         switchRepository = repositoryFactory.createSwitchRepository();
         kildaConfigurationRepository = repositoryFactory.createKildaConfigurationRepository();
+        NetworkCache networkCache = pathComputerConfig.isNetworkCacheEnabled()
+                ? new NetworkCache(pathComputerConfig, repositoryFactory) : null;
         PathComputerFactory pathComputerFactory = new PathComputerFactory(
-                pathComputerConfig, new AvailableNetworkFactory(pathComputerConfig, repositoryFactory));
+                pathComputerConfig, new AvailableNetworkFactory(pathComputerConfig, repositoryFactory, networkCache));
         pathComputer = pathComputerFactory.getPathComputer();
     }
 
@@ -219,20 +219,21 @@ public class NetworkTopology extends AbstractTopology<NetworkTopologyConfig> {
 
     private void watchList(TopologyBuilder topology, int scaleFactor) {
         WatchListHandler bolt = new WatchListHandler(options);
-        Fields portGrouping = new Fields(PortHandler.FIELD_ID_DATAPATH, PortHandler.FIELD_ID_PORT_NUMBER);
+        // all ports of a switch are handled by the same task, so their discovery requests can be batched
+        Fields switchGrouping = new Fields(PortHandler.FIELD_ID_DATAPATH);
         topology.setBolt(WatchListHandler.BOLT_ID, bolt, scaleFactor)
                 .allGrouping(CoordinatorSpout.ID)
-                .fieldsGrouping(PortHandler.BOLT_ID, PortHandler.STREAM_POLL_ID, portGrouping);
+                .fieldsGrouping(PortHandler.BOLT_ID, PortHandler.STREAM_POLL_ID, switchGrouping);
     }
 
     private void watcher(TopologyBuilder topology, int scaleFactor) {
         WatcherHandler bolt = new WatcherHandler(options);
-        Fields watchListGrouping = new Fields(WatchListHandler.FIELD_ID_DATAPATH,
-                WatchListHandler.FIELD_ID_PORT_NUMBER);
-        Fields speakerGrouping = new Fields(SpeakerRouter.FIELD_ID_DATAPATH, SpeakerRouter.FIELD_ID_PORT_NUMBER);
+        Fields watchListGrouping = new Fields(WatchListHandler.FIELD_ID_DATAPATH);
+        Fields speakerGrouping = new Fields(SpeakerRouter.FIELD_ID_DATAPATH);
         topology.setBolt(WatcherHandler.BOLT_ID, bolt, scaleFactor)
                 .allGrouping(CoordinatorSpout.ID)
                 .fieldsGrouping(WatchListHandler.BOLT_ID, watchListGrouping)
+                .fieldsGrouping(WatchListHandler.BOLT_ID, WatchListHandler.STREAM_DISCOVERY_ID, watchListGrouping)
                 .fieldsGrouping(SpeakerRouter.BOLT_ID, SpeakerRouter.STREAM_WATCHER_ID, speakerGrouping);
     }
 
@@ -15,22 +15,28 @@
 
 package org.openkilda.wfm.topology.network.service;
 
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData.PortDiscovery;
 import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
 import org.openkilda.messaging.info.event.IslInfoData;
+import org.openkilda.model.SwitchId;
 import org.openkilda.wfm.share.model.Endpoint;
 import org.openkilda.wfm.share.model.IslReference;
+import org.openkilda.wfm.share.utils.TimingWheel;
 
 import com.google.common.annotations.VisibleForTesting;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 @Slf4j
 public class NetworkWatcherService {
+    private static final int TICKS_PER_WHEEL = 4096;
+
     private final IWatcherCarrier carrier;
     private final long awaitTime;
     private final Integer taskId;
@@ -38,12 +44,13 @@ public class NetworkWatcherService {
     private long packetNo = 0;
     private Set<Packet> producedPackets = new HashSet<>();
     private Set<Packet> confirmedPackets = new HashSet<>();
-    private SortedMap<Long, Set<Packet>> timeouts = new TreeMap<>();
+    private final TimingWheel<Packet> timeouts;
 
     public NetworkWatcherService(IWatcherCarrier carrier, long awaitTime, Integer taskId) {
         this.carrier = carrier;
         this.awaitTime = awaitTime;
         this.taskId = taskId;
+        this.timeouts = TimingWheel.forSpan(awaitTime, TICKS_PER_WHEEL);
     }
 
     public void addWatch(Endpoint endpoint) {
@@ -51,19 +58,43 @@ public class NetworkWatcherService {
     }
 
     void addWatch(Endpoint endpoint, long currentTime) {
+        Packet packet = producePacket(endpoint, currentTime);
+        DiscoverIslCommandData discoveryRequest = new DiscoverIslCommandData(
+                endpoint.getDatapath(), endpoint.getPortNumber(), packet.packetNo);
+        carrier.sendDiscovery(discoveryRequest);
+    }
+
+    public void addWatch(SwitchId datapath, List<Integer> ports) {
+        addWatch(datapath, ports, now());
+    }
+
+    /**
+     * Produce discovery packets for the ports of the switch and request them by a single speaker command.
+     */
+    void addWatch(SwitchId datapath, List<Integer> ports, long currentTime) {
+        if (ports.size() == 1) {
+            addWatch(Endpoint.of(datapath, ports.get(0)), currentTime);
+            return;
+        }
+
+        List<PortDiscovery> requests = new ArrayList<>(ports.size());
+        for (Integer port : ports) {
+            Packet packet = producePacket(Endpoint.of(datapath, port), currentTime);
+            requests.add(new PortDiscovery(port, packet.packetNo));
+        }
+        carrier.sendDiscovery(new DiscoverIslBatchCommandData(datapath, requests));
+    }
+
+    private Packet producePacket(Endpoint endpoint, long currentTime) {
         Packet packet = Packet.of(endpoint, packetNo);
         log.debug("Watcher service receive ADD-watch request for {} and produce packet id:{} task:{}",
                   endpoint, packet.packetNo, taskId);
 
         producedPackets.add(packet);
-        timeouts.computeIfAbsent(currentTime + awaitTime, key -> new HashSet<>())
-                .add(packet);
-
-        DiscoverIslCommandData discoveryRequest = new DiscoverIslCommandData(
-                endpoint.getDatapath(), endpoint.getPortNumber(), packetNo);
-        carrier.sendDiscovery(discoveryRequest);
+        timeouts.schedule(packet, currentTime + awaitTime);
 
         packetNo += 1;
+        return packet;
     }
 
     /**
@@ -77,15 +108,7 @@ public class NetworkWatcherService {
     }
 
     void tick(long tickTime) {
-        SortedMap<Long, Set<Packet>> range = timeouts.subMap(0L, tickTime + 1);
-        if (!range.isEmpty()) {
-            for (Set<Packet> e : range.values()) {
-                for (Packet ee : e) {
-                    timeoutAction(ee);
-                }
-            }
-            range.clear();
-        }
+        timeouts.advance(tickTime, this::timeoutAction);
     }
 
     public void tick() {
@@ -128,6 +151,7 @@ public class NetworkWatcherService {
         boolean wasProduced = producedPackets.remove(packet);
         boolean wasConfirmed = confirmedPackets.remove(packet);
         if (wasProduced || wasConfirmed) {
+            timeouts.cancel(packet);
             carrier.discoveryReceived(packet.endpoint, packet.packetNo, discoveryEvent, now());
         } else {
             log.error("Receive invalid or removed discovery packet on {} id:{} task:{}",
@@ -160,7 +184,7 @@ public class NetworkWatcherService {
     }
 
     @VisibleForTesting
-    SortedMap<Long, Set<Packet>> getTimeouts() {
+    TimingWheel<Packet> getTimeouts() {
         return timeouts;
     }
 
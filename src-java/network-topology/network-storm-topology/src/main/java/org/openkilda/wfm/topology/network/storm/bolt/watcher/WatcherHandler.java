@@ -16,6 +16,7 @@
 package org.openkilda.wfm.topology.network.storm.bolt.watcher;
 
 import org.openkilda.messaging.command.CommandData;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData;
 import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
 import org.openkilda.messaging.info.event.IslInfoData;
 import org.openkilda.model.SwitchId;
@@ -34,6 +35,7 @@ import org.openkilda.wfm.topology.network.storm.bolt.decisionmaker.command.Decis
 import org.openkilda.wfm.topology.network.storm.bolt.decisionmaker.command.DecisionMakerDiscoveryCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.decisionmaker.command.DecisionMakerFailCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.speaker.SpeakerRouter;
+import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherAddBatchCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watchlist.WatchListHandler;
 
@@ -42,6 +44,8 @@ import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
+import java.util.List;
+
 public class WatcherHandler extends AbstractBolt implements IWatcherCarrier {
     public static final String BOLT_ID = ComponentId.WATCHER.toString();
 
@@ -88,7 +92,11 @@ public class WatcherHandler extends AbstractBolt implements IWatcherCarrier {
     }
 
     private void handleWatchListCommand(Tuple input) throws PipelineException {
-        handleCommand(input, WatchListHandler.FIELD_ID_COMMAND);
+        if (WatchListHandler.STREAM_DISCOVERY_ID.equals(input.getSourceStreamId())) {
+            pullValue(input, WatchListHandler.FIELD_ID_COMMAND, WatcherAddBatchCommand.class).apply(this);
+        } else {
+            handleCommand(input, WatchListHandler.FIELD_ID_COMMAND);
+        }
     }
 
     private void handleCommand(Tuple input, String fieldName) throws PipelineException {
@@ -126,6 +134,12 @@ public class WatcherHandler extends AbstractBolt implements IWatcherCarrier {
         emit(STREAM_SPEAKER_ID, getCurrentTuple(), makeSpeakerTuple(switchId.toString(), discoveryRequest));
     }
 
+    @Override
+    public void sendDiscovery(DiscoverIslBatchCommandData discoveryRequest) {
+        SwitchId switchId = discoveryRequest.getSwitchId();
+        emit(STREAM_SPEAKER_ID, getCurrentTuple(), makeSpeakerTuple(switchId.toString(), discoveryRequest));
+    }
+
     @Override
     public void clearDiscovery(Endpoint endpoint) {
         emit(getCurrentTuple(), makeDefaultTuple(new DecisionMakerClearCommand(endpoint)));
@@ -146,8 +160,8 @@ public class WatcherHandler extends AbstractBolt implements IWatcherCarrier {
         service.confirmation(endpoint, packetId);
     }
 
-    public void processAddWatch(Endpoint endpoint) {
-        service.addWatch(endpoint);
+    public void processAddWatch(SwitchId datapath, List<Integer> ports) {
+        service.addWatch(datapath, ports);
     }
 
     public void processRemoveWatch(Endpoint endpoint) {
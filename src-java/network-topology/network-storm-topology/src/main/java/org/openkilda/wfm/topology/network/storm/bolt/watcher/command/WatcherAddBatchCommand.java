@@ -1,4 +1,4 @@
-/* Copyright 2019 Telstra Open Source
+/* Copyright 2020 Telstra Open Source
  *
  *   Licensed under the Apache License, Version 2.0 (the "License");
  *   you may not use this file except in compliance with the License.
@@ -15,16 +15,29 @@
 
 package org.openkilda.wfm.topology.network.storm.bolt.watcher.command;
 
-import org.openkilda.wfm.share.model.Endpoint;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.topology.network.storm.ICommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watcher.WatcherHandler;
 
-public class WatcherAddCommand extends WatcherCommand {
-    public WatcherAddCommand(Endpoint endpoint) {
-        super(endpoint);
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Requests discovery on all the ports of the switch which are due in the same watch-list tick.
+ */
+@Getter
+public class WatcherAddBatchCommand implements ICommand<WatcherHandler> {
+    private final SwitchId datapath;
+    private final List<Integer> ports;
+
+    public WatcherAddBatchCommand(SwitchId datapath, List<Integer> ports) {
+        this.datapath = datapath;
+        this.ports = ports;
     }
 
     @Override
     public void apply(WatcherHandler handler) {
-        handler.processAddWatch(getEndpoint());
+        handler.processAddWatch(datapath, ports);
     }
 }
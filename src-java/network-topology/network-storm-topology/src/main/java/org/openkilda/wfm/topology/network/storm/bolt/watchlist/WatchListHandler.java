@@ -15,6 +15,7 @@
 
 package org.openkilda.wfm.topology.network.storm.bolt.watchlist;
 
+import org.openkilda.model.SwitchId;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.CommandContext;
 import org.openkilda.wfm.error.PipelineException;
@@ -25,7 +26,7 @@ import org.openkilda.wfm.topology.network.service.IWatchListCarrier;
 import org.openkilda.wfm.topology.network.service.NetworkWatchListService;
 import org.openkilda.wfm.topology.network.storm.ComponentId;
 import org.openkilda.wfm.topology.network.storm.bolt.port.PortHandler;
-import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherAddCommand;
+import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherAddBatchCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watcher.command.WatcherRemoveCommand;
 import org.openkilda.wfm.topology.network.storm.bolt.watchlist.command.WatchListCommand;
@@ -35,6 +36,11 @@ import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public class WatchListHandler extends AbstractBolt implements IWatchListCarrier {
     public static final String BOLT_ID = ComponentId.WATCH_LIST.toString();
 
@@ -45,10 +51,19 @@ public class WatchListHandler extends AbstractBolt implements IWatchListCarrier
     public static final Fields STREAM_FIELDS = new Fields(FIELD_ID_DATAPATH, FIELD_ID_PORT_NUMBER, FIELD_ID_COMMAND,
             FIELD_ID_CONTEXT);
 
+    public static final String STREAM_DISCOVERY_ID = "discovery";
+    public static final Fields STREAM_DISCOVERY_FIELDS = new Fields(FIELD_ID_DATAPATH, FIELD_ID_COMMAND,
+            FIELD_ID_CONTEXT);
+
     private final NetworkOptions options;
 
     private transient NetworkWatchListService service;
 
+    /**
+     * Discovery requests produced while handling the current tuple, grouped by switch.
+     */
+    private transient Map<SwitchId, List<Integer>> pendingDiscovery;
+
     public WatchListHandler(NetworkOptions options) {
         this.options = options;
     }
@@ -56,12 +71,16 @@ public class WatchListHandler extends AbstractBolt implements IWatchListCarrier
     @Override
     protected void handleInput(Tuple input) throws Exception {
         String source = input.getSourceComponent();
-        if (CoordinatorSpout.ID.equals(source)) {
-            handleTimer(input);
-        } else if (PortHandler.BOLT_ID.equals(source)) {
-            handlePortCommand(input);
-        } else {
-            unhandledInput(input);
+        try {
+            if (CoordinatorSpout.ID.equals(source)) {
+                handleTimer(input);
+            } else if (PortHandler.BOLT_ID.equals(source)) {
+                handlePortCommand(input);
+            } else {
+                unhandledInput(input);
+            }
+        } finally {
+            flushDiscoveryRequests();
         }
     }
 
@@ -77,11 +96,13 @@ public class WatchListHandler extends AbstractBolt implements IWatchListCarrier
     @Override
     protected void init() {
         service = new NetworkWatchListService(this, options.getDiscoveryInterval());
+        pendingDiscovery = new LinkedHashMap<>();
     }
 
     @Override
     public void declareOutputFields(OutputFieldsDeclarer streamManager) {
         streamManager.declare(STREAM_FIELDS);
+        streamManager.declareStream(STREAM_DISCOVERY_ID, STREAM_DISCOVERY_FIELDS);
     }
 
     @Override
@@ -91,7 +112,25 @@ public class WatchListHandler extends AbstractBolt implements IWatchListCarrier
 
     @Override
     public void discoveryRequest(Endpoint endpoint, long currentTime) {
-        emit(getCurrentTuple(), makeDefaultTuple(new WatcherAddCommand(endpoint)));
+        pendingDiscovery.computeIfAbsent(endpoint.getDatapath(), key -> new ArrayList<>())
+                .add(endpoint.getPortNumber());
+    }
+
+    /**
+     * Emits one discovery request for all the ports of a switch, so the watcher sends one speaker command per switch
+     * instead of one command per port.
+     */
+    private void flushDiscoveryRequests() {
+        if (pendingDiscovery.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<SwitchId, List<Integer>> entry : pendingDiscovery.entrySet()) {
+            SwitchId datapath = entry.getKey();
+            CommandContext forkedContext = getCommandContext().fork(datapath.toString());
+            emit(STREAM_DISCOVERY_ID, getCurrentTuple(), new Values(
+                    datapath, new WatcherAddBatchCommand(datapath, entry.getValue()), forkedContext));
+        }
+        pendingDiscovery.clear();
     }
 
     private Values makeDefaultTuple(WatcherCommand command) {
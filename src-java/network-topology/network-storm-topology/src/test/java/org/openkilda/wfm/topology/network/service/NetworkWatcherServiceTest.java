@@ -25,12 +25,15 @@ import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData.PortDiscovery;
 import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
 import org.openkilda.messaging.info.event.IslInfoData;
 import org.openkilda.messaging.info.event.PathNode;
 import org.openkilda.model.SwitchId;
 import org.openkilda.wfm.share.model.Endpoint;
 
+import com.google.common.collect.ImmutableList;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -59,11 +62,34 @@ public class NetworkWatcherServiceTest {
         w.addWatch(Endpoint.of(new SwitchId(2), 2), 3);
 
         assertThat(w.getConfirmedPackets().size(), is(0));
-        assertThat(w.getTimeouts().size(), is(3));
+        assertThat(w.getTimeouts().size(), is(5));
 
         verify(carrier, times(5)).sendDiscovery(any(DiscoverIslCommandData.class));
     }
 
+    @Test
+    public void addWatchBatch() {
+        NetworkWatcherService w = new NetworkWatcherService(carrier, 10, taskId);
+        SwitchId switchId = new SwitchId(1);
+        w.addWatch(switchId, ImmutableList.of(1, 2, 3), 1);
+        w.addWatch(new SwitchId(2), ImmutableList.of(1), 1);
+
+        assertThat(w.getProducedPackets().size(), is(4));
+        assertThat(w.getTimeouts().size(), is(4));
+
+        DiscoverIslBatchCommandData batch = new DiscoverIslBatchCommandData(switchId, ImmutableList.of(
+                new PortDiscovery(1, 0), new PortDiscovery(2, 1), new PortDiscovery(3, 2)));
+        verify(carrier).sendDiscovery(eq(batch));
+        verify(carrier).sendDiscovery(eq(new DiscoverIslCommandData(new SwitchId(2), 1, 3L)));
+
+        w.confirmation(Endpoint.of(switchId, 2), 1);
+        w.tick(100);
+
+        verify(carrier).discoveryFailed(eq(Endpoint.of(switchId, 2)), eq(1L), anyLong());
+        verify(carrier, times(1)).discoveryFailed(any(Endpoint.class), anyLong(), anyLong());
+        assertThat(w.getTimeouts().size(), is(0));
+    }
+
     @Test
     public void removeWatch() {
         NetworkWatcherService w = new NetworkWatcherService(carrier, 10, taskId);
@@ -105,7 +131,7 @@ public class NetworkWatcherServiceTest {
         w.addWatch(Endpoint.of(new SwitchId(2), 2), 3);
 
         assertThat(w.getConfirmedPackets().size(), is(0));
-        assertThat(w.getTimeouts().size(), is(3));
+        assertThat(w.getTimeouts().size(), is(5));
         verify(carrier, times(5)).sendDiscovery(any(DiscoverIslCommandData.class));
 
         w.confirmation(Endpoint.of(new SwitchId(1), 1), 0);
@@ -134,7 +160,7 @@ public class NetworkWatcherServiceTest {
         w.addWatch(Endpoint.of(new SwitchId(2), 2), 3);
 
         assertThat(w.getConfirmedPackets().size(), is(0));
-        assertThat(w.getTimeouts().size(), is(3));
+        assertThat(w.getTimeouts().size(), is(5));
         verify(carrier, times(5)).sendDiscovery(any(DiscoverIslCommandData.class));
 
         w.confirmation(Endpoint.of(new SwitchId(1), 1), 0);
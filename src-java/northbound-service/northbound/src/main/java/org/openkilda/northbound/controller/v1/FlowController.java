@@ -35,7 +35,9 @@ import org.openkilda.northbound.dto.v1.flows.PingInput;
 import org.openkilda.northbound.dto.v1.flows.PingOutput;
 import org.openkilda.northbound.service.FlowService;
 import org.openkilda.northbound.utils.ExtraAuthRequired;
+import org.openkilda.northbound.utils.async.StreamingJsonArrayResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
@@ -44,8 +46,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -56,6 +61,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
@@ -83,6 +89,12 @@ public class FlowController extends BaseController {
     @Autowired
     private FlowService flowService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${web.request.asyncTimeout}")
+    private long asyncTimeout;
+
     /**
      * Creates new flow.
      *
@@ -153,15 +165,30 @@ public class FlowController extends BaseController {
     }
 
     /**
-     * Dumps all flows. Dumps all flows with specific status if specified.
+     * Dumps the flows. The response is written chunk by chunk as soon as the chunks are received. With the cursor
+     * or the limit given, the page of flows ordered by id is dumped.
      *
+     * @param afterFlowId the greatest flow id of the previous page.
+     * @param limit max number of flows in the page.
      * @return list of flow
      */
     @ApiOperation(value = "Dumps all flows", response = FlowResponsePayload.class, responseContainer = "List")
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public CompletableFuture<List<FlowResponsePayload>> getFlows() {
-        return flowService.getAllFlows();
+    public ResponseEntity<StreamingResponseBody> getFlows(
+            @ApiParam(value = "The greatest flow id of the previous page.")
+            @RequestParam(value = "after", required = false) String afterFlowId,
+            @ApiParam(value = "Max number of flows in the page.")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        if (limit != null && limit <= 0) {
+            throw new MessageException(ErrorType.PARAMETERS_INVALID, "Invalid limit of flows",
+                    "The limit should be a positive number.");
+        }
+
+        StreamingJsonArrayResponseBody<FlowResponsePayload> body = StreamingJsonArrayResponseBody.start(
+                objectMapper, asyncTimeout, consumer -> flowService.dumpFlows(afterFlowId, limit, consumer));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON_UTF8)
+                .body(body);
     }
 
     /**
@@ -20,6 +20,7 @@ import org.openkilda.messaging.info.InfoData;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * The main component for sending messages to internal kilda components. All sent operations will be performed
@@ -49,6 +50,20 @@ public interface MessagingChannel {
      */
     CompletableFuture<List<InfoData>> sendAndGetChunked(String topic, Message message);
 
+    /**
+     * Sends the message to the specified topic and passes the items of the chunked responses to the consumer as soon
+     * as they are received, without collecting the whole response in memory. The consumer is called sequentially.
+     *
+     * @param topic topic where the message should be sent.
+     * @param message data to be sent.
+     * @param consumer receiver of the items of each chunk.
+     * @return future completed once the last chunk is passed to the consumer.
+     */
+    default CompletableFuture<Void> sendAndStreamChunked(String topic, Message message,
+                                                         Consumer<List<InfoData>> consumer) {
+        return sendAndGetChunked(topic, message).thenAccept(consumer);
+    }
+
     /**
      * Sends the message to the specified topic without waiting for a response.
      *
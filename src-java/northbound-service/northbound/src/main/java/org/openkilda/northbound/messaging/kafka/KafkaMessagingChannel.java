@@ -21,6 +21,7 @@ import org.openkilda.messaging.error.ErrorMessage;
 import org.openkilda.messaging.error.MessageException;
 import org.openkilda.messaging.info.ChunkedInfoMessage;
 import org.openkilda.messaging.info.InfoData;
+import org.openkilda.messaging.info.InfoDataChunk;
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.northbound.messaging.MessageProducer;
 import org.openkilda.northbound.messaging.MessagingChannel;
@@ -46,7 +47,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 import javax.annotation.PostConstruct;
 
 /**
@@ -61,12 +62,13 @@ public class KafkaMessagingChannel implements MessagingChannel {
      * Requests that are in progress of processing.
      */
     private final Map<String, CompletableFuture<InfoData>> pendingRequests = new ConcurrentHashMap<>();
-    private final Map<String, CompletableFuture<List<InfoData>>> pendingChunkedRequests = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> pendingChunkedRequests = new ConcurrentHashMap<>();
 
     /**
-     * Chains of chunked messages, it is filling by messages one by one as soon as the next linked message is received.
+     * Receivers of the chunked responses, each received chunk is passed to the receiver right away instead of being
+     * kept until the last one arrives.
      */
-    private Map<String, List<ChunkedInfoMessage>> messagesChains;
+    private Map<String, Consumer<List<InfoData>>> chunkConsumers;
 
     /**
      * The storage for received chunked message ids. It is needed to identify whether we have already received specific
@@ -82,11 +84,11 @@ public class KafkaMessagingChannel implements MessagingChannel {
     private MessageProducer messageProducer;
 
     /**
-     * Creates storage for chains of messages.
+     * Creates storage for receivers of chunked messages.
      */
     @PostConstruct
     public void setUp() {
-        messagesChains = new PassiveExpiringMap<>(expiredTime, TimeUnit.MINUTES, new ConcurrentHashMap<>());
+        chunkConsumers = new PassiveExpiringMap<>(expiredTime, TimeUnit.MINUTES, new ConcurrentHashMap<>());
     }
 
     /**
@@ -111,10 +113,21 @@ public class KafkaMessagingChannel implements MessagingChannel {
      */
     @Override
     public CompletableFuture<List<InfoData>> sendAndGetChunked(String topic, Message message) {
-        CompletableFuture<List<InfoData>> future = new CompletableFuture<>();
+        List<InfoData> response = new ArrayList<>();
+        return sendAndStreamChunked(topic, message, response::addAll)
+                .thenApply(ignore -> response);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> sendAndStreamChunked(String topic, Message message,
+                                                        Consumer<List<InfoData>> consumer) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
         pendingChunkedRequests.put(message.getCorrelationId(), future);
 
-        messagesChains.put(message.getCorrelationId(), new ArrayList<>());
+        chunkConsumers.put(message.getCorrelationId(), consumer);
         chunkedMessageIdsPerRequest.put(message.getCorrelationId(), new HashSet<>());
 
         ListenableFuture<SendResult<String, Message>> futureResult = messageProducer.send(topic, message);
@@ -126,7 +139,7 @@ public class KafkaMessagingChannel implements MessagingChannel {
         return future.whenComplete((response, error) -> {
             pendingChunkedRequests.remove(message.getCorrelationId());
 
-            messagesChains.remove(message.getCorrelationId());
+            chunkConsumers.remove(message.getCorrelationId());
             chunkedMessageIdsPerRequest.remove(message.getCorrelationId());
         });
     }
@@ -180,39 +193,36 @@ public class KafkaMessagingChannel implements MessagingChannel {
     }
 
     /**
-     * Performs searching and collecting all chunked messages into one chain if possible.
+     * Passes the chunk to the receiver of the request and completes the request once all chunks are received.
      */
     private synchronized void processChunkedMessage(ChunkedInfoMessage received) {
         String requestId = received.getCorrelationId();
         Set<String> associatedMessages = chunkedMessageIdsPerRequest.get(requestId);
+        Consumer<List<InfoData>> consumer = chunkConsumers.get(requestId);
+        CompletableFuture<Void> request = pendingChunkedRequests.get(requestId);
+        if (associatedMessages == null || consumer == null || request == null) {
+            logger.debug("Skipping chunked message, the request is already completed: {}", received);
+            return;
+        }
         if (!associatedMessages.add(received.getMessageId())) {
             logger.debug("Skipping chunked message, it is already received: {}", received);
             return;
         }
 
-        List<ChunkedInfoMessage> chain = messagesChains.get(requestId);
         if (received.getTotalMessages() != 0) {
-            chain.add(received);
+            try {
+                consumer.accept(InfoDataChunk.unpack(received.getData()));
+            } catch (Exception e) {
+                request.completeExceptionally(e);
+                return;
+            }
         }
 
-        if (chain.size() == received.getTotalMessages()) {
-            completeRequest(requestId, chain);
+        if (received.getTotalMessages() == 0 || associatedMessages.size() == received.getTotalMessages()) {
+            request.complete(null);
         }
     }
 
-    /**
-     * Completes pending request with received responses.
-     */
-    private void completeRequest(String requestId, List<ChunkedInfoMessage> chain) {
-        List<InfoData> response = chain.stream()
-                .map(ChunkedInfoMessage::getData)
-                .collect(Collectors.toList());
-
-        pendingChunkedRequests
-                .get(requestId)
-                .complete(response);
-    }
-
     /**
      * Completes a request with an error response.
      */
@@ -258,7 +268,7 @@ public class KafkaMessagingChannel implements MessagingChannel {
     }
 
     @VisibleForTesting
-    Map<String, CompletableFuture<List<InfoData>>> getPendingChunkedRequests() {
+    Map<String, CompletableFuture<Void>> getPendingChunkedRequests() {
         return new HashMap<>(pendingChunkedRequests);
     }
 }
@@ -38,6 +38,7 @@ import org.openkilda.northbound.dto.v2.flows.SwapFlowEndpointPayload;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * FlowService is for operations on flows, primarily against the Flow Topology.
@@ -115,6 +116,17 @@ public interface FlowService {
      */
     CompletableFuture<List<FlowResponsePayload>> getAllFlows();
 
+    /**
+     * Dumps the flows passing them to the consumer chunk by chunk as soon as they are received.
+     *
+     * @param afterFlowId the id of the flow to start after, null to start from the first flow.
+     * @param limit max number of flows, null to dump all flows.
+     * @param consumer receiver of the chunks of flows.
+     * @return future completed once all flows are passed to the consumer.
+     */
+    CompletableFuture<Void> dumpFlows(String afterFlowId, Integer limit,
+                                      Consumer<List<FlowResponsePayload>> consumer);
+
     /**
      * Deletes all flows. Primarily this is a combination of getAllFlows and deleteFlow.
      * This should be called with care ..
@@ -96,6 +96,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -300,6 +301,24 @@ public class FlowServiceImpl implements FlowService {
                         .collect(Collectors.toList()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> dumpFlows(String afterFlowId, Integer limit,
+                                             Consumer<List<FlowResponsePayload>> consumer) {
+        final String correlationId = RequestCorrelationId.getId();
+        logger.debug("Dump flows request processing: after={}, limit={}", afterFlowId, limit);
+        FlowsDumpRequest data = new FlowsDumpRequest(afterFlowId, limit);
+        CommandMessage request = new CommandMessage(data, System.currentTimeMillis(), correlationId, Destination.WFM);
+
+        return messagingChannel.sendAndStreamChunked(topic, request, chunk -> consumer.accept(chunk.stream()
+                .map(FlowReadResponse.class::cast)
+                .map(FlowReadResponse::getPayload)
+                .map(flowMapper::toFlowResponseOutput)
+                .collect(Collectors.toList())));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,128 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.utils.async;
+
+import org.openkilda.messaging.error.ErrorType;
+import org.openkilda.messaging.error.MessageException;
+import org.openkilda.northbound.utils.RequestCorrelationId;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Writes the chunks of the response as a JSON array as soon as they are received, so neither the whole list nor its
+ * serialized form are kept in memory.
+ *
+ * <p>Nothing is written until the first chunk arrives, so the error received before it is rethrown as is and gets
+ * the regular error response. The error received in the middle of the array can only break the connection.
+ *
+ * @param <T> type of the items.
+ */
+public final class StreamingJsonArrayResponseBody<T> implements StreamingResponseBody {
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final ObjectMapper objectMapper;
+    private final String correlationId;
+    private final long timeoutMillis;
+
+    private StreamingJsonArrayResponseBody(ObjectMapper objectMapper, long timeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.correlationId = RequestCorrelationId.getId();
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Starts the source of the chunks and makes the body writing them.
+     *
+     * @param objectMapper serializes the items, the one of the application context.
+     * @param timeoutMillis max time to wait for the whole response.
+     * @param source starts the request passing the chunks to the given consumer, the returned future is completed
+     *               after the last chunk.
+     * @param <T> type of the items.
+     * @return the response body.
+     */
+    public static <T> StreamingJsonArrayResponseBody<T> start(
+            ObjectMapper objectMapper, long timeoutMillis,
+            Function<Consumer<List<T>>, CompletableFuture<Void>> source) {
+        StreamingJsonArrayResponseBody<T> body = new StreamingJsonArrayResponseBody<>(objectMapper, timeoutMillis);
+        // the consumer must not block, it is called from the thread receiving all the responses
+        source.apply(body.queue::add)
+                .whenComplete((result, error) -> body.queue.add(error != null ? error : END));
+        return body;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void writeTo(OutputStream outputStream) throws IOException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        JsonGenerator generator = null;
+        while (true) {
+            Object next = poll(deadline);
+            if (next instanceof Throwable) {
+                Throwable error = unwrap((Throwable) next);
+                if (generator == null && error instanceof RuntimeException) {
+                    throw (RuntimeException) error;
+                }
+                throw new IOException("Failed to get the rest of the response", error);
+            }
+
+            if (generator == null) {
+                generator = objectMapper.getFactory().createGenerator(outputStream);
+                generator.writeStartArray();
+            }
+            if (next == END) {
+                break;
+            }
+            for (T item : (List<T>) next) {
+                generator.writeObject(item);
+            }
+            generator.flush();
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    private Object poll(long deadline) {
+        Object next = null;
+        try {
+            next = queue.poll(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (next == null) {
+            return new MessageException(correlationId, System.currentTimeMillis(), ErrorType.OPERATION_TIMED_OUT,
+                    "No response received", "Timeout exceeded");
+        }
+        return next;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
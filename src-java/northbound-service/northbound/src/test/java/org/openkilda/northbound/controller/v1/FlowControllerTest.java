@@ -197,6 +197,16 @@ public class FlowControllerTest extends NorthboundBaseTest {
         assertEquals(Collections.singletonList(TestMessageMock.flow), response);
     }
 
+    @Test
+    @WithMockUser(username = USERNAME, password = PASSWORD, roles = ROLE)
+    public void getFlowsWithInvalidLimit() throws Exception {
+        mockMvc.perform(get("/v1/flows")
+                .param("limit", "0")
+                .header(CORRELATION_ID, testCorrelationId())
+                .contentType(APPLICATION_JSON_VALUE))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = USERNAME, password = PASSWORD, roles = ROLE)
     public void statusFlow() throws Exception {
@@ -51,6 +51,7 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.SettableListenableFuture;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -151,6 +152,43 @@ public class KafkaMessagingChannelTest {
         assertTrue(messagingChannel.getPendingRequests().isEmpty());
     }
 
+    @Test
+    public void shouldReturnCompletedChunkedWithSeveralItemsPerMessage() throws Exception {
+        String requestId = UUID.randomUUID().toString();
+        long timestamp = System.currentTimeMillis();
+        int items = 1005;
+
+        CHUNKED_RESPONSES.addAll(ChunkedInfoMessage.createChunks(makeItems(items), requestId, 100));
+        Message request = new Message(timestamp, requestId);
+
+        CompletableFuture<List<InfoData>> future = messagingChannel.sendAndGetChunked(CHUNKED_TOPIC, request);
+        prepareResponses(CHUNKED_TOPIC);
+        List<InfoData> result = future.get(10, TimeUnit.SECONDS);
+
+        assertEquals(new HashSet<>(makeItems(items)), new HashSet<>(result));
+        assertTrue(messagingChannel.getPendingChunkedRequests().isEmpty());
+    }
+
+    @Test
+    public void shouldStreamChunks() throws Exception {
+        String requestId = UUID.randomUUID().toString();
+        long timestamp = System.currentTimeMillis();
+        int items = 250;
+
+        CHUNKED_RESPONSES.addAll(ChunkedInfoMessage.createChunks(makeItems(items), requestId, 100));
+        Message request = new Message(timestamp, requestId);
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        CompletableFuture<Void> future = messagingChannel.sendAndStreamChunked(CHUNKED_TOPIC, request,
+                chunk -> chunkSizes.add(chunk.size()));
+        prepareResponses(CHUNKED_TOPIC);
+        future.get(10, TimeUnit.SECONDS);
+
+        assertEquals(3, chunkSizes.size());
+        assertEquals(items, chunkSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(messagingChannel.getPendingChunkedRequests().isEmpty());
+    }
+
     @Test
     public void shouldReturnEmptyList() throws Exception {
         String requestId = UUID.randomUUID().toString();
@@ -253,6 +291,14 @@ public class KafkaMessagingChannelTest {
         }
     }
 
+    private List<InfoData> makeItems(int size) {
+        List<InfoData> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new SwitchInfoData(new SwitchId(i), SwitchChangeType.ACTIVATED, null, null, null, null, false));
+        }
+        return items;
+    }
+
     @TestConfiguration
     @Import(KafkaConfig.class)
     @PropertySource({"classpath:northbound.properties"})
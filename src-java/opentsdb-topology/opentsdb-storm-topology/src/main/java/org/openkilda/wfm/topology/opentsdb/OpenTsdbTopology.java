@@ -20,22 +20,19 @@ import org.openkilda.wfm.LaunchEnvironment;
 import org.openkilda.wfm.kafka.InfoDataDeserializer;
 import org.openkilda.wfm.topology.AbstractTopology;
 import org.openkilda.wfm.topology.opentsdb.OpenTsdbTopologyConfig.OpenTsdbConfig;
+import org.openkilda.wfm.topology.opentsdb.bolts.DatapointAggregationBolt;
 import org.openkilda.wfm.topology.opentsdb.bolts.DatapointParseBolt;
-import org.openkilda.wfm.topology.opentsdb.bolts.OpenTSDBFilterBolt;
+import org.openkilda.wfm.topology.opentsdb.bolts.OpenTsdbWriterBolt;
+import org.openkilda.wfm.topology.opentsdb.client.OpenTsdbPutClient;
 import org.openkilda.wfm.topology.utils.InfoDataTranslator;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.storm.generated.StormTopology;
 import org.apache.storm.kafka.spout.KafkaSpout;
 import org.apache.storm.kafka.spout.KafkaSpoutConfig;
-import org.apache.storm.opentsdb.bolt.OpenTsdbBolt;
-import org.apache.storm.opentsdb.bolt.TupleOpenTsdbDatapointMapper;
-import org.apache.storm.opentsdb.client.OpenTsdbClient;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
-import java.util.Collections;
-
 /**
  * Apache Storm topology for sending metrics into Open TSDB.
  */
@@ -48,7 +45,7 @@ public class OpenTsdbTopology extends AbstractTopology<OpenTsdbTopologyConfig> {
     @VisibleForTesting
     static final String OTSDB_SPOUT_ID = "kilda.otsdb-spout";
     private static final String OTSDB_BOLT_ID = "otsdb-bolt";
-    private static final String OTSDB_FILTER_BOLT_ID = OpenTSDBFilterBolt.class.getSimpleName();
+    private static final String OTSDB_AGGREGATION_BOLT_ID = DatapointAggregationBolt.class.getSimpleName();
     private static final String OTSDB_PARSE_BOLT_ID = DatapointParseBolt.class.getSimpleName();
 
     @Override
@@ -65,22 +62,25 @@ public class OpenTsdbTopology extends AbstractTopology<OpenTsdbTopologyConfig> {
                 .setNumTasks(openTsdbConfig.getDatapointParseBoltWorkers())
                 .shuffleGrouping(OTSDB_SPOUT_ID);
 
-        tb.setBolt(OTSDB_FILTER_BOLT_ID, new OpenTSDBFilterBolt(), openTsdbConfig.getFilterBoltExecutors())
+        DatapointAggregationBolt aggregationBolt = new DatapointAggregationBolt(
+                openTsdbConfig.getBatchSize(), openTsdbConfig.getFlushInterval());
+        tb.setBolt(OTSDB_AGGREGATION_BOLT_ID, aggregationBolt, openTsdbConfig.getFilterBoltExecutors())
                 .fieldsGrouping(OTSDB_PARSE_BOLT_ID, new Fields("hash"));
 
-        OpenTsdbClient.Builder tsdbBuilder = OpenTsdbClient
+        OpenTsdbPutClient.Builder tsdbBuilder = OpenTsdbPutClient
                 .newBuilder(openTsdbConfig.getHosts())
-                .returnDetails();
+                .withTimeout(openTsdbConfig.getTimeout())
+                .withRetry(openTsdbConfig.getClientRetryAttempts(), openTsdbConfig.getClientRetryBackoff());
         if (openTsdbConfig.getClientChunkedRequestsEnabled()) {
             tsdbBuilder.enableChunkedEncoding();
         }
+        if (openTsdbConfig.getClientGzipEnabled()) {
+            tsdbBuilder.enableGzip();
+        }
 
-        OpenTsdbBolt openTsdbBolt = new OpenTsdbBolt(tsdbBuilder,
-                Collections.singletonList(TupleOpenTsdbDatapointMapper.DEFAULT_MAPPER));
-        openTsdbBolt.withBatchSize(openTsdbConfig.getBatchSize()).withFlushInterval(openTsdbConfig.getFlushInterval());
-        tb.setBolt(OTSDB_BOLT_ID, openTsdbBolt, openTsdbConfig.getBoltExecutors())
+        tb.setBolt(OTSDB_BOLT_ID, new OpenTsdbWriterBolt(tsdbBuilder), openTsdbConfig.getBoltExecutors())
                 .setNumTasks(openTsdbConfig.getBoltWorkers())
-                .shuffleGrouping(OTSDB_FILTER_BOLT_ID);
+                .shuffleGrouping(OTSDB_AGGREGATION_BOLT_ID);
 
         return tb.createTopology();
     }
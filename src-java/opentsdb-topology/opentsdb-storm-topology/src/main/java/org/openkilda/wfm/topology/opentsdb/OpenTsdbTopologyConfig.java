@@ -20,6 +20,7 @@ import org.openkilda.wfm.topology.AbstractTopologyConfig;
 
 import com.sabre.oss.conf4j.annotation.Configuration;
 import com.sabre.oss.conf4j.annotation.Converter;
+import com.sabre.oss.conf4j.annotation.Default;
 import com.sabre.oss.conf4j.annotation.IgnoreKey;
 import com.sabre.oss.conf4j.annotation.Key;
 
@@ -46,6 +47,18 @@ public interface OpenTsdbTopologyConfig extends AbstractTopologyConfig {
         @Key("client.chunked-requests.enabled")
         boolean getClientChunkedRequestsEnabled();
 
+        @Key("client.gzip.enabled")
+        @Default("true")
+        boolean getClientGzipEnabled();
+
+        @Key("client.retry.attempts")
+        @Default("3")
+        int getClientRetryAttempts();
+
+        @Key("client.retry.backoff")
+        @Default("500")
+        long getClientRetryBackoff();
+
         @Key("num.spouts")
         int getNumSpouts();
 
@@ -0,0 +1,171 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.opentsdb.bolts;
+
+import org.openkilda.messaging.info.Datapoint;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.apache.storm.Config;
+import org.apache.storm.Constants;
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.topology.OutputFieldsDeclarer;
+import org.apache.storm.topology.base.BaseRichBolt;
+import org.apache.storm.tuple.Fields;
+import org.apache.storm.tuple.Tuple;
+import org.apache.storm.tuple.Values;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drops datapoints which repeat the last written value of their time series and collects the rest into batches.
+ *
+ * <p>A batch is emitted as a single tuple when it reaches the batch size or when the flush interval passes, so the
+ * writer gets one tuple per batch instead of one tuple per datapoint. The last values are kept under keys built of
+ * interned metric names and tag sets, so the series which share tags don't hold their own copies of them.
+ */
+public class DatapointAggregationBolt extends BaseRichBolt {
+    public static final String FIELD_ID_DATAPOINTS = "datapoints";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatapointAggregationBolt.class);
+    private static final long MUTE_IF_NO_UPDATES_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long CLEANUP_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final int batchSize;
+    private final int flushIntervalSeconds;
+
+    private transient Map<DatapointKey, LastValue> lastValues;
+    private transient Interner<String> metricInterner;
+    private transient Interner<Map<String, String>> tagsInterner;
+    private transient List<Datapoint> batch;
+    private transient long lastCleanup;
+    private transient OutputCollector collector;
+
+    public DatapointAggregationBolt(int batchSize, int flushIntervalSeconds) {
+        this.batchSize = batchSize;
+        this.flushIntervalSeconds = flushIntervalSeconds;
+    }
+
+    @Override
+    public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
+        this.collector = collector;
+        lastValues = new HashMap<>();
+        metricInterner = Interners.newWeakInterner();
+        tagsInterner = Interners.newWeakInterner();
+        batch = new ArrayList<>(batchSize);
+        lastCleanup = 0;
+    }
+
+    @Override
+    public Map<String, Object> getComponentConfiguration() {
+        Config conf = new Config();
+        conf.put(Config.TOPOLOGY_TICK_TUPLE_FREQ_SECS, flushIntervalSeconds);
+        return conf;
+    }
+
+    @Override
+    public void execute(Tuple tuple) {
+        if (isTickTuple(tuple)) {
+            flush();
+            removeMutedSeries(System.currentTimeMillis());
+        } else if (tuple.contains("datapoint")) {
+            Datapoint datapoint = (Datapoint) tuple.getValueByField("datapoint");
+            if (isUpdateRequired(datapoint)) {
+                batch.add(datapoint);
+                if (batch.size() >= batchSize) {
+                    flush();
+                }
+            } else {
+                LOGGER.debug("skip datapoint: {}", datapoint);
+            }
+        }
+        collector.ack(tuple);
+    }
+
+    @Override
+    public void declareOutputFields(OutputFieldsDeclarer declarer) {
+        declarer.declare(new Fields(FIELD_ID_DATAPOINTS));
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        LOGGER.debug("emit batch of {} datapoints", batch.size());
+        collector.emit(new Values(batch));
+        batch = new ArrayList<>(batchSize);
+    }
+
+    private boolean isUpdateRequired(Datapoint datapoint) {
+        Map<String, String> tags = datapoint.getTags() != null ? datapoint.getTags() : ImmutableMap.of();
+        LastValue last = lastValues.get(new DatapointKey(datapoint.getMetric(), tags));
+        if (last == null) {
+            DatapointKey key = new DatapointKey(
+                    metricInterner.intern(datapoint.getMetric()), tagsInterner.intern(ImmutableMap.copyOf(tags)));
+            lastValues.put(key, new LastValue(datapoint.getValue(), datapoint.getTime()));
+            return true;
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("prev: {}@{} cur: {}", last.value, last.time, datapoint);
+        }
+        if (last.value.equals(datapoint.getValue())
+                && datapoint.getTime() - last.time < MUTE_IF_NO_UPDATES_MILLIS) {
+            return false;
+        }
+        last.value = datapoint.getValue();
+        last.time = datapoint.getTime();
+        return true;
+    }
+
+    private void removeMutedSeries(long now) {
+        if (now - lastCleanup < CLEANUP_INTERVAL_MILLIS) {
+            return;
+        }
+        lastCleanup = now;
+        lastValues.values().removeIf(entry -> now - entry.time > MUTE_IF_NO_UPDATES_MILLIS);
+        LOGGER.debug("{} time series are tracked after cleanup", lastValues.size());
+    }
+
+    private boolean isTickTuple(Tuple tuple) {
+        return Constants.SYSTEM_COMPONENT_ID.equals(tuple.getSourceComponent())
+                && Constants.SYSTEM_TICK_STREAM_ID.equals(tuple.getSourceStreamId());
+    }
+
+    @Value
+    private static class DatapointKey {
+        private String metric;
+
+        private Map<String, String> tags;
+    }
+
+    @AllArgsConstructor
+    private static class LastValue {
+        private Number value;
+        private long time;
+    }
+}
@@ -25,13 +25,11 @@ import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.topology.base.BaseRichBolt;
 import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
+import org.apache.storm.tuple.Values;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class DatapointParseBolt extends BaseRichBolt {
     private static final Logger LOGGER = LoggerFactory.getLogger(DatapointParseBolt.class);
@@ -49,9 +47,7 @@ public class DatapointParseBolt extends BaseRichBolt {
         try {
             if (data instanceof Datapoint) {
                 Datapoint datapoint = (Datapoint) data;
-                List<Object> stream = Stream.of(datapoint.simpleHashCode(), datapoint)
-                        .collect(Collectors.toList());
-                collector.emit(stream);
+                collector.emit(new Values(datapoint.simpleHashCode(), datapoint));
             } else {
                 LOGGER.error("Unhandled input tuple from {} with data {}", getClass().getName(), data);
             }
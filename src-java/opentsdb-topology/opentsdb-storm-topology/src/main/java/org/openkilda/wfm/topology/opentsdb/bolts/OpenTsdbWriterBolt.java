@@ -0,0 +1,72 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.opentsdb.bolts;
+
+import org.openkilda.messaging.info.Datapoint;
+import org.openkilda.wfm.topology.opentsdb.client.OpenTsdbPutClient;
+
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.topology.OutputFieldsDeclarer;
+import org.apache.storm.topology.base.BaseRichBolt;
+import org.apache.storm.tuple.Tuple;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the batches of datapoints collected by {@link DatapointAggregationBolt} into OpenTSDB.
+ */
+public class OpenTsdbWriterBolt extends BaseRichBolt {
+    private final OpenTsdbPutClient.Builder clientBuilder;
+
+    private transient OpenTsdbPutClient client;
+    private transient OutputCollector collector;
+
+    public OpenTsdbWriterBolt(OpenTsdbPutClient.Builder clientBuilder) {
+        this.clientBuilder = clientBuilder;
+    }
+
+    @Override
+    public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
+        this.collector = collector;
+        client = clientBuilder.build();
+    }
+
+    @Override
+    public void execute(Tuple tuple) {
+        @SuppressWarnings("unchecked")
+        List<Datapoint> datapoints = (List<Datapoint>) tuple.getValueByField(
+                DatapointAggregationBolt.FIELD_ID_DATAPOINTS);
+        if (client.put(datapoints)) {
+            collector.ack(tuple);
+        } else {
+            collector.fail(tuple);
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Override
+    public void declareOutputFields(OutputFieldsDeclarer declarer) {
+        // writer bolt doesn't produce any tuples
+    }
+}
@@ -0,0 +1,240 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.opentsdb.client;
+
+import org.openkilda.messaging.info.Datapoint;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.annotations.VisibleForTesting;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+
+/**
+ * Writes batches of datapoints into OpenTSDB using the /api/put endpoint.
+ *
+ * <p>Connection errors and 5xx responses are retried a limited number of times with a linear backoff. 4xx responses
+ * mean that OpenTSDB rejected some datapoints of the batch, they are not retried.
+ */
+public final class OpenTsdbPutClient implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(OpenTsdbPutClient.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Client client;
+    private final WebTarget target;
+    private final boolean gzipEnabled;
+    private final int attempts;
+    private final long backoffMillis;
+
+    private OpenTsdbPutClient(Builder builder) {
+        ClientBuilder clientBuilder = ClientBuilder.newBuilder()
+                .property(ClientProperties.CONNECT_TIMEOUT, builder.timeoutMillis)
+                .property(ClientProperties.READ_TIMEOUT, builder.timeoutMillis);
+        if (builder.chunkedEncodingEnabled) {
+            clientBuilder.property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED);
+        }
+        client = clientBuilder.build();
+        target = client.target(builder.url).path("api/put").queryParam("details", "");
+        gzipEnabled = builder.gzipEnabled;
+        attempts = Math.max(1, builder.attempts);
+        backoffMillis = builder.backoffMillis;
+    }
+
+    public static Builder newBuilder(String url) {
+        return new Builder(url);
+    }
+
+    /**
+     * Writes the datapoints.
+     *
+     * @return true if OpenTSDB has stored all of them.
+     */
+    public boolean put(List<Datapoint> datapoints) {
+        byte[] body;
+        try {
+            body = encode(datapoints, gzipEnabled);
+        } catch (IOException e) {
+            log.error("Unable to encode batch of {} datapoints", datapoints.size(), e);
+            return false;
+        }
+
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            try {
+                return send(body, datapoints.size());
+            } catch (RetryableException e) {
+                log.warn("Attempt {} of {} to write {} datapoints into OpenTSDB has failed: {}",
+                        attempt, attempts, datapoints.size(), e.getMessage());
+            }
+
+            if (attempt < attempts && !sleep(backoffMillis * attempt)) {
+                break;
+            }
+        }
+        log.error("Unable to write batch of {} datapoints into OpenTSDB", datapoints.size());
+        return false;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private boolean send(byte[] body, int count) throws RetryableException {
+        Invocation.Builder request = target.request(MediaType.APPLICATION_JSON_TYPE);
+        if (gzipEnabled) {
+            request.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        Response response;
+        try {
+            response = request.post(Entity.entity(body, MediaType.APPLICATION_JSON_TYPE));
+        } catch (ProcessingException e) {
+            throw new RetryableException(e.getMessage());
+        }
+
+        try {
+            Family family = response.getStatusInfo().getFamily();
+            if (family == Family.SUCCESSFUL) {
+                log.debug("{} datapoints were written into OpenTSDB", count);
+                return true;
+            }
+            String details = response.hasEntity() ? response.readEntity(String.class) : "";
+            if (family == Family.SERVER_ERROR) {
+                throw new RetryableException(String.format("%d %s", response.getStatus(), details));
+            }
+            log.error("OpenTSDB has rejected batch of {} datapoints: {} {}", count, response.getStatus(), details);
+            return false;
+        } finally {
+            response.close();
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Encodes the datapoints into the JSON array expected by /api/put, the timestamps are sent in milliseconds.
+     */
+    @VisibleForTesting
+    static byte[] encode(List<Datapoint> datapoints, boolean gzip) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(datapoints.size() * 128);
+        try (OutputStream stream = gzip ? new GZIPOutputStream(buffer) : buffer;
+                JsonGenerator generator = JSON_FACTORY.createGenerator(stream)) {
+            generator.writeStartArray();
+            for (Datapoint datapoint : datapoints) {
+                generator.writeStartObject();
+                generator.writeStringField("metric", datapoint.getMetric());
+                generator.writeNumberField("timestamp", datapoint.getTime());
+                generator.writeFieldName("value");
+                writeValue(generator, datapoint.getValue());
+                generator.writeObjectFieldStart("tags");
+                if (datapoint.getTags() != null) {
+                    for (Map.Entry<String, String> tag : datapoint.getTags().entrySet()) {
+                        generator.writeStringField(tag.getKey(), tag.getValue());
+                    }
+                }
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void writeValue(JsonGenerator generator, Number value) throws IOException {
+        if (value instanceof Double || value instanceof Float) {
+            generator.writeNumber(value.doubleValue());
+        } else {
+            generator.writeNumber(value.longValue());
+        }
+    }
+
+    private static class RetryableException extends Exception {
+        RetryableException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Serializable settings of the client, the client itself is created on the worker.
+     */
+    public static final class Builder implements Serializable {
+        private final String url;
+        private int timeoutMillis;
+        private boolean chunkedEncodingEnabled;
+        private boolean gzipEnabled;
+        private int attempts = 1;
+        private long backoffMillis;
+
+        private Builder(String url) {
+            this.url = url;
+        }
+
+        public Builder withTimeout(int timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+            return this;
+        }
+
+        public Builder enableChunkedEncoding() {
+            chunkedEncodingEnabled = true;
+            return this;
+        }
+
+        public Builder enableGzip() {
+            gzipEnabled = true;
+            return this;
+        }
+
+        /**
+         * Sets the number of attempts to write a batch and the backoff between them, it grows with each attempt.
+         */
+        public Builder withRetry(int attempts, long backoffMillis) {
+            this.attempts = attempts;
+            this.backoffMillis = backoffMillis;
+            return this;
+        }
+
+        public OpenTsdbPutClient build() {
+            return new OpenTsdbPutClient(this);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.openkilda.wfm.topology.opentsdb;
 
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.RegexBody.regex;
 
 import org.openkilda.messaging.info.Datapoint;
 import org.openkilda.wfm.StableAbstractStormTest;
@@ -35,6 +36,7 @@ import org.mockserver.verify.VerificationTimes;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Properties;
 
 public class OpenTsdbTopologyTest extends StableAbstractStormTest {
     private static final long timestamp = System.currentTimeMillis();
@@ -102,14 +104,18 @@ public class OpenTsdbTopologyTest extends StableAbstractStormTest {
     }
 
     @Test
-    public void shouldSendDatapointRequestsTwice() throws Exception {
+    public void shouldSendChangedDatapoints() throws Exception {
         Datapoint datapoint1 = new Datapoint("metric", timestamp, Collections.emptyMap(), 123);
         Datapoint datapoint2 = new Datapoint("metric", timestamp, Collections.emptyMap(), 456);
 
+        // plain JSON bodies, so the datapoints can be matched in the recorded requests
+        Properties overlay = new Properties();
+        overlay.setProperty("opentsdb.client.gzip.enabled", "false");
+
         MockedSources sources = new MockedSources();
 
         Testing.withTrackedCluster(clusterParam, (cluster) -> {
-            OpenTsdbTopology topology = new OpenTsdbTopology(makeLaunchEnvironment());
+            OpenTsdbTopology topology = new OpenTsdbTopology(makeLaunchEnvironment(overlay));
 
             sources.addMockData(OpenTsdbTopology.OTSDB_SPOUT_ID,
                     new Values(null, datapoint1), new Values(null, datapoint2));
@@ -119,7 +125,13 @@ public class OpenTsdbTopologyTest extends StableAbstractStormTest {
 
             Testing.completeTopology(cluster, stormTopology, completeTopologyParam);
         });
-        //verify that request is sent to OpenTSDB server once
-        mockServer.verify(REQUEST, VerificationTimes.exactly(2));
+        //verify that both datapoints are sent to OpenTSDB server, however they are batched
+        mockServer.verify(requestWithValue(123), VerificationTimes.exactly(1));
+        mockServer.verify(requestWithValue(456), VerificationTimes.exactly(1));
+    }
+
+    private static HttpRequest requestWithValue(long value) {
+        return HttpRequest.request().withMethod("POST").withPath("/api/put")
+                .withBody(regex(".*\"value\":" + value + "[,}].*"));
     }
 }
@@ -22,18 +22,18 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.openkilda.messaging.info.Datapoint;
 import org.openkilda.messaging.info.InfoData;
-import org.openkilda.wfm.topology.opentsdb.bolts.OpenTSDBFilterBolt;
+import org.openkilda.wfm.topology.opentsdb.bolts.DatapointAggregationBolt;
 
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.tuple.Tuple;
@@ -42,25 +42,22 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @RunWith(MockitoJUnitRunner.class)
-public class OpenTSDBFilterBoltTest {
+public class DatapointAggregationBoltTest {
 
     private static final String METRIC = "METRIC";
     private static final long TIMESTAMP = System.currentTimeMillis();
     private static final Integer VALUE = 123;
 
-    @InjectMocks
-    private OpenTSDBFilterBolt target = new OpenTSDBFilterBolt();
+    private DatapointAggregationBolt target = new DatapointAggregationBolt(1, 1);
 
     @Mock
     private OutputCollector outputCollector;
@@ -89,11 +86,14 @@ public class OpenTSDBFilterBoltTest {
         verify(outputCollector).ack(any(Tuple.class));
         List<Object> captured = argumentCaptor.getValue();
         assertNotNull(captured);
-        assertThat(captured.size(), is(4));
-        assertEquals(METRIC, captured.get(0));
-        assertEquals(TIMESTAMP, captured.get(1));
-        assertEquals(VALUE, captured.get(2));
-        assertTrue(((Map) captured.get(3)).isEmpty());
+        assertThat(captured.size(), is(1));
+        List<Datapoint> batch = getBatch(captured);
+        assertThat(batch.size(), is(1));
+        Datapoint datapoint = batch.get(0);
+        assertEquals(METRIC, datapoint.getMetric());
+        assertEquals(TIMESTAMP, (long) datapoint.getTime());
+        assertEquals(VALUE, datapoint.getValue());
+        assertThat(datapoint.getTags().isEmpty(), is(true));
     }
 
     @Test
@@ -177,10 +177,7 @@ public class OpenTSDBFilterBoltTest {
         when(tuple.getValueByField(eq("datapoint"))).thenReturn(infoData2);
         target.execute(tuple);
 
-        Tuple tickTuple = mock(Tuple.class);
-        when(tickTuple.getSourceComponent()).thenReturn(SYSTEM_COMPONENT_ID);
-        when(tickTuple.getSourceStreamId()).thenReturn(SYSTEM_TICK_STREAM_ID);
-        target.execute(tickTuple);
+        target.execute(mockTickTuple());
 
         Datapoint infoData3 = new Datapoint("1", now, singletonMap("key", "a"), VALUE);
         when(tuple.getValueByField(eq("datapoint"))).thenReturn(infoData3);
@@ -191,6 +188,47 @@ public class OpenTSDBFilterBoltTest {
         verify(outputCollector, times(4)).ack(any(Tuple.class));
     }
 
+    @Test
+    public void shouldEmitChangedDatapointsInOneBatch() throws Exception {
+        // given
+        target = new DatapointAggregationBolt(10, 1);
+        target.prepare(Collections.emptyMap(), null, outputCollector);
+
+        // when
+        mockTuple();
+        target.execute(tuple);
+        target.execute(tuple);
+        when(tuple.getValueByField(eq("datapoint")))
+                .thenReturn(new Datapoint(METRIC, TIMESTAMP + 1, Collections.emptyMap(), VALUE + 1));
+        target.execute(tuple);
+        when(tuple.getValueByField(eq("datapoint")))
+                .thenReturn(new Datapoint(METRIC, TIMESTAMP, singletonMap("key", "a"), VALUE));
+        target.execute(tuple);
+
+        // then
+        verify(outputCollector, never()).emit(anyList());
+
+        target.execute(mockTickTuple());
+        verify(outputCollector, times(1)).emit(argumentCaptor.capture());
+        assertThat(getBatch(argumentCaptor.getValue()).size(), is(3));
+
+        target.execute(mockTickTuple());
+        verify(outputCollector, times(1)).emit(anyList());
+        verify(outputCollector, times(6)).ack(any(Tuple.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Datapoint> getBatch(List<Object> emitted) {
+        return (List<Datapoint>) emitted.get(0);
+    }
+
+    private Tuple mockTickTuple() {
+        Tuple tickTuple = mock(Tuple.class);
+        when(tickTuple.getSourceComponent()).thenReturn(SYSTEM_COMPONENT_ID);
+        when(tickTuple.getSourceStreamId()).thenReturn(SYSTEM_TICK_STREAM_ID);
+        return tickTuple;
+    }
+
     private void mockTuple(long timestamp) throws Exception {
         InfoData infoData = new Datapoint(METRIC, timestamp, Collections.emptyMap(), VALUE);
         when(tuple.contains(eq("datapoint"))).thenReturn(true);
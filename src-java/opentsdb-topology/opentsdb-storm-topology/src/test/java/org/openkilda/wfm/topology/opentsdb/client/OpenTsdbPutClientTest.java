@@ -0,0 +1,143 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.opentsdb.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+
+import org.openkilda.messaging.info.Datapoint;
+
+import com.google.common.io.ByteStreams;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Header;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+public class OpenTsdbPutClientTest {
+    private static final HttpRequest REQUEST = HttpRequest.request().withMethod("POST").withPath("/api/put");
+    private static final List<Datapoint> DATAPOINTS = Collections.singletonList(
+            new Datapoint("metric", 1000L, Collections.singletonMap("switchid", "00:00:00:00:00:00:00:01"), 123));
+    private static final int TIMEOUT = 1_000;
+
+    private static ClientAndServer mockServer;
+    private static String url;
+
+    private OpenTsdbPutClient client;
+
+    @BeforeClass
+    public static void setupOnce() throws IOException {
+        int port = findFreePort();
+        mockServer = startClientAndServer(port);
+        url = "http://localhost:" + port;
+    }
+
+    @AfterClass
+    public static void teardownOnce() {
+        mockServer.stop();
+    }
+
+    @After
+    public void cleanup() {
+        if (client != null) {
+            client.close();
+        }
+        mockServer.reset();
+    }
+
+    @Test
+    public void shouldRetryServerError() {
+        respond(503);
+        client = OpenTsdbPutClient.newBuilder(url).withTimeout(TIMEOUT).withRetry(3, 10).build();
+
+        assertFalse(client.put(DATAPOINTS));
+        mockServer.verify(REQUEST, VerificationTimes.exactly(3));
+    }
+
+    @Test
+    public void shouldRetryConnectionFailure() throws IOException {
+        client = OpenTsdbPutClient.newBuilder("http://localhost:" + findFreePort())
+                .withTimeout(TIMEOUT).withRetry(3, 100).build();
+
+        long startedAt = System.currentTimeMillis();
+        assertFalse(client.put(DATAPOINTS));
+        // backoff grows with each attempt, so 2 retries sleep 100 + 200 ms
+        assertTrue(System.currentTimeMillis() - startedAt >= 300);
+    }
+
+    @Test
+    public void shouldNotRetryClientError() {
+        respond(400);
+        client = OpenTsdbPutClient.newBuilder(url).withTimeout(TIMEOUT).withRetry(3, 10).build();
+
+        assertFalse(client.put(DATAPOINTS));
+        mockServer.verify(REQUEST, VerificationTimes.exactly(1));
+    }
+
+    @Test
+    public void shouldSendGzippedBody() throws IOException {
+        respond(204);
+        client = OpenTsdbPutClient.newBuilder(url).withTimeout(TIMEOUT).enableGzip().build();
+
+        assertTrue(client.put(DATAPOINTS));
+        HttpRequest gzipped = HttpRequest.request().withMethod("POST").withPath("/api/put")
+                .withHeaders(new Header("Content-Encoding", "gzip"));
+        mockServer.verify(gzipped, VerificationTimes.exactly(1));
+
+        byte[] body = OpenTsdbPutClient.encode(DATAPOINTS, true);
+        assertEquals((byte) 0x1f, body[0]);
+        assertEquals((byte) 0x8b, body[1]);
+        try (GZIPInputStream stream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertArrayEquals(OpenTsdbPutClient.encode(DATAPOINTS, false), ByteStreams.toByteArray(stream));
+        }
+    }
+
+    @Test
+    public void shouldEncodeDatapoints() throws IOException {
+        assertEquals("[{\"metric\":\"metric\",\"timestamp\":1000,\"value\":123,"
+                        + "\"tags\":{\"switchid\":\"00:00:00:00:00:00:00:01\"}}]",
+                new String(OpenTsdbPutClient.encode(DATAPOINTS, false), UTF_8));
+
+        List<Datapoint> datapoints = Collections.singletonList(new Datapoint("metric", 2000L, null, 0.5));
+        assertEquals("[{\"metric\":\"metric\",\"timestamp\":2000,\"value\":0.5,\"tags\":{}}]",
+                new String(OpenTsdbPutClient.encode(datapoints, false), UTF_8));
+    }
+
+    private static void respond(int status) {
+        mockServer.when(REQUEST).respond(HttpResponse.response().withStatusCode(status));
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -48,6 +48,7 @@ import org.apache.storm.kafka.spout.KafkaSpout;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 public class PingTopology extends AbstractTopology<PingTopologyConfig> {
@@ -109,8 +110,10 @@ public class PingTopology extends AbstractTopology<PingTopologyConfig> {
     }
 
     private void input(TopologyBuilder topology) {
+        // flow paths change notifications keep the periodic ping cache up to date between reconciliations
         KafkaSpout<String, Message> spout = buildKafkaSpout(
-                topologyConfig.getKafkaPingTopic(), ComponentId.INPUT.toString());
+                Arrays.asList(topologyConfig.getKafkaPingTopic(), topologyConfig.getKafkaFlowPathsChangedTopic()),
+                ComponentId.INPUT.toString());
         topology.setSpout(ComponentId.INPUT.toString(), spout, scaleFactor);
     }
 
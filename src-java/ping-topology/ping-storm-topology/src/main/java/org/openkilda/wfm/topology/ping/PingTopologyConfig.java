@@ -55,6 +55,10 @@ public interface PingTopologyConfig extends AbstractTopologyConfig {
         return getKafkaTopics().getPingTopic();
     }
 
+    default String getKafkaFlowPathsChangedTopic() {
+        return getKafkaTopics().getTopoReroutePathsTopic();
+    }
+
     default String getKafkaSpeakerFlowPingTopic() {
         return getKafkaTopics().getSpeakerFlowPingTopic();
     }
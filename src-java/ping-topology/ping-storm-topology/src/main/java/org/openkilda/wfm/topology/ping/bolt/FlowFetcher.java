@@ -16,27 +16,31 @@
 package org.openkilda.wfm.topology.ping.bolt;
 
 import org.openkilda.messaging.Utils;
+import org.openkilda.messaging.command.CommandData;
 import org.openkilda.messaging.command.flow.FlowPingRequest;
 import org.openkilda.messaging.command.flow.PeriodicPingCommand;
+import org.openkilda.messaging.command.reroute.FlowPathsChanged;
 import org.openkilda.messaging.info.flow.FlowPingResponse;
 import org.openkilda.model.Flow;
+import org.openkilda.persistence.FetchStrategy;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.persistence.repositories.FlowRepository;
 import org.openkilda.wfm.CommandContext;
 import org.openkilda.wfm.error.PipelineException;
 import org.openkilda.wfm.topology.ping.model.PingContext;
 import org.openkilda.wfm.topology.ping.model.PingContext.Kinds;
+import org.openkilda.wfm.topology.ping.model.PingFlow;
+import org.openkilda.wfm.topology.ping.model.PingFlowCache;
 
-import org.apache.storm.task.OutputCollector;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
-import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 public class FlowFetcher extends Abstract {
     public static final String BOLT_ID = ComponentId.FLOW_FETCHER.toString();
@@ -56,7 +60,7 @@ public class FlowFetcher extends Abstract {
 
     private final PersistenceManager persistenceManager;
     private transient FlowRepository flowRepository;
-    private Set<Flow> flowsSet;
+    private transient PingFlowCache flowCache;
     private long periodicPingCacheExpiryInterval;
     private long lastPeriodicPingCacheRefresh;
 
@@ -84,22 +88,59 @@ public class FlowFetcher extends Abstract {
     }
 
     private void updatePeriodicPingHeap(Tuple input) throws PipelineException {
-        PeriodicPingCommand periodicPingCommand = pullPeriodicPingRequest(input);
-        if (periodicPingCommand.isEnable()) {
-            flowRepository.findById(periodicPingCommand.getFlowId()).ifPresent(value -> flowsSet.add(value));
+        CommandData command = pullValue(input, InputRouter.FIELD_ID_PING_REQUEST, CommandData.class);
+        if (command instanceof PeriodicPingCommand) {
+            PeriodicPingCommand periodicPingCommand = (PeriodicPingCommand) command;
+            if (periodicPingCommand.isEnable()) {
+                reloadFlow(input, periodicPingCommand.getFlowId(), false);
+            } else {
+                removeFlow(input, periodicPingCommand.getFlowId());
+            }
+        } else if (command instanceof FlowPathsChanged) {
+            // the flows without periodic pings are not interesting, they are added by the periodic ping command
+            String flowId = ((FlowPathsChanged) command).getFlowId();
+            if (flowCache.contains(flowId)) {
+                reloadFlow(input, flowId, true);
+            }
         } else {
-            flowsSet.removeIf(flow -> flow.getFlowId().equals(periodicPingCommand.getFlowId()));
+            unhandledInput(input);
         }
     }
 
-    private void refreshHeap(Tuple input, boolean emitCacheExpiry) throws PipelineException {
-        log.debug("Handle periodic ping request");
-        final Set<Flow> flows = new HashSet<>(flowRepository.findWithPeriodicPingsEnabled());
+    private void reloadFlow(Tuple input, String flowId, boolean checkPeriodicPings) throws PipelineException {
+        Optional<Flow> flow = flowRepository.findById(flowId, FetchStrategy.DIRECT_RELATIONS)
+                .filter(entry -> !checkPeriodicPings || entry.isPeriodicPings())
+                .filter(PingFlow::isPingable);
+        if (flow.isPresent()) {
+            Optional<PingFlow> replaced = flowCache.put(PingFlow.of(flow.get()));
+            if (replaced.isPresent()) {
+                emitCacheExpire(input, pullContext(input), replaced.get());
+            }
+        } else {
+            removeFlow(input, flowId);
+        }
+    }
+
+    private void removeFlow(Tuple input, String flowId) throws PipelineException {
+        Optional<PingFlow> removed = flowCache.remove(flowId);
+        if (removed.isPresent()) {
+            emitCacheExpire(input, pullContext(input), removed.get());
+        }
+    }
+
+    private void reconcileHeap(Tuple input, boolean emitCacheExpiry) throws PipelineException {
+        log.debug("Reconcile periodic ping cache");
+        List<PingFlow> flows = flowRepository.findWithPeriodicPingsEnabled(FetchStrategy.DIRECT_RELATIONS).stream()
+                .filter(PingFlow::isPingable)
+                .map(PingFlow::of)
+                .collect(Collectors.toList());
+        List<PingFlow> stale = flowCache.reconcile(flows);
         if (emitCacheExpiry) {
             final CommandContext commandContext = pullContext(input);
-            emitCacheExpire(input, commandContext, flows);
+            for (PingFlow flow : stale) {
+                emitCacheExpire(input, commandContext, flow);
+            }
         }
-        flowsSet = flows;
         lastPeriodicPingCacheRefresh = System.currentTimeMillis();
     }
 
@@ -107,10 +148,10 @@ public class FlowFetcher extends Abstract {
         log.debug("Handle periodic ping request");
 
         if (lastPeriodicPingCacheRefresh + periodicPingCacheExpiryInterval < System.currentTimeMillis()) {
-            refreshHeap(input, true);
+            reconcileHeap(input, true);
         }
         final CommandContext commandContext = pullContext(input);
-        for (Flow flow : flowsSet) {
+        for (PingFlow flow : flowCache.getFlows()) {
             PingContext pingContext = new PingContext(Kinds.PERIODIC, flow);
             emit(input, pingContext, commandContext);
         }
@@ -121,12 +162,17 @@ public class FlowFetcher extends Abstract {
         log.debug("Handle on demand ping request");
         FlowPingRequest request = pullOnDemandRequest(input);
 
-        Optional<Flow> optionalFlow = flowRepository.findById(request.getFlowId());
+        Optional<Flow> optionalFlow = flowRepository.findById(request.getFlowId(), FetchStrategy.DIRECT_RELATIONS);
 
         if (optionalFlow.isPresent()) {
             Flow flow = optionalFlow.get();
+            if (!PingFlow.isPingable(flow)) {
+                emitOnDemandResponse(input, request, String.format(
+                        "Flow %s has no forward or reverse path", request.getFlowId()));
+                return;
+            }
 
-            PingContext pingContext = new PingContext(Kinds.ON_DEMAND, flow).toBuilder()
+            PingContext pingContext = new PingContext(Kinds.ON_DEMAND, PingFlow.of(flow)).toBuilder()
                     .timeout(request.getTimeout())
                     .build();
             emit(input, pingContext, pullContext(input));
@@ -149,24 +195,15 @@ public class FlowFetcher extends Abstract {
         getOutput().emit(STREAM_ON_DEMAND_RESPONSE_ID, input, output);
     }
 
-    private void emitCacheExpire(Tuple input, CommandContext commandContext, Set<Flow> flows) {
-        OutputCollector collector = getOutput();
-        flowsSet.removeAll(flows);
-        for (Flow flow : flowsSet) {
-            Values output = new Values(flow, commandContext);
-            collector.emit(STREAM_EXPIRE_CACHE_ID, input, output);
-
-        }
+    private void emitCacheExpire(Tuple input, CommandContext commandContext, PingFlow flow) {
+        Values output = new Values(flow, commandContext);
+        getOutput().emit(STREAM_EXPIRE_CACHE_ID, input, output);
     }
 
     private FlowPingRequest pullOnDemandRequest(Tuple input) throws PipelineException {
         return pullValue(input, InputRouter.FIELD_ID_PING_REQUEST, FlowPingRequest.class);
     }
 
-    private PeriodicPingCommand pullPeriodicPingRequest(Tuple input) throws PipelineException {
-        return pullValue(input, InputRouter.FIELD_ID_PING_REQUEST, PeriodicPingCommand.class);
-    }
-
     @Override
     public void declareOutputFields(OutputFieldsDeclarer outputManager) {
         outputManager.declare(STREAM_FIELDS);
@@ -177,8 +214,9 @@ public class FlowFetcher extends Abstract {
     @Override
     public void init() {
         flowRepository = persistenceManager.getRepositoryFactory().createFlowRepository();
+        flowCache = new PingFlowCache();
         try {
-            refreshHeap(null, false);
+            reconcileHeap(null, false);
         } catch (PipelineException e) {
             log.error("Failed to init periodic ping cache");
         }
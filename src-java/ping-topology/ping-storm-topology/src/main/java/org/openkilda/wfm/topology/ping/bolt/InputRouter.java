@@ -22,6 +22,7 @@ import org.openkilda.messaging.command.CommandData;
 import org.openkilda.messaging.command.CommandMessage;
 import org.openkilda.messaging.command.flow.FlowPingRequest;
 import org.openkilda.messaging.command.flow.PeriodicPingCommand;
+import org.openkilda.messaging.command.reroute.FlowPathsChanged;
 import org.openkilda.messaging.floodlight.response.PingResponse;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
@@ -74,7 +75,7 @@ public class InputRouter extends Abstract {
         final CommandData data = message.getData();
         if (data instanceof FlowPingRequest) {
             emit(input, new Values(data), STREAM_ON_DEMAND_REQUEST_ID);
-        } else if (data instanceof PeriodicPingCommand) {
+        } else if (data instanceof PeriodicPingCommand || data instanceof FlowPathsChanged) {
             emit(input, new Values(data), STREAM_PERIODIC_PING_UPDATE_REQUEST_ID);
         } else {
             unhandledInput(input);
@@ -17,12 +17,11 @@ package org.openkilda.wfm.topology.ping.bolt;
 
 import org.openkilda.messaging.model.FlowDirection;
 import org.openkilda.messaging.model.Ping;
-import org.openkilda.model.Flow;
-import org.openkilda.model.FlowPath;
 import org.openkilda.wfm.CommandContext;
 import org.openkilda.wfm.error.PipelineException;
 import org.openkilda.wfm.topology.ping.model.GroupId;
 import org.openkilda.wfm.topology.ping.model.PingContext;
+import org.openkilda.wfm.topology.ping.model.PingFlow;
 
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Fields;
@@ -60,17 +59,15 @@ public class PingProducer extends Abstract {
     }
 
     private Ping buildPing(PingContext pingContext, FlowDirection direction) {
-        Flow flow = pingContext.getFlow();
+        PingFlow flow = pingContext.getFlow();
         if (FlowDirection.FORWARD == direction) {
-            FlowPath flowPath = flow.getForwardPath();
             return new Ping((short) flow.getSrcVlan(),
-                    flowPath.getSrcSwitch().getSwitchId(), flow.getSrcPort(),
-                    flowPath.getDestSwitch().getSwitchId(), flow.getDestPort());
+                    flow.getSrcSwitchId(), flow.getSrcPort(),
+                    flow.getDestSwitchId(), flow.getDestPort());
         } else if (FlowDirection.REVERSE == direction) {
-            FlowPath flowPath = flow.getReversePath();
             return new Ping((short) flow.getDestVlan(),
-                    flowPath.getSrcSwitch().getSwitchId(), flow.getDestPort(),
-                    flowPath.getDestSwitch().getSwitchId(), flow.getSrcPort());
+                    flow.getDestSwitchId(), flow.getDestPort(),
+                    flow.getSrcSwitchId(), flow.getSrcPort());
         } else {
             throw new IllegalArgumentException(String.format(
                     "Unexpected %s value: %s", FlowDirection.class.getCanonicalName(), direction));
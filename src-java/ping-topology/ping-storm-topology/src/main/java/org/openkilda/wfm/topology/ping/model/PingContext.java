@@ -18,7 +18,6 @@ package org.openkilda.wfm.topology.ping.model;
 import org.openkilda.messaging.model.FlowDirection;
 import org.openkilda.messaging.model.Ping;
 import org.openkilda.messaging.model.PingMeters;
-import org.openkilda.model.Flow;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -40,7 +39,7 @@ public class PingContext implements Serializable {
     private Kinds kind;
     private GroupId group;
 
-    private Flow flow;
+    private PingFlow flow;
     private FlowDirection direction;
     private Long timeout;
 
@@ -50,7 +49,7 @@ public class PingContext implements Serializable {
     private Ping.Errors error;
     private PingMeters meters;
 
-    public PingContext(Kinds kind, Flow flow) {
+    public PingContext(Kinds kind, PingFlow flow) {
         this.kind = kind;
         this.flow = flow;
     }
@@ -104,11 +103,11 @@ public class PingContext implements Serializable {
     public long getCookie() {
         long value;
         if (direction == null) {
-            value = flow.getForwardPath().getCookie().getUnmaskedValue();
+            value = flow.getForwardCookie().getUnmaskedValue();
         } else if (direction == FlowDirection.FORWARD) {
-            value = flow.getForwardPath().getCookie().getValue();
+            value = flow.getForwardCookie().getValue();
         } else if (direction == FlowDirection.REVERSE) {
-            value = flow.getReversePath().getCookie().getValue();
+            value = flow.getReverseCookie().getValue();
         } else {
             throw new IllegalArgumentException(String.format(
                     "Unsupported %s.%s value", FlowDirection.class.getName(), direction));
@@ -0,0 +1,82 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.model;
+
+import org.openkilda.model.Cookie;
+import org.openkilda.model.Flow;
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.FlowPath;
+import org.openkilda.model.SwitchId;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * The part of the flow needed to ping it. Unlike {@link Flow} it doesn't refer to the paths and switches, so it is
+ * cheap to keep in memory and to pass between bolts.
+ */
+@Value
+@Builder
+public class PingFlow implements Serializable {
+    private String flowId;
+
+    private SwitchId srcSwitchId;
+    private int srcPort;
+    private int srcVlan;
+
+    private SwitchId destSwitchId;
+    private int destPort;
+    private int destVlan;
+
+    private Cookie forwardCookie;
+    private Cookie reverseCookie;
+
+    private FlowEncapsulationType encapsulationType;
+
+    /**
+     * Checks whether the flow has everything the ping needs, i.e. both forward and reverse paths.
+     */
+    public static boolean isPingable(Flow flow) {
+        return flow.getForwardPath() != null && flow.getReversePath() != null;
+    }
+
+    /**
+     * Makes the projection of the flow, the flow must have both forward and reverse paths.
+     */
+    public static PingFlow of(Flow flow) {
+        FlowPath forwardPath = flow.getForwardPath();
+        FlowPath reversePath = flow.getReversePath();
+        if (forwardPath == null || reversePath == null) {
+            throw new IllegalArgumentException(String.format(
+                    "Flow %s has no forward or reverse path", flow.getFlowId()));
+        }
+
+        return PingFlow.builder()
+                .flowId(flow.getFlowId())
+                .srcSwitchId(flow.getSrcSwitch().getSwitchId())
+                .srcPort(flow.getSrcPort())
+                .srcVlan(flow.getSrcVlan())
+                .destSwitchId(flow.getDestSwitch().getSwitchId())
+                .destPort(flow.getDestPort())
+                .destVlan(flow.getDestVlan())
+                .forwardCookie(forwardPath.getCookie())
+                .reverseCookie(reversePath.getCookie())
+                .encapsulationType(flow.getEncapsulationType())
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Flows with enabled periodic pings.
+ *
+ * <p>The cache is updated on the flow change notifications and periodically reconciled with the database, so the
+ * periodic ping rounds are served from memory.
+ */
+public class PingFlowCache {
+    private final Map<String, PingFlow> flows = new HashMap<>();
+
+    /**
+     * Adds or replaces the flow.
+     *
+     * @return the replaced entry if it differs from the new one.
+     */
+    public Optional<PingFlow> put(PingFlow flow) {
+        PingFlow replaced = flows.put(flow.getFlowId(), flow);
+        if (replaced == null || replaced.equals(flow)) {
+            return Optional.empty();
+        }
+        return Optional.of(replaced);
+    }
+
+    /**
+     * Removes the flow.
+     *
+     * @return the removed entry.
+     */
+    public Optional<PingFlow> remove(String flowId) {
+        return Optional.ofNullable(flows.remove(flowId));
+    }
+
+    /**
+     * Replaces the content of the cache with the actual flows.
+     *
+     * @return the entries which are absent in or differ from the actual flows.
+     */
+    public List<PingFlow> reconcile(Collection<PingFlow> actual) {
+        Map<String, PingFlow> current = new HashMap<>(flows);
+        flows.clear();
+
+        List<PingFlow> stale = new ArrayList<>();
+        for (PingFlow flow : actual) {
+            flows.put(flow.getFlowId(), flow);
+            PingFlow previous = current.remove(flow.getFlowId());
+            if (previous != null && !previous.equals(flow)) {
+                stale.add(previous);
+            }
+        }
+        stale.addAll(current.values());
+        return stale;
+    }
+
+    public boolean contains(String flowId) {
+        return flows.containsKey(flowId);
+    }
+
+    public Collection<PingFlow> getFlows() {
+        return Collections.unmodifiableCollection(flows.values());
+    }
+
+    public int size() {
+        return flows.size();
+    }
+}
@@ -0,0 +1,90 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.model;
+
+import org.openkilda.model.Cookie;
+import org.openkilda.model.FlowEncapsulationType;
+import org.openkilda.model.SwitchId;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+public class PingFlowCacheTest {
+    private static final SwitchId SWITCH_A = new SwitchId(1);
+    private static final SwitchId SWITCH_B = new SwitchId(2);
+
+    @Test
+    public void putReturnsOnlyChangedEntry() {
+        PingFlowCache cache = new PingFlowCache();
+
+        Assert.assertFalse(cache.put(makeFlow("flow-1", 1)).isPresent());
+        Assert.assertFalse(cache.put(makeFlow("flow-1", 1)).isPresent());
+
+        Optional<PingFlow> replaced = cache.put(makeFlow("flow-1", 2));
+        Assert.assertEquals(Optional.of(makeFlow("flow-1", 1)), replaced);
+        Assert.assertEquals(Collections.singletonList(makeFlow("flow-1", 2)), new ArrayList<>(cache.getFlows()));
+    }
+
+    @Test
+    public void remove() {
+        PingFlowCache cache = new PingFlowCache();
+        cache.put(makeFlow("flow-1", 1));
+
+        Assert.assertEquals(Optional.of(makeFlow("flow-1", 1)), cache.remove("flow-1"));
+        Assert.assertFalse(cache.remove("flow-1").isPresent());
+        Assert.assertFalse(cache.contains("flow-1"));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void reconcileReturnsRemovedAndChangedEntries() {
+        PingFlowCache cache = new PingFlowCache();
+        cache.put(makeFlow("flow-1", 1));
+        cache.put(makeFlow("flow-2", 2));
+        cache.put(makeFlow("flow-3", 3));
+
+        List<PingFlow> stale = cache.reconcile(Arrays.asList(
+                makeFlow("flow-1", 1), makeFlow("flow-2", 20), makeFlow("flow-4", 4)));
+
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(makeFlow("flow-2", 2), makeFlow("flow-3", 3))), new HashSet<>(stale));
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(makeFlow("flow-1", 1), makeFlow("flow-2", 20), makeFlow("flow-4", 4))),
+                new HashSet<>(cache.getFlows()));
+    }
+
+    private static PingFlow makeFlow(String flowId, long cookie) {
+        return PingFlow.builder()
+                .flowId(flowId)
+                .srcSwitchId(SWITCH_A)
+                .srcPort(1)
+                .srcVlan(100)
+                .destSwitchId(SWITCH_B)
+                .destPort(2)
+                .destVlan(200)
+                .forwardCookie(Cookie.buildForwardCookie(cookie))
+                .reverseCookie(Cookie.buildReverseCookie(cookie))
+                .encapsulationType(FlowEncapsulationType.TRANSIT_VLAN)
+                .build();
+    }
+}
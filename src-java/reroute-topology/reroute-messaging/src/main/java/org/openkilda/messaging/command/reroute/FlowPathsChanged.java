@@ -0,0 +1,42 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging.command.reroute;
+
+import org.openkilda.messaging.command.CommandData;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Notifies the reroute and ping topologies that the paths of the flow could be created, changed or removed. The paths
+ * themselves are read from the database by the receiver.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class FlowPathsChanged extends CommandData {
+    private static final long serialVersionUID = 1L;
+
+    @JsonProperty("flow_id")
+    private String flowId;
+
+    @JsonCreator
+    public FlowPathsChanged(@NonNull @JsonProperty("flow_id") String flowId) {
+        this.flowId = flowId;
+    }
+}
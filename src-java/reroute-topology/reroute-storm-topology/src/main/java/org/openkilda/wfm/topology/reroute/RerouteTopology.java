@@ -26,12 +26,16 @@ import org.openkilda.wfm.topology.utils.MessageKafkaTranslator;
 import org.apache.storm.generated.StormTopology;
 import org.apache.storm.kafka.bolt.KafkaBolt;
 import org.apache.storm.kafka.spout.KafkaSpout;
+import org.apache.storm.topology.BoltDeclarer;
 import org.apache.storm.topology.TopologyBuilder;
 import org.apache.storm.tuple.Fields;
 
+import java.time.Duration;
+
 public class RerouteTopology extends AbstractTopology<RerouteTopologyConfig> {
 
     private static final String SPOUT_ID_REROUTE = "reroute-spout";
+    private static final String SPOUT_ID_REROUTE_PATHS = "reroute-paths-spout";
     private static final String BOLT_ID_REROUTE = "reroute-bolt";
     private static final String BOLT_ID_REROUTE_THROTTLING = "reroute-throttling-bolt";
     private static final String BOLT_ID_KAFKA_FLOW = "kafka-flow-bolt";
@@ -61,14 +65,26 @@ public class RerouteTopology extends AbstractTopology<RerouteTopologyConfig> {
         PersistenceManager persistenceManager = PersistenceProvider.getInstance()
                 .createPersistenceManager(configurationProvider);
 
-        RerouteBolt rerouteBolt = new RerouteBolt(persistenceManager);
-        topologyBuilder.setBolt(BOLT_ID_REROUTE, rerouteBolt, parallelism)
+        Duration pathIndexRebuildInterval = null;
+        if (topologyConfig.isPathIndexEnabled()) {
+            pathIndexRebuildInterval = Duration.ofSeconds(topologyConfig.getPathIndexRebuildIntervalSeconds());
+        }
+        RerouteBolt rerouteBolt = new RerouteBolt(persistenceManager, pathIndexRebuildInterval);
+        BoltDeclarer rerouteBoltDeclarer = topologyBuilder.setBolt(BOLT_ID_REROUTE, rerouteBolt, parallelism)
                 .shuffleGrouping(SPOUT_ID_REROUTE);
+        if (topologyConfig.isPathIndexEnabled()) {
+            // each reroute bolt keeps its own index, so all of them must see the flow path changes
+            KafkaSpout pathsSpout = buildKafkaSpout(topologyConfig.getKafkaTopoReroutePathsTopic(),
+                    SPOUT_ID_REROUTE_PATHS);
+            topologyBuilder.setSpout(SPOUT_ID_REROUTE_PATHS, pathsSpout, parallelism);
+            rerouteBoltDeclarer.allGrouping(SPOUT_ID_REROUTE_PATHS);
+        }
 
         FlowThrottlingBolt flowThrottlingBolt = new FlowThrottlingBolt(persistenceManager,
                 topologyConfig.getRerouteThrottlingMinDelay(),
                 topologyConfig.getRerouteThrottlingMaxDelay(),
-                topologyConfig.getDefaultFlowPriority());
+                topologyConfig.getDefaultFlowPriority(),
+                topologyConfig.getRerouteBatchSize());
         //TODO(siakovenko): fix ThrottlingBolt with parallelism > 1 : see topologyConfig.getNewParallelism()
         topologyBuilder.setBolt(BOLT_ID_REROUTE_THROTTLING, flowThrottlingBolt, parallelism)
                 .fieldsGrouping(BOLT_ID_REROUTE, new Fields(RerouteBolt.FLOW_ID_FIELD));
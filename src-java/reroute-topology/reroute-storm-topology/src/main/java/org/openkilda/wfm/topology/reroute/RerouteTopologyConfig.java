@@ -30,6 +30,27 @@ public interface RerouteTopologyConfig extends AbstractTopologyConfig {
     @Key("reroute.throttling.delay.max")
     long getRerouteThrottlingMaxDelay();
 
+    /**
+     * Max count of the flows in a reroute batch request sent to flowhs, 0 disables the batching.
+     */
+    @Key("reroute.batch.size")
+    @Default("0")
+    int getRerouteBatchSize();
+
+    /**
+     * Whether the affected flow paths are resolved through the in-memory index instead of the database query.
+     */
+    @Key("reroute.path.index.enabled")
+    @Default("false")
+    boolean isPathIndexEnabled();
+
+    /**
+     * Period of the full rebuild of the affected path index from the database.
+     */
+    @Key("reroute.path.index.rebuild.interval.seconds")
+    @Default("600")
+    int getPathIndexRebuildIntervalSeconds();
+
     @Key("flow.default.priority")
     @Default("1000")
     int getDefaultFlowPriority();
@@ -38,6 +59,10 @@ public interface RerouteTopologyConfig extends AbstractTopologyConfig {
         return getKafkaTopics().getTopoRerouteTopic();
     }
 
+    default String getKafkaTopoReroutePathsTopic() {
+        return getKafkaTopics().getTopoReroutePathsTopic();
+    }
+
     default String getKafkaFlowTopic() {
         return getKafkaTopics().getFlowTopic();
     }
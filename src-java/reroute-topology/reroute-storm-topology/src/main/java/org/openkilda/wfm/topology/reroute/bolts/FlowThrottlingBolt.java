@@ -16,6 +16,7 @@
 package org.openkilda.wfm.topology.reroute.bolts;
 
 import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.command.flow.FlowRerouteBatchRequest;
 import org.openkilda.messaging.command.flow.FlowRerouteRequest;
 import org.openkilda.model.FeatureToggles;
 import org.openkilda.persistence.PersistenceManager;
@@ -33,6 +34,8 @@ import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -48,33 +51,42 @@ public class FlowThrottlingBolt extends AbstractTickRichBolt {
     private final long minDelay;
     private final long maxDelay;
     private final int defaultFlowPriority;
+    private final int rerouteBatchSize;
 
     private transient ReroutesThrottling reroutesThrottling;
     private transient FeatureTogglesRepository featureTogglesRepository;
 
     public FlowThrottlingBolt(PersistenceManager persistenceManager,
-                              long minDelay, long maxDelay, int defaultFlowPriority) {
+                              long minDelay, long maxDelay, int defaultFlowPriority, int rerouteBatchSize) {
         this.persistenceManager = persistenceManager;
         this.minDelay = minDelay;
         this.maxDelay = maxDelay;
         this.defaultFlowPriority = defaultFlowPriority;
+        this.rerouteBatchSize = rerouteBatchSize;
     }
 
     @Override
     protected void doTick(Tuple tuple) {
         try {
+            boolean flowsRerouteViaFlowHs = featureTogglesRepository.find()
+                    .map(FeatureToggles::getFlowsRerouteViaFlowHs)
+                    .orElse(FeatureToggles.DEFAULTS.getFlowsRerouteViaFlowHs());
+
+            if (flowsRerouteViaFlowHs && rerouteBatchSize > 0) {
+                for (List<Map.Entry<String, FlowThrottlingData>> batch
+                        : reroutesThrottling.getRerouteBatches(rerouteBatchSize)) {
+                    emitRerouteBatch(tuple, batch);
+                }
+                return;
+            }
+
             for (Map.Entry<String, FlowThrottlingData> entry : reroutesThrottling.getReroutes()) {
                 String flowId = entry.getKey();
 
-                boolean flowsRerouteViaFlowHs = featureTogglesRepository.find()
-                        .map(FeatureToggles::getFlowsRerouteViaFlowHs)
-                        .orElse(FeatureToggles.DEFAULTS.getFlowsRerouteViaFlowHs());
-
                 FlowThrottlingData throttlingData = entry.getValue();
                 CommandContext forkedContext = new CommandContext(throttlingData.getCorrelationId()).fork(flowId);
 
-                FlowRerouteRequest request = new FlowRerouteRequest(flowId, false, true,
-                        throttlingData.getAffectedIsl(), "initiated by Reroute topology");
+                FlowRerouteRequest request = makeRerouteRequest(flowId, throttlingData);
                 outputCollector.emit(flowsRerouteViaFlowHs ? STREAM_FLOWHS_ID : STREAM_FLOW_ID,
                         tuple, new Values(forkedContext.getCorrelationId(),
                                 new CommandMessage(request, System.currentTimeMillis(),
@@ -88,6 +100,29 @@ public class FlowThrottlingBolt extends AbstractTickRichBolt {
         }
     }
 
+    private void emitRerouteBatch(Tuple tuple, List<Map.Entry<String, FlowThrottlingData>> batch) {
+        List<FlowRerouteBatchRequest.Reroute> reroutes = new ArrayList<>(batch.size());
+        for (Map.Entry<String, FlowThrottlingData> entry : batch) {
+            String flowId = entry.getKey();
+            FlowThrottlingData throttlingData = entry.getValue();
+            CommandContext forkedContext = new CommandContext(throttlingData.getCorrelationId()).fork(flowId);
+            reroutes.add(new FlowRerouteBatchRequest.Reroute(forkedContext.getCorrelationId(),
+                    makeRerouteRequest(flowId, throttlingData)));
+        }
+
+        CommandContext batchContext = new CommandContext().fork("reroute-batch");
+        log.info("Send batch of {} flow reroutes with correlationId {}", reroutes.size(),
+                batchContext.getCorrelationId());
+        outputCollector.emit(STREAM_FLOWHS_ID, tuple, new Values(batchContext.getCorrelationId(),
+                new CommandMessage(new FlowRerouteBatchRequest(reroutes), System.currentTimeMillis(),
+                        batchContext.getCorrelationId())));
+    }
+
+    private FlowRerouteRequest makeRerouteRequest(String flowId, FlowThrottlingData throttlingData) {
+        return new FlowRerouteRequest(flowId, false, true,
+                throttlingData.getAffectedIsl(), "initiated by Reroute topology");
+    }
+
     @Override
     protected void doWork(Tuple tuple) {
         try {
@@ -18,6 +18,7 @@ package org.openkilda.wfm.topology.reroute.bolts;
 import org.openkilda.messaging.command.CommandData;
 import org.openkilda.messaging.command.CommandMessage;
 import org.openkilda.messaging.command.flow.FlowPathSwapRequest;
+import org.openkilda.messaging.command.reroute.FlowPathsChanged;
 import org.openkilda.messaging.command.reroute.RerouteAffectedFlows;
 import org.openkilda.messaging.command.reroute.RerouteAffectedInactiveFlows;
 import org.openkilda.messaging.command.reroute.RerouteInactiveFlows;
@@ -41,6 +42,8 @@ import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 
@@ -51,11 +54,13 @@ public class RerouteBolt extends AbstractBolt implements MessageSender {
     public static final String THROTTLING_DATA_FIELD = "throttling-data";
 
     private PersistenceManager persistenceManager;
+    private Duration pathIndexRebuildInterval;
     private transient RerouteService rerouteService;
 
 
-    public RerouteBolt(PersistenceManager persistenceManager) {
+    public RerouteBolt(PersistenceManager persistenceManager, Duration pathIndexRebuildInterval) {
         this.persistenceManager = persistenceManager;
+        this.pathIndexRebuildInterval = pathIndexRebuildInterval;
     }
 
     /**
@@ -63,7 +68,7 @@ public class RerouteBolt extends AbstractBolt implements MessageSender {
      */
     @Override
     public void prepare(Map stormConf, TopologyContext context, OutputCollector collector) {
-        this.rerouteService = new RerouteService(persistenceManager);
+        this.rerouteService = new RerouteService(persistenceManager, pathIndexRebuildInterval, Clock.systemUTC());
         super.prepare(stormConf, context, collector);
     }
 
@@ -82,6 +87,8 @@ public class RerouteBolt extends AbstractBolt implements MessageSender {
                     ((RerouteAffectedInactiveFlows) commandData).getSwitchId());
         } else if (commandData instanceof RerouteInactiveFlows) {
             rerouteService.rerouteInactiveFlows(this, correlationId, (RerouteInactiveFlows) commandData);
+        } else if (commandData instanceof FlowPathsChanged) {
+            rerouteService.updatePathIndex(((FlowPathsChanged) commandData).getFlowId());
         } else {
             log.warn("Skip undefined message type {}", message);
         }
@@ -0,0 +1,127 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.reroute.service;
+
+import org.openkilda.model.FlowPath;
+import org.openkilda.model.IslEndpoint;
+import org.openkilda.model.PathId;
+import org.openkilda.model.PathSegment;
+import org.openkilda.model.SwitchId;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reverse index from the ISL endpoints (switch and port) to the flow paths going through them.
+ *
+ * <p>The paths are indexed by both endpoints of each of their segments, so the lookup gives the same paths as
+ * {@link org.openkilda.persistence.repositories.FlowPathRepository#findBySegmentEndpoint}. The segments of a path
+ * don't change once it is created, so the index only has to follow the paths of the flow being added and removed.
+ */
+public class AffectedPathIndex {
+    private final Map<IslEndpoint, Set<PathId>> pathsByEndpoint = new HashMap<>();
+    private final Map<PathId, Set<IslEndpoint>> endpointsByPath = new HashMap<>();
+    private final Map<String, Set<PathId>> pathsByFlow = new HashMap<>();
+
+    /**
+     * Replaces the content of the index.
+     */
+    public void rebuild(Collection<FlowPath> paths) {
+        pathsByEndpoint.clear();
+        endpointsByPath.clear();
+        pathsByFlow.clear();
+        for (FlowPath path : paths) {
+            add(path);
+        }
+    }
+
+    /**
+     * Replaces the paths of the flow, the flow without paths is removed from the index.
+     */
+    public void updateFlow(String flowId, Collection<FlowPath> paths) {
+        removeFlow(flowId);
+        for (FlowPath path : paths) {
+            add(path);
+        }
+    }
+
+    /**
+     * Removes the paths of the flow.
+     */
+    public void removeFlow(String flowId) {
+        Set<PathId> pathIds = pathsByFlow.remove(flowId);
+        if (pathIds != null) {
+            pathIds.forEach(this::removePath);
+        }
+    }
+
+    /**
+     * Removes the path, e.g. when it turns out to be removed from the database.
+     */
+    public void removePath(PathId pathId) {
+        Set<IslEndpoint> endpoints = endpointsByPath.remove(pathId);
+        if (endpoints == null) {
+            return;
+        }
+        for (IslEndpoint endpoint : endpoints) {
+            Set<PathId> pathIds = pathsByEndpoint.get(endpoint);
+            if (pathIds != null) {
+                pathIds.remove(pathId);
+                if (pathIds.isEmpty()) {
+                    pathsByEndpoint.remove(endpoint);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the ids of the paths with a segment starting or ending on the port.
+     */
+    public Set<PathId> getAffectedPaths(SwitchId switchId, int port) {
+        Set<PathId> pathIds = pathsByEndpoint.get(new IslEndpoint(switchId, port));
+        return pathIds == null ? Collections.emptySet() : new HashSet<>(pathIds);
+    }
+
+    public int size() {
+        return endpointsByPath.size();
+    }
+
+    private void add(FlowPath path) {
+        PathId pathId = path.getPathId();
+        removePath(pathId);
+
+        Set<IslEndpoint> endpoints = new HashSet<>();
+        for (PathSegment segment : path.getSegments()) {
+            endpoints.add(new IslEndpoint(segment.getSrcSwitch().getSwitchId(), segment.getSrcPort()));
+            endpoints.add(new IslEndpoint(segment.getDestSwitch().getSwitchId(), segment.getDestPort()));
+        }
+        if (endpoints.isEmpty()) {
+            return;
+        }
+
+        endpointsByPath.put(pathId, endpoints);
+        for (IslEndpoint endpoint : endpoints) {
+            pathsByEndpoint.computeIfAbsent(endpoint, key -> new HashSet<>()).add(pathId);
+        }
+        if (path.getFlow() != null) {
+            pathsByFlow.computeIfAbsent(path.getFlow().getFlowId(), key -> new HashSet<>()).add(pathId);
+        }
+    }
+}
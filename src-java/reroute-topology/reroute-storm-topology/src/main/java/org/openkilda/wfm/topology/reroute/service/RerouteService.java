@@ -42,6 +42,9 @@ import org.openkilda.wfm.topology.reroute.bolts.MessageSender;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -63,7 +66,24 @@ public class RerouteService {
     private PathSegmentRepository pathSegmentRepository;
     private TransactionManager transactionManager;
 
+    private final AffectedPathIndex affectedPathIndex;
+    private final Duration pathIndexRebuildInterval;
+    private final Clock clock;
+    private Instant pathIndexBuildTime;
+
     public RerouteService(PersistenceManager persistenceManager) {
+        this(persistenceManager, null, Clock.systemUTC());
+    }
+
+    /**
+     * Creates the service resolving the affected flow paths through {@link AffectedPathIndex}.
+     *
+     * @param pathIndexRebuildInterval period of the full rebuild of the index, null disables the index.
+     */
+    public RerouteService(PersistenceManager persistenceManager, Duration pathIndexRebuildInterval, Clock clock) {
+        this.affectedPathIndex = pathIndexRebuildInterval != null ? new AffectedPathIndex() : null;
+        this.pathIndexRebuildInterval = pathIndexRebuildInterval;
+        this.clock = clock;
         this.flowRepository = persistenceManager.getRepositoryFactory().createFlowRepository();
         this.flowPathRepository = persistenceManager.getRepositoryFactory().createFlowPathRepository();
         this.pathRepository = persistenceManager.getRepositoryFactory().createFlowPathRepository();
@@ -233,7 +253,51 @@ public class RerouteService {
      */
     public Collection<FlowPath> getAffectedFlowPaths(SwitchId switchId, int port) {
         log.info("Get affected flow paths by node {}_{}", switchId, port);
-        return pathRepository.findBySegmentEndpoint(switchId, port);
+        if (affectedPathIndex == null) {
+            return pathRepository.findBySegmentEndpoint(switchId, port);
+        }
+
+        rebuildPathIndexIfExpired();
+        Set<PathId> pathIds = affectedPathIndex.getAffectedPaths(switchId, port);
+        if (pathIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Collection<FlowPath> paths = pathRepository.findByIds(pathIds);
+        if (paths.size() != pathIds.size()) {
+            // the paths were removed, but the notification is not received yet
+            paths.forEach(path -> pathIds.remove(path.getPathId()));
+            pathIds.forEach(affectedPathIndex::removePath);
+        }
+        return paths;
+    }
+
+    /**
+     * Reloads the paths of the flow into the affected path index.
+     *
+     * @param flowId the flow which paths could be changed.
+     */
+    public void updatePathIndex(String flowId) {
+        if (affectedPathIndex == null) {
+            log.debug("Affected path index is disabled, skip the update of flow {} paths", flowId);
+            return;
+        }
+        if (pathIndexBuildTime == null) {
+            // the index is built from scratch on the first use
+            return;
+        }
+        affectedPathIndex.updateFlow(flowId, pathRepository.findByFlowId(flowId));
+    }
+
+    private void rebuildPathIndexIfExpired() {
+        Instant now = clock.instant();
+        if (pathIndexBuildTime != null && now.isBefore(pathIndexBuildTime.plus(pathIndexRebuildInterval))) {
+            return;
+        }
+
+        affectedPathIndex.rebuild(pathRepository.findAll());
+        pathIndexBuildTime = now;
+        log.info("Affected path index is built for {} flow paths", affectedPathIndex.size());
     }
 
 
@@ -15,6 +15,7 @@
 
 package org.openkilda.wfm.topology.reroute.service;
 
+import org.openkilda.model.IslEndpoint;
 import org.openkilda.wfm.topology.reroute.model.FlowThrottlingData;
 
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +27,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 public class ReroutesThrottling {
@@ -90,6 +92,30 @@ public class ReroutesThrottling {
         }
     }
 
+    /**
+     * Gets reroutes grouped into batches.
+     * The flows with the same set of affected ISLs go into the same batch, a batch holds at most maxBatchSize flows.
+     * The batches keep the priority order of the flows and go in the order of their first flow.
+     *
+     * @param maxBatchSize the max count of the flows in a batch.
+     * @return list of batches if timeWindow is ends or empty list otherwise.
+     */
+    public List<List<Map.Entry<String, FlowThrottlingData>>> getRerouteBatches(int maxBatchSize) {
+        List<List<Map.Entry<String, FlowThrottlingData>>> batches = new ArrayList<>();
+        Map<Set<IslEndpoint>, List<Map.Entry<String, FlowThrottlingData>>> openBatches = new HashMap<>();
+        for (Map.Entry<String, FlowThrottlingData> entry : getReroutes()) {
+            Set<IslEndpoint> affectedIsl = entry.getValue().getAffectedIsl();
+            List<Map.Entry<String, FlowThrottlingData>> batch = openBatches.get(affectedIsl);
+            if (batch == null || batch.size() >= maxBatchSize) {
+                batch = new ArrayList<>();
+                batches.add(batch);
+                openBatches.put(affectedIsl, batch);
+            }
+            batch.add(entry);
+        }
+        return batches;
+    }
+
     private class FlowPriorityComparator implements Comparator<FlowThrottlingData> {
         @Override
         public int compare(FlowThrottlingData throttlingDataA, FlowThrottlingData throttlingDataB) {
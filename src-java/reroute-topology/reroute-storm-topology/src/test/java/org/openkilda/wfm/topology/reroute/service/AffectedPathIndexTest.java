@@ -0,0 +1,100 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.reroute.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.model.Flow;
+import org.openkilda.model.FlowPath;
+import org.openkilda.model.PathId;
+import org.openkilda.model.PathSegment;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class AffectedPathIndexTest {
+    private static final Switch SWITCH_A = Switch.builder().switchId(new SwitchId(1L)).build();
+    private static final Switch SWITCH_B = Switch.builder().switchId(new SwitchId(2L)).build();
+    private static final Switch SWITCH_C = Switch.builder().switchId(new SwitchId(3L)).build();
+    private static final String FLOW_ID_1 = "flow1";
+    private static final String FLOW_ID_2 = "flow2";
+    private static final PathId PATH_ID_1 = new PathId("path1");
+    private static final PathId PATH_ID_2 = new PathId("path2");
+    private static final PathId PATH_ID_3 = new PathId("path3");
+
+    private AffectedPathIndex index;
+
+    @Before
+    public void init() {
+        index = new AffectedPathIndex();
+        index.rebuild(Arrays.asList(
+                buildPath(FLOW_ID_1, PATH_ID_1, buildSegment(SWITCH_A, 1, SWITCH_B, 1),
+                        buildSegment(SWITCH_B, 2, SWITCH_C, 1)),
+                buildPath(FLOW_ID_2, PATH_ID_2, buildSegment(SWITCH_A, 1, SWITCH_B, 1))));
+    }
+
+    @Test
+    public void shouldFindPathsBySegmentEndpoints() {
+        assertEquals(Sets.newHashSet(PATH_ID_1, PATH_ID_2), index.getAffectedPaths(SWITCH_A.getSwitchId(), 1));
+        assertEquals(Sets.newHashSet(PATH_ID_1, PATH_ID_2), index.getAffectedPaths(SWITCH_B.getSwitchId(), 1));
+        assertEquals(Collections.singleton(PATH_ID_1), index.getAffectedPaths(SWITCH_C.getSwitchId(), 1));
+        assertTrue(index.getAffectedPaths(SWITCH_C.getSwitchId(), 2).isEmpty());
+    }
+
+    @Test
+    public void shouldReplacePathsOfFlow() {
+        index.updateFlow(FLOW_ID_1, Collections.singletonList(
+                buildPath(FLOW_ID_1, PATH_ID_3, buildSegment(SWITCH_A, 2, SWITCH_C, 2))));
+
+        assertEquals(Collections.singleton(PATH_ID_2), index.getAffectedPaths(SWITCH_A.getSwitchId(), 1));
+        assertTrue(index.getAffectedPaths(SWITCH_C.getSwitchId(), 1).isEmpty());
+        assertEquals(Collections.singleton(PATH_ID_3), index.getAffectedPaths(SWITCH_C.getSwitchId(), 2));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void shouldRemoveFlowWithoutPaths() {
+        index.updateFlow(FLOW_ID_2, Collections.emptyList());
+        index.removePath(PATH_ID_1);
+
+        assertTrue(index.getAffectedPaths(SWITCH_A.getSwitchId(), 1).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    private FlowPath buildPath(String flowId, PathId pathId, PathSegment... segments) {
+        Flow flow = Flow.builder().flowId(flowId).srcSwitch(SWITCH_A).destSwitch(SWITCH_C).build();
+        FlowPath path = FlowPath.builder().pathId(pathId).flow(flow)
+                .srcSwitch(SWITCH_A).destSwitch(SWITCH_C).build();
+        path.setSegments(Arrays.asList(segments));
+        return path;
+    }
+
+    private PathSegment buildSegment(Switch srcSwitch, int srcPort, Switch destSwitch, int destPort) {
+        return PathSegment.builder()
+                .srcSwitch(srcSwitch)
+                .srcPort(srcPort)
+                .destSwitch(destSwitch)
+                .destPort(destPort)
+                .build();
+    }
+}
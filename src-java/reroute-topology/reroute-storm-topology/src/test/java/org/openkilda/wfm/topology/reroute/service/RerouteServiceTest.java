@@ -19,10 +19,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -57,10 +59,17 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RunWith(MockitoJUnitRunner.class)
 public class RerouteServiceTest {
@@ -342,4 +351,40 @@ public class RerouteServiceTest {
 
         regularFlow.setStatus(FlowStatus.UP);
     }
+
+    @Test
+    public void shouldResolveAffectedPathsThroughIndex() {
+        FlowPath forwardPath = regularFlow.getForwardPath();
+        FlowPath reversePath = regularFlow.getReversePath();
+
+        FlowPathRepository pathRepository = mock(FlowPathRepository.class);
+        when(pathRepository.findAll()).thenReturn(Arrays.asList(forwardPath, reversePath));
+        when(pathRepository.findByIds(any())).thenAnswer(invocation -> {
+            Collection<PathId> pathIds = invocation.getArgument(0);
+            return regularFlow.getPaths().stream()
+                    .filter(path -> pathIds.contains(path.getPathId()))
+                    .collect(Collectors.toList());
+        });
+        when(pathRepository.findByFlowId(FLOW_ID)).thenReturn(Collections.singletonList(forwardPath));
+
+        RepositoryFactory repositoryFactory = mock(RepositoryFactory.class);
+        when(repositoryFactory.createFlowPathRepository()).thenReturn(pathRepository);
+        PersistenceManager persistenceManager = mock(PersistenceManager.class);
+        when(persistenceManager.getRepositoryFactory()).thenReturn(repositoryFactory);
+
+        RerouteService rerouteService = new RerouteService(persistenceManager, Duration.ofMinutes(10),
+                Clock.fixed(Instant.now(), ZoneOffset.UTC));
+
+        assertEquals(new HashSet<>(Arrays.asList(forwardPath, reversePath)),
+                new HashSet<>(rerouteService.getAffectedFlowPaths(SWITCH_ID_A, PORT)));
+        assertTrue(rerouteService.getAffectedFlowPaths(SWITCH_ID_A, PORT + 1).isEmpty());
+
+        // the reverse path is gone
+        rerouteService.updatePathIndex(FLOW_ID);
+        assertEquals(Collections.singletonList(forwardPath),
+                new ArrayList<>(rerouteService.getAffectedFlowPaths(SWITCH_ID_A, PORT)));
+
+        verify(pathRepository, times(1)).findAll();
+        verify(pathRepository, never()).findBySegmentEndpoint(any(), anyInt());
+    }
 }
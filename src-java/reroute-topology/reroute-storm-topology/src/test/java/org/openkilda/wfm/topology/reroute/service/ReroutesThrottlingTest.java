@@ -37,6 +37,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 public class ReroutesThrottlingTest {
 
@@ -54,6 +55,8 @@ public class ReroutesThrottlingTest {
 
     private static final String FLOW_ID_3 = "flow3";
 
+    private static final String FLOW_ID_4 = "flow4";
+
     private static final IslEndpoint ISL_ENDPOINT = IslEndpoint.builder()
             .switchId(new SwitchId(1))
             .portNumber(2)
@@ -206,4 +209,31 @@ public class ReroutesThrottlingTest {
         assertTrue(reroutesThrottling.getReroutes().isEmpty());
         assertFalse(reroutesThrottling.getReroutes().isEmpty());
     }
+
+    @Test
+    public void batchesGroupedByAffectedIsl() {
+        Instant event = Instant.now();
+        Instant afterTimeout = event.plusSeconds(minDelay + 1);
+
+        when(clock.instant()).thenReturn(event, event, event, event, afterTimeout);
+
+        Set<IslEndpoint> affectedIsl = Collections.singleton(ISL_ENDPOINT);
+        FlowThrottlingData throttlingData1 = new FlowThrottlingData("corrId1", 1, null, affectedIsl);
+        FlowThrottlingData throttlingData2 = new FlowThrottlingData("corrId2", 2, null, Collections.emptySet());
+        FlowThrottlingData throttlingData3 = new FlowThrottlingData("corrId3", 3, null, affectedIsl);
+        FlowThrottlingData throttlingData4 = new FlowThrottlingData("corrId4", 4, null, affectedIsl);
+
+        reroutesThrottling.putRequest(FLOW_ID_1, throttlingData1);
+        reroutesThrottling.putRequest(FLOW_ID_2, throttlingData2);
+        reroutesThrottling.putRequest(FLOW_ID_3, throttlingData3);
+        reroutesThrottling.putRequest(FLOW_ID_4, throttlingData4);
+
+        //flows of the same ISL go together in the order of priority, up to the size of the batch
+        List<List<Map.Entry<String, FlowThrottlingData>>> expected = new ArrayList<>();
+        expected.add(new ArrayList<>(
+                ImmutableMap.of(FLOW_ID_1, throttlingData1, FLOW_ID_3, throttlingData3).entrySet()));
+        expected.add(new ArrayList<>(ImmutableMap.of(FLOW_ID_2, throttlingData2).entrySet()));
+        expected.add(new ArrayList<>(ImmutableMap.of(FLOW_ID_4, throttlingData4).entrySet()));
+        assertEquals(expected, reroutesThrottling.getRerouteBatches(2));
+    }
 }
@@ -32,7 +32,9 @@ import org.zeromq.ZContext;
 import org.zeromq.ZMQ;
 import org.zeromq.ZMQ.Socket;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import javax.annotation.PostConstruct;
 
 
@@ -46,27 +48,36 @@ public class Server extends Thread {
 
     private HashMap<String, Flow> flows = new HashMap<>();
 
-    @Value("${openkilda.server42.control.zeromq.server.endpoint}")
-    private String bindEndpoint;
+    private final String bindEndpoint;
+
+    public Server(@Value("${openkilda.server42.control.zeromq.server.endpoint}") String bindEndpoint) {
+        this.bindEndpoint = bindEndpoint;
+    }
 
     /**
-     * We get commands from zmq socket and execute them one by one.
+     * We get commands from zmq socket and execute them one by one. The ROUTER socket serves both REQ and DEALER
+     * clients, the reply goes back with the envelope of the request.
      */
     @Override
     public void run() {
         log.info("started");
         try (ZContext context = new ZContext()) {
-            Socket server = context.createSocket(ZMQ.REP);
+            Socket server = context.createSocket(ZMQ.ROUTER);
             server.bind(bindEndpoint);
             while (!isInterrupted()) {
+                List<byte[]> envelope = new ArrayList<>();
                 byte[] request = server.recv();
+                while (server.hasReceiveMore()) {
+                    envelope.add(request);
+                    request = server.recv();
+                }
                 try {
                     CommandPacket commandPacket = CommandPacket.parseFrom(request);
 
                     Builder builder = CommandPacketResponse.newBuilder();
                     builder.setCommunicationId(commandPacket.getCommunicationId());
-                    log.info("command type {}", commandPacket.getType().toString());
-                    log.info("flow list before {}", flows.keySet().toString());
+                    log.info("command type {}, {} commands", commandPacket.getType(), commandPacket.getCommandCount());
+                    log.debug("flow list before {}", flows.keySet());
                     switch (commandPacket.getType()) {
                         case ADD_FLOW:
                             for (Any any : commandPacket.getCommandList()) {
@@ -99,7 +110,10 @@ public class Server extends Thread {
                             log.error("Unknown command type");
                             break;
                     }
-                    log.info("flow list after {}", flows.keySet().toString());
+                    log.debug("flow list after {}", flows.keySet());
+                    for (byte[] frame : envelope) {
+                        server.send(frame, ZMQ.SNDMORE);
+                    }
                     server.send(builder.build().toByteArray());
                 } catch (InvalidProtocolBufferException e) {
                     log.error("marshalling error");
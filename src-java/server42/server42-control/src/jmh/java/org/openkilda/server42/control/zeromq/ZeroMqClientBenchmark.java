@@ -0,0 +1,130 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.server42.control.zeromq;
+
+import org.openkilda.server42.control.messaging.flowrtt.Control.AddFlow;
+import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket;
+import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket.Type;
+import org.openkilda.server42.control.messaging.flowrtt.Control.Flow;
+import org.openkilda.server42.control.messaging.flowrtt.Control.Flow.EncapsulationType;
+import org.openkilda.server42.control.serverstub.Server;
+
+import com.google.protobuf.Any;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time of programming {@link #FLOW_COUNT} flows into the server stub. The batch size of 1 with a single
+ * request in flight matches sending each command in its own packet and waiting for the response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ZeroMqClientBenchmark {
+    private static final int FLOW_COUNT = 1000;
+    private static final long REQUEST_TIMEOUT = 2500;
+    private static final long REQUEST_RETRIES = 3;
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    @Param({"1", "16"})
+    private int maxInFlight;
+
+    private Server server;
+    private ZeroMqClient client;
+    private List<CommandPacket> packets;
+
+    /**
+     * Starts the server stub and the client on a free local port and prepares the packets.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        String endpoint = "tcp://127.0.0.1:" + findFreePort();
+        server = new Server(endpoint);
+        server.setDaemon(true);
+        server.start();
+
+        client = new ZeroMqClient(endpoint, REQUEST_TIMEOUT, REQUEST_RETRIES, maxInFlight);
+        client.init();
+
+        packets = new ArrayList<>();
+        CommandPacket.Builder builder = null;
+        for (int i = 0; i < FLOW_COUNT; i++) {
+            if (builder == null) {
+                builder = CommandPacket.newBuilder().setType(Type.ADD_FLOW);
+            }
+            Flow flow = Flow.newBuilder()
+                    .setFlowId("flow-" + i)
+                    .setEncapsulationType(EncapsulationType.VLAN)
+                    .setTunnelId(i % 4096)
+                    .build();
+            builder.addCommand(Any.pack(AddFlow.newBuilder().setFlow(flow).build()));
+            if (builder.getCommandCount() == batchSize) {
+                packets.add(builder.build());
+                builder = null;
+            }
+        }
+        if (builder != null) {
+            packets.add(builder.build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.clear();
+        server.interrupt();
+    }
+
+    /**
+     * Sends all packets and waits for all responses.
+     */
+    @Benchmark
+    public void addFlows() throws Exception {
+        List<CompletableFuture<?>> responses = new ArrayList<>(packets.size());
+        for (CommandPacket packet : packets) {
+            responses.add(client.send(packet));
+        }
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).get();
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -21,14 +21,13 @@ import org.openkilda.server42.control.messaging.flowrtt.Control;
 import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket;
 import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket.Builder;
 import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket.Type;
-import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacketResponse;
 import org.openkilda.server42.control.messaging.flowrtt.Control.Flow;
 import org.openkilda.server42.control.messaging.flowrtt.Control.Flow.EncapsulationType;
 import org.openkilda.server42.control.messaging.flowrtt.ListFlowsRequest;
 import org.openkilda.server42.control.messaging.flowrtt.ListFlowsResponse;
 import org.openkilda.server42.control.messaging.flowrtt.PushSettings;
 import org.openkilda.server42.control.messaging.flowrtt.RemoveFlow;
-import org.openkilda.server42.control.zeromq.ZeroMqClient;
+import org.openkilda.server42.control.zeromq.CommandBatcher;
 
 import com.google.protobuf.Any;
 import com.google.protobuf.InvalidProtocolBufferException;
@@ -49,63 +48,57 @@ public class Gate {
 
     private final KafkaTemplate<String, Object> template;
 
-    private final ZeroMqClient zeroMqClient;
+    private final CommandBatcher commandBatcher;
 
     @Value("${openkilda.server42.control.kafka.topic.to_storm}")
     private String toStorm;
 
     public Gate(@Autowired KafkaTemplate<String, Object> template,
-                @Autowired ZeroMqClient zeroMqClient) {
+                @Autowired CommandBatcher commandBatcher) {
         this.template = template;
-        this.zeroMqClient = zeroMqClient;
+        this.commandBatcher = commandBatcher;
     }
 
     @KafkaHandler
     private void listen(AddFlow data) {
-        Builder builder = CommandPacket.newBuilder();
         Flow flow = Flow.newBuilder()
                 .setEncapsulationType(EncapsulationType.forNumber(data.getEncapsulationType().ordinal()))
                 .setFlowId(data.getFlowId())
                 .setTunnelId(data.getTunnelId()).build();
         Control.AddFlow addFlow = Control.AddFlow.newBuilder().setFlow(flow).build();
-        builder.setType(Type.ADD_FLOW);
-        builder.addCommand(Any.pack(addFlow));
-        CommandPacket packet = builder.build();
-        try {
-            zeroMqClient.send(packet);
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data);
-        }
+        commandBatcher.add(Type.ADD_FLOW, Any.pack(addFlow));
     }
 
     @KafkaHandler
     private void listen(ClearFlows data) {
         Builder builder = CommandPacket.newBuilder();
         builder.setType(Type.CLEAR_FLOWS);
-        try {
-            zeroMqClient.send(builder.build());
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data);
-        }
+        commandBatcher.send(builder.build())
+                .whenComplete((response, error) -> logError(data, error));
     }
 
     @KafkaHandler
     private void listen(ListFlowsRequest data) {
         Builder builder = CommandPacket.newBuilder();
         builder.setType(Type.LIST_FLOWS);
-        try {
-            CommandPacketResponse serverResponse = zeroMqClient.send(builder.build());
-            HashSet<String> flowList = new HashSet<>();
-            for (Any any: serverResponse.getResponseList()) {
-                flowList.add(any.unpack(Flow.class).getFlowId());
+        commandBatcher.send(builder.build()).whenCompleteAsync((serverResponse, error) -> {
+            if (error != null) {
+                logError(data, error);
+                return;
             }
-            ListFlowsResponse response = ListFlowsResponse.builder()
-                    .headers(data.getHeaders())
-                    .flowIds(flowList).build();
-            template.send(toStorm, response);
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data);
-        }
+            try {
+                HashSet<String> flowList = new HashSet<>();
+                for (Any any : serverResponse.getResponseList()) {
+                    flowList.add(any.unpack(Flow.class).getFlowId());
+                }
+                ListFlowsResponse response = ListFlowsResponse.builder()
+                        .headers(data.getHeaders())
+                        .flowIds(flowList).build();
+                template.send(toStorm, response);
+            } catch (InvalidProtocolBufferException e) {
+                log.error("Marshalling error on {}", data);
+            }
+        });
     }
 
     @KafkaHandler
@@ -115,26 +108,20 @@ public class Gate {
                 .setPacketGenerationIntervalInMs(data.getPacketGenerationIntervalInMs()).build();
         builder.setType(Type.PUSH_SETTINGS);
         builder.addCommand(Any.pack(pushSettings));
-        CommandPacket packet = builder.build();
-        try {
-            zeroMqClient.send(packet);
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data);
-        }
+        commandBatcher.send(builder.build())
+                .whenComplete((response, error) -> logError(data, error));
     }
 
     @KafkaHandler
     private void listen(RemoveFlow data) {
-        Builder builder = CommandPacket.newBuilder();
         Flow flow = Flow.newBuilder().setFlowId(data.getFlowId()).build();
         Control.RemoveFlow removeFlow = Control.RemoveFlow.newBuilder().setFlow(flow).build();
-        builder.setType(Type.REMOVE_FLOW);
-        builder.addCommand(Any.pack(removeFlow));
-        CommandPacket packet = builder.build();
-        try {
-            zeroMqClient.send(packet);
-        } catch (InvalidProtocolBufferException e) {
-            log.error("Marshalling error on {}", data);
+        commandBatcher.add(Type.REMOVE_FLOW, Any.pack(removeFlow));
+    }
+
+    private void logError(Object data, Throwable error) {
+        if (error != null) {
+            log.error("Failed to send {} to server42: {}", data, error.getMessage());
         }
     }
 }
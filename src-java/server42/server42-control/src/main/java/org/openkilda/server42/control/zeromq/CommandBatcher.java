@@ -0,0 +1,125 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.server42.control.zeromq;
+
+import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket;
+import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket.Type;
+import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacketResponse;
+
+import com.google.protobuf.Any;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+
+/**
+ * Packs the commands of the same type coming one after another into one {@link CommandPacket}.
+ *
+ * <p>The packet is sent once it has {@code batchSize} commands, once the command of another type comes or once
+ * {@code batchWindow} milliseconds pass since its first command, whichever happens first. The packets are passed to
+ * {@link ZeroMqClient} in the order of the commands, so the server applies them in the same order. A non-positive
+ * {@code batchWindow} disables batching, each command is sent right away.
+ */
+@Component
+@Slf4j
+public class CommandBatcher {
+    private final ZeroMqClient zeroMqClient;
+    private final int batchSize;
+    private final long batchWindow;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "server42-control-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private CommandPacket.Builder batch;
+    private ScheduledFuture<?> flushTask;
+
+    public CommandBatcher(@Autowired ZeroMqClient zeroMqClient,
+                          @Value("${openkilda.server42.control.batch.size}") int batchSize,
+                          @Value("${openkilda.server42.control.batch.window}") long batchWindow) {
+        this.zeroMqClient = zeroMqClient;
+        this.batchSize = Math.max(batchSize, 1);
+        this.batchWindow = batchWindow;
+    }
+
+    @PreDestroy
+    public synchronized void clear() {
+        flush();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Adds the command to the batch of its type.
+     */
+    public synchronized void add(Type type, Any command) {
+        if (batch != null && batch.getType() != type) {
+            flush();
+        }
+        if (batch == null) {
+            batch = CommandPacket.newBuilder().setType(type);
+            if (batchSize > 1 && batchWindow > 0) {
+                flushTask = scheduler.schedule(this::flush, batchWindow, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        batch.addCommand(command);
+        if (batch.getCommandCount() >= batchSize || batchWindow <= 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends the packet right away, after the pending batch.
+     */
+    public synchronized CompletableFuture<CommandPacketResponse> send(CommandPacket packet) {
+        flush();
+        return zeroMqClient.send(packet);
+    }
+
+    /**
+     * Sends the pending batch.
+     */
+    public synchronized void flush() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        if (batch == null) {
+            return;
+        }
+
+        CommandPacket packet = batch.build();
+        batch = null;
+        zeroMqClient.send(packet).whenComplete((response, error) -> {
+            if (error != null) {
+                log.error("Failed to send {} {} commands: {}",
+                        packet.getCommandCount(), packet.getType(), error.getMessage());
+            } else if (response.getErrorCount() != 0) {
+                log.error("Server reported {} errors on {} {} commands",
+                        response.getErrorCount(), packet.getCommandCount(), packet.getType());
+            }
+        });
+    }
+}
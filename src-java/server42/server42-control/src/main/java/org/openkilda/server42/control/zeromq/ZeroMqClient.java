@@ -13,7 +13,6 @@
  *   limitations under the License.
  */
 
-
 package org.openkilda.server42.control.zeromq;
 
 import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket;
@@ -27,94 +26,246 @@ import org.zeromq.ZContext;
 import org.zeromq.ZMQ;
 import org.zeromq.ZMQ.Poller;
 import org.zeromq.ZMQ.Socket;
-import zmq.ZError;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 
-// Lazy Pirate pattern from http://zguide.zeromq.org/page:all#Client-Side-Reliability-Lazy-Pirate-Pattern
+/**
+ * Asynchronous client of the server42 control socket.
+ *
+ * <p>The requests are sent over the DEALER socket, up to {@code maxInFlight} of them without waiting for the
+ * responses. The responses are matched to the requests by the communication id. Each request is sent with an empty
+ * delimiter frame, so the server can use either a REP or a ROUTER socket.
+ *
+ * <p>The socket is owned by the single IO thread, the callers only put the requests into the queue and wake the
+ * thread up. If the oldest request gets no response in time, it and all the requests sent after it are resent in the
+ * same order, so the server applies the commands in the order they were requested (the commands are idempotent).
+ */
 @Component
 @Slf4j
 public class ZeroMqClient {
+    private final String serverEndpoint;
+    private final long requestTimeout;
+    private final long requestRetries;
+    private final int maxInFlight;
 
-    private ZContext ctx;
-    private Socket client;
-    private Poller poller;
-
-    @Value("${openkilda.server42.control.zeromq.server.endpoint}")
-    private String serverEndpoint;
+    private final AtomicLong communicationId = new AtomicLong();
+    private final Queue<Request> outgoing = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    private final ByteBuffer wakeupBuffer = ByteBuffer.allocate(64);
 
-    @Value("${openkilda.server42.control.zeromq.request.timeout}")
-    private Long requestTimeout;
+    private Pipe wakeup;
+    private Thread ioThread;
+    private volatile boolean running;
 
-    @Value("${openkilda.server42.control.zeromq.request.retries}")
-    private Long requestRetries;
+    public ZeroMqClient(@Value("${openkilda.server42.control.zeromq.server.endpoint}") String serverEndpoint,
+                        @Value("${openkilda.server42.control.zeromq.request.timeout}") long requestTimeout,
+                        @Value("${openkilda.server42.control.zeromq.request.retries}") long requestRetries,
+                        @Value("${openkilda.server42.control.zeromq.request.max_in_flight}") int maxInFlight) {
+        this.serverEndpoint = serverEndpoint;
+        this.requestTimeout = requestTimeout;
+        this.requestRetries = Math.max(requestRetries, 1);
+        this.maxInFlight = Math.max(maxInFlight, 1);
+    }
 
+    /**
+     * Starts the IO thread.
+     */
     @PostConstruct
-    private void init() {
-        ctx = new ZContext();
-        log.info("connecting to server {}", serverEndpoint);
-        client = ctx.createSocket(ZMQ.REQ);
-        assert (client != null);
-        client.connect(serverEndpoint);
-        poller = ctx.createPoller(1);
-        poller.register(client, Poller.POLLIN);
+    public void init() throws IOException {
+        wakeup = Pipe.open();
+        wakeup.source().configureBlocking(false);
+
+        running = true;
+        ioThread = new Thread(this::run, "server42-control-zeromq");
+        ioThread.setDaemon(true);
+        ioThread.start();
     }
 
+    /**
+     * Stops the IO thread, the requests without responses are completed exceptionally.
+     */
     @PreDestroy
-    private void clear() {
-        ctx.close();
+    public void clear() throws InterruptedException, IOException {
+        running = false;
+        signal();
+        ioThread.join(requestTimeout);
+        wakeup.sink().close();
+        wakeup.source().close();
+    }
+
+    /**
+     * Sends the packet, the communication id of the packet is replaced with the own one of the client.
+     *
+     * @param commandPacket packet to send.
+     * @return the response of the server, completed exceptionally if the server doesn't respond after all retries.
+     */
+    public CompletableFuture<CommandPacketResponse> send(CommandPacket commandPacket) {
+        CommandPacket packet = commandPacket.toBuilder()
+                .setCommunicationId(communicationId.incrementAndGet())
+                .build();
+        Request request = new Request(packet.getCommunicationId(), packet.toByteArray());
+        if (!running) {
+            request.future.completeExceptionally(new IllegalStateException("Client is stopped"));
+            return request.future;
+        }
+        outgoing.add(request);
+        signal();
+        return request.future;
     }
 
-    public CommandPacketResponse send(CommandPacket commandPacket) throws InvalidProtocolBufferException {
-        return CommandPacketResponse.parseFrom(sendRequest(commandPacket.toByteArray()));
+    private void signal() {
+        if (wakeupPending.compareAndSet(false, true)) {
+            try {
+                wakeup.sink().write(ByteBuffer.wrap(new byte[] {0}));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 
-    private byte[] sendRequest(byte[] request) {
-        try {
-            int sequence = 0;
-            long retriesLeft = requestRetries;
-            while (retriesLeft > 0 && !Thread.currentThread().isInterrupted()) {
-                try {
-                    client.send(request);
-
-                    int rc = poller.poll(requestTimeout);
-                    if (rc == -1) {
-                        break; //  Interrupted
-                    }
-                    if (poller.pollin(0)) {
-                        return client.recv();
-                    } else if (--retriesLeft == 0) {
-                        log.error("server seems to be offline, abandoning\n");
-                        break;
-                    } else {
-                        log.warn("no response from server, retrying");
-                        //  Old socket is confused; close it and open a new one
-                        reconnect();
-
-                        //  Send request again, on new socket
-                        client.send(request);
-                    }
-                } catch (org.zeromq.ZMQException ex) {
-                    log.error(ex.toString());
-                    if (ex.getErrorCode() == ZError.EFSM) {
-                        reconnect();
-                    }
+    private void run() {
+        log.info("connecting to server {}", serverEndpoint);
+        Map<Long, Request> inFlight = new LinkedHashMap<>();
+        try (ZContext ctx = new ZContext()) {
+            Socket socket = ctx.createSocket(ZMQ.DEALER);
+            socket.setLinger(0);
+            socket.connect(serverEndpoint);
+
+            Poller poller = ctx.createPoller(2);
+            int socketIndex = poller.register(socket, Poller.POLLIN);
+            int wakeupIndex = poller.register(wakeup.source(), Poller.POLLIN);
+
+            while (running && !Thread.currentThread().isInterrupted()) {
+                sendOutgoing(socket, inFlight);
+
+                poller.poll(getPollTimeout(inFlight));
+                if (poller.pollin(wakeupIndex)) {
+                    drainWakeup();
+                }
+                if (poller.pollin(socketIndex)) {
+                    receive(socket, inFlight);
                 }
+                checkTimeout(socket, inFlight);
             }
-        } catch (org.zeromq.ZMQException ex) {
-            log.error(ex.toString());
+        } catch (org.zeromq.ZMQException | IOException ex) {
+            log.error("server42 control client failed", ex);
+        } finally {
+            running = false;
+            IllegalStateException error = new IllegalStateException("Client is stopped");
+            inFlight.values().forEach(request -> request.future.completeExceptionally(error));
+            Request request;
+            while ((request = outgoing.poll()) != null) {
+                request.future.completeExceptionally(error);
+            }
+        }
+    }
+
+    private void sendOutgoing(Socket socket, Map<Long, Request> inFlight) {
+        while (inFlight.size() < maxInFlight) {
+            Request request = outgoing.poll();
+            if (request == null) {
+                break;
+            }
+            request.retriesLeft = requestRetries;
+            inFlight.put(request.communicationId, request);
+            transmit(socket, request);
         }
-        return null;
     }
 
-    private void reconnect() {
-        poller.unregister(client);
-        ctx.destroySocket(client);
+    private void transmit(Socket socket, Request request) {
+        request.deadline = System.currentTimeMillis() + requestTimeout;
+        socket.send(new byte[0], ZMQ.SNDMORE);
+        socket.send(request.payload, 0);
+    }
 
-        log.info("reconnecting to server {}", serverEndpoint);
-        client = ctx.createSocket(ZMQ.REQ);
-        client.connect(serverEndpoint);
-        poller.register(client, Poller.POLLIN);
+    private void receive(Socket socket, Map<Long, Request> inFlight) {
+        byte[] frame;
+        while ((frame = socket.recv(ZMQ.DONTWAIT)) != null) {
+            if (frame.length == 0 && socket.hasReceiveMore()) {
+                frame = socket.recv(0);
+            }
+            while (socket.hasReceiveMore()) {
+                socket.recv(0);
+            }
+
+            CommandPacketResponse response;
+            try {
+                response = CommandPacketResponse.parseFrom(frame);
+            } catch (InvalidProtocolBufferException e) {
+                log.error("Marshalling error on server response", e);
+                continue;
+            }
+
+            Request request = inFlight.remove(response.getCommunicationId());
+            if (request == null) {
+                log.debug("Skipping late or duplicated response {}", response.getCommunicationId());
+                continue;
+            }
+            request.future.complete(response);
+        }
+    }
+
+    private void checkTimeout(Socket socket, Map<Long, Request> inFlight) {
+        Iterator<Request> iterator = inFlight.values().iterator();
+        if (!iterator.hasNext()) {
+            return;
+        }
+        Request oldest = iterator.next();
+        if (oldest.deadline > System.currentTimeMillis()) {
+            return;
+        }
+
+        if (--oldest.retriesLeft == 0) {
+            log.error("server seems to be offline, abandoning request {}", oldest.communicationId);
+            iterator.remove();
+            oldest.future.completeExceptionally(new TimeoutException(
+                    String.format("No response for the request %d from %s", oldest.communicationId, serverEndpoint)));
+        } else {
+            log.warn("no response from server, resending {} requests", inFlight.size());
+            inFlight.values().forEach(request -> transmit(socket, request));
+        }
+    }
+
+    private long getPollTimeout(Map<Long, Request> inFlight) {
+        if (inFlight.isEmpty()) {
+            return requestTimeout;
+        }
+        long deadline = inFlight.values().iterator().next().deadline;
+        return Math.max(deadline - System.currentTimeMillis(), 0);
+    }
+
+    private void drainWakeup() throws IOException {
+        wakeupPending.set(false);
+        do {
+            wakeupBuffer.clear();
+        } while (wakeup.source().read(wakeupBuffer) > 0);
+    }
+
+    private static class Request {
+        private final long communicationId;
+        private final byte[] payload;
+        private final CompletableFuture<CommandPacketResponse> future = new CompletableFuture<>();
+
+        private long deadline;
+        private long retriesLeft;
+
+        Request(long communicationId, byte[] payload) {
+            this.communicationId = communicationId;
+            this.payload = payload;
+        }
     }
 }
@@ -0,0 +1,158 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.server42.control.zeromq;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.server42.control.messaging.flowrtt.Control.AddFlow;
+import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket;
+import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket.Type;
+import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacketResponse;
+import org.openkilda.server42.control.messaging.flowrtt.Control.Flow;
+import org.openkilda.server42.control.messaging.flowrtt.Control.RemoveFlow;
+
+import com.google.protobuf.Any;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class CommandBatcherTest {
+    private static final long LONG_WINDOW = 60_000;
+
+    private ZeroMqClient zeroMqClient;
+    private CommandBatcher batcher;
+
+    @Before
+    public void setUp() {
+        zeroMqClient = mock(ZeroMqClient.class);
+        when(zeroMqClient.send(any(CommandPacket.class)))
+                .thenReturn(CompletableFuture.completedFuture(CommandPacketResponse.getDefaultInstance()));
+    }
+
+    @After
+    public void tearDown() {
+        if (batcher != null) {
+            batcher.clear();
+        }
+    }
+
+    @Test
+    public void shouldFlushOnBatchSize() {
+        batcher = new CommandBatcher(zeroMqClient, 2, LONG_WINDOW);
+
+        batcher.add(Type.ADD_FLOW, addFlow("f1"));
+        verify(zeroMqClient, never()).send(any(CommandPacket.class));
+
+        batcher.add(Type.ADD_FLOW, addFlow("f2"));
+        batcher.add(Type.ADD_FLOW, addFlow("f3"));
+
+        List<CommandPacket> packets = captureSent(1);
+        assertEquals(Type.ADD_FLOW, packets.get(0).getType());
+        assertEquals(2, packets.get(0).getCommandCount());
+        assertEquals(addFlow("f1"), packets.get(0).getCommand(0));
+        assertEquals(addFlow("f2"), packets.get(0).getCommand(1));
+    }
+
+    @Test
+    public void shouldFlushOnBatchWindowExpiry() {
+        batcher = new CommandBatcher(zeroMqClient, 100, 50);
+
+        batcher.add(Type.ADD_FLOW, addFlow("f1"));
+        batcher.add(Type.ADD_FLOW, addFlow("f2"));
+
+        ArgumentCaptor<CommandPacket> captor = ArgumentCaptor.forClass(CommandPacket.class);
+        verify(zeroMqClient, timeout(5_000)).send(captor.capture());
+        assertEquals(2, captor.getValue().getCommandCount());
+    }
+
+    @Test
+    public void shouldFlushOnCommandTypeChange() {
+        batcher = new CommandBatcher(zeroMqClient, 100, LONG_WINDOW);
+
+        batcher.add(Type.ADD_FLOW, addFlow("f1"));
+        batcher.add(Type.ADD_FLOW, addFlow("f2"));
+        batcher.add(Type.REMOVE_FLOW, removeFlow("f1"));
+
+        List<CommandPacket> packets = captureSent(1);
+        assertEquals(Type.ADD_FLOW, packets.get(0).getType());
+        assertEquals(2, packets.get(0).getCommandCount());
+
+        batcher.flush();
+
+        packets = captureSent(2);
+        assertEquals(Type.REMOVE_FLOW, packets.get(1).getType());
+        assertEquals(1, packets.get(1).getCommandCount());
+    }
+
+    @Test
+    public void shouldFlushPendingBatchBeforeSend() {
+        batcher = new CommandBatcher(zeroMqClient, 100, LONG_WINDOW);
+
+        batcher.add(Type.ADD_FLOW, addFlow("f1"));
+        CommandPacket listFlows = CommandPacket.newBuilder().setType(Type.LIST_FLOWS).build();
+        batcher.send(listFlows);
+
+        ArgumentCaptor<CommandPacket> captor = ArgumentCaptor.forClass(CommandPacket.class);
+        InOrder order = inOrder(zeroMqClient);
+        order.verify(zeroMqClient, times(2)).send(captor.capture());
+        order.verifyNoMoreInteractions();
+
+        List<CommandPacket> packets = captor.getAllValues();
+        assertEquals(Type.ADD_FLOW, packets.get(0).getType());
+        assertEquals(listFlows, packets.get(1));
+    }
+
+    @Test
+    public void shouldFlushRightAwayWithoutBatchWindow() {
+        batcher = new CommandBatcher(zeroMqClient, 100, 0);
+
+        batcher.add(Type.ADD_FLOW, addFlow("f1"));
+        batcher.add(Type.ADD_FLOW, addFlow("f2"));
+
+        List<CommandPacket> packets = captureSent(2);
+        assertEquals(1, packets.get(0).getCommandCount());
+        assertEquals(addFlow("f1"), packets.get(0).getCommand(0));
+        assertEquals(1, packets.get(1).getCommandCount());
+        assertEquals(addFlow("f2"), packets.get(1).getCommand(0));
+    }
+
+    private List<CommandPacket> captureSent(int count) {
+        ArgumentCaptor<CommandPacket> captor = ArgumentCaptor.forClass(CommandPacket.class);
+        verify(zeroMqClient, times(count)).send(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static Any addFlow(String flowId) {
+        return Any.pack(AddFlow.newBuilder().setFlow(Flow.newBuilder().setFlowId(flowId)).build());
+    }
+
+    private static Any removeFlow(String flowId) {
+        return Any.pack(RemoveFlow.newBuilder().setFlow(Flow.newBuilder().setFlowId(flowId)).build());
+    }
+}
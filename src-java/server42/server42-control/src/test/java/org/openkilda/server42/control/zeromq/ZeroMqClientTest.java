@@ -0,0 +1,168 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.server42.control.zeromq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket;
+import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacket.Type;
+import org.openkilda.server42.control.messaging.flowrtt.Control.CommandPacketResponse;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+import org.zeromq.ZMQ.Socket;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class ZeroMqClientTest {
+    private static final int SERVER_RECEIVE_TIMEOUT = 5_000;
+
+    private ZContext serverContext;
+    private Socket server;
+    private String endpoint;
+    private ZeroMqClient client;
+
+    @Before
+    public void setUp() {
+        serverContext = new ZContext();
+        server = serverContext.createSocket(ZMQ.ROUTER);
+        server.setLinger(0);
+        server.setReceiveTimeOut(SERVER_RECEIVE_TIMEOUT);
+        int port = server.bindToRandomPort("tcp://127.0.0.1");
+        endpoint = "tcp://127.0.0.1:" + port;
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (client != null) {
+            client.clear();
+        }
+        serverContext.close();
+    }
+
+    @Test
+    public void shouldMatchResponsesByCommunicationId() throws Exception {
+        startClient(10_000, 3);
+
+        CompletableFuture<CommandPacketResponse> first = client.send(packet(Type.ADD_FLOW));
+        CompletableFuture<CommandPacketResponse> second = client.send(packet(Type.REMOVE_FLOW));
+
+        Received firstReceived = receive();
+        Received secondReceived = receive();
+        assertEquals(Type.ADD_FLOW, firstReceived.packet.getType());
+        assertEquals(Type.REMOVE_FLOW, secondReceived.packet.getType());
+
+        reply(secondReceived);
+        reply(firstReceived);
+
+        assertEquals(firstReceived.packet.getCommunicationId(), get(first).getCommunicationId());
+        assertEquals(secondReceived.packet.getCommunicationId(), get(second).getCommunicationId());
+    }
+
+    @Test
+    public void shouldResendAllInFlightRequestsOnTimeout() throws Exception {
+        startClient(200, 3);
+
+        CompletableFuture<CommandPacketResponse> first = client.send(packet(Type.ADD_FLOW));
+        CompletableFuture<CommandPacketResponse> second = client.send(packet(Type.REMOVE_FLOW));
+
+        // no reply on the first transmission, the client must resend both requests in the same order
+        long firstId = receive().packet.getCommunicationId();
+        long secondId = receive().packet.getCommunicationId();
+
+        Received firstResent = receive();
+        Received secondResent = receive();
+        assertEquals(firstId, firstResent.packet.getCommunicationId());
+        assertEquals(secondId, secondResent.packet.getCommunicationId());
+
+        reply(firstResent);
+        reply(secondResent);
+
+        assertEquals(firstId, get(first).getCommunicationId());
+        assertEquals(secondId, get(second).getCommunicationId());
+    }
+
+    @Test
+    public void shouldAbandonRequestAfterRetryLimit() throws Exception {
+        startClient(100, 2);
+
+        CompletableFuture<CommandPacketResponse> future = client.send(packet(Type.ADD_FLOW));
+
+        long id = receive().packet.getCommunicationId();
+        assertEquals(id, receive().packet.getCommunicationId());
+
+        try {
+            get(future);
+            fail("Request must be abandoned");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+
+        server.setReceiveTimeOut(500);
+        assertNull("Abandoned request must not be resent", server.recv(0));
+    }
+
+    private void startClient(long requestTimeout, long requestRetries) throws Exception {
+        client = new ZeroMqClient(endpoint, requestTimeout, requestRetries, 10);
+        client.init();
+    }
+
+    private Received receive() throws Exception {
+        byte[] identity = server.recv(0);
+        assertNotNull("No request received", identity);
+        byte[] delimiter = server.recv(0);
+        assertEquals(0, delimiter.length);
+        byte[] payload = server.recv(0);
+        return new Received(identity, CommandPacket.parseFrom(payload));
+    }
+
+    private void reply(Received received) {
+        CommandPacketResponse response = CommandPacketResponse.newBuilder()
+                .setCommunicationId(received.packet.getCommunicationId())
+                .build();
+        server.send(received.identity, ZMQ.SNDMORE);
+        server.send(new byte[0], ZMQ.SNDMORE);
+        server.send(response.toByteArray(), 0);
+    }
+
+    private static CommandPacketResponse get(CompletableFuture<CommandPacketResponse> future) throws Exception {
+        return future.get(SERVER_RECEIVE_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+    private static CommandPacket packet(Type type) {
+        return CommandPacket.newBuilder().setType(type).build();
+    }
+
+    private static class Received {
+        private final byte[] identity;
+        private final CommandPacket packet;
+
+        Received(byte[] identity, CommandPacket packet) {
+            this.identity = identity;
+            this.packet = packet;
+        }
+    }
+}
@@ -19,6 +19,8 @@ import org.openkilda.messaging.Destination;
 import org.openkilda.messaging.Message;
 import org.openkilda.messaging.command.CommandData;
 import org.openkilda.messaging.command.CommandMessage;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData;
+import org.openkilda.messaging.command.discovery.DiscoverIslBatchCommandData.PortDiscovery;
 import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
 import org.openkilda.messaging.command.discovery.DiscoverPathCommandData;
 import org.openkilda.messaging.command.flow.InstallEgressFlow;
@@ -56,6 +58,11 @@ public class CommandBolt extends BaseRichBolt {
     protected void processCommand(Tuple tuple, CommandMessage command) throws Exception {
         if (command.getDestination() == Destination.CONTROLLER) {
             CommandData data = command.getData();
+            if (data instanceof DiscoverIslBatchCommandData) {
+                processDiscoverIslBatch(tuple, (DiscoverIslBatchCommandData) data);
+                return;
+            }
+
             Commands switchCommand;
             SwitchId sw;
             if (data instanceof DiscoverIslCommandData) {
@@ -89,6 +96,15 @@ public class CommandBolt extends BaseRichBolt {
         }
     }
 
+    private void processDiscoverIslBatch(Tuple tuple, DiscoverIslBatchCommandData batch) {
+        SwitchId sw = batch.getSwitchId();
+        for (PortDiscovery port : batch.getPorts()) {
+            collector.emit(SimulatorTopology.COMMAND_BOLT_STREAM, tuple,
+                    new Values(sw, Commands.DO_DISCOVER_ISL_COMMAND.name(),
+                            new DiscoverIslCommandData(sw, port.getPortNumber(), port.getPacketId())));
+        }
+    }
+
     @Override
     public void execute(Tuple tuple) {
         try {
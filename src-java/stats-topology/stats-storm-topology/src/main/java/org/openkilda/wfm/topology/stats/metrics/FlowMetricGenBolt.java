@@ -26,10 +26,14 @@ import org.openkilda.wfm.topology.stats.CacheFlowEntry;
 import org.openkilda.wfm.topology.stats.FlowCookieException;
 import org.openkilda.wfm.topology.stats.FlowDirectionHelper;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import lombok.Value;
 import org.apache.storm.tuple.Tuple;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -37,11 +41,26 @@ import javax.annotation.Nullable;
  * The type Flow metric gen bolt.
  */
 public class FlowMetricGenBolt extends MetricGenBolt {
+    /**
+     * The tag sets of a flow entry are built once and reused by the following polls, until the entry disappears from
+     * the stats for this time.
+     */
+    private static final long TAGS_EXPIRE_MINUTES = 10;
+
+    private transient Cache<FlowTagsKey, FlowTags> tagsCache;
 
     public FlowMetricGenBolt(String metricPrefix) {
         super(metricPrefix);
     }
 
+    @Override
+    protected void init() {
+        super.init();
+        tagsCache = CacheBuilder.newBuilder()
+                .expireAfterAccess(TAGS_EXPIRE_MINUTES, TimeUnit.MINUTES)
+                .build();
+    }
+
     @Override
     protected void handleInput(Tuple input) throws Exception {
         Map<Long, CacheFlowEntry> dataCache = (Map<Long, CacheFlowEntry>) input.getValueByField(COOKIE_CACHE_FIELD);
@@ -72,20 +91,19 @@ public class FlowMetricGenBolt extends MetricGenBolt {
             }
         }
 
-        emitAnySwitchMetrics(entry, timestamp, switchId, flowId);
+        FlowTags tags = getTags(entry, switchId, flowId);
+        emitAnySwitchMetrics(entry, timestamp, tags.getAnySwitchTags());
 
         if (flowEntry != null) {
-            Map<String, String> flowTags = makeFlowTags(entry, flowEntry.getFlowId());
-
             boolean isMatch = false;
             if (isMaskedAsFlowCookie(entry.getCookie())
-                    && switchId.toOtsdFormat().equals(flowEntry.getIngressSwitch())) {
-                emitIngressMetrics(entry, timestamp, flowTags);
+                    && tags.getSwitchId().equals(flowEntry.getIngressSwitch())) {
+                emitIngressMetrics(entry, timestamp, tags.getFlowTags());
                 isMatch = true;
             }
             if (isMaskedAsFlowCookie(entry.getCookie())
-                    && switchId.toOtsdFormat().equals(flowEntry.getEgressSwitch())) {
-                emitEgressMetrics(entry, timestamp, flowTags);
+                    && tags.getSwitchId().equals(flowEntry.getEgressSwitch())) {
+                emitEgressMetrics(entry, timestamp, tags.getFlowTags());
                 isMatch = true;
             }
 
@@ -97,17 +115,7 @@ public class FlowMetricGenBolt extends MetricGenBolt {
         }
     }
 
-    private void emitAnySwitchMetrics(FlowStatsEntry entry, long timestamp, SwitchId switchId, String flowId)
-            throws FlowCookieException {
-        Map<String, String> tags = new HashMap<>();
-        tags.put("switchid", switchId.toOtsdFormat());
-        tags.put("cookie", String.valueOf(entry.getCookie()));
-        tags.put("tableid", String.valueOf(entry.getTableId()));
-        tags.put("outPort", String.valueOf(entry.getOutPort()));
-        tags.put("inPort", String.valueOf(entry.getInPort()));
-        tags.put("flowid", flowId);
-        tags.put("direction", FlowDirectionHelper.findDirection(entry.getCookie()).name().toLowerCase());
-
+    private void emitAnySwitchMetrics(FlowStatsEntry entry, long timestamp, Map<String, String> tags) {
         emitMetric("flow.raw.packets", timestamp, entry.getPacketCount(), tags);
         emitMetric("flow.raw.bytes", timestamp, entry.getByteCount(), tags);
         emitMetric("flow.raw.bits", timestamp, entry.getByteCount() * 8, tags);
@@ -125,11 +133,48 @@ public class FlowMetricGenBolt extends MetricGenBolt {
         emitMetric("flow.bits", timestamp, entry.getByteCount() * 8, tags);
     }
 
-    private Map<String, String> makeFlowTags(FlowStatsEntry entry, String flowId) throws FlowCookieException {
-        Map<String, String> tags = new HashMap<>();
-        tags.put("flowid", flowId);
-        tags.put("direction", FlowDirectionHelper.findDirection(entry.getCookie()).name().toLowerCase());
-
+    private FlowTags getTags(FlowStatsEntry entry, SwitchId switchId, String flowId) throws FlowCookieException {
+        FlowTagsKey key = new FlowTagsKey(
+                switchId, entry.getCookie(), entry.getTableId(), entry.getInPort(), entry.getOutPort());
+        FlowTags tags = tagsCache.getIfPresent(key);
+        if (tags == null || !tags.getFlowId().equals(flowId)) {
+            tags = FlowTags.of(entry, switchId.toOtsdFormat(), flowId);
+            tagsCache.put(key, tags);
+        }
         return tags;
     }
+
+    @Value
+    private static class FlowTagsKey {
+        private SwitchId switchId;
+        private long cookie;
+        private int tableId;
+        private int inPort;
+        private int outPort;
+    }
+
+    @Value
+    private static class FlowTags {
+        private String switchId;
+        private String flowId;
+        private Map<String, String> anySwitchTags;
+        private Map<String, String> flowTags;
+
+        static FlowTags of(FlowStatsEntry entry, String switchId, String flowId) throws FlowCookieException {
+            String direction = FlowDirectionHelper.findDirection(entry.getCookie()).name().toLowerCase();
+            Map<String, String> anySwitchTags = ImmutableMap.<String, String>builder()
+                    .put("switchid", switchId)
+                    .put("cookie", String.valueOf(entry.getCookie()))
+                    .put("tableid", String.valueOf(entry.getTableId()))
+                    .put("outPort", String.valueOf(entry.getOutPort()))
+                    .put("inPort", String.valueOf(entry.getInPort()))
+                    .put("flowid", flowId)
+                    .put("direction", direction)
+                    .build();
+            Map<String, String> flowTags = ImmutableMap.of(
+                    "flowid", flowId,
+                    "direction", direction);
+            return new FlowTags(switchId, flowId, anySwitchTags, flowTags);
+        }
+    }
 }
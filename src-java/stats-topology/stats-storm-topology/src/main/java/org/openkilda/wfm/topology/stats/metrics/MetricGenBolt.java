@@ -23,9 +23,11 @@ import org.openkilda.wfm.share.utils.MetricFormatter;
 import org.openkilda.wfm.topology.AbstractTopology;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -33,25 +35,45 @@ public abstract class MetricGenBolt extends AbstractBolt {
 
     private MetricFormatter metricFormatter;
 
+    /**
+     * Datapoint which is filled and serialized for each emitted metric, the tuples carry its JSON only.
+     */
+    private transient Datapoint datapoint;
+    private transient ObjectWriter datapointWriter;
+    private transient Map<String, String> metricNames;
+
     public MetricGenBolt(String metricPrefix) {
         this.metricFormatter = new MetricFormatter(metricPrefix);
     }
 
-    protected static List<Object> tuple(String metric, long timestamp, Number value, Map<String, String> tag)
+    @Override
+    protected void init() {
+        super.init();
+        datapoint = new Datapoint();
+        datapointWriter = Utils.MAPPER.writerFor(Datapoint.class);
+        metricNames = new HashMap<>();
+    }
+
+    protected List<Object> tuple(String metric, long timestamp, Number value, Map<String, String> tag)
             throws JsonEncodeException {
-        Datapoint datapoint = new Datapoint(metric, timestamp, tag, value);
+        datapoint.setTimestamp(System.currentTimeMillis());
+        datapoint.setMetric(metric);
+        datapoint.setTime(timestamp);
+        datapoint.setTags(tag);
+        datapoint.setValue(value);
         String json;
         try {
-            json = Utils.MAPPER.writeValueAsString(datapoint);
+            json = datapointWriter.writeValueAsString(datapoint);
         } catch (JsonProcessingException e) {
-            throw new JsonEncodeException(datapoint, e);
+            throw new JsonEncodeException(new Datapoint(metric, timestamp, tag, value), e);
         }
         return Collections.singletonList(json);
     }
 
     void emitMetric(String metric, long timestamp, Number value, Map<String, String> tag) {
         try {
-            getOutput().emit(tuple(metricFormatter.format(metric), timestamp, value, tag));
+            String name = metricNames.computeIfAbsent(metric, metricFormatter::format);
+            getOutput().emit(tuple(name, timestamp, value, tag));
         } catch (JsonEncodeException e) {
             log.error("Error during serialization of datapoint", e);
         }
@@ -0,0 +1,121 @@
+/* Copyright 2020 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.stats.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.openkilda.wfm.topology.stats.StatsTopology.STATS_FIELD;
+import static org.openkilda.wfm.topology.stats.bolts.CacheBolt.COOKIE_CACHE_FIELD;
+
+import org.openkilda.messaging.Utils;
+import org.openkilda.messaging.info.Datapoint;
+import org.openkilda.messaging.info.stats.FlowStatsData;
+import org.openkilda.messaging.info.stats.FlowStatsEntry;
+import org.openkilda.model.Cookie;
+import org.openkilda.model.SwitchId;
+import org.openkilda.wfm.AbstractBolt;
+import org.openkilda.wfm.CommandContext;
+import org.openkilda.wfm.topology.stats.CacheFlowEntry;
+
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.tuple.Fields;
+import org.apache.storm.tuple.Tuple;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FlowMetricGenBoltTest {
+    private static final SwitchId SWITCH_ID = new SwitchId(1L);
+    private static final long COOKIE = Cookie.buildForwardCookie(1).getValue();
+
+    private final List<Datapoint> emitted = new ArrayList<>();
+    private FlowMetricGenBolt bolt;
+    private Tuple tuple;
+
+    @Before
+    public void setUp() {
+        OutputCollector collector = mock(OutputCollector.class);
+        when(collector.emit(anyList())).thenAnswer(invocation -> {
+            List<Object> values = invocation.getArgument(0);
+            emitted.add(Utils.MAPPER.readValue((String) values.get(0), Datapoint.class));
+            return Collections.emptyList();
+        });
+        TopologyContext context = mock(TopologyContext.class);
+        when(context.getThisComponentId()).thenReturn("flow-metric-gen");
+
+        bolt = new FlowMetricGenBolt("kilda.");
+        bolt.prepare(Collections.emptyMap(), context, collector);
+
+        tuple = mock(Tuple.class);
+        when(tuple.getFields()).thenReturn(new Fields());
+        when(tuple.getValues()).thenReturn(Collections.emptyList());
+        when(tuple.getValueByField(AbstractBolt.FIELD_ID_CONTEXT)).thenReturn(new CommandContext());
+    }
+
+    @Test
+    public void shouldEmitSameTagsOnEachPoll() {
+        mockInput("flow-a", 10);
+        bolt.execute(tuple);
+        mockInput("flow-a", 20);
+        bolt.execute(tuple);
+
+        assertEquals(12, emitted.size());
+        Map<String, String> expected = new HashMap<>();
+        expected.put("switchid", SWITCH_ID.toOtsdFormat());
+        expected.put("cookie", String.valueOf(COOKIE));
+        expected.put("tableid", "0");
+        expected.put("inPort", "1");
+        expected.put("outPort", "2");
+        expected.put("flowid", "flow-a");
+        expected.put("direction", "forward");
+        assertEquals("kilda.flow.raw.packets", emitted.get(0).getMetric());
+        assertEquals(expected, emitted.get(0).getTags());
+        assertEquals(expected, emitted.get(6).getTags());
+        assertEquals(20L, emitted.get(6).getValue().longValue());
+
+        assertEquals("kilda.flow.ingress.packets", emitted.get(3).getMetric());
+        assertEquals(2, emitted.get(3).getTags().size());
+        assertEquals("flow-a", emitted.get(3).getTags().get("flowid"));
+    }
+
+    @Test
+    public void shouldRebuildTagsWhenFlowChanges() {
+        mockInput("flow-a", 10);
+        bolt.execute(tuple);
+        mockInput("flow-b", 10);
+        bolt.execute(tuple);
+
+        assertEquals("flow-a", emitted.get(0).getTags().get("flowid"));
+        assertEquals("flow-b", emitted.get(6).getTags().get("flowid"));
+        assertEquals("flow-b", emitted.get(9).getTags().get("flowid"));
+    }
+
+    private void mockInput(String flowId, long packets) {
+        CacheFlowEntry flowEntry = new CacheFlowEntry(flowId, SWITCH_ID.toOtsdFormat(), null, COOKIE);
+        when(tuple.getValueByField(COOKIE_CACHE_FIELD)).thenReturn(Collections.singletonMap(COOKIE, flowEntry));
+        FlowStatsEntry entry = new FlowStatsEntry(0, COOKIE, packets, packets * 100, 1, 2);
+        when(tuple.getValueByField(STATS_FIELD))
+                .thenReturn(new FlowStatsData(SWITCH_ID, Collections.singletonList(entry)));
+    }
+}
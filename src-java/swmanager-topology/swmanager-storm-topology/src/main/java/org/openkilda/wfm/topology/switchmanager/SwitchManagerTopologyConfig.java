@@ -73,4 +73,10 @@ public interface SwitchManagerTopologyConfig  extends AbstractTopologyConfig {
     @Default("20")
     @Description("The timeout for performing validate and synchronize operations")
     int getProcessTimeout();
+
+    @Key("swmanager.validation.rules-digest")
+    @Default("false")
+    @Description("Compare the digests of the expected and the present flow rules per cookie range on the speaker side "
+            + "and dump and validate only the rules of the ranges with different digests")
+    boolean isRulesDigestValidationEnabled();
 }
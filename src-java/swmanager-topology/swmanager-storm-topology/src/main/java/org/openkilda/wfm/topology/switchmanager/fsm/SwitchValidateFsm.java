@@ -43,9 +43,11 @@ import org.openkilda.messaging.error.ErrorType;
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.meter.MeterEntry;
 import org.openkilda.messaging.info.rule.FlowEntry;
+import org.openkilda.messaging.info.rule.SwitchFlowEntries;
 import org.openkilda.messaging.info.switches.MetersValidationEntry;
 import org.openkilda.messaging.info.switches.RulesValidationEntry;
 import org.openkilda.messaging.info.switches.SwitchValidationResponse;
+import org.openkilda.messaging.model.FlowCookieDigest;
 import org.openkilda.model.FlowPath;
 import org.openkilda.model.Isl;
 import org.openkilda.model.SwitchId;
@@ -87,6 +89,7 @@ public class SwitchValidateFsm
     private final SwitchValidateRequest request;
     private final SwitchManagerCarrier carrier;
     private final ValidationService validationService;
+    private final boolean rulesDigestValidation;
     private SwitchId switchId;
     private SwitchProperties switchProperties;
     private List<Integer> islPorts;
@@ -96,6 +99,8 @@ public class SwitchValidateFsm
     private boolean hasMultiTableFlows;
     private boolean processMeters;
     private List<FlowEntry> flowEntries;
+    private Set<Long> expectedCookies;
+    private Set<Integer> cookieRanges;
     private List<FlowEntry> expectedDefaultFlowEntries;
     private List<MeterEntry> presentMeters;
     private List<MeterEntry> expectedDefaultMetersEntries;
@@ -110,6 +115,7 @@ public class SwitchValidateFsm
         this.validationService = validationService;
         this.processMeters = request.isProcessMeters();
         this.switchId = request.getSwitchId();
+        this.rulesDigestValidation = carrier.getTopologyConfig().isRulesDigestValidationEnabled();
         this.flowPorts = new ArrayList<>();
         this.flowLldpPorts = new HashSet<>();
         this.flowArpPorts = new HashSet<>();
@@ -224,7 +230,13 @@ public class SwitchValidateFsm
                                SwitchValidateEvent event, Object context) {
         log.info("Sending requests to get switch rules and meters (switch={}, key={})", switchId, key);
 
-        carrier.sendCommandToSpeaker(key, new DumpRulesForSwitchManagerRequest(switchId));
+        if (rulesDigestValidation) {
+            expectedCookies = validationService.findExpectedCookies(switchId);
+            carrier.sendCommandToSpeaker(key, new DumpRulesForSwitchManagerRequest(
+                    switchId, FlowCookieDigest.of(expectedCookies)));
+        } else {
+            carrier.sendCommandToSpeaker(key, new DumpRulesForSwitchManagerRequest(switchId));
+        }
         boolean multiTable = switchProperties.isMultiTable() || hasMultiTableFlows;
         boolean switchLldp = switchProperties.isSwitchLldp();
         boolean switchArp = switchProperties.isSwitchArp();
@@ -244,8 +256,11 @@ public class SwitchValidateFsm
 
     protected void rulesReceived(SwitchValidateState from, SwitchValidateState to,
                                  SwitchValidateEvent event, Object context) {
-        log.info("Switch rules received (switch={}, key={})", switchId, key);
-        this.flowEntries = (List<FlowEntry>) context;
+        SwitchFlowEntries data = (SwitchFlowEntries) context;
+        log.info("Switch rules received (switch={}, key={}, cookie ranges={})", switchId, key,
+                data.getCookieRanges() != null ? data.getCookieRanges().size() : "all");
+        this.flowEntries = data.getFlowEntries();
+        this.cookieRanges = data.getCookieRanges();
         checkAllDataReceived();
     }
 
@@ -300,7 +315,13 @@ public class SwitchValidateFsm
                                  SwitchValidateEvent event, Object context) {
         log.info("Validate rules (switch={}, key={})", switchId, key);
         try {
-            validateRulesResult = validationService.validateRules(switchId, flowEntries, expectedDefaultFlowEntries);
+            if (cookieRanges != null) {
+                validateRulesResult = validationService.validateRules(switchId, flowEntries,
+                        expectedDefaultFlowEntries, expectedCookies, cookieRanges);
+            } else {
+                validateRulesResult = validationService.validateRules(switchId, flowEntries,
+                        expectedDefaultFlowEntries);
+            }
         } catch (Exception e) {
             sendException(e.getMessage());
         }
@@ -23,11 +23,25 @@ import org.openkilda.wfm.topology.switchmanager.model.ValidateMetersResult;
 import org.openkilda.wfm.topology.switchmanager.model.ValidateRulesResult;
 
 import java.util.List;
+import java.util.Set;
 
 public interface ValidationService {
     ValidateRulesResult validateRules(SwitchId switchId, List<FlowEntry> presentRules,
                                       List<FlowEntry> expectedDefaultRules);
 
+    /**
+     * Validates the rules dumped for the cookie ranges only, the expected flow rules out of these ranges are
+     * considered proper. The expected cookies are the ones the digest of the dump request was made of.
+     */
+    ValidateRulesResult validateRules(SwitchId switchId, List<FlowEntry> presentRules,
+                                      List<FlowEntry> expectedDefaultRules, Set<Long> expectedCookies,
+                                      Set<Integer> cookieRanges);
+
+    /**
+     * Finds the cookies of the flow rules expected on the switch.
+     */
+    Set<Long> findExpectedCookies(SwitchId switchId);
+
     ValidateMetersResult validateMeters(SwitchId switchId, List<MeterEntry> presentMeters,
                                         List<MeterEntry> expectedDefaultMeters) throws SwitchNotFoundException;
 }
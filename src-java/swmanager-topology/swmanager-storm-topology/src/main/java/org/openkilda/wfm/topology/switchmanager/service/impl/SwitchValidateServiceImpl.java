@@ -74,7 +74,7 @@ public class SwitchValidateServiceImpl implements SwitchValidateService {
             return;
         }
 
-        fsm.fire(SwitchValidateEvent.RULES_RECEIVED, data.getFlowEntries());
+        fsm.fire(SwitchValidateEvent.RULES_RECEIVED, data);
         process(fsm);
     }
 
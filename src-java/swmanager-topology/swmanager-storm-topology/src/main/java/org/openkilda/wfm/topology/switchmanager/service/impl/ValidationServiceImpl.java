@@ -21,6 +21,7 @@ import org.openkilda.messaging.info.meter.MeterEntry;
 import org.openkilda.messaging.info.rule.FlowEntry;
 import org.openkilda.messaging.info.switches.MeterInfoEntry;
 import org.openkilda.messaging.info.switches.MeterMisconfiguredInfoEntry;
+import org.openkilda.messaging.model.FlowCookieDigest;
 import org.openkilda.model.Cookie;
 import org.openkilda.model.FlowPath;
 import org.openkilda.model.Meter;
@@ -69,6 +70,41 @@ public class ValidationServiceImpl implements ValidationService {
                                              List<FlowEntry> expectedDefaultRules) {
         log.debug("Validating rules on switch {}", switchId);
 
+        return makeRulesResponse(
+                findExpectedCookies(switchId), presentRules, expectedDefaultRules, switchId);
+    }
+
+    @Override
+    public ValidateRulesResult validateRules(SwitchId switchId, List<FlowEntry> presentRules,
+                                             List<FlowEntry> expectedDefaultRules, Set<Long> expectedCookies,
+                                             Set<Integer> cookieRanges) {
+        log.debug("Validating rules of {} cookie ranges on switch {}", cookieRanges.size(), switchId);
+
+        Set<Long> scopedCookies = new HashSet<>();
+        Set<Long> skippedCookies = new HashSet<>();
+        for (Long cookie : expectedCookies) {
+            if (cookieRanges.contains(FlowCookieDigest.rangeOf(cookie))) {
+                scopedCookies.add(cookie);
+            } else {
+                skippedCookies.add(cookie);
+            }
+        }
+        List<FlowEntry> scopedRules = presentRules.stream()
+                .filter(rule -> Cookie.isDefaultRule(rule.getCookie())
+                        || cookieRanges.contains(FlowCookieDigest.rangeOf(rule.getCookie())))
+                .collect(toList());
+
+        ValidateRulesResult result = makeRulesResponse(scopedCookies, scopedRules, expectedDefaultRules, switchId);
+        // the digests of the skipped ranges are equal, so their rules are exactly the expected ones
+        return new ValidateRulesResult(
+                result.getMissingRules(),
+                ImmutableList.<Long>builder().addAll(result.getProperRules()).addAll(skippedCookies).build(),
+                result.getExcessRules(),
+                result.getMisconfiguredRules());
+    }
+
+    @Override
+    public Set<Long> findExpectedCookies(SwitchId switchId) {
         Set<Long> expectedCookies = flowPathRepository.findBySegmentDestSwitch(switchId).stream()
                 .filter(flowPath -> flowPath.getFlow().isActualPathId(flowPath.getPathId()))
                 .map(FlowPath::getCookie)
@@ -82,9 +118,7 @@ public class ValidationServiceImpl implements ValidationService {
                 .map(FlowPath::getCookie)
                 .map(Cookie::getValue)
                 .forEach(expectedCookies::add);
-
-        return makeRulesResponse(
-                expectedCookies, presentRules, expectedDefaultRules, switchId);
+        return expectedCookies;
     }
 
     private ValidateRulesResult makeRulesResponse(Set<Long> expectedCookies, List<FlowEntry> presentRules,
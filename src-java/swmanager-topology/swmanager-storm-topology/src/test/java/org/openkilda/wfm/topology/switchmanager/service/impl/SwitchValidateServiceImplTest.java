@@ -16,6 +16,7 @@
 package org.openkilda.wfm.topology.switchmanager.service.impl;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
@@ -31,6 +32,7 @@ import static org.openkilda.model.SwitchProperties.DEFAULT_FLOW_ENCAPSULATION_TY
 
 import org.openkilda.config.provider.PropertiesBasedConfigurationProvider;
 import org.openkilda.messaging.command.CommandData;
+import org.openkilda.messaging.command.switches.DumpRulesForSwitchManagerRequest;
 import org.openkilda.messaging.command.switches.SwitchValidateRequest;
 import org.openkilda.messaging.error.ErrorData;
 import org.openkilda.messaging.error.ErrorMessage;
@@ -43,6 +45,7 @@ import org.openkilda.messaging.info.rule.SwitchExpectedDefaultFlowEntries;
 import org.openkilda.messaging.info.rule.SwitchExpectedDefaultMeterEntries;
 import org.openkilda.messaging.info.rule.SwitchFlowEntries;
 import org.openkilda.messaging.info.switches.SwitchValidationResponse;
+import org.openkilda.messaging.model.FlowCookieDigest;
 import org.openkilda.model.SwitchId;
 import org.openkilda.model.SwitchProperties;
 import org.openkilda.persistence.PersistenceManager;
@@ -69,6 +72,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 
 @RunWith(MockitoJUnitRunner.class)
 public class SwitchValidateServiceImplTest {
@@ -193,6 +197,7 @@ public class SwitchValidateServiceImplTest {
         request = SwitchValidateRequest.builder().switchId(SWITCH_ID).build();
 
         service.handleSwitchValidateRequest(KEY, request);
+        verify(carrier, times(2)).getTopologyConfig();
         verify(carrier, times(2)).sendCommandToSpeaker(eq(KEY), any(CommandData.class));
 
         service.handleFlowEntriesResponse(KEY, new SwitchFlowEntries(SWITCH_ID, singletonList(flowEntry)));
@@ -212,6 +217,35 @@ public class SwitchValidateServiceImplTest {
         verifyNoMoreInteractions(validationService);
     }
 
+    @Test
+    public void validationByRulesDigest() {
+        Properties properties = new Properties();
+        properties.setProperty("swmanager.validation.rules-digest", "true");
+        SwitchManagerTopologyConfig topologyConfig = new PropertiesBasedConfigurationProvider(properties)
+                .getConfiguration(SwitchManagerTopologyConfig.class);
+        when(carrier.getTopologyConfig()).thenReturn(topologyConfig);
+        Set<Long> expectedCookies = singleton(1L);
+        FlowCookieDigest digest = FlowCookieDigest.of(expectedCookies);
+        when(validationService.findExpectedCookies(SWITCH_ID)).thenReturn(expectedCookies);
+        when(validationService.validateRules(any(), any(), any(), any(), any()))
+                .thenReturn(new ValidateRulesResult(emptyList(), emptyList(), emptyList(), emptyList()));
+        request = SwitchValidateRequest.builder().switchId(SWITCH_ID).build();
+
+        service.handleSwitchValidateRequest(KEY, request);
+        verify(validationService).findExpectedCookies(SWITCH_ID);
+        verify(carrier).sendCommandToSpeaker(eq(KEY), eq(new DumpRulesForSwitchManagerRequest(SWITCH_ID, digest)));
+
+        Set<Integer> cookieRanges = singleton(FlowCookieDigest.rangeOf(flowEntry.getCookie()));
+        service.handleFlowEntriesResponse(KEY,
+                new SwitchFlowEntries(SWITCH_ID, singletonList(flowEntry), cookieRanges));
+        service.handleExpectedDefaultFlowEntriesResponse(KEY,
+                new SwitchExpectedDefaultFlowEntries(SWITCH_ID, emptyList()));
+
+        verify(validationService).validateRules(eq(SWITCH_ID), eq(singletonList(flowEntry)), eq(emptyList()),
+                eq(expectedCookies), eq(cookieRanges));
+        verifyNoMoreInteractions(validationService);
+    }
+
     @Test
     public void validationSuccessWithUnsupportedMeters() {
         handleRequestAndInitDataReceive();
@@ -280,6 +314,7 @@ public class SwitchValidateServiceImplTest {
         verify(carrier, times(1)).getTopologyConfig();
         service.handleSwitchValidateRequest(KEY, request);
 
+        verify(carrier, times(2)).getTopologyConfig();
         verify(carrier, times(4)).sendCommandToSpeaker(eq(KEY), any(CommandData.class));
         verifyNoMoreInteractions(carrier);
     }
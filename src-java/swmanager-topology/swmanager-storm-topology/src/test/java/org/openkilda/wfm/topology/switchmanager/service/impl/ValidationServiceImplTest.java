@@ -30,6 +30,7 @@ import org.openkilda.config.provider.PropertiesBasedConfigurationProvider;
 import org.openkilda.messaging.info.meter.MeterEntry;
 import org.openkilda.messaging.info.rule.FlowEntry;
 import org.openkilda.messaging.info.switches.MeterInfoEntry;
+import org.openkilda.messaging.model.FlowCookieDigest;
 import org.openkilda.model.Cookie;
 import org.openkilda.model.DetectConnectedDevices;
 import org.openkilda.model.Flow;
@@ -121,6 +122,29 @@ public class ValidationServiceImplTest {
         assertTrue(response.getExcessRules().isEmpty());
     }
 
+    @Test
+    public void validateRulesOfCookieRanges() {
+        ValidationService validationService =
+                new ValidationServiceImpl(persistenceManager().withSegmentsCookies(2L, 3L, 4L).build(),
+                        topologyConfig);
+        List<FlowEntry> flowEntries =
+                Lists.newArrayList(FlowEntry.builder().cookie(2L).build(), FlowEntry.builder().cookie(5L).build());
+        ValidateRulesResult response = validationService.validateRules(SWITCH_ID_A, flowEntries, emptyList(),
+                validationService.findExpectedCookies(SWITCH_ID_A),
+                ImmutableSet.of(FlowCookieDigest.rangeOf(3L), FlowCookieDigest.rangeOf(5L)));
+        assertEquals(ImmutableList.of(3L), response.getMissingRules());
+        assertEquals(ImmutableSet.of(2L, 4L), new HashSet<>(response.getProperRules()));
+        assertEquals(ImmutableList.of(5L), response.getExcessRules());
+    }
+
+    @Test
+    public void findExpectedCookies() {
+        ValidationService validationService =
+                new ValidationServiceImpl(persistenceManager().withSegmentsCookies(2L).withIngressCookies(1L).build(),
+                        topologyConfig);
+        assertEquals(ImmutableSet.of(1L, 2L), validationService.findExpectedCookies(SWITCH_ID_A));
+    }
+
     @Test
     public void validateDefaultRules() {
         ValidationService validationService = new ValidationServiceImpl(persistenceManager().build(), topologyConfig);